@@ -1,7 +1,11 @@
 package org.modmappings.mmms.api.configuration;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
 import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrategy;
+import org.modmappings.mmms.er2dbc.data.statements.mapper.CompiledSelectCache;
 import org.modmappings.mmms.repository.repositories.Repositories;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -15,6 +19,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.data.r2dbc.connectionfactory.R2dbcTransactionManager;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
 
 import javax.sql.DataSource;
 
@@ -57,8 +62,48 @@ class R2DBCConfiguration {
         return transactionManager;
     }
 
+    /**
+     * Runs reactive pipelines, like the creation of a release with its components, in a single transaction.
+     */
+    @Bean
+    public TransactionalOperator transactionalOperator(final R2dbcTransactionManager transactionManager) {
+        return TransactionalOperator.create(transactionManager);
+    }
+
+    /**
+     * Exposes the statistics of the compiled select cache.
+     * A hit reuses the sql of an earlier statement, which lets postgres reuse the prepared statement the driver keeps for it on the connection,
+     * skipping the parsing and planning of the statement.
+     */
+    @Bean
+    public MeterBinder compiledSelectCacheMetrics(final ExtendedDataAccessStrategy extendedDataAccessStrategy) {
+        final CompiledSelectCache cache = extendedDataAccessStrategy.getStatementMapper().getCompiledSelectCache();
+        return registry -> {
+            FunctionCounter.builder("er2dbc.statements.compiled", cache, CompiledSelectCache::getHits)
+                    .tag("result", "hit")
+                    .description("Select statements which reused the sql, and with it the prepared statement, of an earlier statement")
+                    .register(registry);
+            FunctionCounter.builder("er2dbc.statements.compiled", cache, CompiledSelectCache::getMisses)
+                    .tag("result", "miss")
+                    .description("Select statements which had to be built and rendered")
+                    .register(registry);
+            FunctionCounter.builder("er2dbc.statements.compiled.evictions", cache, CompiledSelectCache::getEvictions)
+                    .description("Compiled select statements evicted from the cache")
+                    .register(registry);
+            Gauge.builder("er2dbc.statements.compiled.size", cache, CompiledSelectCache::getSize)
+                    .description("Compiled select statements currently held in the cache")
+                    .register(registry);
+        };
+    }
+
+    /**
+     * Registers the codecs of er2dbc, and requests the results of parameterized statements in the binary format.
+     * Every column type of the schema (uuid, timestamp, boolean, text, varchar and the bigint counts) has a binary decoder,
+     * either from er2dbc or from the driver. Statements without parameters still return text, which the driver decodes.
+     */
     @Bean
     public ConnectionFactoryOptionsBuilderCustomizer customEncoderCustomizer() {
-        return builder -> builder.option(PostgresqlConnectionFactoryProvider.AUTODETECT_EXTENSIONS, true);
+        return builder -> builder.option(PostgresqlConnectionFactoryProvider.AUTODETECT_EXTENSIONS, true)
+                .option(PostgresqlConnectionFactoryProvider.FORCE_BINARY, true);
     }
 }
@@ -1,14 +1,23 @@
 package org.modmappings.mmms.api.configuration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.modmappings.mmms.api.spring.RoutePrefixBasedMethodArgumentResolver;
+import org.modmappings.mmms.api.util.Constants;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.ReactivePageableHandlerMethodArgumentResolver;
 import org.springframework.data.web.ReactiveSortHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
 import org.springframework.web.reactive.config.WebFluxConfigurer;
 import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
 
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -35,4 +44,26 @@ public class WebfluxConfigurer implements WebFluxConfigurer {
         configurer.addCustomResolver(new ReactiveSortHandlerMethodArgumentResolver());
 
     }
+
+    /**
+     * Registers newline delimited json as a streaming json format.
+     * The json encoder then writes every element of a {@link reactor.core.publisher.Flux} as a separate line, directly
+     * when it is emitted, instead of collecting the entire flux into a single json array.
+     * <p>
+     * Ordered after the default jackson customizer of spring boot, so that its encoder is replaced.
+     *
+     * @param objectMapper The object mapper configured by spring boot.
+     * @return The codec customizer.
+     */
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public CodecCustomizer ndjsonCodecCustomizer(final ObjectMapper objectMapper) {
+        final MediaType ndjson = MediaType.parseMediaType(Constants.APPLICATION_NDJSON_VALUE);
+
+        return configurer -> {
+            final Jackson2JsonEncoder encoder = new Jackson2JsonEncoder(objectMapper, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"), ndjson);
+            encoder.setStreamingMediaTypes(List.of(MediaType.APPLICATION_STREAM_JSON, ndjson));
+            configurer.defaultCodecs().jackson2JsonEncoder(encoder);
+        };
+    }
 }
@@ -3,30 +3,41 @@ package org.modmappings.mmms.api.configuration.redis.core;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.mapping.mappable.DetailedMappingDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class DetailedMappingRedisCacheConfiguration {
 
+    @Value("${caching.detailed-mapping.l1.capacity.all:1000}")
+    private int DETAILED_MAPPING_PAGE_L1_CAPACITY;
+
+    @Value("${caching.detailed-mapping.stale-while-revalidate.all:600}")
+    private int DETAILED_MAPPING_PAGE_STALE_WINDOW;
+
+    @Value("${caching.detailed-mapping.refresh-ahead.min-hits.all:20}")
+    private int DETAILED_MAPPING_PAGE_REFRESH_AHEAD_HITS;
+
+    @Value("${caching.detailed-mapping.l1.capacity.by-id:10000}")
+    private int DETAILED_MAPPING_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<DetailedMappingDTO>> detailedMappingPageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<DetailedMappingDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("detailed-mapping-page");
+        final RedisSerializer<Page<DetailedMappingDTO>> valueSerializer = serializerFactory.valueSerializer("detailed-mapping-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 DetailedMappingDTO.class
             )
@@ -40,13 +51,10 @@ public class DetailedMappingRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, DetailedMappingDTO> detailedMappingReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<DetailedMappingDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(DetailedMappingDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("detailed-mapping");
+        final RedisSerializer<DetailedMappingDTO> valueSerializer = serializerFactory.valueSerializer("detailed-mapping", DetailedMappingDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, DetailedMappingDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, DetailedMappingDTO> context =
@@ -55,17 +63,19 @@ public class DetailedMappingRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<DetailedMappingDTO>> detailedMappingPageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<DetailedMappingDTO>> template
+    public ReactiveCache<Page<DetailedMappingDTO>> detailedMappingPageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<DetailedMappingDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("detailed-mapping-page", template, DETAILED_MAPPING_PAGE_L1_CAPACITY, DETAILED_MAPPING_PAGE_STALE_WINDOW, DETAILED_MAPPING_PAGE_REFRESH_AHEAD_HITS);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, DetailedMappingDTO> detailedMappingReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, DetailedMappingDTO> template
+    public ReactiveCache<DetailedMappingDTO> detailedMappingReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, DetailedMappingDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("detailed-mapping", template, DETAILED_MAPPING_L1_CAPACITY);
     }
 
 }
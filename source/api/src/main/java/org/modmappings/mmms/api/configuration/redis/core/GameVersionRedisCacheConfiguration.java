@@ -4,30 +4,35 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.core.GameVersionDTO;
 import org.modmappings.mmms.api.model.core.release.ReleaseDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class GameVersionRedisCacheConfiguration {
 
+    @Value("${caching.game-version.l1.capacity.all:1000}")
+    private int GAME_VERSION_PAGE_L1_CAPACITY;
+
+    @Value("${caching.game-version.l1.capacity.by-id:10000}")
+    private int GAME_VERSION_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<GameVersionDTO>> gameVersionPageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<GameVersionDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("game-version-page");
+        final RedisSerializer<Page<GameVersionDTO>> valueSerializer = serializerFactory.valueSerializer("game-version-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 GameVersionDTO.class
         )
@@ -41,13 +46,10 @@ public class GameVersionRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, GameVersionDTO> gameVersionReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<GameVersionDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(GameVersionDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("game-version");
+        final RedisSerializer<GameVersionDTO> valueSerializer = serializerFactory.valueSerializer("game-version", GameVersionDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, GameVersionDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, GameVersionDTO> context =
@@ -56,16 +58,18 @@ public class GameVersionRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<GameVersionDTO>> gameVersionPageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<GameVersionDTO>> template
+    public ReactiveCache<Page<GameVersionDTO>> gameVersionPageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<GameVersionDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("game-version-page", template, GAME_VERSION_PAGE_L1_CAPACITY);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, GameVersionDTO> gameVersionReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, GameVersionDTO> template
+    public ReactiveCache<GameVersionDTO> gameVersionReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, GameVersionDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("game-version", template, GAME_VERSION_L1_CAPACITY);
     }
 }
@@ -3,30 +3,35 @@ package org.modmappings.mmms.api.configuration.redis.core;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class MappableRedisCacheConfiguration {
 
+    @Value("${caching.mappable.l1.capacity.all:1000}")
+    private int MAPPABLE_PAGE_L1_CAPACITY;
+
+    @Value("${caching.mappable.l1.capacity.by-id:10000}")
+    private int MAPPABLE_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<MappableDTO>> mappablePageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<MappableDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mappable-page");
+        final RedisSerializer<Page<MappableDTO>> valueSerializer = serializerFactory.valueSerializer("mappable-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 MappableDTO.class
             )
@@ -40,13 +45,10 @@ public class MappableRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, MappableDTO> mappableReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<MappableDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(MappableDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mappable");
+        final RedisSerializer<MappableDTO> valueSerializer = serializerFactory.valueSerializer("mappable", MappableDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, MappableDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, MappableDTO> context =
@@ -55,17 +57,19 @@ public class MappableRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<MappableDTO>> mappablePageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<MappableDTO>> template
+    public ReactiveCache<Page<MappableDTO>> mappablePageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<MappableDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("mappable-page", template, MAPPABLE_PAGE_L1_CAPACITY);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, MappableDTO> mappableReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, MappableDTO> template
+    public ReactiveCache<MappableDTO> mappableReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, MappableDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("mappable", template, MAPPABLE_L1_CAPACITY);
     }
 
 }
@@ -3,30 +3,44 @@ package org.modmappings.mmms.api.configuration.redis.core;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class MappingRedisCacheConfiguration {
 
+    @Value("${caching.mapping.l1.capacity.all:1000}")
+    private int MAPPING_PAGE_L1_CAPACITY;
+
+    @Value("${caching.mapping.stale-while-revalidate.all:600}")
+    private int MAPPING_PAGE_STALE_WINDOW;
+
+    @Value("${caching.mapping.refresh-ahead.min-hits.all:20}")
+    private int MAPPING_PAGE_REFRESH_AHEAD_HITS;
+
+    @Value("${caching.mapping.l1.capacity.by-id:10000}")
+    private int MAPPING_L1_CAPACITY;
+
+    @Value("${caching.mapping.l1.capacity.count:1000}")
+    private int MAPPING_COUNT_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<MappingDTO>> mappingPageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<MappingDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mapping-page");
+        final RedisSerializer<Page<MappingDTO>> valueSerializer = serializerFactory.valueSerializer("mapping-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 MappingDTO.class
             )
@@ -40,13 +54,10 @@ public class MappingRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, MappingDTO> mappingReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<MappingDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(MappingDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mapping");
+        final RedisSerializer<MappingDTO> valueSerializer = serializerFactory.valueSerializer("mapping", MappingDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, MappingDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, MappingDTO> context =
@@ -55,17 +66,40 @@ public class MappingRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<MappingDTO>> mappingPageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<MappingDTO>> template
+    public ReactiveRedisTemplate<Map<String, String>, Long> mappingCountReactiveRedisTemplate(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mapping-count");
+        final RedisSerializer<Long> valueSerializer = serializerFactory.valueSerializer("mapping-count", Long.class);
+        final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, Long> builder =
+                RedisSerializationContext.newSerializationContext(keySerializer);
+        final RedisSerializationContext<Map<String, String>, Long> context =
+                builder.value(valueSerializer).build();
+        return new ReactiveRedisTemplate<>(factory, context);
+    }
+
+    @Bean
+    public ReactiveCache<Page<MappingDTO>> mappingPageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<MappingDTO>> template,
+            final TwoTierCacheFactory cacheFactory
+    ) {
+        return cacheFactory.create("mapping-page", template, MAPPING_PAGE_L1_CAPACITY, MAPPING_PAGE_STALE_WINDOW, MAPPING_PAGE_REFRESH_AHEAD_HITS);
+    }
+
+    @Bean
+    public ReactiveCache<MappingDTO> mappingReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, MappingDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("mapping", template, MAPPING_L1_CAPACITY);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, MappingDTO> mappingReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, MappingDTO> template
+    public ReactiveCache<Long> mappingCountReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Long> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("mapping-count", template, MAPPING_COUNT_L1_CAPACITY);
     }
 
 }
@@ -3,30 +3,35 @@ package org.modmappings.mmms.api.configuration.redis.core;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.core.MappingTypeDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class MappingTypeRedisCacheConfiguration {
 
+    @Value("${caching.mapping-type.l1.capacity.all:1000}")
+    private int MAPPING_TYPE_PAGE_L1_CAPACITY;
+
+    @Value("${caching.mapping-type.l1.capacity.by-id:10000}")
+    private int MAPPING_TYPE_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<MappingTypeDTO>> mappingTypePageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<MappingTypeDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mapping-type-page");
+        final RedisSerializer<Page<MappingTypeDTO>> valueSerializer = serializerFactory.valueSerializer("mapping-type-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 MappingTypeDTO.class
         )
@@ -40,13 +45,10 @@ public class MappingTypeRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, MappingTypeDTO> mappingTypeReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<MappingTypeDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(MappingTypeDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("mapping-type");
+        final RedisSerializer<MappingTypeDTO> valueSerializer = serializerFactory.valueSerializer("mapping-type", MappingTypeDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, MappingTypeDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, MappingTypeDTO> context =
@@ -55,16 +57,18 @@ public class MappingTypeRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<MappingTypeDTO>> mappingTypePageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<MappingTypeDTO>> template
+    public ReactiveCache<Page<MappingTypeDTO>> mappingTypePageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<MappingTypeDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("mapping-type-page", template, MAPPING_TYPE_PAGE_L1_CAPACITY);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, MappingTypeDTO> mappingTypeReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, MappingTypeDTO> template
+    public ReactiveCache<MappingTypeDTO> mappingTypeReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, MappingTypeDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("mapping-type", template, MAPPING_TYPE_L1_CAPACITY);
     }
 }
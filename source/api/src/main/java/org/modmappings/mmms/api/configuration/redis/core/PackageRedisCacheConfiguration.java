@@ -4,30 +4,38 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
 import org.modmappings.mmms.api.model.objects.PackageDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class PackageRedisCacheConfiguration {
 
+    @Value("${caching.package.l1.capacity.all:1000}")
+    private int PACKAGE_PAGE_L1_CAPACITY;
+
+    @Value("${caching.package.stale-while-revalidate.all:600}")
+    private int PACKAGE_PAGE_STALE_WINDOW;
+
+    @Value("${caching.package.refresh-ahead.min-hits.all:20}")
+    private int PACKAGE_PAGE_REFRESH_AHEAD_HITS;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<PackageDTO>> packagePageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<PackageDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("package-page");
+        final RedisSerializer<Page<PackageDTO>> valueSerializer = serializerFactory.valueSerializer("package-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 PackageDTO.class
             )
@@ -40,10 +48,11 @@ public class PackageRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<PackageDTO>> packagePageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<PackageDTO>> template
+    public ReactiveCache<Page<PackageDTO>> packagePageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<PackageDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("package-page", template, PACKAGE_PAGE_L1_CAPACITY, PACKAGE_PAGE_STALE_WINDOW, PACKAGE_PAGE_REFRESH_AHEAD_HITS);
     }
 
 }
@@ -3,31 +3,42 @@ package org.modmappings.mmms.api.configuration.redis.core;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.core.release.ReleaseDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class ReleaseRedisCacheConfiguration {
 
+    @Value("${caching.release.l1.capacity.all:1000}")
+    private int RELEASE_PAGE_L1_CAPACITY;
+
+    @Value("${caching.release.stale-while-revalidate.all:600}")
+    private int RELEASE_PAGE_STALE_WINDOW;
+
+    @Value("${caching.release.refresh-ahead.min-hits.all:20}")
+    private int RELEASE_PAGE_REFRESH_AHEAD_HITS;
+
+    @Value("${caching.release.l1.capacity.by-id:10000}")
+    private int RELEASE_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<ReleaseDTO>> releasePageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<ReleaseDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("release-page");
+        final RedisSerializer<Page<ReleaseDTO>> valueSerializer = serializerFactory.valueSerializer("release-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 ReleaseDTO.class
             )
@@ -41,13 +52,10 @@ public class ReleaseRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, ReleaseDTO> releaseReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<ReleaseDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(ReleaseDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("release");
+        final RedisSerializer<ReleaseDTO> valueSerializer = serializerFactory.valueSerializer("release", ReleaseDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, ReleaseDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, ReleaseDTO> context =
@@ -56,17 +64,19 @@ public class ReleaseRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<ReleaseDTO>> releasePageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<ReleaseDTO>> template
+    public ReactiveCache<Page<ReleaseDTO>> releasePageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<ReleaseDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("release-page", template, RELEASE_PAGE_L1_CAPACITY, RELEASE_PAGE_STALE_WINDOW, RELEASE_PAGE_REFRESH_AHEAD_HITS);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, ReleaseDTO> releaseReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, ReleaseDTO> template
+    public ReactiveCache<ReleaseDTO> releaseReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, ReleaseDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("release", template, RELEASE_L1_CAPACITY);
     }
 
 }
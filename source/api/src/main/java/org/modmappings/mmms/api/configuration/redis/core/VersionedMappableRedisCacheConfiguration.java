@@ -3,30 +3,35 @@ package org.modmappings.mmms.api.configuration.redis.core;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import org.modmappings.mmms.api.model.mapping.mappable.VersionedMappableDTO;
 import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheSerializerFactory;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
+import org.modmappings.mmms.api.util.cache.TwoTierCacheFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
-import org.springframework.data.redis.core.ReactiveValueOperations;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 
 @Configuration
 public class VersionedMappableRedisCacheConfiguration {
 
+    @Value("${caching.versioned-mappable.l1.capacity.all:1000}")
+    private int VERSIONED_MAPPABLE_PAGE_L1_CAPACITY;
+
+    @Value("${caching.versioned-mappable.l1.capacity.by-id:10000}")
+    private int VERSIONED_MAPPABLE_L1_CAPACITY;
+
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, Page<VersionedMappableDTO>> versionedMappablePageReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<Page<VersionedMappableDTO>> valueSerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructParametricType(
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("versioned-mappable-page");
+        final RedisSerializer<Page<VersionedMappableDTO>> valueSerializer = serializerFactory.valueSerializer("versioned-mappable-page", TypeFactory.defaultInstance().constructParametricType(
                 CachedPageImpl.class,
                 VersionedMappableDTO.class
             )
@@ -40,13 +45,10 @@ public class VersionedMappableRedisCacheConfiguration {
 
     @Bean
     public ReactiveRedisTemplate<Map<String, String>, VersionedMappableDTO> versionedMappableReactiveRedisTemplate(
-            final ReactiveRedisConnectionFactory factory) {
-        final Jackson2JsonRedisSerializer<Map<String, String>> keySerializer = new Jackson2JsonRedisSerializer<>(TypeFactory.defaultInstance().constructMapType(
-                HashMap.class,
-                String.class,
-                String.class
-        ));
-        final Jackson2JsonRedisSerializer<VersionedMappableDTO> valueSerializer = new Jackson2JsonRedisSerializer<>(VersionedMappableDTO.class);
+            final ReactiveRedisConnectionFactory factory,
+            final CacheSerializerFactory serializerFactory) {
+        final RedisSerializer<Map<String, String>> keySerializer = serializerFactory.keySerializer("versioned-mappable");
+        final RedisSerializer<VersionedMappableDTO> valueSerializer = serializerFactory.valueSerializer("versioned-mappable", VersionedMappableDTO.class);
         final RedisSerializationContext.RedisSerializationContextBuilder<Map<String, String>, VersionedMappableDTO> builder =
                 RedisSerializationContext.newSerializationContext(keySerializer);
         final RedisSerializationContext<Map<String, String>, VersionedMappableDTO> context =
@@ -55,17 +57,19 @@ public class VersionedMappableRedisCacheConfiguration {
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, Page<VersionedMappableDTO>> versionedMappablePageReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, Page<VersionedMappableDTO>> template
+    public ReactiveCache<Page<VersionedMappableDTO>> versionedMappablePageReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, Page<VersionedMappableDTO>> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("versioned-mappable-page", template, VERSIONED_MAPPABLE_PAGE_L1_CAPACITY);
     }
 
     @Bean
-    public ReactiveValueOperations<Map<String, String>, VersionedMappableDTO> versionedMappableReactiveRedisOperations(
-            final ReactiveRedisTemplate<Map<String, String>, VersionedMappableDTO> template
+    public ReactiveCache<VersionedMappableDTO> versionedMappableReactiveCache(
+            final ReactiveRedisTemplate<Map<String, String>, VersionedMappableDTO> template,
+            final TwoTierCacheFactory cacheFactory
     ) {
-        return template.opsForValue();
+        return cacheFactory.create("versioned-mappable", template, VERSIONED_MAPPABLE_L1_CAPACITY);
     }
 
 }
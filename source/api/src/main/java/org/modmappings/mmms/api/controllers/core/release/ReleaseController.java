@@ -10,14 +10,20 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.modmappings.mmms.api.model.core.release.ReleaseDTO;
+import org.modmappings.mmms.api.model.core.release.ReleaseExportFormatDTO;
+import org.modmappings.mmms.api.services.core.release.ReleaseArtifactService;
+import org.modmappings.mmms.api.services.core.release.ReleaseExportService;
 import org.modmappings.mmms.api.services.core.release.ReleaseService;
 import org.modmappings.mmms.api.services.utils.exceptions.AbstractHttpResponseException;
+import org.modmappings.mmms.api.services.utils.exceptions.InvalidExportFormatException;
 import org.modmappings.mmms.api.services.utils.user.UserService;
 import org.modmappings.mmms.api.springdoc.PageableAsQueryParam;
 import org.modmappings.mmms.api.util.Constants;
+import org.modmappings.mmms.api.util.FileResponses;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -26,6 +32,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
 import java.util.UUID;
 
 @Tag(name = "Releases", description = "Gives access to available releases, allows existing releases to be modified and new ones to be created.")
@@ -34,10 +41,14 @@ import java.util.UUID;
 public class ReleaseController {
 
     private final ReleaseService releaseService;
+    private final ReleaseExportService releaseExportService;
+    private final ReleaseArtifactService releaseArtifactService;
     private final UserService userService;
 
-    public ReleaseController(final ReleaseService releaseService, final UserService userService) {
+    public ReleaseController(final ReleaseService releaseService, final ReleaseExportService releaseExportService, final ReleaseArtifactService releaseArtifactService, final UserService userService) {
         this.releaseService = releaseService;
+        this.releaseExportService = releaseExportService;
+        this.releaseArtifactService = releaseArtifactService;
         this.userService = userService;
     }
 
@@ -69,6 +80,75 @@ public class ReleaseController {
                 });
     }
 
+    @Operation(
+            operationId = "exportRelease",
+            summary = "Exports the entire release with the given id as a single gzip compressed file.",
+            description = "This streams all mappings of the release, compressed, in one response. The SRG and TSRG formats contain the classes, methods and fields of the release. The CSV and JSON formats contain all mappings of the release, including parameters. Releases which are not snapshots are served from a pre-rendered file, with a strong ETag and support for a single byte range.",
+            parameters = {
+                    @Parameter(
+                            name = "id",
+                            in = ParameterIn.PATH,
+                            required = true,
+                            description = "The id of the release to export.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "format",
+                            in = ParameterIn.QUERY,
+                            description = "The format to export the release in. One of: tsrg, srg, csv or json.",
+                            example = "tsrg"
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Streams the release with the given id as a gzip compressed file.",
+                    content = @Content(mediaType = "application/gzip")),
+            @ApiResponse(responseCode = "206", description = "Returns the requested range of the pre-rendered file of the release with the given id.",
+                    content = @Content(mediaType = "application/gzip")),
+            @ApiResponse(responseCode = "304", description = "Indicates that the pre-rendered file of the release with the given id did not change."),
+            @ApiResponse(responseCode = "400", description = "Indicates that the requested format is not supported.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema())),
+            @ApiResponse(responseCode = "404", description = "Indicates that no release with the given id could be found",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @GetMapping(value = "{id}/export")
+    public Mono<Void> export(
+            @PathVariable final UUID id,
+            final @RequestParam(name = "format", required = false, defaultValue = "tsrg") String format,
+            final ServerWebExchange exchange) {
+        final ServerHttpResponse response = exchange.getResponse();
+        return Mono.justOrEmpty(ReleaseExportFormatDTO.fromName(format))
+                .switchIfEmpty(Mono.defer(() -> Mono.error(new InvalidExportFormatException(format))))
+                .zipWith(releaseService.getBy(id, true))
+                .flatMap(formatAndRelease -> {
+                    final ReleaseExportFormatDTO exportFormat = formatAndRelease.getT1();
+                    final ReleaseDTO release = formatAndRelease.getT2();
+
+                    response.getHeaders().setContentType(MediaType.parseMediaType("application/gzip"));
+                    response.getHeaders().setContentDisposition(ContentDisposition.builder("attachment")
+                            .filename(release.getName() + "." + exportFormat.getExtension() + ".gz")
+                            .build());
+
+                    //Writing the artifact completes empty, so the branch is chosen on the artifact, not on the result of the write.
+                    return releaseArtifactService.getBy(release, exportFormat)
+                            .map(Optional::of)
+                            .defaultIfEmpty(Optional.empty())
+                            .flatMap(artifact -> {
+                                if (artifact.isPresent())
+                                    return FileResponses.write(exchange, artifact.get().getPath(), artifact.get().getSize(), artifact.get().getETag());
+
+                                releaseArtifactService.render(release); //Not rendered yet, or rendered for an older state of the release.
+                                return response.writeWith(releaseExportService.export(release.getId(), exportFormat, response.bufferFactory()));
+                            });
+                })
+                .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
+                    response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
+                    return Mono.empty();
+                });
+    }
+
     @Operation(
             operationId = "getReleasesBySearchCriteria",
             summary = "Gets all known releases and finds the ones that match the given parameters.",
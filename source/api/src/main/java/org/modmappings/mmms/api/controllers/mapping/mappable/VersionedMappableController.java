@@ -11,13 +11,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.VersionedMappableDTO;
+import org.modmappings.mmms.api.model.mapping.mappings.BatchLookupDTO;
 import org.modmappings.mmms.api.services.mapping.mappable.VersionedMappableService;
 import org.modmappings.mmms.api.services.utils.exceptions.AbstractHttpResponseException;
 import org.modmappings.mmms.api.services.utils.user.UserService;
 import org.modmappings.mmms.api.springdoc.PageableAsQueryParam;
+import org.modmappings.mmms.api.springdoc.SortAsQueryParam;
 import org.modmappings.mmms.api.util.Constants;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -25,8 +28,10 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Versioned Mappables", description = "Gives access to available versioned mappables, versioned mappables are created and controlled by the importing system, and can not be created or externally modified.")
@@ -70,6 +75,26 @@ public class VersionedMappableController {
                 });
     }
 
+    @Operation(
+            operationId = "getVersionedMappablesByBatch",
+            summary = "Looks up multiple versioned mappables at once.",
+            description = "Looks up either the versioned mappables with the given ids, or the versioned mappables of which the latest mapping in the given mapping type and game version has any of the given inputs. The versioned mappables are returned in the order in which they were requested, entries which could not be found are skipped."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the versioned mappables that were found, in the order in which they were requested."),
+            @ApiResponse(responseCode = "400", description = "Indicates that neither or both ids and inputs were given, that inputs were given without a mapping type and game version, or that too many entries were requested.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @PostMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<VersionedMappableDTO>> getAllBy(@RequestBody final BatchLookupDTO lookup, final ServerHttpResponse response) {
+        return versionedMappableService.getAllBy(lookup)
+                .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
+                    response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
+                    return Mono.empty();
+                });
+    }
+
     @Operation(
             operationId = "getVersionedMappablesBySearchCriteria",
             summary = "Gets all known versioned mappables that match the given parameters.",
@@ -170,6 +195,96 @@ public class VersionedMappableController {
                 });
     }
 
+    @Operation(
+            operationId = "streamVersionedMappablesBySearchCriteria",
+            summary = "Streams all known versioned mappables that match the given parameters, as newline delimited json.",
+            description = "Unlike the paged variant, this emits every matching versioned mappable as a single json object per line, as soon as it is read from the database. No total count is calculated.",
+            parameters = {
+                    @Parameter(
+                            name = "gameVersionId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the game version. Null to ignore.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappableType",
+                            in = ParameterIn.QUERY,
+                            description = "The type of the mappable to look up. Null to ignore.",
+                            example = "CLASS"
+                    ),
+                    @Parameter(
+                            name = "classId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the class to find versioned mappables in. Null to ignore.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "methodId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the method to find versioned mappables in. Null to ignore.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappingId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the mapping to find the versioned mappables for. Null to ignore. If parameter is passed, either a single result is returned or none. Since each mapping can only target a single versioned mappable.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappingTypeId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the mapping type to find the versioned mappables for. Null to ignore. Use full in combination with a input and output regex.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappingInputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "A regex that is mapped against the input of the mapping. Null to ignore",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "mappingOutputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "A regex that is mapped against the output of the mapping. Null to ignore",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "superTypeTargetId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the class to find the super types for. Null to ignore.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "subTypeTargetId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the class to find the sub types for. Null to ignore.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Streams all the versioned mappables in the database, that match the search criteria.")
+    })
+    @GetMapping(value = "stream", produces = {Constants.APPLICATION_NDJSON_VALUE})
+    @SortAsQueryParam
+    public Flux<VersionedMappableDTO> streamAll(
+            final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+            final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableTypeDTO,
+            final @RequestParam(value = "classId", required = false) UUID classId,
+            final @RequestParam(value = "methodId", required = false) UUID methodId,
+            final @RequestParam(value = "mappingId", required = false) UUID mappingId,
+            final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+            final @RequestParam(value = "mappingInputRegex", required = false) String mappingInputRegex,
+            final @RequestParam(value = "mappingOutputRegex", required = false) String mappingOutputRegex,
+            final @RequestParam(value = "superTypeTargetId", required = false) UUID superTypeTargetId,
+            final @RequestParam(value = "subTypeTargetId", required = false) UUID subTypeTargetId,
+            final Sort sort) {
+        return versionedMappableService.streamAll(
+                gameVersionId, mappableTypeDTO, classId, methodId, mappingId, mappingTypeId, mappingInputRegex, mappingOutputRegex, superTypeTargetId, subTypeTargetId, sort
+        );
+    }
+
     @Operation(
             operationId = "updateVersionedMappable",
             summary = "Updates, but does not create, the versioned mappable from the data in the request body.",
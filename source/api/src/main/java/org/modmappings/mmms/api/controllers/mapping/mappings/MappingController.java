@@ -11,15 +11,20 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.modmappings.mmms.api.model.mapping.mappable.DetailedMappingDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
+import org.modmappings.mmms.api.model.mapping.mappings.BatchLookupDTO;
 import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
 import org.modmappings.mmms.api.services.mapping.mappings.DetailedMappingService;
 import org.modmappings.mmms.api.services.mapping.mappings.MappingService;
 import org.modmappings.mmms.api.services.utils.exceptions.AbstractHttpResponseException;
 import org.modmappings.mmms.api.services.utils.user.UserService;
 import org.modmappings.mmms.api.springdoc.PageableAsQueryParam;
+import org.modmappings.mmms.api.springdoc.SortAsQueryParam;
 import org.modmappings.mmms.api.util.Constants;
+import org.modmappings.mmms.repository.repositories.paging.CountMode;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -27,8 +32,10 @@ import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Mappings", description = "Gives access to available mappings, allows new ones to be created.")
@@ -74,6 +81,26 @@ public class MappingController {
                 });
     }
 
+    @Operation(
+            operationId = "getMappingsByBatch",
+            summary = "Looks up multiple mappings at once.",
+            description = "Looks up either the mappings with the given ids, or the latest mappings with the given inputs in the given mapping type and game version. The mappings are returned in the order in which they were requested, entries which could not be found are skipped. A single input can result in multiple mappings, since for example fields in different classes can share the same input."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns the mappings that were found, in the order in which they were requested."),
+            @ApiResponse(responseCode = "400", description = "Indicates that neither or both ids and inputs were given, that inputs were given without a mapping type and game version, or that too many entries were requested.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @PostMapping(value = "batch", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<List<MappingDTO>> getAllBy(@RequestBody final BatchLookupDTO lookup, final ServerHttpResponse response) {
+        return mappingService.getAllBy(lookup, true)
+                .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
+                    response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
+                    return Mono.empty();
+                });
+    }
+
     @Operation(
             operationId = "getDetailedMappingById",
             summary = "Looks up a detailed mapping using a given id.",
@@ -177,6 +204,12 @@ public class MappingController {
                             in = ParameterIn.QUERY,
                             description = "The package of the class of which the targeted mappings versioned mappable resides in.",
                             example = "com"
+                    ),
+                    @Parameter(
+                            name = "countMode",
+                            in = ParameterIn.QUERY,
+                            description = "The way the total amount of mappings is determined. Defaults to EXACT if not supplied. Other modes are faster, but the returned page indicates if its total is exact.",
+                            example = "EXACT"
                     )
             }
     )
@@ -205,15 +238,236 @@ public class MappingController {
             final @RequestParam(value = "parentClassId", required = false) UUID parentClassId,
             final @RequestParam(value = "parentMethodId", required = false) UUID parentMethodId,
             final @RequestParam(value = "parentClassPackagePath", required = false) String parentClassPackagePath,
+            final @RequestParam(value = "countMode", required = false, defaultValue = "EXACT") CountMode countMode,
             final @PageableDefault(size = 25) Pageable pageable,
             final ServerHttpResponse response) {
-        return mappingService.getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, true, pageable)
+        return mappingService.getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, true, pageable, countMode)
                 .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
                     response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
                     return Mono.empty();
                 });
     }
 
+    @Operation(
+            operationId = "seekMappingsBySearchCriteria",
+            summary = "Gets all known mappings and finds the ones that match the given parameters, using a continuation token instead of a page number.",
+            parameters = {
+                    @Parameter(
+                            name = "latestOnly",
+                            in = ParameterIn.QUERY,
+                            description = "Indicates if only latest mappings for a given versioned mappable should be taken into account. Defaults to true if not supplied.",
+                            example = "true"
+                    ),
+                    @Parameter(
+                            name = "versionedMappableId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the versioned mappable to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "releaseId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the release to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappableType",
+                            in = ParameterIn.QUERY,
+                            description = "The mappable type to filter on.",
+                            example = "CLASS"
+                    ),
+                    @Parameter(
+                            name = "inputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the input of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "outputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the output of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "mappingTypeId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the mapping type to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "gameVersionId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the game version to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "createdBy",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the user who created a mapping to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentClassId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the class of which the targeted mappings versioned mappable resides in.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentMethodId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the method of which the targeted mappings versioned mappable resides in.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentClassPackagePath",
+                            in = ParameterIn.QUERY,
+                            description = "The package of the class of which the targeted mappings versioned mappable resides in.",
+                            example = "com"
+                    ),
+                    @Parameter(
+                            name = "continuation",
+                            in = ParameterIn.QUERY,
+                            description = "The continuation token of the previous page. Leave empty to get the first page."
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Returns the mappings in the database, that match the search criteria, which follow the given continuation token."),
+            @ApiResponse(responseCode = "400",
+                    description = "Indicates that the continuation token is not valid, or that the sort contains a property which can not be seeked on, for example because it may be null.",
+                    content = {
+                            @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema())
+                    })
+    })
+    @GetMapping(value = "seek", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @PageableAsQueryParam
+    public Mono<SeekPage<MappingDTO>> seekAll(
+            final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
+            final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
+            final @RequestParam(value = "releaseId", required = false) UUID releaseId,
+            final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableType,
+            final @RequestParam(value = "inputRegex", required = false) String inputRegex,
+            final @RequestParam(value = "outputRegex", required = false) String outputRegex,
+            final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+            final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+            final @RequestParam(value = "createdBy", required = false) UUID userId,
+            final @RequestParam(value = "parentClassId", required = false) UUID parentClassId,
+            final @RequestParam(value = "parentMethodId", required = false) UUID parentMethodId,
+            final @RequestParam(value = "parentClassPackagePath", required = false) String parentClassPackagePath,
+            final @PageableDefault(size = 25) Pageable pageable,
+            final @RequestParam(value = "continuation", required = false) String continuationToken,
+            final ServerHttpResponse response) {
+        return mappingService.getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, true, pageable, continuationToken)
+                .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
+                    response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
+                    return Mono.empty();
+                });
+    }
+
+    @Operation(
+            operationId = "streamMappingsBySearchCriteria",
+            summary = "Streams all known mappings that match the given parameters, as newline delimited json.",
+            description = "Unlike the paged variant, this emits every matching mapping as a single json object per line, as soon as it is read from the database. No total count is calculated.",
+            parameters = {
+                    @Parameter(
+                            name = "latestOnly",
+                            in = ParameterIn.QUERY,
+                            description = "Indicates if only latest mappings for a given versioned mappable should be taken into account. Defaults to true if not supplied.",
+                            example = "true"
+                    ),
+                    @Parameter(
+                            name = "versionedMappableId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the versioned mappable to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "releaseId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the release to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappableType",
+                            in = ParameterIn.QUERY,
+                            description = "The mappable type to filter on.",
+                            example = "CLASS"
+                    ),
+                    @Parameter(
+                            name = "inputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the input of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "outputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the output of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "mappingTypeId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the mapping type to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "gameVersionId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the game version to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "createdBy",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the user who created a mapping to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentClassId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the class of which the targeted mappings versioned mappable resides in.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentMethodId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the method of which the targeted mappings versioned mappable resides in.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentClassPackagePath",
+                            in = ParameterIn.QUERY,
+                            description = "The package of the class of which the targeted mappings versioned mappable resides in.",
+                            example = "com"
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Streams the mappings in the database, that match the search criteria.")
+    })
+    @GetMapping(value = "stream", produces = {Constants.APPLICATION_NDJSON_VALUE})
+    @SortAsQueryParam
+    public Flux<MappingDTO> streamAll(
+            final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
+            final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
+            final @RequestParam(value = "releaseId", required = false) UUID releaseId,
+            final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableType,
+            final @RequestParam(value = "inputRegex", required = false) String inputRegex,
+            final @RequestParam(value = "outputRegex", required = false) String outputRegex,
+            final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+            final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+            final @RequestParam(value = "createdBy", required = false) UUID userId,
+            final @RequestParam(value = "parentClassId", required = false) UUID parentClassId,
+            final @RequestParam(value = "parentMethodId", required = false) UUID parentMethodId,
+            final @RequestParam(value = "parentClassPackagePath", required = false) String parentClassPackagePath,
+            final Sort sort) {
+        return mappingService.streamAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, true, sort);
+    }
+
     @Operation(
             operationId = "getDetailedMappingsBySearchCriteria",
             summary = "Gets all known mappings, and their metadata, and finds the ones that match the given parameters.",
@@ -319,6 +573,101 @@ public class MappingController {
                 });
     }
 
+    @Operation(
+            operationId = "streamDetailedMappingsBySearchCriteria",
+            summary = "Streams all known mappings, and their metadata, that match the given parameters, as newline delimited json.",
+            description = "Unlike the paged variant, this emits every matching mapping as a single json object per line, as soon as it is read from the database. No total count is calculated.",
+            parameters = {
+                    @Parameter(
+                            name = "latestOnly",
+                            in = ParameterIn.QUERY,
+                            description = "Indicates if only latest mappings for a given versioned mappable should be taken into account. Defaults to true if not supplied.",
+                            example = "true"
+                    ),
+                    @Parameter(
+                            name = "versionedMappableId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the versioned mappable to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "releaseId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the release to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappableType",
+                            in = ParameterIn.QUERY,
+                            description = "The mappable type to filter on.",
+                            example = "CLASS"
+                    ),
+                    @Parameter(
+                            name = "inputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the input of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "outputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the output of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "mappingTypeId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the mapping type to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "gameVersionId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the game version to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "createdBy",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the user who created a mapping to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentClassId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the class of which the targeted mappings versioned mappable resides in.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "parentMethodId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the method of which the targeted mappings versioned mappable resides in.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Streams all mappings, and their metadata, in the database, that match the search criteria.")
+    })
+    @GetMapping(value = "detailed/stream", produces = {Constants.APPLICATION_NDJSON_VALUE})
+    @SortAsQueryParam
+    public Flux<DetailedMappingDTO> streamAllInstanced(
+            final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
+            final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
+            final @RequestParam(value = "releaseId", required = false) UUID releaseId,
+            final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableType,
+            final @RequestParam(value = "inputRegex", required = false) String inputRegex,
+            final @RequestParam(value = "outputRegex", required = false) String outputRegex,
+            final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+            final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+            final @RequestParam(value = "parentClassId", required = false) UUID parentClassId,
+            final @RequestParam(value = "parentMethodId", required = false) UUID parentMethodId,
+            final @RequestParam(value = "createdBy", required = false) UUID userId,
+            final Sort sort) {
+        return detailedMappingService.streamAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, true, sort);
+    }
+
     @Operation(
             operationId = "createMapping",
             summary = "Creates the mapping from the data in the request body.",
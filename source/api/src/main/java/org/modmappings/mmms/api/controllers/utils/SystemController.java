@@ -9,26 +9,38 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.modmappings.mmms.api.model.diagnostics.CacheStatisticsDTO;
+import org.modmappings.mmms.api.model.diagnostics.QueryStatisticsDTO;
+import org.modmappings.mmms.api.model.diagnostics.SlowQueryDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.DetailedMappingDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
 import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
+import org.modmappings.mmms.api.services.diagnostics.CacheDiagnosticsService;
+import org.modmappings.mmms.api.services.diagnostics.QueryDiagnosticsService;
 import org.modmappings.mmms.api.services.mapping.mappings.DetailedMappingService;
 import org.modmappings.mmms.api.services.mapping.mappings.MappingService;
 import org.modmappings.mmms.api.services.utils.exceptions.AbstractHttpResponseException;
 import org.modmappings.mmms.api.services.utils.user.UserService;
 import org.modmappings.mmms.api.springdoc.PageableAsQueryParam;
+import org.modmappings.mmms.api.springdoc.SortAsQueryParam;
 import org.modmappings.mmms.api.util.Constants;
+import org.modmappings.mmms.repository.repositories.paging.CountMode;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -41,11 +53,15 @@ public class SystemController
 
     private final MappingService mappingService;
     private final DetailedMappingService detailedMappingService;
+    private final QueryDiagnosticsService queryDiagnosticsService;
+    private final CacheDiagnosticsService cacheDiagnosticsService;
 
-    public SystemController(final MappingService mappingService, final DetailedMappingService detailedMappingService)
+    public SystemController(final MappingService mappingService, final DetailedMappingService detailedMappingService, final QueryDiagnosticsService queryDiagnosticsService, final CacheDiagnosticsService cacheDiagnosticsService)
     {
         this.mappingService = mappingService;
         this.detailedMappingService = detailedMappingService;
+        this.queryDiagnosticsService = queryDiagnosticsService;
+        this.cacheDiagnosticsService = cacheDiagnosticsService;
     }
 
     @Operation(
@@ -105,6 +121,12 @@ public class SystemController
           in = ParameterIn.QUERY,
           description = "The id of the user who created a mapping to filter on.",
           example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "countMode",
+          in = ParameterIn.QUERY,
+          description = "The way the total amount of mappings is determined. Defaults to WINDOW if not supplied. The returned page indicates if its total is exact.",
+          example = "WINDOW"
         )
       },
       security = {
@@ -131,6 +153,114 @@ public class SystemController
     @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
     @PageableAsQueryParam
     public Mono<Page<MappingDTO>> getAll(
+      final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
+      final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
+      final @RequestParam(value = "releaseId", required = false) UUID releaseId,
+      final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableType,
+      final @RequestParam(value = "inputRegex", required = false) String inputRegex,
+      final @RequestParam(value = "outputRegex", required = false) String outputRegex,
+      final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+      final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+      final @RequestParam(value = "createdBy", required = false) UUID userId,
+      final @RequestParam(value = "countMode", required = false, defaultValue = "WINDOW") CountMode countMode,
+      final @PageableDefault(size = 2000) Pageable pageable,
+      final ServerHttpResponse response)
+    {
+        return mappingService.getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, null,null, null, true, pageable, countMode)
+                 .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
+                     response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
+                     return Mono.empty();
+                 });
+    }
+
+    @Operation(
+      operationId = "seekMappingsBySearchCriteria",
+      summary = "Gets all known mappings and finds the ones that match the given parameters, using a continuation token instead of a page number.",
+      parameters = {
+        @Parameter(
+          name = "latestOnly",
+          in = ParameterIn.QUERY,
+          description = "Indicates if only latest mappings for a given versioned mappable should be taken into account. Defaults to true if not supplied.",
+          example = "true"
+        ),
+        @Parameter(
+          name = "versionedMappableId",
+          in = ParameterIn.QUERY,
+          description = "The id of the versioned mappable to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "releaseId",
+          in = ParameterIn.QUERY,
+          description = "The id of the release to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "mappableType",
+          in = ParameterIn.QUERY,
+          description = "The mappable type to filter on.",
+          example = "CLASS"
+        ),
+        @Parameter(
+          name = "inputRegex",
+          in = ParameterIn.QUERY,
+          description = "The regular expression to match the input of the mapping against.",
+          example = ".*"
+        ),
+        @Parameter(
+          name = "outputRegex",
+          in = ParameterIn.QUERY,
+          description = "The regular expression to match the output of the mapping against.",
+          example = ".*"
+        ),
+        @Parameter(
+          name = "mappingTypeId",
+          in = ParameterIn.QUERY,
+          description = "The id of the mapping type to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "gameVersionId",
+          in = ParameterIn.QUERY,
+          description = "The id of the game version to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "createdBy",
+          in = ParameterIn.QUERY,
+          description = "The id of the user who created a mapping to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "continuation",
+          in = ParameterIn.QUERY,
+          description = "The continuation token of the previous page. Leave empty to get the first page."
+        )
+      },
+      security = {
+        @SecurityRequirement(
+          name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+          scopes = {Constants.SCOPE_ROLES_NAME}
+        )
+      }
+    )
+    @ApiResponses(value = {
+      @ApiResponse(responseCode = "200",
+        description = "Returns the mappings in the database, that match the search criteria, which follow the given continuation token."),
+      @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+          schema = @Schema())),
+      @ApiResponse(responseCode = "400",
+        description = "Indicates that the continuation token is not valid.",
+        content = {
+          @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema())
+        })
+    })
+    @GetMapping(value = "mappings/seek", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    @PageableAsQueryParam
+    public Mono<SeekPage<MappingDTO>> seekAll(
       final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
       final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
       final @RequestParam(value = "releaseId", required = false) UUID releaseId,
@@ -141,15 +271,108 @@ public class SystemController
       final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
       final @RequestParam(value = "createdBy", required = false) UUID userId,
       final @PageableDefault(size = 2000) Pageable pageable,
+      final @RequestParam(value = "continuation", required = false) String continuationToken,
       final ServerHttpResponse response)
     {
-        return mappingService.getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, null,null, null, true, pageable)
+        return mappingService.getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, null,null, null, true, pageable, continuationToken)
                  .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
                      response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
                      return Mono.empty();
                  });
     }
 
+    @Operation(
+      operationId = "streamMappingsBySearchCriteria",
+      summary = "Streams all known mappings that match the given parameters, as newline delimited json.",
+      description = "Unlike the paged variant, this emits every matching mapping as a single json object per line, as soon as it is read from the database. No total count is calculated.",
+      parameters = {
+        @Parameter(
+          name = "latestOnly",
+          in = ParameterIn.QUERY,
+          description = "Indicates if only latest mappings for a given versioned mappable should be taken into account. Defaults to true if not supplied.",
+          example = "true"
+        ),
+        @Parameter(
+          name = "versionedMappableId",
+          in = ParameterIn.QUERY,
+          description = "The id of the versioned mappable to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "releaseId",
+          in = ParameterIn.QUERY,
+          description = "The id of the release to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "mappableType",
+          in = ParameterIn.QUERY,
+          description = "The mappable type to filter on.",
+          example = "CLASS"
+        ),
+        @Parameter(
+          name = "inputRegex",
+          in = ParameterIn.QUERY,
+          description = "The regular expression to match the input of the mapping against.",
+          example = ".*"
+        ),
+        @Parameter(
+          name = "outputRegex",
+          in = ParameterIn.QUERY,
+          description = "The regular expression to match the output of the mapping against.",
+          example = ".*"
+        ),
+        @Parameter(
+          name = "mappingTypeId",
+          in = ParameterIn.QUERY,
+          description = "The id of the mapping type to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "gameVersionId",
+          in = ParameterIn.QUERY,
+          description = "The id of the game version to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        ),
+        @Parameter(
+          name = "createdBy",
+          in = ParameterIn.QUERY,
+          description = "The id of the user who created a mapping to filter on.",
+          example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+        )
+      },
+      security = {
+        @SecurityRequirement(
+          name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+          scopes = {Constants.SCOPE_ROLES_NAME}
+        )
+      }
+    )
+    @ApiResponses(value = {
+      @ApiResponse(responseCode = "200",
+        description = "Streams the mappings in the database, that match the search criteria."),
+      @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+        content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+          schema = @Schema()))
+    })
+    @GetMapping(value = "mappings/stream", produces = {Constants.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    @SortAsQueryParam
+    public Flux<MappingDTO> streamAll(
+      final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
+      final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
+      final @RequestParam(value = "releaseId", required = false) UUID releaseId,
+      final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableType,
+      final @RequestParam(value = "inputRegex", required = false) String inputRegex,
+      final @RequestParam(value = "outputRegex", required = false) String outputRegex,
+      final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+      final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+      final @RequestParam(value = "createdBy", required = false) UUID userId,
+      final Sort sort)
+    {
+        return mappingService.streamAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, null,null, null, true, sort);
+    }
+
     @Operation(
             operationId = "getDetailedMappingsBySearchCriteria",
             summary = "Gets all known mappings, and their metadata, and finds the ones that match the given parameters.",
@@ -245,4 +468,234 @@ public class SystemController
                 });
     }
 
+    @Operation(
+            operationId = "streamDetailedMappingsBySearchCriteria",
+            summary = "Streams all known mappings, and their metadata, that match the given parameters, as newline delimited json.",
+            description = "Unlike the paged variant, this emits every matching mapping as a single json object per line, as soon as it is read from the database. No total count is calculated.",
+            parameters = {
+                    @Parameter(
+                            name = "latestOnly",
+                            in = ParameterIn.QUERY,
+                            description = "Indicates if only latest mappings for a given versioned mappable should be taken into account. Defaults to true if not supplied.",
+                            example = "true"
+                    ),
+                    @Parameter(
+                            name = "versionedMappableId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the versioned mappable to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "releaseId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the release to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "mappableType",
+                            in = ParameterIn.QUERY,
+                            description = "The mappable type to filter on.",
+                            example = "CLASS"
+                    ),
+                    @Parameter(
+                            name = "inputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the input of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "outputRegex",
+                            in = ParameterIn.QUERY,
+                            description = "The regular expression to match the output of the mapping against.",
+                            example = ".*"
+                    ),
+                    @Parameter(
+                            name = "mappingTypeId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the mapping type to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "gameVersionId",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the game version to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    ),
+                    @Parameter(
+                            name = "createdBy",
+                            in = ParameterIn.QUERY,
+                            description = "The id of the user who created a mapping to filter on.",
+                            example = "9b4a9c76-3588-48b5-bedf-b0df90b00381"
+                    )
+            },
+            security = {
+                    @SecurityRequirement(
+                            name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+                            scopes = {Constants.SCOPE_ROLES_NAME}
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Streams all mappings, and their metadata, in the database, that match the search criteria."),
+            @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @GetMapping(value = "mappings/detailed/stream", produces = {Constants.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    @SortAsQueryParam
+    public Flux<DetailedMappingDTO> streamAllInstanced(
+            final @RequestParam(value = "latestOnly", required = false, defaultValue = "true") Boolean latestOnly,
+            final @RequestParam(value = "versionedMappableId", required = false) UUID versionedMappableId,
+            final @RequestParam(value = "releaseId", required = false) UUID releaseId,
+            final @RequestParam(value = "mappableType", required = false) MappableTypeDTO mappableType,
+            final @RequestParam(value = "inputRegex", required = false) String inputRegex,
+            final @RequestParam(value = "outputRegex", required = false) String outputRegex,
+            final @RequestParam(value = "mappingTypeId", required = false) UUID mappingTypeId,
+            final @RequestParam(value = "gameVersionId", required = false) UUID gameVersionId,
+            final @RequestParam(value = "createdBy", required = false) UUID userId,
+            final Sort sort) {
+        return detailedMappingService.streamAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, null, null, true, sort);
+    }
+
+    @Operation(
+            operationId = "getSlowQueries",
+            summary = "Gets the most recent queries which took longer then the slow query threshold, together with their query plan.",
+            security = {
+                    @SecurityRequirement(
+                            name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+                            scopes = {Constants.SCOPE_ROLES_NAME}
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Returns the captured slow queries, newest first."),
+            @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @GetMapping(value = "diagnostics/slow-queries", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    public Flux<SlowQueryDTO> getSlowQueries() {
+        return queryDiagnosticsService.getSlowQueries();
+    }
+
+    @Operation(
+            operationId = "getQueryStatistics",
+            summary = "Gets the latency histograms of all executed query shapes.",
+            security = {
+                    @SecurityRequirement(
+                            name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+                            scopes = {Constants.SCOPE_ROLES_NAME}
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Returns the latency histograms, the shape with the most time spent in total first."),
+            @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @GetMapping(value = "diagnostics/query-statistics", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    public Flux<QueryStatisticsDTO> getQueryStatistics() {
+        return queryDiagnosticsService.getQueryStatistics();
+    }
+
+    @Operation(
+            operationId = "getCacheStatistics",
+            summary = "Gets the hit, miss, load and size statistics of all cache regions, as seen by the node that handles the request.",
+            security = {
+                    @SecurityRequirement(
+                            name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+                            scopes = {Constants.SCOPE_ROLES_NAME}
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Returns the statistics, ordered by region."),
+            @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @GetMapping(value = "caches", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    public Flux<CacheStatisticsDTO> getCacheStatistics() {
+        return cacheDiagnosticsService.getCacheStatistics();
+    }
+
+    @Operation(
+            operationId = "flushCacheRegion",
+            summary = "Removes all entries of a cache region, from redis and from all nodes.",
+            parameters = {
+                    @Parameter(
+                            name = "region",
+                            in = ParameterIn.PATH,
+                            description = "The name of the cache region to flush.",
+                            example = "mapping-page"
+                    )
+            },
+            security = {
+                    @SecurityRequirement(
+                            name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+                            scopes = {Constants.SCOPE_ROLES_NAME}
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Returns the amount of entries that were removed from redis."),
+            @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema())),
+            @ApiResponse(responseCode = "404",
+                    description = "Indicates that no cache region with the given name exists.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @DeleteMapping(value = "caches/{region}", produces = {MediaType.APPLICATION_JSON_VALUE})
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    public Mono<Long> flushCacheRegion(@PathVariable final String region, final ServerHttpResponse response) {
+        return cacheDiagnosticsService.flush(region)
+                .onErrorResume(AbstractHttpResponseException.class, (ex) -> {
+                    response.setStatusCode(HttpStatus.valueOf(ex.getResponseCode()));
+                    return Mono.empty();
+                });
+    }
+
+    @Operation(
+            operationId = "invalidateCacheScope",
+            summary = "Invalidates all cached pages which depend on an invalidation scope, in all cache regions.",
+            parameters = {
+                    @Parameter(
+                            name = "scope",
+                            in = ParameterIn.PATH,
+                            description = "The invalidation scope.",
+                            example = "mapping:all"
+                    )
+            },
+            security = {
+                    @SecurityRequirement(
+                            name = Constants.MOD_MAPPINGS_OFFICIAL_AUTH,
+                            scopes = {Constants.SCOPE_ROLES_NAME}
+                    )
+            }
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200",
+                    description = "Indicates that the scope was invalidated."),
+            @ApiResponse(responseCode = "403", description = "The user is not authorized to perform this action.",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema()))
+    })
+    @DeleteMapping(value = "caches/scopes/{scope}")
+    @PreAuthorize("hasRole('SYSTEM_ACCOUNT')")
+    public Mono<Void> invalidateCacheScope(@PathVariable final String scope) {
+        return cacheDiagnosticsService.invalidate(scope);
+    }
+
 }
@@ -2,9 +2,8 @@ package org.modmappings.mmms.api.converters.mapping.mappable;
 
 import org.modmappings.mmms.api.model.mapping.mappable.SimpleVersionedMappableDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.VersionedMappableDTO;
-import org.modmappings.mmms.repository.model.core.MappingTypeDMO;
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
 import org.modmappings.mmms.repository.model.mapping.mappable.*;
-import org.modmappings.mmms.repository.repositories.core.mappingtypes.MappingTypeRepository;
 import org.modmappings.mmms.repository.repositories.mapping.mappables.inheritancedata.InheritanceDataRepository;
 import org.modmappings.mmms.repository.repositories.mapping.mappables.mappable.MappableRepository;
 import org.modmappings.mmms.repository.repositories.mapping.mappables.protectedmappableinformation.ProtectedMappableInformationRepository;
@@ -14,9 +13,13 @@ import org.webjars.NotFoundException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Business layer converter that handles the conversion between DMO and DTO,
@@ -30,14 +33,14 @@ public class VersionedMappableConverter {
     private final InheritanceDataRepository inheritanceDataRepository;
     private final MappableRepository mappableRepository;
     private final ProtectedMappableInformationRepository protectedMappableInformationRepository;
-    private final MappingTypeRepository mappingTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
-    public VersionedMappableConverter(final VisibilityConverter visibilityConverter, final InheritanceDataRepository inheritanceDataRepository, final MappableRepository mappableRepository, final ProtectedMappableInformationRepository protectedMappableInformationRepository, final MappingTypeRepository mappingTypeRepository) {
+    public VersionedMappableConverter(final VisibilityConverter visibilityConverter, final InheritanceDataRepository inheritanceDataRepository, final MappableRepository mappableRepository, final ProtectedMappableInformationRepository protectedMappableInformationRepository, final ReferenceDataRegistry referenceDataRegistry) {
         this.visibilityConverter = visibilityConverter;
         this.inheritanceDataRepository = inheritanceDataRepository;
         this.mappableRepository = mappableRepository;
         this.protectedMappableInformationRepository = protectedMappableInformationRepository;
-        this.mappingTypeRepository = mappingTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
     }
 
     public Mono<VersionedMappableDTO> toDTO(
@@ -55,10 +58,57 @@ public class VersionedMappableConverter {
                 protectedMappableInformationRepository.findAllByVersionedMappable(dmo.getId(), Pageable.unpaged())
                         .flatMapIterable(Function.identity())
                         .map(ProtectedMappableInformationDMO::getMappingTypeId)
-                        .filterWhen(mappingTypeId -> mappingTypeRepository.findById(mappingTypeId)
-                                .filter(MappingTypeDMO::isVisible)
-                                .hasElement()
+                        .filterWhen(referenceDataRegistry::isMappingTypeVisible)
+        );
+    }
+
+    /**
+     * Converts the given versioned mappables into their DTOs.
+     * <p>
+     * Unlike {@link #toDTO(VersionedMappableDMO)} the related data is not looked up per versioned mappable.
+     * Instead the mappables, the inheritance data and the protection information of all given versioned mappables
+     * are each looked up with a single query, after which they are distributed over the versioned mappables.
+     * This means that converting a page of versioned mappables takes a constant amount of queries, regardless of the size of the page.
+     *
+     * @param dmos The versioned mappables to convert.
+     * @return The DTOs of the given versioned mappables, in the same order.
+     */
+    public Flux<VersionedMappableDTO> toDTOs(
+            final List<VersionedMappableDMO> dmos
+    ) {
+        if (dmos.isEmpty())
+            return Flux.empty();
+
+        final Set<UUID> ids = dmos.stream().map(VersionedMappableDMO::getId).collect(Collectors.toSet());
+        final Set<UUID> mappableIds = dmos.stream().map(VersionedMappableDMO::getMappableId).collect(Collectors.toSet());
+
+        return Mono.zip(
+                mappableRepository.findAllById(mappableIds)
+                        .collectMap(MappableDMO::getId),
+                inheritanceDataRepository.findAllForSuperTypes(ids)
+                        .collectMultimap(InheritanceDataDMO::getSuperTypeVersionedMappableId, InheritanceDataDMO::getSubTypeVersionedMappableId),
+                inheritanceDataRepository.findAllForSubTypes(ids)
+                        .collectMultimap(InheritanceDataDMO::getSubTypeVersionedMappableId, InheritanceDataDMO::getSuperTypeVersionedMappableId),
+                protectedMappableInformationRepository.findAllByVersionedMappables(ids)
+                        .collectList()
+                        .flatMap(protectedMappableInformation -> Flux.fromStream(protectedMappableInformation.stream()
+                                .map(ProtectedMappableInformationDMO::getMappingTypeId)
+                                .distinct())
+                                .filterWhen(referenceDataRegistry::isMappingTypeVisible)
+                                .collect(Collectors.toSet())
+                                .map(visibleMappingTypeIds -> protectedMappableInformation.stream()
+                                        .filter(information -> visibleMappingTypeIds.contains(information.getMappingTypeId()))
+                                        .collect(Collectors.groupingBy(ProtectedMappableInformationDMO::getVersionedMappableId,
+                                                Collectors.mapping(ProtectedMappableInformationDMO::getMappingTypeId, Collectors.toList()))))
                         )
+        ).flatMapMany(t -> Flux.fromIterable(dmos)
+                .concatMap(dmo -> this.toDTO(
+                        dmo,
+                        Mono.justOrEmpty(t.getT1().get(dmo.getMappableId())),
+                        Flux.fromIterable(t.getT2().getOrDefault(dmo.getId(), Collections.emptyList())),
+                        Flux.fromIterable(t.getT3().getOrDefault(dmo.getId(), Collections.emptyList())),
+                        Flux.fromIterable(t.getT4().getOrDefault(dmo.getId(), Collections.emptyList()))
+                ))
         );
     }
 
@@ -3,12 +3,14 @@ package org.modmappings.mmms.api.converters.mapping.mappings;
 import org.modmappings.mmms.api.converters.mapping.mappable.MappableConverter;
 import org.modmappings.mmms.api.converters.mapping.mappable.VersionedMappableConverter;
 import org.modmappings.mmms.api.model.mapping.mappable.DetailedMappingDTO;
+import org.modmappings.mmms.api.model.mapping.mappable.VersionedMappableDTO;
 import org.modmappings.mmms.repository.model.mapping.mappings.DetailedMappingDMO;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Business layer converter that handles the conversion between DMO and DTO,
@@ -34,4 +36,22 @@ public class DetailedMappingConverter {
                         vmDto,
                         this.mappingConverter.toDTO(dmo.getMapping())));
     }
+
+    /**
+     * Converts the given detailed mappings into their DTOs.
+     * The versioned mappables are converted in bulk, see {@link VersionedMappableConverter#toDTOs(List)}.
+     *
+     * @param dmos The detailed mappings to convert.
+     * @return The DTOs of the given detailed mappings, in the same order.
+     */
+    public Flux<DetailedMappingDTO> toDTOs(final List<DetailedMappingDMO> dmos) {
+        return this.versionedMappableConverter.toDTOs(dmos.stream().map(DetailedMappingDMO::getVersionedMappable).collect(Collectors.toList()))
+                .collectMap(VersionedMappableDTO::getId)
+                .flatMapMany(versionedMappables -> Flux.fromIterable(dmos)
+                        .filter(dmo -> versionedMappables.containsKey(dmo.getVersionedMappable().getId()))
+                        .map(dmo -> new DetailedMappingDTO(
+                                this.mappableConverter.toDTO(dmo.getMappable()),
+                                versionedMappables.get(dmo.getVersionedMappable().getId()),
+                                this.mappingConverter.toDTO(dmo.getMapping()))));
+    }
 }
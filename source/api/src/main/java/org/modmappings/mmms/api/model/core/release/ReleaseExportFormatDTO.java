@@ -0,0 +1,45 @@
+package org.modmappings.mmms.api.model.core.release;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Locale;
+import java.util.Optional;
+
+@Schema(name = "ReleaseExportFormat", description = "Indicates in which formats a release can be exported.", enumAsRef = true)
+public enum ReleaseExportFormatDTO {
+    @Schema(description = "Exports the classes, methods and fields of the release as a TSRG file.")
+    TSRG("tsrg"),
+    @Schema(description = "Exports the classes, methods and fields of the release as a SRG file.")
+    SRG("srg"),
+    @Schema(description = "Exports all mappings of the release as a CSV file.")
+    CSV("csv"),
+    @Schema(description = "Exports all mappings of the release as a JSON array.")
+    JSON("json");
+
+    private final String extension;
+
+    ReleaseExportFormatDTO(final String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Looks up the format with the given name, ignoring its case.
+     *
+     * @param name The name of the format.
+     * @return The format, or an empty optional when no format with the given name exists.
+     */
+    public static Optional<ReleaseExportFormatDTO> fromName(final String name) {
+        if (name == null)
+            return Optional.empty();
+
+        try {
+            return Optional.of(valueOf(name.trim().toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+}
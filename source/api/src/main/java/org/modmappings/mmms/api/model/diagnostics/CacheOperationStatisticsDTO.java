@@ -0,0 +1,70 @@
+package org.modmappings.mmms.api.model.diagnostics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(name = "CacheOperationStatistics", description = "Represents the statistics of the lookups of a single operation in a cache region.")
+public class CacheOperationStatisticsDTO {
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The name of the operation.")
+    private String operation;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of lookups answered from the heap.")
+    private long l1Hits;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of lookups answered from redis.")
+    private long l2Hits;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of lookups answered by a tombstone of a missing value.")
+    private long tombstoneHits;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of lookups that found nothing.")
+    private long misses;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of loads that were run against the database.")
+    private long loads;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The mean duration of the loads in milliseconds.")
+    private double meanLoadMillis;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The longest duration of a recent load in milliseconds.")
+    private double maxLoadMillis;
+
+    public CacheOperationStatisticsDTO() {
+    }
+
+    public CacheOperationStatisticsDTO(final String operation, final long l1Hits, final long l2Hits, final long tombstoneHits, final long misses, final long loads, final double meanLoadMillis, final double maxLoadMillis) {
+        this.operation = operation;
+        this.l1Hits = l1Hits;
+        this.l2Hits = l2Hits;
+        this.tombstoneHits = tombstoneHits;
+        this.misses = misses;
+        this.loads = loads;
+        this.meanLoadMillis = meanLoadMillis;
+        this.maxLoadMillis = maxLoadMillis;
+    }
+
+    public String getOperation() {
+        return operation;
+    }
+
+    public long getL1Hits() {
+        return l1Hits;
+    }
+
+    public long getL2Hits() {
+        return l2Hits;
+    }
+
+    public long getTombstoneHits() {
+        return tombstoneHits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getLoads() {
+        return loads;
+    }
+
+    public double getMeanLoadMillis() {
+        return meanLoadMillis;
+    }
+
+    public double getMaxLoadMillis() {
+        return maxLoadMillis;
+    }
+}
@@ -0,0 +1,93 @@
+package org.modmappings.mmms.api.model.diagnostics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "CacheStatistics", description = "Represents the statistics of a single cache region on the node that answered the request.")
+public class CacheStatisticsDTO {
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The name of the cache region.")
+    private String region;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of entries currently held on heap.")
+    private long l1Size;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of entries evicted from the heap because it was full.")
+    private long l1Evictions;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of loads that were run against the database.")
+    private long executedLoads;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of loads that joined a load of the same key that was already running.")
+    private long coalescedLoads;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of loads that waited for another node to load the same key.")
+    private long awaitedLoads;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of reads that were served a stale value.")
+    private long staleReads;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of background refreshes of stale or hot values.")
+    private long refreshes;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of tombstones stored for missing values.")
+    private long tombstoneWrites;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of cache accesses that failed.")
+    private long errors;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The statistics of the lookups, per operation.")
+    private List<CacheOperationStatisticsDTO> operations;
+
+    public CacheStatisticsDTO() {
+    }
+
+    public CacheStatisticsDTO(final String region, final long l1Size, final long l1Evictions, final long executedLoads, final long coalescedLoads, final long awaitedLoads, final long staleReads, final long refreshes, final long tombstoneWrites, final long errors, final List<CacheOperationStatisticsDTO> operations) {
+        this.region = region;
+        this.l1Size = l1Size;
+        this.l1Evictions = l1Evictions;
+        this.executedLoads = executedLoads;
+        this.coalescedLoads = coalescedLoads;
+        this.awaitedLoads = awaitedLoads;
+        this.staleReads = staleReads;
+        this.refreshes = refreshes;
+        this.tombstoneWrites = tombstoneWrites;
+        this.errors = errors;
+        this.operations = operations;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getL1Size() {
+        return l1Size;
+    }
+
+    public long getL1Evictions() {
+        return l1Evictions;
+    }
+
+    public long getExecutedLoads() {
+        return executedLoads;
+    }
+
+    public long getCoalescedLoads() {
+        return coalescedLoads;
+    }
+
+    public long getAwaitedLoads() {
+        return awaitedLoads;
+    }
+
+    public long getStaleReads() {
+        return staleReads;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getTombstoneWrites() {
+        return tombstoneWrites;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public List<CacheOperationStatisticsDTO> getOperations() {
+        return operations;
+    }
+}
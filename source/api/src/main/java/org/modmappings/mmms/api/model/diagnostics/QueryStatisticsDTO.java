@@ -0,0 +1,65 @@
+package org.modmappings.mmms.api.model.diagnostics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(name = "QueryStatistics", description = "Represents the latency histogram of all queries with the same shape.")
+public class QueryStatisticsDTO {
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The sql of the shape.")
+    private String sql;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of executions of the shape.")
+    private long count;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The total time spent executing the shape in milliseconds.")
+    private double totalMillis;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The mean duration of the executions in milliseconds.")
+    private double meanMillis;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The longest duration of an execution in milliseconds.")
+    private double maxMillis;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The upper bounds of the buckets of the histogram in milliseconds. The last bucket has no upper bound.")
+    private List<Long> bucketBoundsMillis;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The amount of executions per bucket of the histogram.")
+    private List<Long> buckets;
+
+    public QueryStatisticsDTO() {
+    }
+
+    public QueryStatisticsDTO(final String sql, final long count, final double totalMillis, final double meanMillis, final double maxMillis, final List<Long> bucketBoundsMillis, final List<Long> buckets) {
+        this.sql = sql;
+        this.count = count;
+        this.totalMillis = totalMillis;
+        this.meanMillis = meanMillis;
+        this.maxMillis = maxMillis;
+        this.bucketBoundsMillis = bucketBoundsMillis;
+        this.buckets = buckets;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getTotalMillis() {
+        return totalMillis;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public List<Long> getBucketBoundsMillis() {
+        return bucketBoundsMillis;
+    }
+
+    public List<Long> getBuckets() {
+        return buckets;
+    }
+}
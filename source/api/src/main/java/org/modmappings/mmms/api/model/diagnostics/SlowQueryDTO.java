@@ -0,0 +1,52 @@
+package org.modmappings.mmms.api.model.diagnostics;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Schema(name = "SlowQuery", description = "Represents a single query which took longer then the slow query threshold, together with its plan.")
+public class SlowQueryDTO {
+
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The sql of the query.")
+    private String sql;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The values bound to the query, in the form placeholder:value.")
+    private List<String> bindings;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The duration of the query in milliseconds.")
+    private long durationMillis;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The moment the query was executed.")
+    private Timestamp executedOn;
+    @Schema(accessMode = Schema.AccessMode.READ_ONLY, description = "The output of EXPLAIN (ANALYZE, BUFFERS) for the query, rerun with the same bindings.")
+    private String plan;
+
+    public SlowQueryDTO() {
+    }
+
+    public SlowQueryDTO(final String sql, final List<String> bindings, final long durationMillis, final Timestamp executedOn, final String plan) {
+        this.sql = sql;
+        this.bindings = bindings;
+        this.durationMillis = durationMillis;
+        this.executedOn = executedOn;
+        this.plan = plan;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getBindings() {
+        return bindings;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public Timestamp getExecutedOn() {
+        return executedOn;
+    }
+
+    public String getPlan() {
+        return plan;
+    }
+}
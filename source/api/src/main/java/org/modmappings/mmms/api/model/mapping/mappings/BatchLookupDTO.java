@@ -0,0 +1,61 @@
+package org.modmappings.mmms.api.model.mapping.mappings;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+
+@Schema(name = "BatchLookup", description = "Looks up multiple entries at once. Either by their ids, or by the inputs of their latest mappings in a given mapping type and game version.")
+public class BatchLookupDTO {
+
+    @Schema(description = "The ids of the entries to look up. Can not be combined with inputs.")
+    private List<UUID> ids;
+    @Schema(description = "The id of the mapping type the inputs are looked up in. Required when looking up by inputs.", example = "9b4a9c76-3588-48b5-bedf-b0df90b00381")
+    private UUID mappingTypeId;
+    @Schema(description = "The id of the game version the inputs are looked up in. Required when looking up by inputs.", example = "9b4a9c76-3588-48b5-bedf-b0df90b00381")
+    private UUID gameVersionId;
+    @Schema(description = "The inputs of the latest mappings to look up. Can not be combined with ids.")
+    private List<String> inputs;
+
+    public BatchLookupDTO(final List<UUID> ids, final UUID mappingTypeId, final UUID gameVersionId, final List<String> inputs) {
+        this.ids = ids;
+        this.mappingTypeId = mappingTypeId;
+        this.gameVersionId = gameVersionId;
+        this.inputs = inputs;
+    }
+
+    public BatchLookupDTO() {
+    }
+
+    public List<UUID> getIds() {
+        return ids;
+    }
+
+    public void setIds(final List<UUID> ids) {
+        this.ids = ids;
+    }
+
+    public UUID getMappingTypeId() {
+        return mappingTypeId;
+    }
+
+    public void setMappingTypeId(final UUID mappingTypeId) {
+        this.mappingTypeId = mappingTypeId;
+    }
+
+    public UUID getGameVersionId() {
+        return gameVersionId;
+    }
+
+    public void setGameVersionId(final UUID gameVersionId) {
+        this.gameVersionId = gameVersionId;
+    }
+
+    public List<String> getInputs() {
+        return inputs;
+    }
+
+    public void setInputs(final List<String> inputs) {
+        this.inputs = inputs;
+    }
+}
@@ -5,6 +5,7 @@ import org.modmappings.mmms.api.model.core.GameVersionDTO;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.repositories.core.gameversions.GameVersionRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +13,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -43,12 +43,14 @@ public class GameVersionService {
 
     private final Logger logger = LoggerFactory.getLogger(GameVersionService.class);
     private final GameVersionRepository repository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final GameVersionConverter gameVersionConverter;
-    private final ReactiveValueOperations<Map<String, String>, GameVersionDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<GameVersionDTO>> pageCacheOps;
+    private final ReactiveCache<GameVersionDTO> cacheOps;
+    private final ReactiveCache<Page<GameVersionDTO>> pageCacheOps;
 
-    public GameVersionService(final GameVersionRepository repository, final GameVersionConverter gameVersionConverter, final ReactiveValueOperations<Map<String, String>, GameVersionDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<GameVersionDTO>> pageCacheOps) {
+    public GameVersionService(final GameVersionRepository repository, final ReferenceDataRegistry referenceDataRegistry, final GameVersionConverter gameVersionConverter, final ReactiveCache<GameVersionDTO> cacheOps, final ReactiveCache<Page<GameVersionDTO>> pageCacheOps) {
         this.repository = repository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.gameVersionConverter = gameVersionConverter;
         this.cacheOps = cacheOps;
         this.pageCacheOps = pageCacheOps;
@@ -64,18 +66,19 @@ public class GameVersionService {
         final Map<String, String> cacheKey = CacheKeyBuilder.create()
                 .put("ops", "getById")
                 .put("id", id)
+                .referenceData(referenceDataRegistry.getFingerprint())
                 .build();
 
         return cacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up a game version by id from cache: {}", id))
                 .doOnNext(dto -> logger.debug("Found game versions: {} with id from cache: {}", dto.getName(), dto.getId()))
-                .switchIfEmpty(repository.findById(id)
+                .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id)
                         .doFirst(() -> logger.debug("Looking up a game version by id in database: {}", id))
                         .map(this.gameVersionConverter::toDTO)
                         .doOnNext(dto -> logger.debug("Found game version: {} with id in database: {}", dto.getName(), dto.getId()))
-                        .zipWhen((dto) -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, aBoolean) -> dto)
-                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "GameVersion"))));
+                        .zipWhen((dto) -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, aBoolean) -> dto))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "GameVersion")))));
     }
 
     /**
@@ -95,13 +98,14 @@ public class GameVersionService {
                 .put("preRelease", preRelease)
                 .put("snapshot", snapshot)
                 .put("pageable", pageable)
+                .referenceData(referenceDataRegistry.getFingerprint())
                 .build();
 
         return pageCacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up game versions in search mode, from cache. Using parameters: {}, {}, {}", nameRegex, preRelease, snapshot))
                 .doOnNext(page -> logger.debug("Found game version from cache: {}", page))
-                .switchIfEmpty(repository.findAllBy(
+                .switchIfEmpty(pageCacheOps.load(cacheKey, () -> repository.findAllBy(
                         nameRegex,
                         preRelease,
                         snapshot,
@@ -112,7 +116,7 @@ public class GameVersionService {
                                 .collectList()
                                 .map(gameVersions -> (Page<GameVersionDTO>) new PageImpl<>(gameVersions, page.getPageable(), page.getTotalElements())))
                         .doOnNext(page -> logger.debug("Found game versions in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, aBoolean) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("GameVersion"))));
+                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, aBoolean) -> page))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("GameVersion")))));
     }
 }
@@ -5,6 +5,7 @@ import org.modmappings.mmms.api.model.core.MappingTypeDTO;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.repositories.core.mappingtypes.MappingTypeRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,7 +13,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -43,12 +43,14 @@ public class MappingTypeService {
 
     private final Logger logger = LoggerFactory.getLogger(MappingTypeService.class);
     private final MappingTypeRepository repository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final MappingTypeConverter mappingTypeConverter;
-    private final ReactiveValueOperations<Map<String, String>, MappingTypeDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<MappingTypeDTO>> pageCacheOps;
+    private final ReactiveCache<MappingTypeDTO> cacheOps;
+    private final ReactiveCache<Page<MappingTypeDTO>> pageCacheOps;
 
-    public MappingTypeService(final MappingTypeRepository repository, final MappingTypeConverter mappingTypeConverter, final ReactiveValueOperations<Map<String, String>, MappingTypeDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<MappingTypeDTO>> pageCacheOps) {
+    public MappingTypeService(final MappingTypeRepository repository, final ReferenceDataRegistry referenceDataRegistry, final MappingTypeConverter mappingTypeConverter, final ReactiveCache<MappingTypeDTO> cacheOps, final ReactiveCache<Page<MappingTypeDTO>> pageCacheOps) {
         this.repository = repository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.mappingTypeConverter = mappingTypeConverter;
         this.cacheOps = cacheOps;
         this.pageCacheOps = pageCacheOps;
@@ -68,18 +70,20 @@ public class MappingTypeService {
         final Map<String, String> cacheKey = CacheKeyBuilder.create()
                 .put("ops", "getById")
                 .put("id", id)
+                .put("externallyVisibleOnly", externallyVisibleOnly)
+                .referenceData(referenceDataRegistry.getFingerprint())
                 .build();
 
         return cacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up a mapping type by id from cache: {}", id))
         .doOnNext(dto -> logger.debug("Found mapping type: {} with id from cache: {}", dto.getName(), dto.getId()))
-                .switchIfEmpty(repository.findById(id, externallyVisibleOnly)
+                .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id, externallyVisibleOnly)
                         .doFirst(() -> logger.debug("Looking up a mapping type by id from database: {}", id))
                         .map(this.mappingTypeConverter::toDTO)
                         .doOnNext(dto -> logger.debug("Found mapping type: {} with id from database: {}", dto.getName(), dto.getId()))
-                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, b) -> dto)
-                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "MappingType"))));
+                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, b) -> dto))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "MappingType")))));
     }
 
     /**
@@ -104,13 +108,14 @@ public class MappingTypeService {
                 .put("editable", editable)
                 .put("externallyVisibleOnly", externallyVisibleOnly)
                 .put("pageable", pageable)
+                .referenceData(referenceDataRegistry.getFingerprint())
                 .build();
 
         return pageCacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up mapping types in search mode. Using parameters from cache: {}, {}", nameRegex, editable))
                 .doOnNext(page -> logger.debug("Found mapping types in cache: {}", page))
-                .switchIfEmpty(repository.findAllBy(
+                .switchIfEmpty(pageCacheOps.load(cacheKey, () -> repository.findAllBy(
                         nameRegex,
                         editable,
                         externallyVisibleOnly,
@@ -121,7 +126,7 @@ public class MappingTypeService {
                                 .collectList()
                                 .map(mappingTypes -> (Page<MappingTypeDTO>) new PageImpl<>(mappingTypes, page.getPageable(), page.getTotalElements())))
                         .doOnNext(page -> logger.debug("Found mapping types in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("MappingType"))));
+                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("MappingType")))));
     }
 }
@@ -0,0 +1,224 @@
+package org.modmappings.mmms.api.services.core;
+
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import org.modmappings.mmms.repository.model.core.GameVersionDMO;
+import org.modmappings.mmms.repository.model.core.MappingTypeDMO;
+import org.modmappings.mmms.repository.repositories.core.gameversions.GameVersionRepository;
+import org.modmappings.mmms.repository.repositories.core.mappingtypes.MappingTypeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Business layer registry which keeps the reference data, the mapping types and game versions, in memory.
+ * <p>
+ * Both tables are tiny but are consulted for nearly every request, for example to check if a mapping type is visible.
+ * Instead of a database round trip per lookup, this registry keeps an immutable snapshot of both tables, which is
+ * replaced as a whole when the database notifies a change to either table, and periodically as a safety net.
+ * <p>
+ * Lookups of ids which are not in the snapshot, or which happen before the first snapshot is loaded, fall back to the database.
+ * This registry does not validate if a given user is authorized to see the data, the caller is to make sure of that.
+ */
+@Component
+public class ReferenceDataRegistry {
+
+    private static final String CHANNEL = "reference_data_changed";
+    private static final Duration MINIMAL_RECONNECT_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAXIMAL_RECONNECT_DELAY = Duration.ofMinutes(1);
+
+    @Value("${reference-data.reload-interval:300}")
+    private int RELOAD_INTERVAL;
+
+    @Value("${spring.data.postgres.host}")
+    private String host;
+    @Value("${spring.data.postgres.port}")
+    private int port;
+    @Value("${spring.data.postgres.database}")
+    private String database;
+    @Value("${spring.data.postgres.username}")
+    private String username;
+    @Value("${spring.data.postgres.password}")
+    private String password;
+
+    private final Logger logger = LoggerFactory.getLogger(ReferenceDataRegistry.class);
+
+    private final MappingTypeRepository mappingTypeRepository;
+    private final GameVersionRepository gameVersionRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final Disposable.Composite subscriptions = Disposables.composite();
+
+    public ReferenceDataRegistry(final MappingTypeRepository mappingTypeRepository, final GameVersionRepository gameVersionRepository) {
+        this.mappingTypeRepository = mappingTypeRepository;
+        this.gameVersionRepository = gameVersionRepository;
+    }
+
+    @PostConstruct
+    public void start() {
+        final PostgresqlConnectionFactory listenConnectionFactory = new PostgresqlConnectionFactory(PostgresqlConnectionConfiguration.builder()
+                .host(host)
+                .port(port)
+                .database(database)
+                .username(username)
+                .password(password)
+                .build());
+
+        //The listening connection is kept open for the lifetime of the application. After a (re)connect the data is reloaded,
+        //since notifications sent while not listening are lost.
+        subscriptions.add(Flux.usingWhen(
+                listenConnectionFactory.create(),
+                connection -> connection.createStatement("LISTEN " + CHANNEL)
+                        .execute()
+                        .flatMap(PostgresqlResult::getRowsUpdated)
+                        .then(reload())
+                        .thenMany(connection.getNotifications()),
+                connection -> connection.close()
+        )
+                .doOnNext(notification -> logger.debug("Reference data changed in table: {}", notification.getParameter()))
+                .onBackpressureLatest()
+                .concatMap(notification -> reload(), 1)
+                //The notification stream completes when the listening connection is closed, for example by a database restart,
+                //and errors when it is lost, both reconnect with the same backoff.
+                .repeatWhen(completions -> completions
+                        .index()
+                        .concatMap(completion -> {
+                            logger.warn("Stopped listening for reference data changes, reconnecting.");
+                            return Mono.delay(getReconnectDelay(completion.getT1()));
+                        }))
+                .retryBackoff(Long.MAX_VALUE, MINIMAL_RECONNECT_DELAY, MAXIMAL_RECONNECT_DELAY)
+                .subscribe());
+
+        subscriptions.add(Flux.interval(Duration.ofSeconds(RELOAD_INTERVAL), Duration.ofSeconds(RELOAD_INTERVAL))
+                .onBackpressureDrop()
+                .concatMap(tick -> reload().onErrorResume(e -> {
+                    logger.warn("Failed to periodically reload the reference data.", e);
+                    return Mono.empty();
+                }), 1)
+                .subscribe());
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscriptions.dispose();
+    }
+
+    /**
+     * Looks up the mapping type with the given id.
+     *
+     * @param id The id of the mapping type.
+     * @return A {@link Mono} with the mapping type, or an empty {@link Mono} if no mapping type with the id exists.
+     */
+    public Mono<MappingTypeDMO> getMappingType(final UUID id) {
+        final Snapshot current = snapshot.get();
+        if (current != null && current.mappingTypes.containsKey(id))
+            return Mono.just(current.mappingTypes.get(id));
+
+        return mappingTypeRepository.findById(id);
+    }
+
+    /**
+     * Looks up the game version with the given id.
+     *
+     * @param id The id of the game version.
+     * @return A {@link Mono} with the game version, or an empty {@link Mono} if no game version with the id exists.
+     */
+    public Mono<GameVersionDMO> getGameVersion(final UUID id) {
+        final Snapshot current = snapshot.get();
+        if (current != null && current.gameVersions.containsKey(id))
+            return Mono.just(current.gameVersions.get(id));
+
+        return gameVersionRepository.findById(id);
+    }
+
+    /**
+     * Checks if the mapping type with the given id exists and is visible.
+     *
+     * @param id The id of the mapping type.
+     * @return A {@link Mono} with true if the mapping type is visible, false otherwise.
+     */
+    public Mono<Boolean> isMappingTypeVisible(final UUID id) {
+        return getMappingType(id)
+                .map(MappingTypeDMO::isVisible)
+                .defaultIfEmpty(false);
+    }
+
+    /**
+     * Gives a fingerprint of the currently loaded reference data.
+     * The fingerprint only depends on the content of the tables, so every instance with the same data agrees on it.
+     *
+     * @return The fingerprint, or null if the reference data has not been loaded yet.
+     */
+    @Nullable
+    public String getFingerprint() {
+        final Snapshot current = snapshot.get();
+        return current == null ? null : current.fingerprint;
+    }
+
+    /**
+     * Doubles the delay with every consecutive reconnect, up to the maximal reconnect delay.
+     */
+    private static Duration getReconnectDelay(final long reconnects) {
+        final Duration delay = MINIMAL_RECONNECT_DELAY.multipliedBy(1L << Math.min(reconnects, 10));
+        return delay.compareTo(MAXIMAL_RECONNECT_DELAY) < 0 ? delay : MAXIMAL_RECONNECT_DELAY;
+    }
+
+    private Mono<Snapshot> reload() {
+        return Mono.zip(
+                mappingTypeRepository.findAll().collectMap(MappingTypeDMO::getId),
+                gameVersionRepository.findAll().collectMap(GameVersionDMO::getId)
+        )
+                .map(t -> new Snapshot(t.getT1(), t.getT2()))
+                .doOnNext(loaded -> {
+                    snapshot.set(loaded);
+                    logger.debug("Loaded reference data: {} mapping types and {} game versions.", loaded.mappingTypes.size(), loaded.gameVersions.size());
+                });
+    }
+
+    private static final class Snapshot {
+        private final Map<UUID, MappingTypeDMO> mappingTypes;
+        private final Map<UUID, GameVersionDMO> gameVersions;
+
+        private final String fingerprint;
+
+        private Snapshot(final Map<UUID, MappingTypeDMO> mappingTypes, final Map<UUID, GameVersionDMO> gameVersions) {
+            this.mappingTypes = Collections.unmodifiableMap(mappingTypes);
+            this.gameVersions = Collections.unmodifiableMap(gameVersions);
+            this.fingerprint = createFingerprint(mappingTypes, gameVersions);
+        }
+
+        private static String createFingerprint(final Map<UUID, MappingTypeDMO> mappingTypes, final Map<UUID, GameVersionDMO> gameVersions) {
+            final StringBuilder content = new StringBuilder();
+            new TreeMap<>(mappingTypes).values().forEach(mappingType -> content.append(mappingType.getId()).append('|')
+                    .append(mappingType.getName()).append('|')
+                    .append(mappingType.isVisible()).append('|')
+                    .append(mappingType.isEditable()).append('|')
+                    .append(mappingType.getStateIn()).append('|')
+                    .append(mappingType.getStateOut()).append('\n'));
+            new TreeMap<>(gameVersions).values().forEach(gameVersion -> content.append(gameVersion.getId()).append('|')
+                    .append(gameVersion.getName()).append('|')
+                    .append(gameVersion.isPreRelease()).append('|')
+                    .append(gameVersion.isSnapshot()).append('\n'));
+
+            return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.modmappings.mmms.api.services.core.release;
+
+import org.modmappings.mmms.api.model.core.release.ReleaseExportFormatDTO;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * A pre-rendered, gzip compressed, export of a release in a single format, as stored on the local disk.
+ * <p>
+ * The file is named after the hash of its content, so identical exports share a single file,
+ * and the hash doubles as a strong entity tag.
+ */
+public class ReleaseArtifact {
+
+    private final UUID releaseId;
+    private final ReleaseExportFormatDTO format;
+    private final String fingerprint;
+    private final String hash;
+    private final long size;
+    private final Path path;
+
+    public ReleaseArtifact(final UUID releaseId, final ReleaseExportFormatDTO format, final String fingerprint, final String hash, final long size, final Path path) {
+        this.releaseId = releaseId;
+        this.format = format;
+        this.fingerprint = fingerprint;
+        this.hash = hash;
+        this.size = size;
+        this.path = path;
+    }
+
+    public UUID getReleaseId() {
+        return releaseId;
+    }
+
+    public ReleaseExportFormatDTO getFormat() {
+        return format;
+    }
+
+    /**
+     * The fingerprint of the release at the moment this artifact was rendered.
+     * An artifact is only served while the fingerprint matches that of the current release.
+     *
+     * @return The fingerprint.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public String getETag() {
+        return "\"" + hash + "\"";
+    }
+}
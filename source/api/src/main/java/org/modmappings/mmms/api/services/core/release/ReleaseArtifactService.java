@@ -0,0 +1,274 @@
+package org.modmappings.mmms.api.services.core.release;
+
+import org.modmappings.mmms.api.model.core.release.ReleaseDTO;
+import org.modmappings.mmms.api.model.core.release.ReleaseExportFormatDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Business layer service which keeps pre-rendered exports of releases in a content addressed store on the local disk.
+ * <p>
+ * Releases which are not snapshots do not change their mappings, so every format is rendered once, in the background,
+ * after which the file can be served without touching the database.
+ * <p>
+ * Every artifact remembers the fingerprint of the release it was rendered for. An artifact is only handed out while the
+ * fingerprint still matches, so an edit made through a different instance is picked up as soon as the release itself is.
+ * <p>
+ * This services however does not validate if a given user is authorized to execute a given action.
+ * It only validates the interaction from a data perspective.
+ * <p>
+ * The caller is to make sure that any interaction with this service is authorized, for example by checking
+ * against a role that a user needs to have.
+ */
+@Component
+public class ReleaseArtifactService {
+
+    private static final String INDEX_DIRECTORY = "index";
+
+    @Value("${releases.artifacts.enabled:true}")
+    private boolean ARTIFACTS_ENABLED;
+    @Value("${releases.artifacts.directory:${java.io.tmpdir}/mmms/release-artifacts}")
+    private String ARTIFACTS_DIRECTORY;
+
+    private final Logger logger = LoggerFactory.getLogger(ReleaseArtifactService.class);
+    private final ReleaseExportService releaseExportService;
+    private final DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+
+    private final Map<String, ReleaseArtifact> artifacts = new ConcurrentHashMap<>();
+    private final Map<UUID, Disposable> renders = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    public ReleaseArtifactService(final ReleaseExportService releaseExportService) {
+        this.releaseExportService = releaseExportService;
+    }
+
+    /**
+     * Looks up the pre-rendered export of the given release in the given format.
+     * Snapshot releases are never pre-rendered.
+     *
+     * @param release The release to look up the export for.
+     * @param format  The format of the export.
+     * @return A {@link Mono} containing the artifact, or an empty {@link Mono} if it is not rendered (yet).
+     */
+    public Mono<ReleaseArtifact> getBy(
+            final ReleaseDTO release,
+            final ReleaseExportFormatDTO format
+    ) {
+        if (!ARTIFACTS_ENABLED || release.isSnapshot())
+            return Mono.empty();
+
+        return Mono.fromCallable(() -> {
+            final String key = createKey(release.getId(), format);
+            ReleaseArtifact artifact = artifacts.get(key);
+            if (artifact == null) {
+                artifact = readIndex(release.getId(), format);
+                if (artifact != null)
+                    artifacts.putIfAbsent(key, artifact);
+            }
+
+            if (artifact == null || !artifact.getFingerprint().equals(createFingerprint(release)) || !Files.isRegularFile(artifact.getPath()))
+                return null;
+
+            return artifact;
+        })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doOnNext(artifact -> logger.debug("Found pre-rendered export of release: {} as: {} with hash: {}", release.getId(), format, artifact.getHash()));
+    }
+
+    /**
+     * Renders all export formats of the given release in the background, unless it is a snapshot,
+     * or it is already being rendered.
+     *
+     * @param release The release to render.
+     */
+    public void render(final ReleaseDTO release) {
+        if (!ARTIFACTS_ENABLED || release.isSnapshot())
+            return;
+
+        final Disposable.Swap render = Disposables.swap();
+        if (renders.putIfAbsent(release.getId(), render) != null)
+            return;
+
+        final long generation = getGeneration(release.getId());
+        render.update(Flux.fromArray(ReleaseExportFormatDTO.values())
+                .concatMap(format -> renderArtifact(release, format, generation))
+                .doFirst(() -> logger.debug("Rendering the exports of release: {}", release.getId()))
+                .doFinally(signal -> renders.remove(release.getId(), render))
+                .subscribe(
+                        artifact -> logger.debug("Rendered export of release: {} as: {} with hash: {}", release.getId(), artifact.getFormat(), artifact.getHash()),
+                        throwable -> logger.warn(String.format("Failed to render the exports of release: %s", release.getId()), throwable)
+                ));
+    }
+
+    /**
+     * Invalidates all pre-rendered exports of the given release, and stops any render that is in progress.
+     *
+     * @param releaseId The id of the release.
+     * @return A {@link Mono} which completes once the exports are invalidated.
+     */
+    public Mono<Void> invalidate(final UUID releaseId) {
+        return Mono.fromRunnable(() -> {
+            generations.computeIfAbsent(releaseId, id -> new AtomicLong()).incrementAndGet();
+
+            final Disposable render = renders.remove(releaseId);
+            if (render != null)
+                render.dispose();
+
+            for (final ReleaseExportFormatDTO format : ReleaseExportFormatDTO.values()) {
+                final ReleaseArtifact artifact = artifacts.remove(createKey(releaseId, format));
+                deleteQuietly(getIndexPath(releaseId, format));
+                if (artifact != null && artifacts.values().stream().noneMatch(other -> other.getHash().equals(artifact.getHash())))
+                    deleteQuietly(artifact.getPath());
+            }
+        })
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFirst(() -> logger.debug("Invalidating the pre-rendered exports of release: {}", releaseId))
+                .then();
+    }
+
+    /**
+     * Invalidates the pre-rendered exports of the given release, and renders them again if it is not a snapshot.
+     *
+     * @param release The release that was edited.
+     * @return A {@link Mono} which completes once the exports are invalidated, the render happens in the background.
+     */
+    public Mono<Void> rebuild(final ReleaseDTO release) {
+        return invalidate(release.getId())
+                .doOnSuccess(aVoid -> render(release));
+    }
+
+    private Mono<ReleaseArtifact> renderArtifact(final ReleaseDTO release, final ReleaseExportFormatDTO format, final long generation) {
+        return Mono.fromCallable(() -> {
+            final Path directory = Files.createDirectories(getDirectory());
+            return Files.createTempFile(directory, release.getId() + "." + format.getExtension() + ".", ".tmp");
+        })
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(temporary -> {
+                    final MessageDigest digest = createDigest();
+                    final AtomicLong size = new AtomicLong();
+
+                    return DataBufferUtils.write(releaseExportService.export(release.getId(), format, bufferFactory)
+                                    .doOnNext(buffer -> {
+                                        final ByteBuffer content = buffer.asByteBuffer();
+                                        size.addAndGet(content.remaining());
+                                        digest.update(content);
+                                    }), temporary)
+                            .then(Mono.fromCallable(() -> publish(release, format, generation, temporary, toHex(digest.digest()), size.get()))
+                                    .subscribeOn(Schedulers.boundedElastic()))
+                            .doOnError(throwable -> deleteQuietly(temporary))
+                            .doOnCancel(() -> deleteQuietly(temporary));
+                });
+    }
+
+    /**
+     * Moves a completely written export into the store, and registers it for the release,
+     * unless the release was edited while it was being rendered.
+     */
+    private ReleaseArtifact publish(final ReleaseDTO release, final ReleaseExportFormatDTO format, final long generation, final Path temporary, final String hash, final long size) throws IOException {
+        final Path path = getDirectory().resolve(hash + "." + format.getExtension() + ".gz");
+        if (Files.exists(path)) {
+            Files.delete(temporary);
+        } else {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        final ReleaseArtifact artifact = new ReleaseArtifact(release.getId(), format, createFingerprint(release), hash, size, path);
+        if (getGeneration(release.getId()) != generation)
+            return artifact;
+
+        final Path indexPath = getIndexPath(release.getId(), format);
+        Files.createDirectories(indexPath.getParent());
+        final Path temporaryIndex = Files.createTempFile(indexPath.getParent(), indexPath.getFileName().toString(), ".tmp");
+        Files.write(temporaryIndex, List.of(hash, Long.toString(size), artifact.getFingerprint()), StandardCharsets.UTF_8);
+        Files.move(temporaryIndex, indexPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        artifacts.put(createKey(release.getId(), format), artifact);
+        return artifact;
+    }
+
+    private ReleaseArtifact readIndex(final UUID releaseId, final ReleaseExportFormatDTO format) throws IOException {
+        final Path indexPath = getIndexPath(releaseId, format);
+        if (!Files.isRegularFile(indexPath))
+            return null;
+
+        final List<String> lines = Files.readAllLines(indexPath, StandardCharsets.UTF_8);
+        if (lines.size() < 3)
+            return null;
+
+        final String hash = lines.get(0);
+        return new ReleaseArtifact(releaseId, format, lines.get(2), hash, Long.parseLong(lines.get(1)), getDirectory().resolve(hash + "." + format.getExtension() + ".gz"));
+    }
+
+    private Path getDirectory() {
+        return Paths.get(ARTIFACTS_DIRECTORY);
+    }
+
+    private Path getIndexPath(final UUID releaseId, final ReleaseExportFormatDTO format) {
+        return getDirectory().resolve(INDEX_DIRECTORY).resolve(releaseId + "." + format.getExtension());
+    }
+
+    private long getGeneration(final UUID releaseId) {
+        final AtomicLong generation = generations.get(releaseId);
+        return generation == null ? 0 : generation.get();
+    }
+
+    private void deleteQuietly(final Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn(String.format("Failed to delete release artifact file: %s", path), e);
+        }
+    }
+
+    private static String createKey(final UUID releaseId, final ReleaseExportFormatDTO format) {
+        return releaseId + "." + format.getExtension();
+    }
+
+    /**
+     * Everything of the release that the export could depend on.
+     */
+    private static String createFingerprint(final ReleaseDTO release) {
+        return release.getName() + "|" + release.isSnapshot() + "|" + release.getState();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+        }
+    }
+
+    private static String toHex(final byte[] bytes) {
+        final StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (final byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return hex.toString();
+    }
+}
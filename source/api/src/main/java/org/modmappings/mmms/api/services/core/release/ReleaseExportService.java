@@ -0,0 +1,411 @@
+package org.modmappings.mmms.api.services.core.release;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.modmappings.mmms.api.model.core.release.ReleaseExportFormatDTO;
+import org.modmappings.mmms.api.util.GzipDataBufferWriter;
+import org.modmappings.mmms.repository.model.mapping.mappable.MappableTypeDMO;
+import org.modmappings.mmms.repository.model.mapping.mappable.VersionedMappableDMO;
+import org.modmappings.mmms.repository.model.mapping.mappings.DetailedMappingDMO;
+import org.modmappings.mmms.repository.model.mapping.mappings.MappingDMO;
+import org.modmappings.mmms.repository.repositories.mapping.mappings.detailed.DetailedMappingRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Business layer service which exports entire releases as a single compressed file.
+ * <p>
+ * The mappings of a release are streamed from the database, formatted and compressed in batches.
+ * Only the names of the classes in the release are kept in memory, since all other formats reference them,
+ * everything else passes through a fixed size window.
+ * <p>
+ * This services however does not validate if a given user is authorized to execute a given action.
+ * It only validates the interaction from a data perspective.
+ * <p>
+ * The caller is to make sure that any interaction with this service is authorized, for example by checking
+ * against a role that a user needs to have.
+ */
+@Component
+public class ReleaseExportService {
+
+    private static final List<MappableTypeDMO> CLASSES = List.of(MappableTypeDMO.CLASS);
+    private static final List<MappableTypeDMO> MEMBERS = List.of(MappableTypeDMO.METHOD, MappableTypeDMO.FIELD);
+    private static final List<MappableTypeDMO> ALL = List.of(MappableTypeDMO.CLASS, MappableTypeDMO.METHOD, MappableTypeDMO.FIELD, MappableTypeDMO.PARAMETER);
+
+    @Value("${streaming.fetch-size:250}")
+    private int STREAMING_FETCH_SIZE;
+    @Value("${releases.export.batch-size:1000}")
+    private int EXPORT_BATCH_SIZE;
+    @Value("${releases.export.buffer-size:16384}")
+    private int EXPORT_BUFFER_SIZE;
+
+    private final Logger logger = LoggerFactory.getLogger(ReleaseExportService.class);
+    private final DetailedMappingRepository repository;
+
+    public ReleaseExportService(final DetailedMappingRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Exports the release with the given id in the given format, as a gzip compressed stream.
+     * The caller is expected to have validated that the release exists and is visible.
+     *
+     * @param releaseId     The id of the release to export.
+     * @param format        The format to export the release in.
+     * @param bufferFactory The factory used to create the buffers the compressed file is written into.
+     * @return The compressed file, in buffers which need to be released by the subscriber.
+     */
+    public Flux<DataBuffer> export(
+            final UUID releaseId,
+            final ReleaseExportFormatDTO format,
+            final DataBufferFactory bufferFactory
+    ) {
+        return repository.streamAllInReleaseBy(releaseId, CLASSES, STREAMING_FETCH_SIZE)
+                .doFirst(() -> logger.debug("Collecting the classes of release: {} for an export as: {}", releaseId, format))
+                .collect(ClassNames::new, ClassNames::add)
+                .flatMapMany(classNames -> {
+                    final ExportFormatter formatter = createFormatter(format, classNames);
+                    return Flux.using(
+                            () -> new GzipDataBufferWriter(bufferFactory, EXPORT_BUFFER_SIZE),
+                            writer -> Flux.concat(
+                                    Mono.fromCallable(() -> {
+                                        formatter.writeHeader(writer);
+                                        return writer.drain();
+                                    }),
+                                    repository.streamAllInReleaseBy(releaseId, formatter.getMappableTypes(), STREAMING_FETCH_SIZE)
+                                            .buffer(EXPORT_BATCH_SIZE)
+                                            .map(batch -> {
+                                                batch.forEach(mapping -> formatter.write(writer, mapping));
+                                                return writer.drain();
+                                            }),
+                                    Mono.fromCallable(() -> {
+                                        formatter.writeFooter(writer);
+                                        return writer.finish();
+                                    })
+                            ),
+                            GzipDataBufferWriter::close
+                    );
+                })
+                .<DataBuffer>handle((buffer, sink) -> {
+                    if (buffer.readableByteCount() == 0) {
+                        DataBufferUtils.release(buffer);
+                        return;
+                    }
+
+                    sink.next(buffer);
+                })
+                .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                .doOnComplete(() -> logger.debug("Exported release: {} as: {}", releaseId, format));
+    }
+
+    private ExportFormatter createFormatter(final ReleaseExportFormatDTO format, final ClassNames classNames) {
+        switch (format) {
+            case TSRG:
+                return new TsrgFormatter(classNames);
+            case SRG:
+                return new SrgFormatter(classNames);
+            case CSV:
+                return new CsvFormatter(classNames);
+            case JSON:
+                return new JsonFormatter(classNames);
+            default:
+                throw new IllegalArgumentException("Unknown export format: " + format);
+        }
+    }
+
+    /**
+     * The obfuscated and mapped names of all classes in a release, by the id of their versioned mappable.
+     */
+    private static final class ClassNames {
+
+        private final Map<UUID, ClassName> byId = new LinkedHashMap<>();
+        private final Map<String, String> outputByInput = new HashMap<>();
+
+        private void add(final DetailedMappingDMO mapping) {
+            byId.put(mapping.getVersionedMappable().getId(), new ClassName(mapping.getMapping().getInput(), mapping.getMapping().getOutput()));
+            outputByInput.put(mapping.getMapping().getInput(), mapping.getMapping().getOutput());
+        }
+
+        private ClassName get(final UUID id) {
+            return id == null ? null : byId.get(id);
+        }
+
+        private Collection<ClassName> getAll() {
+            return byId.values();
+        }
+
+        /**
+         * Replaces all obfuscated class names in the given descriptor with their mapped names.
+         *
+         * @param descriptor The obfuscated descriptor.
+         * @return The mapped descriptor.
+         */
+        private String remap(final String descriptor) {
+            if (descriptor == null)
+                return null;
+
+            final StringBuilder remapped = new StringBuilder(descriptor.length());
+            int index = 0;
+            while (index < descriptor.length()) {
+                final char current = descriptor.charAt(index);
+                final int end = current == 'L' ? descriptor.indexOf(';', index) : -1;
+                if (end == -1) {
+                    remapped.append(current);
+                    index++;
+                    continue;
+                }
+
+                final String name = descriptor.substring(index + 1, end);
+                remapped.append('L').append(outputByInput.getOrDefault(name, name)).append(';');
+                index = end + 1;
+            }
+
+            return remapped.toString();
+        }
+    }
+
+    private static final class ClassName {
+
+        private final String input;
+        private final String output;
+        private boolean written;
+
+        private ClassName(final String input, final String output) {
+            this.input = input;
+            this.output = output;
+        }
+    }
+
+    /**
+     * Writes the mappings of a single export, in the order they are streamed from the database.
+     */
+    private abstract static class ExportFormatter {
+
+        protected final ClassNames classNames;
+
+        private ExportFormatter(final ClassNames classNames) {
+            this.classNames = classNames;
+        }
+
+        abstract List<MappableTypeDMO> getMappableTypes();
+
+        void writeHeader(final GzipDataBufferWriter writer) {
+        }
+
+        abstract void write(final GzipDataBufferWriter writer, final DetailedMappingDMO mapping);
+
+        void writeFooter(final GzipDataBufferWriter writer) {
+        }
+    }
+
+    /**
+     * Writes the classes, fields and methods in the SRG format, without any parameters.
+     */
+    private static final class SrgFormatter extends ExportFormatter {
+
+        private SrgFormatter(final ClassNames classNames) {
+            super(classNames);
+        }
+
+        @Override
+        List<MappableTypeDMO> getMappableTypes() {
+            return MEMBERS;
+        }
+
+        @Override
+        void writeHeader(final GzipDataBufferWriter writer) {
+            for (final ClassName className : classNames.getAll()) {
+                writer.write("CL: ").write(className.input).write(" ").write(className.output).write("\n");
+            }
+        }
+
+        @Override
+        void write(final GzipDataBufferWriter writer, final DetailedMappingDMO mapping) {
+            final MappingDMO member = mapping.getMapping();
+            final ClassName owner = classNames.get(mapping.getVersionedMappable().getParentClassId());
+            if (owner == null)
+                return;
+
+            if (member.getMappableType() == MappableTypeDMO.FIELD) {
+                writer.write("FD: ").write(owner.input).write("/").write(member.getInput())
+                        .write(" ").write(owner.output).write("/").write(member.getOutput()).write("\n");
+                return;
+            }
+
+            final String descriptor = mapping.getVersionedMappable().getDescriptor();
+            if (descriptor == null)
+                return;
+
+            writer.write("MD: ").write(owner.input).write("/").write(member.getInput()).write(" ").write(descriptor)
+                    .write(" ").write(owner.output).write("/").write(member.getOutput()).write(" ").write(classNames.remap(descriptor)).write("\n");
+        }
+    }
+
+    /**
+     * Writes the classes, fields and methods in the TSRG format, without any parameters.
+     * Relies on the members being grouped by the class they reside in.
+     */
+    private static final class TsrgFormatter extends ExportFormatter {
+
+        private UUID currentClassId;
+
+        private TsrgFormatter(final ClassNames classNames) {
+            super(classNames);
+        }
+
+        @Override
+        List<MappableTypeDMO> getMappableTypes() {
+            return MEMBERS;
+        }
+
+        @Override
+        void write(final GzipDataBufferWriter writer, final DetailedMappingDMO mapping) {
+            final UUID parentClassId = mapping.getVersionedMappable().getParentClassId();
+            final ClassName owner = classNames.get(parentClassId);
+            final MappingDMO member = mapping.getMapping();
+            final String descriptor = mapping.getVersionedMappable().getDescriptor();
+            if (owner == null || (member.getMappableType() == MappableTypeDMO.METHOD && descriptor == null))
+                return;
+
+            if (!parentClassId.equals(currentClassId)) {
+                currentClassId = parentClassId;
+                owner.written = true;
+                writer.write(owner.input).write(" ").write(owner.output).write("\n");
+            }
+
+            writer.write("\t").write(member.getInput()).write(" ");
+            if (member.getMappableType() == MappableTypeDMO.METHOD) {
+                writer.write(descriptor).write(" ");
+            }
+            writer.write(member.getOutput()).write("\n");
+        }
+
+        @Override
+        void writeFooter(final GzipDataBufferWriter writer) {
+            for (final ClassName className : classNames.getAll()) {
+                if (!className.written) {
+                    writer.write(className.input).write(" ").write(className.output).write("\n");
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all mappings of the release as a CSV file, with a header row.
+     */
+    private static final class CsvFormatter extends ExportFormatter {
+
+        private CsvFormatter(final ClassNames classNames) {
+            super(classNames);
+        }
+
+        @Override
+        List<MappableTypeDMO> getMappableTypes() {
+            return ALL;
+        }
+
+        @Override
+        void writeHeader(final GzipDataBufferWriter writer) {
+            writer.write("type,input,output,parent,descriptor,index,documentation\n");
+        }
+
+        @Override
+        void write(final GzipDataBufferWriter writer, final DetailedMappingDMO mapping) {
+            final MappingDMO value = mapping.getMapping();
+            final VersionedMappableDMO versionedMappable = mapping.getVersionedMappable();
+            final ClassName owner = classNames.get(versionedMappable.getParentClassId());
+
+            writer.write(value.getMappableType().name()).write(",")
+                    .write(escape(value.getInput())).write(",")
+                    .write(escape(value.getOutput())).write(",")
+                    .write(owner == null ? "" : escape(owner.input)).write(",")
+                    .write(escape(getDescriptor(versionedMappable))).write(",")
+                    .write(value.getMappableType() == MappableTypeDMO.PARAMETER ? Integer.toString(versionedMappable.getIndex()) : "").write(",")
+                    .write(escape(value.getDocumentation())).write("\n");
+        }
+
+        private static String escape(final String value) {
+            if (value == null)
+                return "";
+
+            if (value.indexOf(',') == -1 && value.indexOf('"') == -1 && value.indexOf('\n') == -1 && value.indexOf('\r') == -1)
+                return value;
+
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * Writes all mappings of the release as a single JSON array.
+     */
+    private static final class JsonFormatter extends ExportFormatter {
+
+        private final JsonStringEncoder encoder = JsonStringEncoder.getInstance();
+        private boolean first = true;
+
+        private JsonFormatter(final ClassNames classNames) {
+            super(classNames);
+        }
+
+        @Override
+        List<MappableTypeDMO> getMappableTypes() {
+            return ALL;
+        }
+
+        @Override
+        void writeHeader(final GzipDataBufferWriter writer) {
+            writer.write("[");
+        }
+
+        @Override
+        void write(final GzipDataBufferWriter writer, final DetailedMappingDMO mapping) {
+            final MappingDMO value = mapping.getMapping();
+            final VersionedMappableDMO versionedMappable = mapping.getVersionedMappable();
+            final ClassName owner = classNames.get(versionedMappable.getParentClassId());
+
+            writer.write(first ? "\n" : ",\n");
+            first = false;
+
+            writer.write("{\"type\":").write(quote(value.getMappableType().name()))
+                    .write(",\"input\":").write(quote(value.getInput()))
+                    .write(",\"output\":").write(quote(value.getOutput()))
+                    .write(",\"parent\":").write(quote(owner == null ? null : owner.input))
+                    .write(",\"descriptor\":").write(quote(getDescriptor(versionedMappable)))
+                    .write(",\"index\":").write(value.getMappableType() == MappableTypeDMO.PARAMETER ? Integer.toString(versionedMappable.getIndex()) : "null")
+                    .write(",\"documentation\":").write(quote(value.getDocumentation()))
+                    .write("}");
+        }
+
+        @Override
+        void writeFooter(final GzipDataBufferWriter writer) {
+            writer.write("\n]\n");
+        }
+
+        private String quote(final String value) {
+            if (value == null)
+                return "null";
+
+            return '"' + new String(encoder.quoteAsString(value)) + '"';
+        }
+    }
+
+    /**
+     * Methods have a descriptor, while fields and parameters only have a type.
+     */
+    private static String getDescriptor(final VersionedMappableDMO versionedMappable) {
+        return versionedMappable.getDescriptor() != null ? versionedMappable.getDescriptor() : versionedMappable.getType();
+    }
+}
@@ -2,14 +2,18 @@ package org.modmappings.mmms.api.services.core.release;
 
 import org.modmappings.mmms.api.converters.core.release.ReleaseConverter;
 import org.modmappings.mmms.api.model.core.release.ReleaseDTO;
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
 import org.modmappings.mmms.api.services.utils.exceptions.InsertionFailureDueToDuplicationException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.services.utils.user.UserLoggingService;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.CacheGenerations;
+import org.modmappings.mmms.api.util.cache.CacheScopes;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.model.core.MappingTypeDMO;
 import org.modmappings.mmms.repository.model.core.release.ReleaseComponentDMO;
-import org.modmappings.mmms.repository.repositories.core.mappingtypes.MappingTypeRepository;
+import org.modmappings.mmms.repository.model.core.release.ReleaseDMO;
 import org.modmappings.mmms.repository.repositories.core.releases.components.ReleaseComponentRepository;
 import org.modmappings.mmms.repository.repositories.core.releases.release.ReleaseRepository;
 import org.modmappings.mmms.repository.repositories.mapping.mappings.mapping.MappingRepository;
@@ -19,17 +23,18 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Function;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 /**
  * Business layer service which handles the interactions of the API with the DataLayer.
@@ -48,28 +53,37 @@ public class ReleaseService {
     @Value("${caching.release.lifetimes.by-id:86400}")
     private int CACHE_LIFETIME_BY_ID;
 
-    @Value("${caching.release.lifetimes.all:3600}")
+    @Value("${caching.release.lifetimes.all:86400}")
     private int CACHE_LIFETIME_ALL;
 
+    @Value("${streaming.fetch-size:250}")
+    private int STREAMING_FETCH_SIZE;
+
     private final Logger logger = LoggerFactory.getLogger(ReleaseService.class);
     private final ReleaseRepository repository;
     private final ReleaseComponentRepository releaseComponentRepository;
     private final MappingRepository mappingRepository;
-    private final MappingTypeRepository mappingTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final ReleaseConverter releaseConverter;
-    private final ReactiveValueOperations<Map<String, String>, ReleaseDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<ReleaseDTO>> pageCacheOps;
+    private final ReactiveCache<ReleaseDTO> cacheOps;
+    private final ReactiveCache<Page<ReleaseDTO>> pageCacheOps;
+    private final CacheGenerations cacheGenerations;
+    private final ReleaseArtifactService releaseArtifactService;
+    private final TransactionalOperator transactionalOperator;
 
     private final UserLoggingService userLoggingService;
 
-    public ReleaseService(final ReleaseRepository repository, final ReleaseComponentRepository releaseComponentRepository, final MappingRepository mappingRepository, final MappingTypeRepository mappingTypeRepository, final ReleaseConverter releaseConverter, final ReactiveValueOperations<Map<String, String>, ReleaseDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<ReleaseDTO>> pageCacheOps, final UserLoggingService userLoggingService) {
+    public ReleaseService(final ReleaseRepository repository, final ReleaseComponentRepository releaseComponentRepository, final MappingRepository mappingRepository, final ReferenceDataRegistry referenceDataRegistry, final ReleaseConverter releaseConverter, final ReactiveCache<ReleaseDTO> cacheOps, final ReactiveCache<Page<ReleaseDTO>> pageCacheOps, final CacheGenerations cacheGenerations, final ReleaseArtifactService releaseArtifactService, final TransactionalOperator transactionalOperator, final UserLoggingService userLoggingService) {
         this.repository = repository;
         this.releaseComponentRepository = releaseComponentRepository;
         this.mappingRepository = mappingRepository;
-        this.mappingTypeRepository = mappingTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.releaseConverter = releaseConverter;
         this.cacheOps = cacheOps;
         this.pageCacheOps = pageCacheOps;
+        this.cacheGenerations = cacheGenerations;
+        this.releaseArtifactService = releaseArtifactService;
+        this.transactionalOperator = transactionalOperator;
         this.userLoggingService = userLoggingService;
     }
 
@@ -88,20 +102,21 @@ public class ReleaseService {
                 .put("ops", "getBy")
                 .put("id", id)
                 .put("externallyVisibleOnly", externallyVisibleOnly)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(CacheScopes.all(CacheScopes.RELEASE))
                 .build();
 
         return cacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up a release by id from cache: {}", id))
                 .doOnNext(dto -> logger.debug("Found release in cache: {} with id: {}", dto.getName(), dto.getId()))
-                .switchIfEmpty(repository.findById(id, externallyVisibleOnly)
+                .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id, externallyVisibleOnly)
                         .doFirst(() -> logger.debug("Looking up a release by id: {}", id))
-                        .filterWhen((dto) -> mappingTypeRepository.findById(dto.getMappingTypeId())
-                                .map(MappingTypeDMO::isVisible)) //Only return a release when it is supposed to be visible.
+                        .filterWhen((dto) -> referenceDataRegistry.isMappingTypeVisible(dto.getMappingTypeId())) //Only return a release when it is supposed to be visible.
                         .map(this.releaseConverter::toDTO)
                         .doOnNext(dto -> logger.debug("Found release in database: {} with id: {}", dto.getName(), dto.getId()))
-                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (releaseDTO, aBoolean) -> releaseDTO)
-                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "Release"))));
+                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (releaseDTO, aBoolean) -> releaseDTO))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "Release")))));
     }
 
     /**
@@ -128,6 +143,7 @@ public class ReleaseService {
                                            final boolean externallyVisibleOnly,
                                            final Pageable pageable) {
         final Map<String, String> cacheKey = CacheKeyBuilder.create()
+                .put("ops", "getAll")
                 .put("nameRegex", nameRegex)
                 .put("gameVersionId", gameVersionId)
                 .put("mappingTypeId", mappingTypeId)
@@ -136,21 +152,26 @@ public class ReleaseService {
                 .put("userId", userId)
                 .put("externallyVisibleOnly", externallyVisibleOnly)
                 .put("Pageable", pageable)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(gameVersionId != null ? CacheScopes.forGameVersion(CacheScopes.RELEASE, gameVersionId) : (mappingTypeId != null ? CacheScopes.forMappingType(CacheScopes.RELEASE, mappingTypeId) : CacheScopes.all(CacheScopes.RELEASE)))
                 .build();
 
+        final Mono<Page<ReleaseDTO>> loader = Mono.defer(() -> repository.findAllBy(nameRegex, gameVersionId, mappingTypeId, isSnapshot, mappingId, userId, externallyVisibleOnly, pageable)
+                .doFirst(() -> logger.debug("Looking up releases in database: {}, {}, {}, {}, {}, {}, {}, {}", nameRegex, gameVersionId, mappingTypeId, isSnapshot, mappingId, userId, externallyVisibleOnly, pageable))
+                .flatMap(page -> Flux.fromIterable(page)
+                        .map(this.releaseConverter::toDTO)
+                        .collectList()
+                        .map(releases -> (Page<ReleaseDTO>) new PageImpl<>(releases, page.getPageable(), page.getTotalElements())))
+                .doOnNext(page -> logger.debug("Found releases in database: {}", page))
+                .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (releaseDTO, aBoolean) -> releaseDTO));
+
         return pageCacheOps.get(
-                cacheKey
+                cacheKey,
+                loader
         ).doFirst(() -> logger.debug("Looking up releases from cache: {}, {}, {}, {}, {}, {}, {}, {}", nameRegex, gameVersionId, mappingTypeId, isSnapshot, mappingId, userId, externallyVisibleOnly, pageable))
                 .doOnNext(page -> logger.debug("Found releases in cache: {}", page))
-                .switchIfEmpty(repository.findAllBy(nameRegex, gameVersionId, mappingTypeId, isSnapshot, mappingId, userId, externallyVisibleOnly, pageable)
-                        .doFirst(() -> logger.debug("Looking up releases in database: {}, {}, {}, {}, {}, {}, {}, {}", nameRegex, gameVersionId, mappingTypeId, isSnapshot, mappingId, userId, externallyVisibleOnly, pageable))
-                        .flatMap(page -> Flux.fromIterable(page)
-                                .map(this.releaseConverter::toDTO)
-                                .collectList()
-                                .map(releases -> (Page<ReleaseDTO>) new PageImpl<>(releases, page.getPageable(), page.getTotalElements())))
-                        .doOnNext(page -> logger.debug("Found releases in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (releaseDTO, aBoolean) -> releaseDTO)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("Release"))));
+                .switchIfEmpty(pageCacheOps.load(cacheKey, loader)
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("Release")))));
     }
 
     /**
@@ -169,7 +190,9 @@ public class ReleaseService {
                 .findById(id, externallyVisibleOnly)
                 .flatMap(dmo -> repository.deleteById(id)
                         .doFirst(() -> userLoggingService.warn(logger, userIdSupplier, String.format("Deleting release with id: %s", id)))
-                        .doOnNext(aVoid -> userLoggingService.warn(logger, userIdSupplier, String.format("Deleted release with id: %s", id))));
+                        .doOnNext(aVoid -> userLoggingService.warn(logger, userIdSupplier, String.format("Deleted release with id: %s", id)))
+                        .then(bumpCacheGenerations(dmo, CacheScopes.forRelease(CacheScopes.MAPPING, id)))
+                        .then(releaseArtifactService.invalidate(id)));
 
     }
 
@@ -188,21 +211,22 @@ public class ReleaseService {
             final ReleaseDTO newRelease,
             final Supplier<UUID> userIdSupplier
     ) {
-        return mappingTypeRepository.findById(mappingTypeId)
+        return referenceDataRegistry.getMappingType(mappingTypeId)
                 .filter(MappingTypeDMO::isVisible)
                 .flatMap(mdto -> Mono.just(newRelease)
                         .doFirst(() -> userLoggingService.warn(logger, userIdSupplier, String.format("Creating new release: %s", newRelease.getName())))
                         .map(dto -> this.releaseConverter.toNewDMO(gameVersionId, mappingTypeId, dto, userIdSupplier))
-                        .flatMap(repository::save) //Creates the release object in the database
-                        .flatMap(dmo -> mappingRepository.findAllOrLatestFor(true, null, null, null, null, null, mappingTypeId, gameVersionId, null, null, null, null, true, Pageable.unpaged()) // Gets all latest mappings of the mapping type and game version.
-                                .flatMapIterable(Function.identity()) //Unwrap the page.
-                                .map(mdmo -> new ReleaseComponentDMO(dmo.getId(), mdmo.getId())) //Turns them into release components.
-                                .collect(Collectors.toList()) //Collects them
-                                .map(releaseComponentRepository::saveAll) //Saves them all in one go in the DB.
-                                .then()
-                                .map(aVoid -> dmo)) //Return the original DMO again so we can continue with with construction of a DTO from it.
+                        .flatMap(dmo -> repository.save(dmo) //Creates the release object in the database
+                                .flatMap(saved -> releaseComponentRepository.insertAll(mappingRepository.streamAllOrLatestFor(true, null, null, null, null, null, mappingTypeId, gameVersionId, null, null, null, null, true, Sort.unsorted(), STREAMING_FETCH_SIZE) // Streams all latest mappings of the mapping type and game version.
+                                                .map(mdmo -> new ReleaseComponentDMO(saved.getId(), mdmo.getId())) //Turns them into release components, and bulk inserts them into the DB.
+                                                .subscriberContext(context -> Context.empty())) //Reads on a connection of its own, the transaction connection can not run the inserts while it streams the mappings.
+                                        .doOnNext(result -> logger.debug("Inserted: {} release components for release: {}", result.getRowCount(), saved.getId()))
+                                        .thenReturn(saved)) //Return the original DMO again so we can continue with with construction of a DTO from it.
+                                .as(transactionalOperator::transactional)) //Either the release is created with all its components, or not at all.
+                        .flatMap(dmo -> bumpCacheGenerations(dmo).thenReturn(dmo))
                         .map(this.releaseConverter::toDTO) //Create the DTO from it.
                         .doOnNext(dto -> userLoggingService.warn(logger, userIdSupplier, String.format("Created new release: %s with id: %s", dto.getName(), dto.getId())))
+                        .doOnNext(releaseArtifactService::render) //Pre-renders the exports in the background, if the release is not a snapshot.
                         .onErrorResume(throwable -> throwable.getMessage().contains("duplicate key value violates unique constraint \"IX_release_name\""), dive -> Mono.error(new InsertionFailureDueToDuplicationException("Release", "Name"))));
     }
 
@@ -228,7 +252,24 @@ public class ReleaseService {
                 .doOnNext(dmo -> userLoggingService.warn(logger, userIdSupplier, String.format("Updated db release to: %s", dmo)))
                 .flatMap(dmo -> repository.save(dmo)
                         .onErrorResume(throwable -> throwable.getMessage().contains("duplicate key value violates unique constraint \"IX_release_name\""), dive -> Mono.error(new InsertionFailureDueToDuplicationException("Release", "Name"))))
+                .flatMap(dmo -> bumpCacheGenerations(dmo).thenReturn(dmo))
                 .map(this.releaseConverter::toDTO)
+                .flatMap(dto -> releaseArtifactService.rebuild(dto).thenReturn(dto))
                 .doOnNext(dto -> userLoggingService.warn(logger, userIdSupplier, String.format("Updated release: %s with id: %s, to data: %s", dto.getName(), dto.getId(), dto)));
     }
-}
\ No newline at end of file
+
+    /**
+     * Invalidates the cached pages of releases that the given release is part of.
+     *
+     * @param dmo              The release which was written.
+     * @param additionalScopes Additional scopes which are affected by the write.
+     * @return A {@link Mono} which completes once the pages are invalidated.
+     */
+    private Mono<Void> bumpCacheGenerations(final ReleaseDMO dmo, final String... additionalScopes) {
+        final String[] scopes = Arrays.copyOf(additionalScopes, additionalScopes.length + 3);
+        scopes[additionalScopes.length] = CacheScopes.all(CacheScopes.RELEASE);
+        scopes[additionalScopes.length + 1] = CacheScopes.forGameVersion(CacheScopes.RELEASE, dmo.getGameVersionId());
+        scopes[additionalScopes.length + 2] = CacheScopes.forMappingType(CacheScopes.RELEASE, dmo.getMappingTypeId());
+        return cacheGenerations.bump(scopes);
+    }
+}
@@ -0,0 +1,103 @@
+package org.modmappings.mmms.api.services.diagnostics;
+
+import org.modmappings.mmms.api.model.diagnostics.CacheOperationStatisticsDTO;
+import org.modmappings.mmms.api.model.diagnostics.CacheStatisticsDTO;
+import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
+import org.modmappings.mmms.api.util.cache.CacheGenerations;
+import org.modmappings.mmms.api.util.cache.CacheInvalidationBus;
+import org.modmappings.mmms.api.util.cache.CacheStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.stream.Collectors;
+
+/**
+ * Business layer service which gives access to the statistics of the caches, and allows them to be flushed.
+ * <p>
+ * The statistics are those of the node that handles the request. The same values are published as metrics
+ * by every node, tagged with the region of the cache.
+ * <p>
+ * The caller is to make sure that any interaction with this service is authorized, for example by checking
+ * against a role that a user needs to have.
+ */
+@Component
+public class CacheDiagnosticsService {
+
+    private final Logger logger = LoggerFactory.getLogger(CacheDiagnosticsService.class);
+
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheGenerations generations;
+
+    public CacheDiagnosticsService(final CacheInvalidationBus invalidationBus, final CacheGenerations generations) {
+        this.invalidationBus = invalidationBus;
+        this.generations = generations;
+    }
+
+    /**
+     * Gets the statistics of all cache regions, ordered by region.
+     *
+     * @return The statistics.
+     */
+    public Flux<CacheStatisticsDTO> getCacheStatistics() {
+        return Flux.defer(() -> Flux.fromIterable(invalidationBus.getCaches()))
+                .map(cache -> toDTO(cache.getStatistics()));
+    }
+
+    /**
+     * Removes all entries of the given cache region, on all nodes.
+     *
+     * @param region The region to flush.
+     * @return A {@link Mono} with the amount of removed entries, or an errored {@link Mono} when the region does not exist.
+     */
+    public Mono<Long> flush(final String region) {
+        return Mono.justOrEmpty(invalidationBus.getCache(region))
+                .switchIfEmpty(Mono.error(new EntryNotFoundException(region, "Cache region")))
+                .doFirst(() -> logger.warn("Flushing cache region: {}", region))
+                .flatMap(cache -> cache.flush());
+    }
+
+    /**
+     * Invalidates all cached pages which depend on the given invalidation scope, in all regions.
+     *
+     * @param scope The scope, see {@link org.modmappings.mmms.api.util.cache.CacheScopes}.
+     * @return A {@link Mono} which completes once the scope is invalidated.
+     */
+    public Mono<Void> invalidate(final String scope) {
+        return generations.bump(scope)
+                .doFirst(() -> logger.warn("Invalidating cache scope: {}", scope));
+    }
+
+    private CacheStatisticsDTO toDTO(final CacheStatistics cacheStatistics) {
+        return new CacheStatisticsDTO(
+                cacheStatistics.getRegion(),
+                cacheStatistics.getL1Size(),
+                cacheStatistics.getL1Evictions(),
+                cacheStatistics.getExecutedLoads(),
+                cacheStatistics.getCoalescedLoads(),
+                cacheStatistics.getAwaitedLoads(),
+                cacheStatistics.getStaleReads(),
+                cacheStatistics.getRefreshes(),
+                cacheStatistics.getTombstoneWrites(),
+                cacheStatistics.getErrors(),
+                cacheStatistics.getOperations().stream()
+                        .map(this::toDTO)
+                        .collect(Collectors.toList())
+        );
+    }
+
+    private CacheOperationStatisticsDTO toDTO(final CacheStatistics.Operation operation) {
+        return new CacheOperationStatisticsDTO(
+                operation.getName(),
+                operation.getL1Hits(),
+                operation.getL2Hits(),
+                operation.getTombstoneHits(),
+                operation.getMisses(),
+                operation.getLoads(),
+                operation.getMeanLoadMillis(),
+                operation.getMaxLoadMillis()
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package org.modmappings.mmms.api.services.diagnostics;
+
+import org.modmappings.mmms.api.model.diagnostics.QueryStatisticsDTO;
+import org.modmappings.mmms.api.model.diagnostics.SlowQueryDTO;
+import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrategy;
+import org.modmappings.mmms.er2dbc.data.diagnostics.QueryDiagnostics;
+import org.modmappings.mmms.er2dbc.data.diagnostics.QueryStatistics;
+import org.modmappings.mmms.er2dbc.data.diagnostics.SlowQuery;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Business layer service which gives access to the query diagnostics of the data layer.
+ * <p>
+ * The caller is to make sure that any interaction with this service is authorized, for example by checking
+ * against a role that a user needs to have.
+ */
+@Component
+public class QueryDiagnosticsService {
+
+    private static final List<Long> BUCKET_BOUNDS_MILLIS = Arrays.stream(QueryStatistics.BUCKET_BOUNDS_MILLIS).boxed().collect(Collectors.toUnmodifiableList());
+
+    private final QueryDiagnostics queryDiagnostics;
+
+    public QueryDiagnosticsService(final ExtendedDataAccessStrategy extendedDataAccessStrategy) {
+        this.queryDiagnostics = extendedDataAccessStrategy.getQueryDiagnostics();
+    }
+
+    /**
+     * Gets the captured slow queries, newest first.
+     *
+     * @return The slow queries.
+     */
+    public Flux<SlowQueryDTO> getSlowQueries() {
+        return Flux.defer(() -> Flux.fromIterable(queryDiagnostics.getSlowQueries()))
+                .map(this::toDTO);
+    }
+
+    /**
+     * Gets the latency histograms of all known query shapes, the shape with the most time spent in total first.
+     *
+     * @return The histograms.
+     */
+    public Flux<QueryStatisticsDTO> getQueryStatistics() {
+        return Flux.defer(() -> Flux.fromIterable(queryDiagnostics.getStatistics()))
+                .map(this::toDTO);
+    }
+
+    private SlowQueryDTO toDTO(final SlowQuery slowQuery) {
+        return new SlowQueryDTO(
+                slowQuery.getSql(),
+                slowQuery.getBindings(),
+                slowQuery.getDuration().toMillis(),
+                Timestamp.from(slowQuery.getExecutedAt()),
+                slowQuery.getPlan()
+        );
+    }
+
+    private QueryStatisticsDTO toDTO(final QueryStatistics queryStatistics) {
+        return new QueryStatisticsDTO(
+                queryStatistics.getSql(),
+                queryStatistics.getCount(),
+                queryStatistics.getTotalMillis(),
+                queryStatistics.getMeanMillis(),
+                queryStatistics.getMaxMillis(),
+                BUCKET_BOUNDS_MILLIS,
+                queryStatistics.getBuckets()
+        );
+    }
+}
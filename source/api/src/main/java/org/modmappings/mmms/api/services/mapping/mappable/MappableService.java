@@ -7,6 +7,7 @@ import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.repositories.mapping.mappables.mappable.MappableRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +15,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -47,10 +47,10 @@ public class MappableService {
     private final MappableRepository repository;
     private final MappableConverter mappableConverter;
     private final MappableTypeConverter mappableTypeConverter;
-    private final ReactiveValueOperations<Map<String, String>, MappableDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<MappableDTO>> pageCacheOps;
+    private final ReactiveCache<MappableDTO> cacheOps;
+    private final ReactiveCache<Page<MappableDTO>> pageCacheOps;
 
-    public MappableService(final MappableRepository repository, final MappableConverter mappableConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveValueOperations<Map<String, String>, MappableDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<MappableDTO>> pageCacheOps) {
+    public MappableService(final MappableRepository repository, final MappableConverter mappableConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveCache<MappableDTO> cacheOps, final ReactiveCache<Page<MappableDTO>> pageCacheOps) {
         this.repository = repository;
         this.mappableConverter = mappableConverter;
         this.mappableTypeConverter = mappableTypeConverter;
@@ -74,12 +74,12 @@ public class MappableService {
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up a mappable by id in cache: {}", id))
             .doOnNext(dto -> logger.debug("Found mappable: {} with id in cache: {}", dto.getType(), dto.getId()))
-            .switchIfEmpty(repository.findById(id)
+            .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id)
                     .doFirst(() -> logger.debug("Looking up a mappable by id in database: {}", id))
                     .map(this.mappableConverter::toDTO)
                     .doOnNext(dto -> logger.debug("Found mappable: {} with id in database: {}", dto.getType(), dto.getId()))
-                    .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto)
-                    .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "Mappable"))));
+                    .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto))
+                    .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "Mappable")))));
     }
 
     /**
@@ -103,7 +103,7 @@ public class MappableService {
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up mappables in cache: {}", type))
                 .doOnNext(page -> logger.debug("Found mappables in cache: {}", page))
-                .switchIfEmpty(repository.findAllBy(
+                .switchIfEmpty(pageCacheOps.load(cacheKey, () -> repository.findAllBy(
                         this.mappableTypeConverter.toDMO(type),
                         pageable
                 )
@@ -113,7 +113,7 @@ public class MappableService {
                                 .collectList()
                                 .map(mappables -> (Page<MappableDTO>) new PageImpl<>(mappables, page.getPageable(), page.getTotalElements())))
                         .doOnNext(page -> logger.debug("Found mappables in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("Mappable"))));
+                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("Mappable")))));
     }
 }
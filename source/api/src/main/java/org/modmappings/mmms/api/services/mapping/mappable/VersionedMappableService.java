@@ -4,33 +4,41 @@ import org.modmappings.mmms.api.converters.mapping.mappable.MappableTypeConverte
 import org.modmappings.mmms.api.converters.mapping.mappable.VersionedMappableConverter;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.VersionedMappableDTO;
+import org.modmappings.mmms.api.model.mapping.mappings.BatchLookupDTO;
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.services.utils.user.UserLoggingService;
+import org.modmappings.mmms.api.util.BatchLookups;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.CacheGenerations;
+import org.modmappings.mmms.api.util.cache.CacheScopes;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.model.core.MappingTypeDMO;
 import org.modmappings.mmms.repository.model.mapping.mappable.*;
-import org.modmappings.mmms.repository.repositories.core.mappingtypes.MappingTypeRepository;
-import org.modmappings.mmms.repository.repositories.mapping.mappables.inheritancedata.InheritanceDataRepository;
-import org.modmappings.mmms.repository.repositories.mapping.mappables.mappable.MappableRepository;
+import org.modmappings.mmms.repository.model.mapping.mappings.MappingDMO;
 import org.modmappings.mmms.repository.repositories.mapping.mappables.protectedmappableinformation.ProtectedMappableInformationRepository;
 import org.modmappings.mmms.repository.repositories.mapping.mappables.versionedmappables.VersionedMappableRepository;
+import org.modmappings.mmms.repository.repositories.mapping.mappings.mapping.MappingRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Business layer service which handles the interactions of the API with the DataLayer.
@@ -49,34 +57,46 @@ public class VersionedMappableService {
     @Value("${caching.versioned-mappable.lifetimes.by-id:86400}")
     private int CACHE_LIFETIME_BY_ID;
 
-    @Value("${caching.versioned-mappable.lifetimes.all:3600}")
+    @Value("${caching.versioned-mappable.lifetimes.all:86400}")
     private int CACHE_LIFETIME_ALL;
 
+    @Value("${streaming.fetch-size:250}")
+    private int STREAMING_FETCH_SIZE;
+
+    @Value("${streaming.conversion-batch-size:50}")
+    private int STREAMING_CONVERSION_BATCH_SIZE;
+
+    @Value("${streaming.conversion-batch-window-ms:20}")
+    private int STREAMING_CONVERSION_BATCH_WINDOW;
+
+    @Value("${batch.max-size:500}")
+    private int BATCH_MAX_SIZE;
+
     private final Logger logger = LoggerFactory.getLogger(VersionedMappableService.class);
 
     private final VersionedMappableRepository repository;
-    private final InheritanceDataRepository inheritanceDataRepository;
-    private final MappableRepository mappableRepository;
     private final ProtectedMappableInformationRepository protectedMappableInformationRepository;
-    private final MappingTypeRepository mappingTypeRepository;
+    private final MappingRepository mappingRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     private final VersionedMappableConverter versionedMappableConverter;
     private final MappableTypeConverter mappableTypeConverter;
-    private final ReactiveValueOperations<Map<String, String>, VersionedMappableDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<VersionedMappableDTO>> pageCacheOps;
+    private final ReactiveCache<VersionedMappableDTO> cacheOps;
+    private final ReactiveCache<Page<VersionedMappableDTO>> pageCacheOps;
+    private final CacheGenerations cacheGenerations;
 
     private final UserLoggingService userLoggingService;
 
-    public VersionedMappableService(final VersionedMappableRepository repository, final InheritanceDataRepository inheritanceDataRepository, final MappableRepository mappableRepository, final ProtectedMappableInformationRepository protectedMappableInformationRepository, final MappingTypeRepository mappingTypeRepository, final VersionedMappableConverter versionedMappableConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveValueOperations<Map<String, String>, VersionedMappableDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<VersionedMappableDTO>> pageCacheOps, final UserLoggingService userLoggingService) {
+    public VersionedMappableService(final VersionedMappableRepository repository, final ProtectedMappableInformationRepository protectedMappableInformationRepository, final MappingRepository mappingRepository, final ReferenceDataRegistry referenceDataRegistry, final VersionedMappableConverter versionedMappableConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveCache<VersionedMappableDTO> cacheOps, final ReactiveCache<Page<VersionedMappableDTO>> pageCacheOps, final CacheGenerations cacheGenerations, final UserLoggingService userLoggingService) {
         this.repository = repository;
-        this.inheritanceDataRepository = inheritanceDataRepository;
-        this.mappableRepository = mappableRepository;
         this.protectedMappableInformationRepository = protectedMappableInformationRepository;
-        this.mappingTypeRepository = mappingTypeRepository;
+        this.mappingRepository = mappingRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.versionedMappableConverter = versionedMappableConverter;
         this.mappableTypeConverter = mappableTypeConverter;
         this.cacheOps = cacheOps;
         this.pageCacheOps = pageCacheOps;
+        this.cacheGenerations = cacheGenerations;
         this.userLoggingService = userLoggingService;
     }
 
@@ -87,22 +107,91 @@ public class VersionedMappableService {
      * @return A {@link Mono} containing the requested mappable or a errored {@link Mono} that indicates a failure.
      */
     public Mono<VersionedMappableDTO> getBy(final UUID id) {
-        final Map<String, String> cacheKey = CacheKeyBuilder.create()
-                .put("ops", "getById")
-                .put("id", id)
-                .build();
+        final Map<String, String> cacheKey = createByIdCacheKey(id);
 
         return cacheOps.get(
                 cacheKey
         )
                 .doFirst(() -> logger.debug("Looking up a mappable by id in cache: {}", id))
                 .doOnNext(dto -> logger.debug("Found mappable: {} with id in cache: {}", dto.getType(), dto.getId()))
-                .switchIfEmpty(repository.findById(id)
+                .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id)
                         .doFirst(() -> logger.debug("Looking up a mappable by id in database: {}", id))
                         .flatMap(this::toDTO)
                         .doOnNext(dto -> logger.debug("Found mappable: {} with id in database: {}", dto.getType(), dto.getId()))
-                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto)
-                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "Mappable"))));
+                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "Mappable")))));
+    }
+
+    /**
+     * Looks up multiple versioned mappables at once, either by their ids,
+     * or by the inputs of their latest mappings in a given mapping type and game version.
+     *
+     * @param lookup The ids or inputs to look up.
+     * @return A {@link Mono} containing the versioned mappables that were found, in the order in which they were requested, or a errored {@link Mono} when the lookup is invalid.
+     */
+    public Mono<List<VersionedMappableDTO>> getAllBy(final BatchLookupDTO lookup) {
+        return BatchLookups.validate(lookup, BATCH_MAX_SIZE)
+                .flatMap(validLookup -> validLookup.getIds() != null && !validLookup.getIds().isEmpty() ?
+                        getAllBy(validLookup.getIds()) :
+                        getAllLatestBy(validLookup.getMappingTypeId(), validLookup.getGameVersionId(), validLookup.getInputs()));
+    }
+
+    /**
+     * Looks up the versioned mappables with the given ids.
+     * <p>
+     * Shares its cache entries with {@link #getBy(UUID)}. All cached versioned mappables are looked up at once,
+     * and all versioned mappables which are not cached are looked up and converted with a constant amount of queries, after which they are cached,
+     * together with the ids for which no versioned mappable exists.
+     *
+     * @param ids The ids of the versioned mappables to look up.
+     * @return A {@link Mono} containing the versioned mappables that were found, in the order of the given ids. Ids for which no versioned mappable exists are skipped.
+     */
+    public Mono<List<VersionedMappableDTO>> getAllBy(final List<UUID> ids) {
+        final List<UUID> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        final List<Map<String, String>> cacheKeys = distinctIds.stream()
+                .map(VersionedMappableService::createByIdCacheKey)
+                .collect(Collectors.toList());
+
+        return cacheOps.getAll(
+                cacheKeys,
+                missing -> {
+                    final List<UUID> missingIds = missing.stream().map(distinctIds::get).collect(Collectors.toList());
+                    return repository.findAllById(missingIds)
+                            .doFirst(() -> logger.debug("Looking up: {} mappables by id in database", missingIds.size()))
+                            .collectList()
+                            .flatMapMany(this.versionedMappableConverter::toDTOs)
+                            .collectMap(VersionedMappableDTO::getId)
+                            .doOnNext(loaded -> logger.debug("Found: {} mappables by id in database", loaded.size()))
+                            .map(loaded -> missingIds.stream().map(id -> Optional.ofNullable(loaded.get(id))).collect(Collectors.toList()));
+                },
+                Duration.ofSeconds(CACHE_LIFETIME_BY_ID)
+        )
+                .doFirst(() -> logger.debug("Looking up: {} mappables by id", distinctIds.size()))
+                .map(values -> values.stream().flatMap(Optional::stream).collect(Collectors.toList()));
+    }
+
+    /**
+     * Looks up the versioned mappables of which the latest mapping in the given mapping type and game version has any of the given inputs.
+     * <p>
+     * The mappings are looked up with a single query, after which the versioned mappables are looked up by id, using {@link #getAllBy(List)}.
+     *
+     * @param mappingTypeId The id of the mapping type to look the inputs up in.
+     * @param gameVersionId The id of the game version to look the inputs up in.
+     * @param inputs        The inputs to look up.
+     * @return A {@link Mono} containing the versioned mappables that were found, in the order of the given inputs. Inputs for which no mapping exists are skipped.
+     */
+    public Mono<List<VersionedMappableDTO>> getAllLatestBy(
+            final UUID mappingTypeId,
+            final UUID gameVersionId,
+            final List<String> inputs
+    ) {
+        return mappingRepository.findAllLatestByInput(mappingTypeId, gameVersionId, inputs, true)
+                .doFirst(() -> logger.debug("Looking up: {} mappings by input in database: {}, {}", inputs.size(), mappingTypeId, gameVersionId))
+                .collectList()
+                .map(mappings -> BatchLookups.inRequestOrder(inputs, mappings, MappingDMO::getInput).stream()
+                        .map(MappingDMO::getVersionedMappableId)
+                        .collect(Collectors.toList()))
+                .flatMap(this::getAllBy);
     }
 
     /**
@@ -147,23 +236,65 @@ public class VersionedMappableService {
                 .put("superTypeTargetId", superTypeTargetId)
                 .put("subTypeTargetId", subTypeTargetId)
                 .put("pageable", pageable)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(gameVersionId == null ? CacheScopes.all(CacheScopes.VERSIONED_MAPPABLE) : CacheScopes.forGameVersion(CacheScopes.VERSIONED_MAPPABLE, gameVersionId))
+                .scope(mappingTypeId != null ? CacheScopes.forMappingType(CacheScopes.MAPPING, mappingTypeId) : (mappingId != null || mappingInputRegex != null || mappingOutputRegex != null ? CacheScopes.all(CacheScopes.MAPPING) : null))
                 .build();
 
         return pageCacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up versioned mappables in cache: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", gameVersionId, mappableTypeDTO, classId, methodId, mappingId, mappingTypeId, mappingInputRegex, mappingOutputRegex, superTypeTargetId, subTypeTargetId))
                 .doOnNext(page -> logger.debug("Found versioned mappables in cache: {}", page))
-                .switchIfEmpty(repository.findAllFor(
+                .switchIfEmpty(pageCacheOps.load(cacheKey, () -> repository.findAllFor(
                         gameVersionId, this.mappableTypeConverter.toDMO(mappableTypeDTO), classId, methodId, mappingId, mappingTypeId, mappingInputRegex, mappingOutputRegex, superTypeTargetId, subTypeTargetId, true, pageable
                 )
                         .doFirst(() -> logger.debug("Looking up versioned mappables in database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", gameVersionId, mappableTypeDTO, classId, methodId, mappingId, mappingTypeId, mappingInputRegex, mappingOutputRegex, superTypeTargetId, subTypeTargetId))
-                        .flatMap(page -> Flux.fromIterable(page)
-                                .flatMap(this::toDTO)
+                        .flatMap(page -> this.versionedMappableConverter.toDTOs(page.getContent())
                                 .collectList()
                                 .map(mappables -> (Page<VersionedMappableDTO>) new PageImpl<>(mappables, page.getPageable(), page.getTotalElements())))
                         .doOnNext(page -> logger.debug("Found versioned mappables in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("Mappable"))));
+                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("Mappable")))));
+    }
+
+    /**
+     * Streams all versioned mappables who match the given search criteria.
+     * Unlike {@link #getAll(UUID, MappableTypeDTO, UUID, UUID, UUID, UUID, String, String, UUID, UUID, Pageable)}
+     * the versioned mappables are not collected into a page, each versioned mappable is emitted as soon as it is read from the database.
+     * The total amount of versioned mappables is not calculated, and the results are not cached.
+     *
+     * @param gameVersionId      The id of the game version. Null to ignore.
+     * @param mappableTypeDTO    The type of the mappable to look up. Null to ignore.
+     * @param classId            The id of the class to find versioned mappables in. Null to ignore.
+     * @param methodId           The id of the method to find versioned mappables in. Null to ignore.
+     * @param mappingId          The id of the mapping to find the versioned mappables for. Null to ignore.
+     * @param mappingTypeId      The id of the mapping type to find the versioned mappables for. Null to ignore.
+     * @param mappingInputRegex  A regex that is mapped against the input of the mapping. Null to ignore
+     * @param mappingOutputRegex A regex that is mapped against the output of the mapping. Null to ignore
+     * @param superTypeTargetId  The id of the class to find the super types for. Null to ignore.
+     * @param subTypeTargetId    The id of the class to find the sub types for. Null to ignore.
+     * @param sort               The sorting information for the request.
+     * @return The stream of the requested versioned mappables.
+     */
+    public Flux<VersionedMappableDTO> streamAll(
+            final UUID gameVersionId,
+            final MappableTypeDTO mappableTypeDTO,
+            final UUID classId,
+            final UUID methodId,
+            final UUID mappingId,
+            final UUID mappingTypeId,
+            final String mappingInputRegex,
+            final String mappingOutputRegex,
+            final UUID superTypeTargetId,
+            final UUID subTypeTargetId,
+            final Sort sort
+    ) {
+        return repository.streamAllFor(
+                gameVersionId, this.mappableTypeConverter.toDMO(mappableTypeDTO), classId, methodId, mappingId, mappingTypeId, mappingInputRegex, mappingOutputRegex, superTypeTargetId, subTypeTargetId, true, sort, STREAMING_FETCH_SIZE
+        )
+                .doFirst(() -> logger.debug("Streaming versioned mappables from database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", gameVersionId, mappableTypeDTO, classId, methodId, mappingId, mappingTypeId, mappingInputRegex, mappingOutputRegex, superTypeTargetId, subTypeTargetId))
+                .bufferTimeout(STREAMING_CONVERSION_BATCH_SIZE, Duration.ofMillis(STREAMING_CONVERSION_BATCH_WINDOW))
+                .concatMap(this.versionedMappableConverter::toDTOs);
     }
 
     /**
@@ -178,10 +309,7 @@ public class VersionedMappableService {
             final UUID id,
             final VersionedMappableDTO versionedMappableToUpdate,
             final Supplier<UUID> userIdSupplier) {
-        final Map<String, String> cacheKey = CacheKeyBuilder.create()
-                .put("ops", "getById")
-                .put("id", id)
-                .build();
+        final Map<String, String> cacheKey = createByIdCacheKey(id);
 
         return repository.findById(id)
                 .flatMap(dmo -> protectedMappableInformationRepository.findAllByVersionedMappable(id, Pageable.unpaged())
@@ -193,7 +321,7 @@ public class VersionedMappableService {
                                 .flatMap(currentlyProtectedTypeToDelete -> protectedMappableInformationRepository.deleteById(currentlyProtectedTypeToDelete.getId())
                                         .doFirst(() -> userLoggingService.info(logger, userIdSupplier, String.format("Deleting protection information for: %s with mapping type: %s", currentlyProtectedTypeToDelete.getVersionedMappableId(), currentlyProtectedTypeToDelete.getMappingTypeId()))))
                                 .then(Flux.fromIterable(versionedMappableToUpdate.getLockedIn())
-                                        .filterWhen(newLockInId -> mappingTypeRepository.findById(newLockInId).filter(MappingTypeDMO::isVisible).filter(MappingTypeDMO::isEditable).hasElement())
+                                        .filterWhen(newLockInId -> referenceDataRegistry.getMappingType(newLockInId).filter(MappingTypeDMO::isVisible).filter(MappingTypeDMO::isEditable).hasElement())
                                         .filter(validNewLockInId -> currentlyProtectedTypes.stream().noneMatch(pmi -> pmi.getId() == validNewLockInId))
                                         .map(validNewLockInId -> new ProtectedMappableInformationDMO(id, validNewLockInId))
                                         .flatMap(newProtectionInformation -> protectedMappableInformationRepository.save(newProtectionInformation)
@@ -201,30 +329,20 @@ public class VersionedMappableService {
                                         .collectList()
                                 )
                         )
-                        .then()
+                        .then(cacheGenerations.bump(CacheScopes.all(CacheScopes.VERSIONED_MAPPABLE), CacheScopes.forGameVersion(CacheScopes.VERSIONED_MAPPABLE, dmo.getGameVersionId())))
                 )
                 .zipWhen(v -> cacheOps.delete(cacheKey))
-                //TODO: Somehow clear the page cache as well.
                 .flatMap(v -> this.getBy(id));
     }
 
     private Mono<VersionedMappableDTO> toDTO(final VersionedMappableDMO dmo) {
-        return this.versionedMappableConverter.toDTO(
-                dmo,
-                mappableRepository.findById(dmo.getMappableId()),
-                inheritanceDataRepository.findAllForSuperType(dmo.getId(), Pageable.unpaged())
-                        .flatMapIterable(Function.identity())
-                        .map(InheritanceDataDMO::getSubTypeVersionedMappableId),
-                inheritanceDataRepository.findAllForSubType(dmo.getId(), Pageable.unpaged())
-                        .flatMapIterable(Function.identity())
-                        .map(InheritanceDataDMO::getSuperTypeVersionedMappableId),
-                protectedMappableInformationRepository.findAllByVersionedMappable(dmo.getId(), Pageable.unpaged())
-                        .flatMapIterable(Function.identity())
-                        .map(ProtectedMappableInformationDMO::getMappingTypeId)
-                        .filterWhen(mappingTypeId -> mappingTypeRepository.findById(mappingTypeId)
-                                .filter(MappingTypeDMO::isVisible)
-                                .hasElement()
-                        )
-        );
+        return this.versionedMappableConverter.toDTO(dmo);
+    }
+
+    private static Map<String, String> createByIdCacheKey(final UUID id) {
+        return CacheKeyBuilder.create()
+                .put("ops", "getById")
+                .put("id", id)
+                .build();
     }
 }
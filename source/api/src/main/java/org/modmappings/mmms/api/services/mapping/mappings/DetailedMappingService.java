@@ -4,9 +4,12 @@ import org.modmappings.mmms.api.converters.mapping.mappable.MappableTypeConverte
 import org.modmappings.mmms.api.converters.mapping.mappings.DetailedMappingConverter;
 import org.modmappings.mmms.api.model.mapping.mappable.DetailedMappingDTO;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.CacheScopes;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.repositories.mapping.mappings.detailed.DetailedMappingRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -14,7 +17,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -39,20 +42,28 @@ public class DetailedMappingService {
 
     @Value("${caching.detailed-mapping.lifetimes.by-id:86400}")
     private int CACHE_LIFETIME_BY_ID;
-    @Value("${caching.detailed-mapping.lifetimes.all:3600}")
+    @Value("${caching.detailed-mapping.lifetimes.all:86400}")
     private int CACHE_LIFETIME_ALL;
+    @Value("${streaming.fetch-size:250}")
+    private int STREAMING_FETCH_SIZE;
+    @Value("${streaming.conversion-batch-size:50}")
+    private int STREAMING_CONVERSION_BATCH_SIZE;
+    @Value("${streaming.conversion-batch-window-ms:20}")
+    private int STREAMING_CONVERSION_BATCH_WINDOW;
 
     private final Logger logger = LoggerFactory.getLogger(MappingService.class);
     private final DetailedMappingRepository repository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     private final DetailedMappingConverter instancedMappingConverter;
     private final MappableTypeConverter mappableTypeConverter;
 
-    private final ReactiveValueOperations<Map<String, String>, DetailedMappingDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<DetailedMappingDTO>> pageCacheOps;
+    private final ReactiveCache<DetailedMappingDTO> cacheOps;
+    private final ReactiveCache<Page<DetailedMappingDTO>> pageCacheOps;
 
-    public DetailedMappingService(final DetailedMappingRepository repository, final DetailedMappingConverter instancedMappingConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveValueOperations<Map<String, String>, DetailedMappingDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<DetailedMappingDTO>> pageCacheOps) {
+    public DetailedMappingService(final DetailedMappingRepository repository, final ReferenceDataRegistry referenceDataRegistry, final DetailedMappingConverter instancedMappingConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveCache<DetailedMappingDTO> cacheOps, final ReactiveCache<Page<DetailedMappingDTO>> pageCacheOps) {
         this.repository = repository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.instancedMappingConverter = instancedMappingConverter;
         this.mappableTypeConverter = mappableTypeConverter;
         this.cacheOps = cacheOps;
@@ -74,18 +85,20 @@ public class DetailedMappingService {
                 .put("ops", "getById")
                 .put("id", id)
                 .put("externallyVisibleOnly", externallyVisibleOnly)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(CacheScopes.all(CacheScopes.VERSIONED_MAPPABLE))
                 .build();
 
         return cacheOps.get(
                 cacheKey
         ).doFirst(() -> logger.debug("Looking up a detailed mapping by id in cache: {}", id))
                 .doOnNext(dto -> logger.debug("Found detailed mapping: {}-{} with id in cache: {}", dto.getMappingDTO().getInput(), dto.getMappingDTO().getOutput(), dto.getMappingDTO().getId()))
-                .switchIfEmpty(repository.findById(id, externallyVisibleOnly)
+                .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id, externallyVisibleOnly)
                         .doFirst(() -> logger.debug("Looking up a detailed mapping by id in database: {}", id))
                         .flatMap(this.instancedMappingConverter::toDTO)
                         .doOnNext(dto -> logger.debug("Found detailed mapping in database: {}-{} with id: {}", dto.getMappingDTO().getInput(), dto.getMappingDTO().getOutput(), dto.getMappingDTO().getId()))
-                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto)
-                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "Mapping"))));
+                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "Mapping")))));
     }
 
     /**
@@ -134,20 +147,66 @@ public class DetailedMappingService {
                 .put("parentMethodId", parentMethodId)
                 .put("externallyVisibleOnly", externallyVisibleOnly)
                 .put("pageable", pageable)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(mappingTypeId == null ? CacheScopes.all(CacheScopes.MAPPING) : CacheScopes.forMappingType(CacheScopes.MAPPING, mappingTypeId))
+                .scope(releaseId == null ? null : CacheScopes.forRelease(CacheScopes.MAPPING, releaseId))
+                .scope(gameVersionId == null ? CacheScopes.all(CacheScopes.VERSIONED_MAPPABLE) : CacheScopes.forGameVersion(CacheScopes.VERSIONED_MAPPABLE, gameVersionId))
                 .build();
 
+        final Mono<Page<DetailedMappingDTO>> loader = Mono.defer(() -> repository.findAllBy(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, pageable)
+                .doFirst(() -> logger.debug("Looking up detailed mappings in database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, pageable))
+                .flatMap(page -> this.instancedMappingConverter.toDTOs(page.getContent())
+                        .collectList()
+                        .map(mappings -> (Page<DetailedMappingDTO>) new PageImpl<>(mappings, page.getPageable(), page.getTotalElements())))
+                .doOnNext(page -> logger.debug("Found detailed mappings in database: {}", page))
+                .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page));
+
         return pageCacheOps.get(
-                cacheKey
+                cacheKey,
+                loader
         ).doFirst(() -> logger.debug("Looking up detailed mappings in cache: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, pageable))
                 .doOnNext(page -> logger.debug("Found detailed mappings in cache: {}", page))
-                .switchIfEmpty(repository.findAllBy(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, pageable)
-                        .doFirst(() -> logger.debug("Looking up detailed mappings in database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, pageable))
-                        .flatMap(page -> Flux.fromIterable(page)
-                                .flatMap(this.instancedMappingConverter::toDTO)
-                                .collectList()
-                                .map(mappings -> (Page<DetailedMappingDTO>) new PageImpl<>(mappings, page.getPageable(), page.getTotalElements())))
-                        .doOnNext(page -> logger.debug("Found detailed mappings in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("DetailedMapping"))));
+                .switchIfEmpty(pageCacheOps.load(cacheKey, loader)
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("DetailedMapping")))));
+    }
+
+    /**
+     * Streams all detailed mappings that match the search criteria.
+     * Unlike {@link #getAllBy(Boolean, UUID, UUID, MappableTypeDTO, String, String, UUID, UUID, UUID, UUID, UUID, boolean, Pageable)}
+     * the mappings are not collected into a page, each mapping is emitted as soon as it is read from the database.
+     * The total amount of mappings is not calculated, and the results are not cached.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param userId                The id of the user who created the mapping.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param sort                  The sorting information.
+     * @return A {@link Flux} with the mappings, or an errored {@link Flux} that indicates a failure.
+     */
+    public Flux<DetailedMappingDTO> streamAllBy(final Boolean latestOnly,
+                                                final UUID versionedMappableId,
+                                                final UUID releaseId,
+                                                final MappableTypeDTO mappableType,
+                                                final String inputRegex,
+                                                final String outputRegex,
+                                                final UUID mappingTypeId,
+                                                final UUID gameVersionId,
+                                                final UUID userId,
+                                                final UUID parentClassId,
+                                                final UUID parentMethodId,
+                                                final boolean externallyVisibleOnly,
+                                                final Sort sort) {
+        return repository.streamAllBy(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, sort, STREAMING_FETCH_SIZE)
+                .doFirst(() -> logger.debug("Streaming detailed mappings from database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, externallyVisibleOnly, sort))
+                .bufferTimeout(STREAMING_CONVERSION_BATCH_SIZE, Duration.ofMillis(STREAMING_CONVERSION_BATCH_WINDOW))
+                .concatMap(this.instancedMappingConverter::toDTOs);
     }
 }
@@ -3,30 +3,47 @@ package org.modmappings.mmms.api.services.mapping.mappings;
 import org.modmappings.mmms.api.converters.mapping.mappable.MappableTypeConverter;
 import org.modmappings.mmms.api.converters.mapping.mappings.MappingConverter;
 import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
+import org.modmappings.mmms.api.model.mapping.mappings.BatchLookupDTO;
 import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
 import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
+import org.modmappings.mmms.api.services.utils.exceptions.InvalidContinuationTokenException;
+import org.modmappings.mmms.api.services.utils.exceptions.InvalidSortException;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.services.utils.user.UserLoggingService;
+import org.modmappings.mmms.api.util.BatchLookups;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.modmappings.mmms.api.util.cache.CacheGenerations;
+import org.modmappings.mmms.api.util.cache.CacheScopes;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.model.core.MappingTypeDMO;
-import org.modmappings.mmms.repository.repositories.core.mappingtypes.MappingTypeRepository;
 import org.modmappings.mmms.repository.repositories.mapping.mappings.mapping.MappingRepository;
+import org.modmappings.mmms.repository.repositories.paging.CountMode;
+import org.modmappings.mmms.repository.repositories.paging.CountedPage;
+import org.modmappings.mmms.repository.repositories.paging.InvalidSeekSortException;
+import org.modmappings.mmms.repository.repositories.paging.InvalidSeekTokenException;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
+import org.modmappings.mmms.repository.repositories.paging.TotalCountCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.RequestParam;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * Business layer service which handles the interactions of the API with the DataLayer.
@@ -44,28 +61,38 @@ public class MappingService {
 
     @Value("${caching.mapping.lifetimes.by-id:86400}")
     private int CACHE_LIFETIME_BY_ID;
-    @Value("${caching.mapping.lifetimes.all:3600}")
+    @Value("${caching.mapping.lifetimes.all:86400}")
     private int CACHE_LIFETIME_ALL;
+    @Value("${caching.mapping.lifetimes.count:86400}")
+    private int CACHE_LIFETIME_COUNT;
+    @Value("${streaming.fetch-size:250}")
+    private int STREAMING_FETCH_SIZE;
+    @Value("${batch.max-size:500}")
+    private int BATCH_MAX_SIZE;
 
     private final Logger logger = LoggerFactory.getLogger(MappingService.class);
     private final MappingRepository repository;
-    private final MappingTypeRepository mappingTypeRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
 
     private final MappingConverter mappingConverter;
     private final MappableTypeConverter mappableTypeConverter;
 
-    private final ReactiveValueOperations<Map<String, String>, MappingDTO> cacheOps;
-    private final ReactiveValueOperations<Map<String, String>, Page<MappingDTO>> pageCacheOps;
+    private final ReactiveCache<MappingDTO> cacheOps;
+    private final ReactiveCache<Page<MappingDTO>> pageCacheOps;
+    private final ReactiveCache<Long> countCacheOps;
+    private final CacheGenerations cacheGenerations;
 
     private final UserLoggingService userLoggingService;
 
-    public MappingService(final MappingRepository repository, final MappingTypeRepository mappingTypeRepository, final MappingConverter mappingConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveValueOperations<Map<String, String>, MappingDTO> cacheOps, final ReactiveValueOperations<Map<String, String>, Page<MappingDTO>> pageCacheOps, final UserLoggingService userLoggingService) {
+    public MappingService(final MappingRepository repository, final ReferenceDataRegistry referenceDataRegistry, final MappingConverter mappingConverter, final MappableTypeConverter mappableTypeConverter, final ReactiveCache<MappingDTO> cacheOps, final ReactiveCache<Page<MappingDTO>> pageCacheOps, final ReactiveCache<Long> countCacheOps, final CacheGenerations cacheGenerations, final UserLoggingService userLoggingService) {
         this.repository = repository;
-        this.mappingTypeRepository = mappingTypeRepository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.mappingConverter = mappingConverter;
         this.mappableTypeConverter = mappableTypeConverter;
         this.cacheOps = cacheOps;
         this.pageCacheOps = pageCacheOps;
+        this.countCacheOps = countCacheOps;
+        this.cacheGenerations = cacheGenerations;
         this.userLoggingService = userLoggingService;
     }
 
@@ -81,23 +108,99 @@ public class MappingService {
             final UUID id,
             final boolean externallyVisibleOnly
     ) {
-        final Map<String, String> cacheKey = CacheKeyBuilder.create()
-                .put("ops", "id")
-                .put("id", id)
-                .put("externallyVisibleOnly", externallyVisibleOnly)
-                .build();
+        final Map<String, String> cacheKey = createByIdCacheKey(id, externallyVisibleOnly);
 
         return cacheOps.get(
                 cacheKey
         )
                 .doFirst(() -> logger.debug("Looking up a mapping by id in cache: {}", id))
                 .doOnNext(dto -> logger.debug("Found mapping: {}-{} with id in cache: {}", dto.getInput(), dto.getOutput(), dto.getId()))
-                .switchIfEmpty(repository.findById(id, externallyVisibleOnly)
+                .switchIfEmpty(cacheOps.load(cacheKey, () -> repository.findById(id, externallyVisibleOnly)
                         .doFirst(() -> logger.debug("Looking up a mapping by id in database: {}", id))
                         .map(this.mappingConverter::toDTO)
                         .doOnNext(dto -> logger.debug("Found mapping: {}-{} with id in database: {}", dto.getInput(), dto.getOutput(), dto.getId()))
-                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto)
-                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "Mapping"))));
+                        .zipWhen(dto -> cacheOps.set(cacheKey, dto, Duration.ofSeconds(CACHE_LIFETIME_BY_ID)), (dto, a) -> dto))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "Mapping")))));
+    }
+
+    /**
+     * Looks up multiple mappings at once, either by their ids,
+     * or by the inputs of the latest mappings in a given mapping type and game version.
+     *
+     * @param lookup                The ids or inputs to look up.
+     * @param externallyVisibleOnly Indicator if only externally visible mappings should be taken into account.
+     * @return A {@link Mono} containing the mappings that were found, in the order in which they were requested, or a errored {@link Mono} when the lookup is invalid.
+     */
+    public Mono<List<MappingDTO>> getAllBy(
+            final BatchLookupDTO lookup,
+            final boolean externallyVisibleOnly
+    ) {
+        return BatchLookups.validate(lookup, BATCH_MAX_SIZE)
+                .flatMap(validLookup -> validLookup.getIds() != null && !validLookup.getIds().isEmpty() ?
+                        getAllBy(validLookup.getIds(), externallyVisibleOnly) :
+                        getAllLatestBy(validLookup.getMappingTypeId(), validLookup.getGameVersionId(), validLookup.getInputs(), externallyVisibleOnly));
+    }
+
+    /**
+     * Looks up the mappings with the given ids.
+     * <p>
+     * Shares its cache entries with {@link #getBy(UUID, boolean)}. All cached mappings are looked up at once,
+     * and all mappings which are not cached are looked up with a single query, after which they are cached,
+     * together with the ids for which no mapping exists.
+     *
+     * @param ids                   The ids of the mappings to look up.
+     * @param externallyVisibleOnly Indicator if only externally visible mappings should be taken into account.
+     * @return A {@link Mono} containing the mappings that were found, in the order of the given ids. Ids for which no mapping exists are skipped.
+     */
+    public Mono<List<MappingDTO>> getAllBy(
+            final List<UUID> ids,
+            final boolean externallyVisibleOnly
+    ) {
+        final List<UUID> distinctIds = ids.stream().distinct().collect(Collectors.toList());
+        final List<Map<String, String>> cacheKeys = distinctIds.stream()
+                .map(id -> createByIdCacheKey(id, externallyVisibleOnly))
+                .collect(Collectors.toList());
+
+        return cacheOps.getAll(
+                cacheKeys,
+                missing -> {
+                    final List<UUID> missingIds = missing.stream().map(distinctIds::get).collect(Collectors.toList());
+                    return repository.findAllById(missingIds, externallyVisibleOnly)
+                            .doFirst(() -> logger.debug("Looking up: {} mappings by id in database", missingIds.size()))
+                            .map(this.mappingConverter::toDTO)
+                            .collectMap(MappingDTO::getId)
+                            .doOnNext(loaded -> logger.debug("Found: {} mappings by id in database", loaded.size()))
+                            .map(loaded -> missingIds.stream().map(id -> Optional.ofNullable(loaded.get(id))).collect(Collectors.toList()));
+                },
+                Duration.ofSeconds(CACHE_LIFETIME_BY_ID)
+        )
+                .doFirst(() -> logger.debug("Looking up: {} mappings by id", distinctIds.size()))
+                .map(values -> values.stream().flatMap(Optional::stream).collect(Collectors.toList()));
+    }
+
+    /**
+     * Looks up the latest mappings of the given mapping type and game version, of which the input is any of the given inputs, with a single query.
+     * Multiple mappings can be returned for a single input, since for example fields in different classes can share the same input.
+     * The results are not cached.
+     *
+     * @param mappingTypeId         The id of the mapping type to look the inputs up in.
+     * @param gameVersionId         The id of the game version to look the inputs up in.
+     * @param inputs                The inputs to look up.
+     * @param externallyVisibleOnly Indicator if only externally visible mappings should be taken into account.
+     * @return A {@link Mono} containing the mappings that were found, in the order of the given inputs. Inputs for which no mapping exists are skipped.
+     */
+    public Mono<List<MappingDTO>> getAllLatestBy(
+            final UUID mappingTypeId,
+            final UUID gameVersionId,
+            final List<String> inputs,
+            final boolean externallyVisibleOnly
+    ) {
+        return repository.findAllLatestByInput(mappingTypeId, gameVersionId, inputs, externallyVisibleOnly)
+                .doFirst(() -> logger.debug("Looking up: {} mappings by input in database: {}, {}", inputs.size(), mappingTypeId, gameVersionId))
+                .map(this.mappingConverter::toDTO)
+                .collectList()
+                .doOnNext(found -> logger.debug("Found: {} mappings by input in database", found.size()))
+                .map(found -> BatchLookups.inRequestOrder(inputs, found, MappingDTO::getInput));
     }
 
     /**
@@ -133,6 +236,44 @@ public class MappingService {
                                            final String parentClassPackagePath,
                                            final boolean externallyVisibleOnly,
                                            final Pageable pageable) {
+        return getAllBy(latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable, CountMode.EXACT);
+    }
+
+    /**
+     * Looks up multiple mappings, that match the search criteria.
+     * The returned order is newest to oldest.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param parentClassPackagePath The package of the class of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param pageable              The paging and sorting information.
+     * @param countMode             The way the total amount of mappings is determined.
+     * @return A {@link Mono} with the mappings, or an errored {@link Mono} that indicates a failure.
+     */
+    public Mono<Page<MappingDTO>> getAllBy(final Boolean latestOnly,
+                                           final UUID versionedMappableId,
+                                           final UUID releaseId,
+                                           final MappableTypeDTO mappableType,
+                                           final String inputRegex,
+                                           final String outputRegex,
+                                           final UUID mappingTypeId,
+                                           final UUID gameVersionId,
+                                           final UUID userId,
+                                           final UUID parentClassId,
+                                           final UUID parentMethodId,
+                                           final String parentClassPackagePath,
+                                           final boolean externallyVisibleOnly,
+                                           final Pageable pageable,
+                                           final CountMode countMode) {
         final Map<String, String> cacheKey = CacheKeyBuilder.create()
                 .put("ops", "getAll")
                 .put("latestOnly", latestOnly)
@@ -149,22 +290,113 @@ public class MappingService {
                 .put("parentClassPackagePath", parentClassPackagePath)
                 .put("externallyVisibleOnly", externallyVisibleOnly)
                 .put("pageable", pageable)
+                .put("countMode", countMode)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(mappingTypeId == null ? CacheScopes.all(CacheScopes.MAPPING) : CacheScopes.forMappingType(CacheScopes.MAPPING, mappingTypeId))
+                .scope(releaseId == null ? null : CacheScopes.forRelease(CacheScopes.MAPPING, releaseId))
                 .build();
 
+        final Mono<Page<MappingDTO>> loader = Mono.defer(() -> repository.findAllOrLatestFor(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable, countMode.getStrategy(createTotalCountCache(cacheKey)))
+                .doFirst(() -> logger.debug("Looking up mappings in database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable, countMode))
+                .flatMap(page -> Flux.fromIterable(page)
+                        .map(this.mappingConverter::toDTO)
+                        .collectList()
+                        .map(mappings -> (Page<MappingDTO>) new CachedPageImpl<>(mappings, page.getPageable(), page.getTotalElements(), CountedPage.isTotalExact(page))))
+                .doOnNext(page -> logger.debug("Found mappings in database: {}", page))
+                .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page));
+
         return pageCacheOps.get(
-                cacheKey
+                cacheKey,
+                loader
         )
                 .doFirst(() -> logger.debug("Looking up mappings in cache: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable))
                 .doOnNext(page -> logger.debug("Found mappings in cache: {}", page))
-                .switchIfEmpty(repository.findAllOrLatestFor(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable)
-                        .doFirst(() -> logger.debug("Looking up mappings in database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable))
-                        .flatMap(page -> Flux.fromIterable(page)
-                                .map(this.mappingConverter::toDTO)
-                                .collectList()
-                                .map(mappings -> (Page<MappingDTO>) new PageImpl<>(mappings, page.getPageable(), page.getTotalElements())))
-                        .doOnNext(page -> logger.debug("Found mappings in database: {}", page))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("Mapping"))));
+                .switchIfEmpty(pageCacheOps.load(cacheKey, loader)
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("Mapping")))));
+    }
+
+    /**
+     * Looks up multiple mappings, that match the search criteria, using keyset (seek) pagination.
+     * Unlike {@link #getAllBy(Boolean, UUID, UUID, MappableTypeDTO, String, String, UUID, UUID, UUID, UUID, UUID, String, boolean, Pageable)}
+     * the total amount of mappings is not calculated, and the results are not cached.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param parentClassPackagePath The package of the class of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param pageable              The size and sorting information.
+     * @param continuationToken     The continuation token of the previous page, or null for the first page.
+     * @return A {@link Mono} with the mappings, or an errored {@link Mono} that indicates a failure.
+     */
+    public Mono<SeekPage<MappingDTO>> getAllBy(final Boolean latestOnly,
+                                               final UUID versionedMappableId,
+                                               final UUID releaseId,
+                                               final MappableTypeDTO mappableType,
+                                               final String inputRegex,
+                                               final String outputRegex,
+                                               final UUID mappingTypeId,
+                                               final UUID gameVersionId,
+                                               final UUID userId,
+                                               final UUID parentClassId,
+                                               final UUID parentMethodId,
+                                               final String parentClassPackagePath,
+                                               final boolean externallyVisibleOnly,
+                                               final Pageable pageable,
+                                               final String continuationToken) {
+        return repository.findAllOrLatestFor(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable, continuationToken)
+                .doFirst(() -> logger.debug("Seeking mappings in database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, pageable, continuationToken))
+                .map(page -> page.map(this.mappingConverter::toDTO))
+                .doOnNext(page -> logger.debug("Found mappings in database: {}", page))
+                .onErrorMap(InvalidSeekSortException.class, e -> new InvalidSortException(e.getMessage()))
+                .onErrorMap(InvalidSeekTokenException.class, e -> new InvalidContinuationTokenException(continuationToken));
+    }
+
+    /**
+     * Streams all mappings that match the search criteria.
+     * Unlike {@link #getAllBy(Boolean, UUID, UUID, MappableTypeDTO, String, String, UUID, UUID, UUID, UUID, UUID, String, boolean, Pageable)}
+     * the mappings are not collected into a page, each mapping is emitted as soon as it is read from the database.
+     * The total amount of mappings is not calculated, and the results are not cached.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param parentClassPackagePath The package of the class of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param sort                  The sorting information.
+     * @return A {@link Flux} with the mappings, or an errored {@link Flux} that indicates a failure.
+     */
+    public Flux<MappingDTO> streamAllBy(final Boolean latestOnly,
+                                        final UUID versionedMappableId,
+                                        final UUID releaseId,
+                                        final MappableTypeDTO mappableType,
+                                        final String inputRegex,
+                                        final String outputRegex,
+                                        final UUID mappingTypeId,
+                                        final UUID gameVersionId,
+                                        final UUID userId,
+                                        final UUID parentClassId,
+                                        final UUID parentMethodId,
+                                        final String parentClassPackagePath,
+                                        final boolean externallyVisibleOnly,
+                                        final Sort sort) {
+        return repository.streamAllOrLatestFor(latestOnly, versionedMappableId, releaseId, this.mappableTypeConverter.toDMO(mappableType), inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, sort, STREAMING_FETCH_SIZE)
+                .doFirst(() -> logger.debug("Streaming mappings from database: {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}, {}.", latestOnly, versionedMappableId, releaseId, mappableType, inputRegex, outputRegex, mappingTypeId, gameVersionId, userId, parentClassId, parentMethodId, parentClassPackagePath, externallyVisibleOnly, sort))
+                .map(this.mappingConverter::toDTO);
     }
 
     /**
@@ -182,22 +414,42 @@ public class MappingService {
             final MappingDTO newMappingDto,
             final Supplier<UUID> userIdSupplier
     ) {
-        return mappingTypeRepository.findById(mappingTypeId)
+        return referenceDataRegistry.getMappingType(mappingTypeId)
                 .filter(MappingTypeDMO::isVisible)
                 .flatMap(mdto -> Mono.just(newMappingDto)
                         .doFirst(() -> userLoggingService.warn(logger, userIdSupplier, String.format("Creating new mapping: %s-%s", newMappingDto.getInput(), newMappingDto.getOutput())))
                         .map(dto -> this.mappingConverter.toNewDMO(versionedMappableId, mappingTypeId, dto, userIdSupplier))
                         .flatMap(repository::save) //Creates the mapping object in the database
                         .map(this.mappingConverter::toDTO) //Create the DTO from it.
-                        .zipWhen(dto -> {
-                            final Map<String, String> cacheKey = CacheKeyBuilder.create()
-                                    .put("ops", "id")
-                                    .put("id", dto.getId())
-                                    .put("externallyVisibleOnly", true)
-                                    .build();
-
-                            return cacheOps.delete(cacheKey);
-                        }, (dto, a) -> dto )
+                        .zipWhen(dto -> cacheOps.delete(createByIdCacheKey(dto.getId(), true)), (dto, a) -> dto )
+                        .flatMap(dto -> cacheGenerations.bump(CacheScopes.all(CacheScopes.MAPPING), CacheScopes.forMappingType(CacheScopes.MAPPING, mappingTypeId))
+                                .thenReturn(dto))
                         .doOnNext(dto -> userLoggingService.warn(logger, userIdSupplier, String.format("Created new mapping: %s-%s with id: %s", dto.getInput(), dto.getOutput(), dto.getId()))));
     }
-}
\ No newline at end of file
+
+    private Map<String, String> createByIdCacheKey(final UUID id, final boolean externallyVisibleOnly) {
+        return CacheKeyBuilder.create()
+                .put("ops", "id")
+                .put("id", id)
+                .put("externallyVisibleOnly", externallyVisibleOnly)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .build();
+    }
+
+    /**
+     * Creates the cache for the total count of a paged lookup.
+     * The count is keyed by the filter of the page only, so all pages and sorts of a filter share it,
+     * and it shares the scopes of the page, so every instance drops it together with the pages of the filter.
+     */
+    private TotalCountCache createTotalCountCache(final Map<String, String> pageCacheKey) {
+        final Map<String, String> countCacheKey = new HashMap<>(pageCacheKey);
+        countCacheKey.remove("pageable");
+        countCacheKey.remove("countMode");
+        countCacheKey.put("ops", "countAll");
+
+        return count -> countCacheOps.get(countCacheKey)
+                .doOnNext(total -> logger.debug("Found mapping count in cache: {}", total))
+                .switchIfEmpty(countCacheOps.load(countCacheKey, () -> count
+                        .zipWhen(total -> countCacheOps.set(countCacheKey, total, Duration.ofSeconds(CACHE_LIFETIME_COUNT)), (total, a) -> total)));
+    }
+}
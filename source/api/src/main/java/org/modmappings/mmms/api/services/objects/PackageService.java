@@ -4,8 +4,11 @@ import org.modmappings.mmms.api.converters.mapping.mappings.MappingConverter;
 import org.modmappings.mmms.api.converters.objects.PackageConverter;
 import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
 import org.modmappings.mmms.api.model.objects.PackageDTO;
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
 import org.modmappings.mmms.api.services.utils.exceptions.NoEntriesFoundException;
 import org.modmappings.mmms.api.util.CacheKeyBuilder;
+import org.modmappings.mmms.api.util.cache.CacheScopes;
+import org.modmappings.mmms.api.util.cache.ReactiveCache;
 import org.modmappings.mmms.repository.model.objects.PackageDMO;
 import org.modmappings.mmms.repository.repositories.objects.PackageRepository;
 import org.slf4j.Logger;
@@ -14,7 +17,6 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.ReactiveValueOperations;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -42,11 +44,13 @@ public class PackageService {
 
     private final Logger logger = LoggerFactory.getLogger(PackageService.class);
     private final PackageRepository repository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final PackageConverter packageConverter;
-    private final ReactiveValueOperations<Map<String, String>, Page<PackageDTO>> pageCacheOps;
+    private final ReactiveCache<Page<PackageDTO>> pageCacheOps;
 
-    public PackageService(final PackageRepository repository, final PackageConverter packageConverter, final ReactiveValueOperations<Map<String, String>, Page<PackageDTO>> pageCacheOps) {
+    public PackageService(final PackageRepository repository, final ReferenceDataRegistry referenceDataRegistry, final PackageConverter packageConverter, final ReactiveCache<Page<PackageDTO>> pageCacheOps) {
         this.repository = repository;
+        this.referenceDataRegistry = referenceDataRegistry;
         this.packageConverter = packageConverter;
         this.pageCacheOps = pageCacheOps;
     }
@@ -71,20 +75,26 @@ public class PackageService {
                 .put("externallyVisibleOnly", externallyVisibleOnly)
                 .put("parentPackagePath", parentPackagePath)
                 .put("pageable", pageable)
+                .referenceData(referenceDataRegistry.getFingerprint())
+                .scope(mappingTypeId == null ? CacheScopes.all(CacheScopes.MAPPING) : CacheScopes.forMappingType(CacheScopes.MAPPING, mappingTypeId))
+                .scope(releaseId == null ? null : CacheScopes.forRelease(CacheScopes.MAPPING, releaseId))
                 .build();
 
+        final Mono<Page<PackageDTO>> loader = Mono.defer(() -> repository.findAllBy(latestOnly, gameVersion, releaseId, mappingTypeId, matchingRegex, parentPackagePath, externallyVisibleOnly, pageable)
+                .doFirst(() -> logger.debug("Looking up a packages by in database: {}, {}, {}, {}, {}, {}, {}.",latestOnly, gameVersion, releaseId, mappingTypeId, matchingRegex, parentPackagePath, externallyVisibleOnly))
+                .doOnNext((page) -> logger.debug("Found packages in database: {}", page))
+                .flatMap(page -> Flux.fromIterable(page)
+                        .map(this.packageConverter::toDTO)
+                        .collectList()
+                        .map(mappings -> (Page<PackageDTO>) new PageImpl<>(mappings, page.getPageable(), page.getTotalElements())))
+                .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page));
+
         return pageCacheOps.get(
-                cacheKey
+                cacheKey,
+                loader
         ).doFirst(() -> logger.debug("Looking up a packages in cache by: {}, {}, {}, {}, {}, {}, {}.",latestOnly, gameVersion, releaseId, mappingTypeId, matchingRegex, parentPackagePath, externallyVisibleOnly))
                 .doOnNext((page) -> logger.debug("Found packages in cache: {}", page))
-                .switchIfEmpty(repository.findAllBy(latestOnly, gameVersion, releaseId, mappingTypeId, matchingRegex, parentPackagePath, externallyVisibleOnly, pageable)
-                        .doFirst(() -> logger.debug("Looking up a packages by in database: {}, {}, {}, {}, {}, {}, {}.",latestOnly, gameVersion, releaseId, mappingTypeId, matchingRegex, parentPackagePath, externallyVisibleOnly))
-                        .doOnNext((page) -> logger.debug("Found packages in database: {}", page))
-                        .flatMap(page -> Flux.fromIterable(page)
-                                .map(this.packageConverter::toDTO)
-                                .collectList()
-                                .map(mappings -> (Page<PackageDTO>) new PageImpl<>(mappings, page.getPageable(), page.getTotalElements())))
-                        .zipWhen(page -> pageCacheOps.set(cacheKey, page, Duration.ofSeconds(CACHE_LIFETIME_ALL)), (page, a) -> page)
-                        .switchIfEmpty(Mono.error(new NoEntriesFoundException("Packages"))));
+                .switchIfEmpty(pageCacheOps.load(cacheKey, loader)
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new NoEntriesFoundException("Packages")))));
     }
 }
@@ -7,4 +7,8 @@ public class EntryNotFoundException extends AbstractHttpResponseException {
     public EntryNotFoundException(final UUID entryId, final String entryTypeName) {
         super(404, String.format("Could not find: %s with id: %s", entryTypeName, entryId));
     }
+
+    public EntryNotFoundException(final String entryName, final String entryTypeName) {
+        super(404, String.format("Could not find: %s with name: %s", entryTypeName, entryName));
+    }
 }
@@ -0,0 +1,8 @@
+package org.modmappings.mmms.api.services.utils.exceptions;
+
+public class InvalidBatchLookupException extends AbstractHttpResponseException {
+
+    public InvalidBatchLookupException(final String reason) {
+        super(400, String.format("The batch lookup is invalid: %s", reason));
+    }
+}
@@ -0,0 +1,8 @@
+package org.modmappings.mmms.api.services.utils.exceptions;
+
+public class InvalidContinuationTokenException extends AbstractHttpResponseException {
+
+    public InvalidContinuationTokenException(final String continuationToken) {
+        super(400, String.format("The continuation token: %s is not valid.", continuationToken));
+    }
+}
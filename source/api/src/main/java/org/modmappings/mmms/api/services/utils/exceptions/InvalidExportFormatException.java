@@ -0,0 +1,8 @@
+package org.modmappings.mmms.api.services.utils.exceptions;
+
+public class InvalidExportFormatException extends AbstractHttpResponseException {
+
+    public InvalidExportFormatException(final String format) {
+        super(400, String.format("The export format: %s is not supported.", format));
+    }
+}
@@ -0,0 +1,8 @@
+package org.modmappings.mmms.api.services.utils.exceptions;
+
+public class InvalidSortException extends AbstractHttpResponseException {
+
+    public InvalidSortException(final String reason) {
+        super(400, String.format("The requested sort is not valid. %s", reason));
+    }
+}
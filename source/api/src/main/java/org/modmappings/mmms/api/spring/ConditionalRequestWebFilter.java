@@ -0,0 +1,221 @@
+package org.modmappings.mmms.api.spring;
+
+import org.modmappings.mmms.api.services.core.ReferenceDataRegistry;
+import org.modmappings.mmms.api.util.cache.CacheGenerations;
+import org.modmappings.mmms.api.util.cache.CacheScopes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Answers conditional GET requests on the read endpoints before they reach the controllers.
+ * <p>
+ * The entity tag of a response is derived from what its content depends on, without running the query itself:
+ * the path and query of the request, the generations of the cache scopes (see {@link CacheScopes}) that the
+ * services use to invalidate the cached pages of the endpoint, and the fingerprint of the reference data, which
+ * determines which mapping types are visible. A request whose If-None-Match header matches is answered with a
+ * 304 straight away, so it costs a single redis round trip.
+ * <p>
+ * An endpoint is only registered when every cache behind it is keyed on exactly the scopes and fingerprint that
+ * make up its tag, so a cached value can never outlive the tag it was served under.
+ * The tag is computed before the content is read, so a write that happens in between results in a response that is
+ * newer than its tag. This only causes one unnecessary download later on, never a stale response.
+ * <p>
+ * Every endpoint also gets a Cache-Control policy, depending on how often its content changes.
+ */
+@Component
+public class ConditionalRequestWebFilter implements WebFilter {
+
+    @Value("${http.conditional-requests.enabled:true}")
+    private boolean CONDITIONAL_REQUESTS_ENABLED;
+    @Value("${http.cache-control.max-age.reference-data:300}")
+    private int REFERENCE_DATA_MAX_AGE;
+    @Value("${http.cache-control.max-age.releases:60}")
+    private int RELEASES_MAX_AGE;
+    @Value("${http.cache-control.max-age.mappings:30}")
+    private int MAPPINGS_MAX_AGE;
+
+    private final Logger logger = LoggerFactory.getLogger(ConditionalRequestWebFilter.class);
+    private final CacheGenerations cacheGenerations;
+    private final ReferenceDataRegistry referenceDataRegistry;
+    private final PathPatternParser parser = new PathPatternParser();
+    private final List<Policy> policies = new ArrayList<>();
+
+    public ConditionalRequestWebFilter(final CacheGenerations cacheGenerations, final ReferenceDataRegistry referenceDataRegistry) {
+        this.cacheGenerations = cacheGenerations;
+        this.referenceDataRegistry = referenceDataRegistry;
+    }
+
+    @PostConstruct
+    public void registerPolicies() {
+        final CacheControl referenceData = CacheControl.maxAge(Duration.ofSeconds(REFERENCE_DATA_MAX_AGE)).cachePublic();
+        final CacheControl releases = CacheControl.maxAge(Duration.ofSeconds(RELEASES_MAX_AGE)).cachePublic();
+        final CacheControl mappings = CacheControl.maxAge(Duration.ofSeconds(MAPPINGS_MAX_AGE)).cachePublic();
+
+        //Game versions and mapping types only change with the reference data.
+        register("/versions", referenceData, (variables, query) -> List.of());
+        register("/versions/{id}", referenceData, (variables, query) -> List.of());
+        register("/types", referenceData, (variables, query) -> List.of());
+        register("/types/{id}", referenceData, (variables, query) -> List.of());
+
+        //Releases, the scopes match those of the release service.
+        register("/releases", releases, (variables, query) -> {
+            final UUID gameVersionId = getUUID(query, "gameVersion");
+            final UUID mappingTypeId = getUUID(query, "mappingType");
+            return List.of(gameVersionId != null ? CacheScopes.forGameVersion(CacheScopes.RELEASE, gameVersionId) : (mappingTypeId != null ? CacheScopes.forMappingType(CacheScopes.RELEASE, mappingTypeId) : CacheScopes.all(CacheScopes.RELEASE)));
+        });
+        register("/releases/{id}", releases, (variables, query) -> List.of(CacheScopes.all(CacheScopes.RELEASE)));
+
+        //Mapping searches, the scopes match those of the mapping services.
+        final BiFunction<Map<String, String>, MultiValueMap<String, String>, List<String>> mappingScopes = (variables, query) -> getMappingScopes(getUUID(query, "mappingTypeId"), getUUID(query, "releaseId"));
+        register("/mappings", mappings, mappingScopes);
+        register("/mappings/seek", mappings, mappingScopes);
+        register("/mappings/stream", mappings, mappingScopes);
+        final BiFunction<Map<String, String>, MultiValueMap<String, String>, List<String>> detailedMappingScopes = (variables, query) -> {
+            final UUID gameVersionId = getUUID(query, "gameVersionId");
+            final List<String> scopes = getMappingScopes(getUUID(query, "mappingTypeId"), getUUID(query, "releaseId"));
+            scopes.add(gameVersionId == null ? CacheScopes.all(CacheScopes.VERSIONED_MAPPABLE) : CacheScopes.forGameVersion(CacheScopes.VERSIONED_MAPPABLE, gameVersionId));
+            return scopes;
+        };
+        register("/mappings/detailed", mappings, detailedMappingScopes);
+        register("/mappings/detailed/stream", mappings, detailedMappingScopes);
+
+        //Packages are derived from the mappings.
+        register("/packages", mappings, (variables, query) -> getMappingScopes(getUUID(query, "mappingType"), getUUID(query, "release")));
+
+        //Mappings are never changed after they are created, only their visibility can change with the reference data.
+        //Detailed mappings also contain their versioned mappable, which can be updated.
+        //Registered last, since the policies are matched in order and the id would otherwise match the named endpoints.
+        register("/mappings/detailed/{id}", mappings, (variables, query) -> List.of(CacheScopes.all(CacheScopes.VERSIONED_MAPPABLE)));
+        register("/mappings/{id}", mappings, (variables, query) -> List.of());
+    }
+
+    @Override
+    public Mono<Void> filter(final ServerWebExchange exchange, final WebFilterChain chain) {
+        final ServerHttpRequest request = exchange.getRequest();
+        if (!CONDITIONAL_REQUESTS_ENABLED || (request.getMethod() != HttpMethod.GET && request.getMethod() != HttpMethod.HEAD))
+            return chain.filter(exchange);
+
+        final List<String> scopes;
+        Policy matchingPolicy = null;
+        PathPattern.PathMatchInfo matchInfo = null;
+        for (final Policy policy : policies) {
+            matchInfo = policy.pattern.matchAndExtract(request.getPath().pathWithinApplication());
+            if (matchInfo != null) {
+                matchingPolicy = policy;
+                break;
+            }
+        }
+
+        final String referenceDataFingerprint = referenceDataRegistry.getFingerprint();
+        if (matchingPolicy == null || referenceDataFingerprint == null)
+            return chain.filter(exchange);
+
+        try {
+            scopes = matchingPolicy.scopes.apply(matchInfo.getUriVariables(), request.getQueryParams());
+        } catch (IllegalArgumentException e) {
+            //Malformed parameters, the controller will reject the request.
+            return chain.filter(exchange);
+        }
+
+        final Policy policy = matchingPolicy;
+        return cacheGenerations.get(scopes)
+                .map(generations -> Optional.of(createETag(request, scopes, generations, referenceDataFingerprint)))
+                .onErrorResume(throwable -> {
+                    logger.warn("Failed to look up the cache generations for a conditional request, skipping it.", throwable);
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(eTag -> {
+                    if (eTag.isEmpty())
+                        return chain.filter(exchange);
+
+                    final ServerHttpResponse response = exchange.getResponse();
+                    if (exchange.checkNotModified(eTag.get())) {
+                        response.getHeaders().setCacheControl(policy.cacheControl);
+                        return response.setComplete();
+                    }
+
+                    response.beforeCommit(() -> {
+                        final HttpStatus status = response.getStatusCode();
+                        if (status == null || status.is2xxSuccessful()) {
+                            response.getHeaders().setETag(eTag.get());
+                            response.getHeaders().setCacheControl(policy.cacheControl);
+                        } else {
+                            response.getHeaders().remove(HttpHeaders.ETAG);
+                        }
+                        return Mono.empty();
+                    });
+                    return chain.filter(exchange);
+                });
+    }
+
+    private void register(final String path, final CacheControl cacheControl, final BiFunction<Map<String, String>, MultiValueMap<String, String>, List<String>> scopes) {
+        policies.add(new Policy(parser.parse(path), cacheControl, scopes));
+    }
+
+    private static List<String> getMappingScopes(final UUID mappingTypeId, final UUID releaseId) {
+        final List<String> scopes = new ArrayList<>();
+        scopes.add(mappingTypeId == null ? CacheScopes.all(CacheScopes.MAPPING) : CacheScopes.forMappingType(CacheScopes.MAPPING, mappingTypeId));
+        if (releaseId != null)
+            scopes.add(CacheScopes.forRelease(CacheScopes.MAPPING, releaseId));
+        return scopes;
+    }
+
+    private static UUID getUUID(final MultiValueMap<String, String> query, final String name) {
+        final String value = query.getFirst(name);
+        return value == null || value.isEmpty() ? null : UUID.fromString(value);
+    }
+
+    /**
+     * Creates a weak entity tag, the same content could be serialized differently by different versions of the api.
+     */
+    private static String createETag(final ServerHttpRequest request, final List<String> scopes, final List<String> generations, final String referenceDataFingerprint) {
+        final StringBuilder content = new StringBuilder(request.getPath().pathWithinApplication().value());
+        new TreeMap<>(request.getQueryParams()).forEach((name, values) -> content.append('|').append(name).append('=').append(values));
+        for (int i = 0; i < scopes.size(); i++) {
+            content.append('|').append(scopes.get(i)).append('@').append(generations.get(i));
+        }
+        content.append('|').append(referenceDataFingerprint);
+
+        return "W/\"" + DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static final class Policy {
+
+        private final PathPattern pattern;
+        private final CacheControl cacheControl;
+        private final BiFunction<Map<String, String>, MultiValueMap<String, String>, List<String>> scopes;
+
+        private Policy(final PathPattern pattern, final CacheControl cacheControl, final BiFunction<Map<String, String>, MultiValueMap<String, String>, List<String>> scopes) {
+            this.pattern = pattern;
+            this.cacheControl = cacheControl;
+            this.scopes = scopes;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.modmappings.mmms.api.util;
+
+import org.modmappings.mmms.api.model.mapping.mappings.BatchLookupDTO;
+import org.modmappings.mmms.api.services.utils.exceptions.InvalidBatchLookupException;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+public final class BatchLookups {
+
+    private BatchLookups() {
+        throw new IllegalStateException("Can not instantiate an instance of: BatchLookups. This is a utility class");
+    }
+
+    /**
+     * Validates that the given lookup either names ids, or inputs together with a mapping type and game version,
+     * and that it does not look up more then the given amount of entries.
+     *
+     * @param lookup  The lookup to validate.
+     * @param maxSize The maximal amount of ids or inputs in a single lookup.
+     * @return A {@link Mono} with the lookup, or an errored {@link Mono} when it is invalid.
+     */
+    public static Mono<BatchLookupDTO> validate(final BatchLookupDTO lookup, final int maxSize) {
+        final boolean hasIds = lookup.getIds() != null && !lookup.getIds().isEmpty();
+        final boolean hasInputs = lookup.getInputs() != null && !lookup.getInputs().isEmpty();
+
+        if (hasIds == hasInputs)
+            return Mono.error(new InvalidBatchLookupException("Either ids or inputs need to be specified."));
+
+        if (hasInputs && (lookup.getMappingTypeId() == null || lookup.getGameVersionId() == null))
+            return Mono.error(new InvalidBatchLookupException("Inputs can only be looked up in a given mapping type and game version."));
+
+        final int size = hasIds ? lookup.getIds().size() : lookup.getInputs().size();
+        if (size > maxSize)
+            return Mono.error(new InvalidBatchLookupException(String.format("At most: %d entries can be looked up at once, got: %d.", maxSize, size)));
+
+        return Mono.just(lookup);
+    }
+
+    /**
+     * Orders the entries that were found by the order in which their keys were requested.
+     * Keys which were requested more then once are only included once, entries which share a key are kept together.
+     *
+     * @param requested The requested keys, in order.
+     * @param found     The entries which were found, in any order.
+     * @param keyOf     Extracts the key from an entry.
+     * @param <K>       The type of the keys.
+     * @param <V>       The type of the entries.
+     * @return The entries which were found, in the order of their keys.
+     */
+    public static <K, V> List<V> inRequestOrder(final Collection<K> requested, final Collection<V> found, final Function<V, K> keyOf) {
+        final Map<K, List<V>> byKey = new HashMap<>();
+        found.forEach(entry -> byKey.computeIfAbsent(keyOf.apply(entry), key -> new ArrayList<>()).add(entry));
+
+        final List<V> ordered = new ArrayList<>(found.size());
+        for (final K key : new LinkedHashSet<>(requested)) {
+            final List<V> entries = byKey.get(key);
+            if (entries != null)
+                ordered.addAll(entries);
+        }
+
+        return ordered;
+    }
+}
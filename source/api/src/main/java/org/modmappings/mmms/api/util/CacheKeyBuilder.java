@@ -1,5 +1,6 @@
 package org.modmappings.mmms.api.util;
 
+import org.modmappings.mmms.api.util.cache.CacheGenerations;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -16,6 +17,30 @@ public class CacheKeyBuilder {
         return this;
     }
 
+    /**
+     * Makes the key depend on the generation of the given scope, so that it is invalidated when the scope is bumped.
+     *
+     * @param scope The scope, see {@link org.modmappings.mmms.api.util.cache.CacheScopes}. Null to ignore.
+     * @return The builder.
+     */
+    public CacheKeyBuilder scope(final String scope) {
+        if (scope != null)
+            this.target.put(CacheGenerations.SCOPE_PREFIX + scope, null);
+        return this;
+    }
+
+    /**
+     * Makes the key depend on the given fingerprint of the reference data, so that a value which was computed while
+     * different mapping types were visible is never served.
+     * Reference data changes are made outside of the api, so they can not bump a scope.
+     *
+     * @param fingerprint The fingerprint, see {@link org.modmappings.mmms.api.services.core.ReferenceDataRegistry#getFingerprint()}.
+     * @return The builder.
+     */
+    public CacheKeyBuilder referenceData(final String fingerprint) {
+        return put("referenceData", fingerprint);
+    }
+
     public Map<String, String> build() {
         final Map<String, String> target = this.target;
         this.target = new HashMap<>();
@@ -15,23 +15,41 @@ public class CachedPageImpl<T> extends PageImpl<T> {
 
     private static final long serialVersionUID = 3248189030448292002L;
 
+    private final boolean totalExact;
+
     @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
     public CachedPageImpl(@JsonProperty("content") List<T> content, @JsonProperty("number") int number, @JsonProperty("size") int size,
                           @JsonProperty("totalElements") Long totalElements, @JsonProperty("pageable") JsonNode pageable, @JsonProperty("last") boolean last,
                           @JsonProperty("totalPages") int totalPages, @JsonProperty("sort") JsonNode sort, @JsonProperty("first") boolean first,
-                          @JsonProperty("numberOfElements") int numberOfElements, @JsonProperty("empty") boolean empty) {
+                          @JsonProperty("numberOfElements") int numberOfElements, @JsonProperty("empty") boolean empty,
+                          @JsonProperty("totalExact") Boolean totalExact) {
         super(content, PageRequest.of(number, size), totalElements);
+        this.totalExact = totalExact == null || totalExact;
     }
 
     public CachedPageImpl(List<T> content, Pageable pageable, long total) {
+        this(content, pageable, total, true);
+    }
+
+    public CachedPageImpl(List<T> content, Pageable pageable, long total, boolean totalExact) {
         super(content, pageable, total);
+        this.totalExact = totalExact;
     }
 
     public CachedPageImpl(List<T> content) {
         super(content);
+        this.totalExact = true;
     }
 
     public CachedPageImpl() {
         super(new ArrayList<T>());
+        this.totalExact = true;
+    }
+
+    /**
+     * @return True when the total amount of elements has been counted, false when it is an estimate.
+     */
+    public boolean isTotalExact() {
+        return totalExact;
     }
 }
@@ -7,4 +7,5 @@ public final class Constants {
     public static final String OFFICIAL_AUTH_DESC = "The official OpenID connect authentication server for ModMappings.";
     public static final String SCOPE_ROLES_NAME = "roles";
     public static final String SCOPE_ROLE_DESC = "Gets the roles the user is part of.";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
 }
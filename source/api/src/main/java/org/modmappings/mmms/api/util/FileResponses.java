@@ -0,0 +1,94 @@
+package org.modmappings.mmms.api.util;
+
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+
+public final class FileResponses {
+
+    private static final int READ_BUFFER_SIZE = 16384;
+
+    private FileResponses() {
+        throw new IllegalStateException("Can not instantiate an instance of: FileResponses. This is a utility class");
+    }
+
+    /**
+     * Writes the given, immutable, file as the body of the response.
+     * <p>
+     * Answers conditional requests against the given entity tag with a 304, and serves a single byte range with a 206.
+     * Requests for multiple ranges are answered with the entire file.
+     * The file is handed to the server as a file region when it supports zero copy transfers, so its content never
+     * passes through the application.
+     *
+     * @param exchange The exchange to write the response to. The content type and disposition are expected to be set.
+     * @param file     The file to write.
+     * @param length   The length of the file.
+     * @param eTag     The strong entity tag of the file, including its quotes.
+     * @return A {@link Mono} which completes once the response is written.
+     */
+    public static Mono<Void> write(final ServerWebExchange exchange, final Path file, final long length, final String eTag) {
+        final ServerHttpRequest request = exchange.getRequest();
+        final ServerHttpResponse response = exchange.getResponse();
+
+        response.getHeaders().setETag(eTag);
+        response.getHeaders().set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (exchange.checkNotModified(eTag))
+            return response.setComplete();
+
+        long start = 0;
+        long count = length;
+
+        final List<HttpRange> ranges = getRanges(request, eTag);
+        if (ranges.size() == 1) {
+            final HttpRange range = ranges.get(0);
+            start = range.getRangeStart(length);
+            if (length == 0 || start >= length) {
+                response.setStatusCode(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.getHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return response.setComplete();
+            }
+
+            final long end = range.getRangeEnd(length);
+            count = end - start + 1;
+
+            response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+            response.getHeaders().set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+
+        response.getHeaders().setContentLength(count);
+
+        if (response instanceof ZeroCopyHttpOutputMessage)
+            return ((ZeroCopyHttpOutputMessage) response).writeWith(file, start, count);
+
+        return response.writeWith(DataBufferUtils.takeUntilByteCount(
+                DataBufferUtils.skipUntilByteCount(DataBufferUtils.read(file, response.bufferFactory(), READ_BUFFER_SIZE), start),
+                count
+        ));
+    }
+
+    /**
+     * Determines the ranges that were requested, ignoring them when they can not be parsed,
+     * or when they were requested for a different version of the file.
+     */
+    private static List<HttpRange> getRanges(final ServerHttpRequest request, final String eTag) {
+        final String ifRange = request.getHeaders().getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(eTag))
+            return Collections.emptyList();
+
+        try {
+            return request.getHeaders().getRange();
+        } catch (IllegalArgumentException e) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.modmappings.mmms.api.util;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes text through a single gzip stream directly into {@link DataBuffer}s.
+ * <p>
+ * The compressed bytes are collected in the current buffer, until it is handed out by {@link #drain()}.
+ * As such the memory used by this writer only depends on the amount of text written between two drains,
+ * not on the total amount of text written.
+ * <p>
+ * This writer is not thread safe, and is expected to be used by a single sequential stream.
+ */
+public class GzipDataBufferWriter implements AutoCloseable {
+
+    private final DataBufferFactory bufferFactory;
+    private final int initialBufferSize;
+    private final Writer writer;
+    private DataBuffer current;
+    private boolean finished;
+
+    public GzipDataBufferWriter(final DataBufferFactory bufferFactory, final int initialBufferSize) {
+        this.bufferFactory = bufferFactory;
+        this.initialBufferSize = initialBufferSize;
+        this.current = bufferFactory.allocateBuffer(initialBufferSize);
+
+        try {
+            this.writer = new OutputStreamWriter(new GZIPOutputStream(new CurrentBufferOutputStream(), initialBufferSize), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            DataBufferUtils.release(this.current);
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes the given text into the gzip stream.
+     *
+     * @param text The text to write.
+     * @return This writer.
+     */
+    public GzipDataBufferWriter write(final String text) {
+        try {
+            writer.write(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return this;
+    }
+
+    /**
+     * Hands out the compressed bytes written so far.
+     * The deflater is not forced to flush, so the returned buffer might be empty if not enough text was written yet.
+     *
+     * @return The buffer with the compressed bytes, ownership passes to the caller.
+     */
+    public DataBuffer drain() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final DataBuffer drained = current;
+        current = bufferFactory.allocateBuffer(initialBufferSize);
+        return drained;
+    }
+
+    /**
+     * Completes the gzip stream and hands out the remaining compressed bytes, including the gzip trailer.
+     *
+     * @return The buffer with the remaining compressed bytes, ownership passes to the caller.
+     */
+    public DataBuffer finish() {
+        try {
+            finished = true;
+            writer.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final DataBuffer drained = current;
+        current = null;
+        return drained;
+    }
+
+    /**
+     * Releases the deflater and the buffer that has not been handed out yet.
+     * Call this once the stream completes, errors or is cancelled.
+     */
+    @Override
+    public void close() {
+        if (!finished) {
+            finished = true;
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+                //The content is discarded anyway.
+            }
+        }
+
+        release(current);
+        current = null;
+    }
+
+    private static void release(@Nullable final DataBuffer buffer) {
+        if (buffer != null)
+            DataBufferUtils.release(buffer);
+    }
+
+    private final class CurrentBufferOutputStream extends OutputStream {
+
+        @Override
+        public void write(final int b) {
+            current.write((byte) b);
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) {
+            current.write(bytes, offset, length);
+        }
+    }
+}
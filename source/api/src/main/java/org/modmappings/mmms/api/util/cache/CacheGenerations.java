@@ -0,0 +1,105 @@
+package org.modmappings.mmms.api.util.cache;
+
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a generation counter in redis for every invalidation scope (see {@link CacheScopes}).
+ * <p>
+ * Page cache keys name the scopes they depend on. Before such a key is used, the current generations of its scopes
+ * are looked up and mixed into the key. A write bumps the generations of the scopes it touches, after which the
+ * old pages can no longer be reached and simply expire. No scans or deletes are needed.
+ * <p>
+ * The generations are recorded in the key map itself the first time it is used, so a value that was loaded after a
+ * miss is stored under the generations it was read under, even when a write bumped them in the meantime.
+ */
+@Component
+public class CacheGenerations {
+
+    /**
+     * The prefix of the entries in a cache key which name a scope.
+     */
+    public static final String SCOPE_PREFIX = "@generation:";
+
+    private static final String KEY_PREFIX = "mmms:cache:generation:";
+
+    private static final RedisScript<Long> BUMP_SCRIPT = new DefaultRedisScript<>(
+            "for _, key in ipairs(KEYS) do redis.call('incr', key) end return #KEYS",
+            Long.class
+    );
+
+    private final ReactiveStringRedisTemplate template;
+
+    public CacheGenerations(final ReactiveRedisConnectionFactory connectionFactory) {
+        this.template = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Mixes the current generations of the scopes named in the given key into the key.
+     * Keys without scopes, or whose generations are already recorded, are returned as is.
+     *
+     * @param key The key.
+     * @return A {@link Mono} with the key, which now contains the generations of its scopes.
+     */
+    Mono<Map<String, String>> stamp(final Map<String, String> key) {
+        final List<String> scopes = key.entrySet().stream()
+                .filter(entry -> entry.getKey().startsWith(SCOPE_PREFIX) && entry.getValue() == null)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+
+        if (scopes.isEmpty())
+            return Mono.just(key);
+
+        return template.opsForValue().multiGet(scopes.stream()
+                .map(scope -> KEY_PREFIX + scope.substring(SCOPE_PREFIX.length()))
+                .collect(Collectors.toList()))
+                .map(generations -> {
+                    for (int i = 0; i < scopes.size(); i++) {
+                        final String generation = generations.get(i);
+                        key.put(scopes.get(i), generation == null ? "0" : generation);
+                    }
+                    return key;
+                });
+    }
+
+    /**
+     * Looks up the current generations of the given scopes.
+     * Scopes which were never bumped are at generation zero.
+     *
+     * @param scopes The scopes to look up.
+     * @return A {@link Mono} with the generations, in the order of the given scopes.
+     */
+    public Mono<List<String>> get(final List<String> scopes) {
+        if (scopes.isEmpty())
+            return Mono.just(List.of());
+
+        return template.opsForValue().multiGet(scopes.stream()
+                .map(scope -> KEY_PREFIX + scope)
+                .collect(Collectors.toList()))
+                .map(generations -> generations.stream()
+                        .map(generation -> generation == null ? "0" : generation)
+                        .collect(Collectors.toList()));
+    }
+
+    /**
+     * Atomically bumps the generations of the given scopes.
+     *
+     * @param scopes The scopes that are affected by a write.
+     * @return A {@link Mono} which completes once the generations are bumped.
+     */
+    public Mono<Void> bump(final String... scopes) {
+        return template.execute(BUMP_SCRIPT, Arrays.stream(scopes)
+                .map(scope -> KEY_PREFIX + scope)
+                .collect(Collectors.toList()), List.of())
+                .then();
+    }
+}
@@ -0,0 +1,119 @@
+package org.modmappings.mmms.api.util.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Distributes the invalidations of on heap cache entries between all nodes, using redis pub/sub.
+ * <p>
+ * Each message names the node that sent it, the region of the cache and the identifiers of one or more keys.
+ * Nodes ignore their own messages, since they already invalidated the key locally.
+ * Delivery is best effort: a lost message is covered by the maximal lifetime of on heap entries.
+ */
+@Component
+public class CacheInvalidationBus {
+
+    /**
+     * The identifier which invalidates all keys of a region. Can not collide with a hashed key.
+     */
+    static final String ALL = "*";
+
+    private static final String CHANNEL = "mmms:cache:invalidations";
+    private static final String SEPARATOR = "\n";
+
+    private final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReactiveStringRedisTemplate template;
+    private final Map<String, TwoTierCache<?>> caches = new ConcurrentHashMap<>();
+
+    private Disposable subscription;
+
+    public CacheInvalidationBus(final ReactiveRedisConnectionFactory connectionFactory) {
+        this.template = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    @PostConstruct
+    public void start() {
+        this.subscription = template.listenToChannel(CHANNEL)
+                .doOnNext(message -> onMessage(message.getMessage()))
+                .retryBackoff(Long.MAX_VALUE, Duration.ofSeconds(1), Duration.ofMinutes(1))
+                .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (this.subscription != null)
+            this.subscription.dispose();
+    }
+
+    void register(final TwoTierCache<?> cache) {
+        if (caches.putIfAbsent(cache.getRegion(), cache) != null)
+            throw new IllegalStateException(String.format("A cache with region: %s is already registered.", cache.getRegion()));
+    }
+
+    /**
+     * Gets all registered caches, ordered by region.
+     *
+     * @return The caches.
+     */
+    public List<TwoTierCache<?>> getCaches() {
+        return caches.values().stream()
+                .sorted(Comparator.comparing(TwoTierCache::getRegion))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the cache of the given region.
+     *
+     * @param region The region.
+     * @return The cache, or an empty optional when no cache is registered for the region.
+     */
+    public Optional<TwoTierCache<?>> getCache(final String region) {
+        return Optional.ofNullable(caches.get(region));
+    }
+
+    Mono<Void> publish(final String region, final String id) {
+        return publish(region, List.of(id));
+    }
+
+    Mono<Void> publish(final String region, final Collection<String> ids) {
+        if (ids.isEmpty())
+            return Mono.empty();
+
+        return template.convertAndSend(CHANNEL, nodeId + SEPARATOR + region + SEPARATOR + String.join(SEPARATOR, ids))
+                .doOnError(e -> logger.warn(String.format("Failed to publish the invalidation of: %d keys in cache region: %s", ids.size(), region), e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private void onMessage(final String message) {
+        final String[] parts = message.split(SEPARATOR, 3);
+        if (parts.length != 3 || parts[0].equals(nodeId))
+            return;
+
+        final TwoTierCache<?> cache = caches.get(parts[1]);
+        if (cache != null) {
+            for (final String id : parts[2].split(SEPARATOR)) {
+                cache.invalidateLocal(id);
+            }
+        }
+    }
+}
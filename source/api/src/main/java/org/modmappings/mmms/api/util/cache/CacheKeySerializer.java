@@ -0,0 +1,34 @@
+package org.modmappings.mmms.api.util.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Serializes cache keys into namespaced, versioned and hashed redis keys.
+ * <p>
+ * The hash can not be reversed, so keys can not be deserialized. The caches never read keys back from redis.
+ */
+public class CacheKeySerializer implements RedisSerializer<Map<String, String>> {
+
+    private final String namespace;
+
+    public CacheKeySerializer(final String namespace) {
+        this.namespace = namespace;
+    }
+
+    @Override
+    public byte[] serialize(final Map<String, String> key) throws SerializationException {
+        if (key == null)
+            return null;
+
+        return CacheKeys.toRedisKey(namespace, key).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Map<String, String> deserialize(final byte[] bytes) throws SerializationException {
+        throw new SerializationException("Cache keys are hashed and can not be deserialized.");
+    }
+}
@@ -0,0 +1,85 @@
+package org.modmappings.mmms.api.util.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Encodes the keys build by the {@link org.modmappings.mmms.api.util.CacheKeyBuilder} into short, fixed length identifiers.
+ * <p>
+ * The parameters of a key are sorted by name and length prefixed, so that two keys with the same parameters always
+ * produce the same identifier, independent of the order in which the parameters were added, and that no two different
+ * keys produce the same canonical form. The canonical form is then hashed, which keeps long regular expressions and
+ * pageable descriptions out of redis.
+ */
+public final class CacheKeys {
+
+    /**
+     * The version of the key format. Needs to be increased whenever the key or value format changes,
+     * so that entries written in an old format are never read.
+     */
+    public static final int FORMAT_VERSION = 2;
+
+    private static final String PREFIX = "mmms";
+
+    private CacheKeys() {
+        throw new IllegalStateException("Tried to initialize: CacheKeys but this is a Utility class.");
+    }
+
+    /**
+     * Creates the canonical form of the given key.
+     *
+     * @param key The key.
+     * @return The canonical form.
+     */
+    public static String canonicalize(final Map<String, String> key) {
+        final StringBuilder builder = new StringBuilder();
+        new TreeMap<>(key).forEach((name, value) -> {
+            builder.append(name.length()).append(':').append(name);
+            if (value == null)
+                builder.append('-');
+            else
+                builder.append(value.length()).append(':').append(value);
+        });
+        return builder.toString();
+    }
+
+    /**
+     * Creates a fixed length identifier for the given key.
+     *
+     * @param key The key.
+     * @return The url safe base64 encoded SHA-256 hash of the canonical form of the key.
+     */
+    public static String hash(final Map<String, String> key) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(canonicalize(key).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM.", e);
+        }
+    }
+
+    /**
+     * Creates the redis key for the given key in the given namespace.
+     *
+     * @param namespace The namespace, generally the region of the cache.
+     * @param key       The key.
+     * @return The namespaced and versioned redis key.
+     */
+    public static String toRedisKey(final String namespace, final Map<String, String> key) {
+        return toRedisKeyPrefix(namespace) + hash(key);
+    }
+
+    /**
+     * Creates the prefix that all redis keys of the given namespace start with.
+     *
+     * @param namespace The namespace, generally the region of the cache.
+     * @return The prefix.
+     */
+    public static String toRedisKeyPrefix(final String namespace) {
+        return PREFIX + ":" + namespace + ":v" + FORMAT_VERSION + ":";
+    }
+}
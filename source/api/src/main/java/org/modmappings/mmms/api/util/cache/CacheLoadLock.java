@@ -0,0 +1,97 @@
+package org.modmappings.mmms.api.util.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+/**
+ * A lock in redis, which makes sure that only a single node loads a missing cache entry at a time.
+ * <p>
+ * The lock is optional, since it costs an extra round trip to redis for every miss. When it is disabled, each node
+ * still only loads a missing key once, but different nodes may load the same key concurrently.
+ * A lock expires on its own, so a node that dies during a load does not block other nodes.
+ */
+@Component
+public class CacheLoadLock {
+
+    private static final String KEY_PREFIX = "mmms:cache:lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    @Value("${caching.load-lock.enabled:false}")
+    private boolean ENABLED;
+
+    @Value("${caching.load-lock.timeout:10}")
+    private int TIMEOUT;
+
+    @Value("${caching.load-lock.poll-interval-ms:50}")
+    private int POLL_INTERVAL;
+
+    private final Logger logger = LoggerFactory.getLogger(CacheLoadLock.class);
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ReactiveStringRedisTemplate template;
+
+    public CacheLoadLock(final ReactiveRedisConnectionFactory connectionFactory) {
+        this.template = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    public boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * The time a node waits for another node to load a value, after which it loads the value itself.
+     */
+    public Duration getTimeout() {
+        return Duration.ofSeconds(TIMEOUT);
+    }
+
+    /**
+     * The time between two lookups in the cache, while another node loads a value.
+     */
+    public Duration getPollInterval() {
+        return Duration.ofMillis(POLL_INTERVAL);
+    }
+
+    /**
+     * Tries to acquire the lock for the given key.
+     * When redis can not be reached the lock is considered acquired, so that a failing redis does not block loads.
+     *
+     * @param region The region of the cache.
+     * @param id     The identifier of the key.
+     * @return A {@link Mono} which indicates if the lock was acquired.
+     */
+    Mono<Boolean> tryAcquire(final String region, final String id) {
+        return template.opsForValue().setIfAbsent(KEY_PREFIX + region + ":" + id, nodeId, getTimeout())
+                .doOnError(e -> logger.warn(String.format("Failed to acquire the load lock of: %s in cache region: %s", id, region), e))
+                .onErrorReturn(true);
+    }
+
+    /**
+     * Releases the lock for the given key, if it is still held by this node.
+     *
+     * @param region The region of the cache.
+     * @param id     The identifier of the key.
+     * @return A {@link Mono} which completes when the lock is released.
+     */
+    Mono<Void> release(final String region, final String id) {
+        return template.execute(RELEASE_SCRIPT, Collections.singletonList(KEY_PREFIX + region + ":" + id), Collections.singletonList(nodeId))
+                .doOnError(e -> logger.warn(String.format("Failed to release the load lock of: %s in cache region: %s", id, region), e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+}
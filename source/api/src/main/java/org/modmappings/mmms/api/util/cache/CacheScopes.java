@@ -0,0 +1,56 @@
+package org.modmappings.mmms.api.util.cache;
+
+import java.util.UUID;
+
+/**
+ * Names the invalidation scopes of the page caches.
+ * <p>
+ * A scope belongs to a domain, which is the kind of data that is written, and optionally narrows that domain down
+ * to a single game version, mapping type or release. A write bumps the generation of the whole domain, and of every
+ * narrower scope it touches. A page depends on the narrowest scope which still covers every write that can change it.
+ */
+public final class CacheScopes {
+
+    public static final String MAPPING = "mapping";
+    public static final String VERSIONED_MAPPABLE = "versioned-mappable";
+    public static final String RELEASE = "release";
+
+    private CacheScopes() {
+        throw new IllegalStateException("Tried to initialize: CacheScopes but this is a Utility class.");
+    }
+
+    /**
+     * @param domain The domain.
+     * @return The scope which covers every write in the domain.
+     */
+    public static String all(final String domain) {
+        return domain + ":all";
+    }
+
+    /**
+     * @param domain        The domain.
+     * @param gameVersionId The id of the game version.
+     * @return The scope which covers the writes in the domain for the given game version.
+     */
+    public static String forGameVersion(final String domain, final UUID gameVersionId) {
+        return domain + ":game-version:" + gameVersionId;
+    }
+
+    /**
+     * @param domain        The domain.
+     * @param mappingTypeId The id of the mapping type.
+     * @return The scope which covers the writes in the domain for the given mapping type.
+     */
+    public static String forMappingType(final String domain, final UUID mappingTypeId) {
+        return domain + ":mapping-type:" + mappingTypeId;
+    }
+
+    /**
+     * @param domain    The domain.
+     * @param releaseId The id of the release.
+     * @return The scope which covers the writes in the domain for the given release.
+     */
+    public static String forRelease(final String domain, final UUID releaseId) {
+        return domain + ":release:" + releaseId;
+    }
+}
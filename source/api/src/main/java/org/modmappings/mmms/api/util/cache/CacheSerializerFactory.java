@@ -0,0 +1,76 @@
+package org.modmappings.mmms.api.util.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Creates the serializers for the keys and values of the redis caches.
+ * <p>
+ * Values are stored as Smile, the binary form of JSON, so that the DTOs need no additional mapping.
+ */
+@Component
+public class CacheSerializerFactory {
+
+    @Value("${caching.compression-threshold:4096}")
+    private int COMPRESSION_THRESHOLD;
+
+    private final ObjectMapper objectMapper = new ObjectMapper(new SmileFactory());
+    private final MeterRegistry meterRegistry;
+
+    public CacheSerializerFactory(final MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Creates a serializer for the keys in the given namespace.
+     *
+     * @param namespace The namespace, generally the region of the cache.
+     * @return The serializer.
+     */
+    public RedisSerializer<Map<String, String>> keySerializer(final String namespace) {
+        return new CacheKeySerializer(namespace);
+    }
+
+    /**
+     * Creates a serializer for values of the given type.
+     *
+     * @param namespace The namespace, generally the region of the cache, under which the sizes of the values are recorded.
+     * @param type      The type of the values.
+     * @param <T>       The type of the values.
+     * @return The serializer.
+     */
+    public <T> RedisSerializer<T> valueSerializer(final String namespace, final JavaType type) {
+        return new CacheValueSerializer<>(objectMapper, type, COMPRESSION_THRESHOLD, sizeSummary(namespace, "plain"), sizeSummary(namespace, "deflated"));
+    }
+
+    /**
+     * Creates a serializer for values of the given type.
+     *
+     * @param namespace The namespace, generally the region of the cache, under which the sizes of the values are recorded.
+     * @param type      The type of the values.
+     * @param <T>       The type of the values.
+     * @return The serializer.
+     */
+    public <T> RedisSerializer<T> valueSerializer(final String namespace, final Class<T> type) {
+        return valueSerializer(namespace, TypeFactory.defaultInstance().constructType(type));
+    }
+
+    private DistributionSummary sizeSummary(final String namespace, final String format) {
+        return DistributionSummary.builder("mmms.cache.value.size")
+                .description("The size of the serialized values written to redis.")
+                .baseUnit("bytes")
+                .tag("region", namespace)
+                .tag("format", format)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,137 @@
+package org.modmappings.mmms.api.util.cache;
+
+import java.util.List;
+
+/**
+ * A snapshot of the statistics of a single {@link TwoTierCache}, as seen by this node.
+ */
+public class CacheStatistics {
+
+    private final String region;
+    private final long l1Size;
+    private final long l1Evictions;
+    private final long executedLoads;
+    private final long coalescedLoads;
+    private final long awaitedLoads;
+    private final long staleReads;
+    private final long refreshes;
+    private final long tombstoneWrites;
+    private final long errors;
+    private final List<Operation> operations;
+
+    CacheStatistics(final String region, final long l1Size, final long l1Evictions, final long executedLoads, final long coalescedLoads, final long awaitedLoads, final long staleReads, final long refreshes, final long tombstoneWrites, final long errors, final List<Operation> operations) {
+        this.region = region;
+        this.l1Size = l1Size;
+        this.l1Evictions = l1Evictions;
+        this.executedLoads = executedLoads;
+        this.coalescedLoads = coalescedLoads;
+        this.awaitedLoads = awaitedLoads;
+        this.staleReads = staleReads;
+        this.refreshes = refreshes;
+        this.tombstoneWrites = tombstoneWrites;
+        this.errors = errors;
+        this.operations = operations;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getL1Size() {
+        return l1Size;
+    }
+
+    public long getL1Evictions() {
+        return l1Evictions;
+    }
+
+    public long getExecutedLoads() {
+        return executedLoads;
+    }
+
+    public long getCoalescedLoads() {
+        return coalescedLoads;
+    }
+
+    public long getAwaitedLoads() {
+        return awaitedLoads;
+    }
+
+    public long getStaleReads() {
+        return staleReads;
+    }
+
+    public long getRefreshes() {
+        return refreshes;
+    }
+
+    public long getTombstoneWrites() {
+        return tombstoneWrites;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    public List<Operation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * The statistics of the lookups of a single operation, as named by the {@code ops} entry of the cache keys.
+     */
+    public static class Operation {
+
+        private final String name;
+        private final long l1Hits;
+        private final long l2Hits;
+        private final long tombstoneHits;
+        private final long misses;
+        private final long loads;
+        private final double meanLoadMillis;
+        private final double maxLoadMillis;
+
+        Operation(final String name, final long l1Hits, final long l2Hits, final long tombstoneHits, final long misses, final long loads, final double meanLoadMillis, final double maxLoadMillis) {
+            this.name = name;
+            this.l1Hits = l1Hits;
+            this.l2Hits = l2Hits;
+            this.tombstoneHits = tombstoneHits;
+            this.misses = misses;
+            this.loads = loads;
+            this.meanLoadMillis = meanLoadMillis;
+            this.maxLoadMillis = maxLoadMillis;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getL1Hits() {
+            return l1Hits;
+        }
+
+        public long getL2Hits() {
+            return l2Hits;
+        }
+
+        public long getTombstoneHits() {
+            return tombstoneHits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getLoads() {
+            return loads;
+        }
+
+        public double getMeanLoadMillis() {
+            return meanLoadMillis;
+        }
+
+        public double getMaxLoadMillis() {
+            return maxLoadMillis;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package org.modmappings.mmms.api.util.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Serializes cache values into a compact binary form.
+ * <p>
+ * Values are written with the given (binary) {@link ObjectMapper}. Values which are larger then the compression
+ * threshold are additionally deflated. The first byte of every entry indicates if the entry is compressed.
+ * <p>
+ * The size of every written entry is recorded, by format, so that the compression threshold can be tuned.
+ *
+ * @param <T> The type of the values.
+ */
+public class CacheValueSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    private final ObjectMapper objectMapper;
+    private final JavaType type;
+    private final int compressionThreshold;
+    private final DistributionSummary plainSizes;
+    private final DistributionSummary deflatedSizes;
+
+    public CacheValueSerializer(final ObjectMapper objectMapper, final JavaType type, final int compressionThreshold, final DistributionSummary plainSizes, final DistributionSummary deflatedSizes) {
+        this.objectMapper = objectMapper;
+        this.type = type;
+        this.compressionThreshold = compressionThreshold;
+        this.plainSizes = plainSizes;
+        this.deflatedSizes = deflatedSizes;
+    }
+
+    @Override
+    public byte[] serialize(final T value) throws SerializationException {
+        if (value == null)
+            return new byte[0];
+
+        try {
+            final byte[] data = objectMapper.writeValueAsBytes(value);
+            final ByteArrayOutputStream output = new ByteArrayOutputStream(data.length < compressionThreshold ? data.length + 1 : data.length / 2);
+            if (data.length < compressionThreshold) {
+                output.write(PLAIN);
+                output.write(data);
+                plainSizes.record(output.size());
+                return output.toByteArray();
+            }
+
+            output.write(DEFLATED);
+            final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DeflaterOutputStream deflaterOutput = new DeflaterOutputStream(output, deflater)) {
+                deflaterOutput.write(data);
+            } finally {
+                deflater.end();
+            }
+            deflatedSizes.record(output.size());
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not write cache value: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(final byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0)
+            return null;
+
+        try {
+            switch (bytes[0]) {
+                case PLAIN:
+                    return objectMapper.readValue(Arrays.copyOfRange(bytes, 1, bytes.length), type);
+                case DEFLATED:
+                    try (InputStream input = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+                        return objectMapper.readValue(input, type);
+                    }
+                default:
+                    throw new SerializationException("Unknown cache value format: " + bytes[0]);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Could not read cache value: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package org.modmappings.mmms.api.util.cache;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Defines a reactive cache which stores values under keys build by the {@link org.modmappings.mmms.api.util.CacheKeyBuilder}.
+ * <p>
+ * Mirrors the part of the redis value operations that the services use, so that services do not need to know
+ * which tiers sit behind a cache.
+ *
+ * @param <V> The type of the cached values.
+ */
+public interface ReactiveCache<V> {
+
+    /**
+     * Gets the value stored under the given key.
+     *
+     * @param key The key to look up.
+     * @return A {@link Mono} with the value, or an empty {@link Mono} when the key is not cached.
+     */
+    Mono<V> get(Map<String, String> key);
+
+    /**
+     * Gets the value stored under the given key, and keeps it fresh using the given refresher.
+     * <p>
+     * A value which outlived its lifetime, but which is still within the stale window of the cache, is returned
+     * immediately while the refresher runs in the background. Values that are read often are refreshed before they go stale.
+     *
+     * @param key       The key to look up.
+     * @param refresher The {@link Mono} which computes, and caches, a fresh value.
+     * @return A {@link Mono} with the value, or an empty {@link Mono} when the key is not cached.
+     */
+    Mono<V> get(Map<String, String> key, Mono<V> refresher);
+
+    /**
+     * Gets the values stored under the given keys, and loads the values of all keys which are not cached at once.
+     * <p>
+     * The loader is given the positions of the keys which are not cached, and produces their values in the same order,
+     * with an empty {@link Optional} for every key that has no value. The loaded values are stored with the given lifetime.
+     * Implementations should look the keys up, and store the loaded values, in as few round trips as possible,
+     * this default looks up and stores every key on its own.
+     *
+     * @param keys    The keys to look up.
+     * @param loader  The function which loads the values of the keys at the given positions.
+     * @param timeout The lifetime of the loaded values.
+     * @return A {@link Mono} with a list of the same size and order as the keys, which holds an empty {@link Optional} for every key without a value.
+     */
+    default Mono<List<Optional<V>>> getAll(final List<Map<String, String>> keys, final Function<List<Integer>, Mono<List<Optional<V>>>> loader, final Duration timeout) {
+        return Flux.fromIterable(keys)
+                .concatMap(key -> get(key).map(Optional::of).defaultIfEmpty(Optional.empty()))
+                .collectList()
+                .flatMap(values -> {
+                    final List<Integer> misses = IntStream.range(0, values.size())
+                            .filter(index -> values.get(index).isEmpty())
+                            .boxed()
+                            .collect(Collectors.toList());
+
+                    if (misses.isEmpty())
+                        return Mono.just(values);
+
+                    return loader.apply(misses)
+                            .flatMap(loaded -> Flux.range(0, misses.size())
+                                    .concatMap(index -> loaded.get(index)
+                                            .map(value -> set(keys.get(misses.get(index)), value, timeout))
+                                            .orElseGet(() -> Mono.just(false)))
+                                    .then(Mono.fromSupplier(() -> {
+                                        for (int i = 0; i < misses.size(); i++) {
+                                            values.set(misses.get(i), loaded.get(i));
+                                        }
+                                        return values;
+                                    })));
+                });
+    }
+
+    /**
+     * Stores the given value under the given key.
+     *
+     * @param key     The key to store the value under.
+     * @param value   The value to store.
+     * @param timeout The lifetime of the value.
+     * @return A {@link Mono} which indicates if the value was stored.
+     */
+    Mono<Boolean> set(Map<String, String> key, V value, Duration timeout);
+
+    /**
+     * Removes the value stored under the given key.
+     *
+     * @param key The key to remove.
+     * @return A {@link Mono} which indicates if a value was removed.
+     */
+    Mono<Boolean> delete(Map<String, String> key);
+
+    /**
+     * Loads the value for a key which was not found in the cache.
+     * <p>
+     * Concurrent loads of the same key share a single subscription to the first loader, so that a popular key
+     * which expires is only recomputed once. The loader is responsible for storing the value in the cache.
+     *
+     * @param key    The key which is loaded.
+     * @param loader The {@link Mono} which computes, and caches, the value.
+     * @return A {@link Mono} with the loaded value, or an empty {@link Mono} when the loader produced no value.
+     */
+    Mono<V> load(Map<String, String> key, Mono<V> loader);
+
+    /**
+     * Loads the value for a key which was not found in the cache, creating the loader only once the load is subscribed to.
+     * <p>
+     * Lookups are generally written as {@code get(key).switchIfEmpty(load(key, loader))}, which assembles the loader even
+     * when the value is found in the cache. With this variant a cache hit never builds the query of the loader.
+     *
+     * @param key    The key which is loaded.
+     * @param loader The supplier of the {@link Mono} which computes, and caches, the value.
+     * @return A {@link Mono} with the loaded value, or an empty {@link Mono} when the loader produced no value.
+     */
+    default Mono<V> load(final Map<String, String> key, final Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> load(key, loader.get()));
+    }
+}
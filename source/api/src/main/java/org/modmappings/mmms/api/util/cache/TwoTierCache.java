@@ -0,0 +1,777 @@
+package org.modmappings.mmms.api.util.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A {@link ReactiveCache} which keeps the hottest values on heap (L1), in front of redis (L2).
+ * <p>
+ * The L1 is bounded in size, and evicts using W-TinyLFU, which keeps values that are requested often even when a burst
+ * of values that are requested only once passes through. Values in the L1 expire after the lifetime they are stored with,
+ * but never later then the maximal L1 lifetime, which bounds how long a node can serve a value that changed in redis
+ * without the node being told.
+ * <p>
+ * Writes and deletes are published on the {@link CacheInvalidationBus}, so that other nodes drop their L1 copy of the key.
+ * <p>
+ * Loads of missing keys are coalesced: concurrent loads of the same key on this node share one in-flight load, and when the
+ * {@link CacheLoadLock} is enabled, only one node at a time loads a key while the others wait for it to show up in redis.
+ * <p>
+ * Keys which name invalidation scopes are stamped with the current generations of those scopes by {@link CacheGenerations}
+ * before they are used.
+ * <p>
+ * When a stale window is configured, values stay in redis for that window after their lifetime ends. Reads which pass
+ * a refresher get such a stale value immediately, while a single background refresh is started. Values that were read
+ * at least the configured amount of times from the L1 are refreshed ahead, once they enter the stale window before
+ * their lifetime ends, so that hot values never go stale at all.
+ * <p>
+ * When a load finds no value, a tombstone is stored next to the key for the negative lifetime, so that repeated lookups
+ * of missing keys are answered from the cache. The tombstone is read together with the value, also by batch lookups,
+ * and is removed when a value is stored or the key is deleted. Tombstones of scoped keys also become unreachable when their generations are bumped.
+ * <p>
+ * Lookups and loads are measured per operation, as named by the {@code ops} entry of the key, so that the lifetimes and
+ * capacities of the regions can be tuned per kind of request.
+ *
+ * @param <V> The type of the cached values.
+ */
+public class TwoTierCache<V> implements ReactiveCache<V> {
+
+    /**
+     * Marks entries which never go stale, because the cache has no stale window.
+     */
+    private static final long NEVER_STALE = Long.MAX_VALUE;
+
+    /**
+     * The entry of a cache key which names the operation that the key is used by.
+     */
+    private static final String OPERATION_KEY = "ops";
+    private static final String UNNAMED_OPERATION = "unnamed";
+
+    /**
+     * The amount of keys that are deleted from redis at once when a region is flushed.
+     */
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    /**
+     * The amount of stripes the keys are spread over to track their invalidations, must be a power of two.
+     */
+    private static final int INVALIDATION_STRIPES = 1024;
+
+    /**
+     * Stores the values of a batch load, and tombstones for its keys without a value, in a single round trip.
+     * ARGV holds the lifetime of the values and of the tombstones in milliseconds, the content of the tombstones,
+     * and then the serialized value of every key, where an empty value stores a tombstone instead.
+     */
+    private static final RedisScript<Long> SET_ALL_SCRIPT = new DefaultRedisScript<>(
+            "local stored = 0 " +
+                    "for i, key in ipairs(KEYS) do " +
+                    "local value = ARGV[3 + i] " +
+                    "if value == '' then redis.call('set', key .. ':absent', ARGV[3], 'px', ARGV[2]) " +
+                    "else redis.call('set', key, value, 'px', ARGV[1]) redis.call('del', key .. ':absent') stored = stored + 1 end " +
+                    "end return stored",
+            Long.class
+    );
+    private static final RedisElementReader<Long> SET_ALL_RESULT_READER = buffer -> Long.valueOf(StandardCharsets.UTF_8.decode(buffer).toString());
+
+    private final Logger logger = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private final String region;
+    private final ReactiveRedisTemplate<Map<String, String>, V> template;
+    private final ReactiveValueOperations<Map<String, String>, V> l2;
+    private final ReactiveStringRedisTemplate tombstones;
+    private final Cache<String, Entry<V>> l1;
+    private final Duration maximalL1Lifetime;
+    private final Duration staleWindow;
+    private final int refreshAheadHits;
+    private final Duration negativeLifetime;
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheLoadLock loadLock;
+    private final CacheGenerations generations;
+    private final Map<String, Mono<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final Map<String, OperationMeters> operations = new ConcurrentHashMap<>();
+    private final Counter executedLoads;
+    private final Counter coalescedLoads;
+    private final Counter awaitedLoads;
+    private final Counter staleReads;
+    private final Counter refreshes;
+    private final Counter tombstoneHits;
+    private final Counter tombstoneWrites;
+    private final Counter getErrors;
+    private final Counter setErrors;
+    private final Counter deleteErrors;
+    private final Counter loadErrors;
+
+    /**
+     * Counts the local invalidations per stripe of keys, and of the whole region. A value read from redis is only put in
+     * the L1 when its key was not invalidated while it was read, so that a read racing with a write or delete of the same
+     * key can not put a stale value back, while reads of other keys still fill the L1.
+     */
+    private final AtomicLongArray invalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+    private final AtomicLong regionInvalidations = new AtomicLong();
+
+    TwoTierCache(final String region, final ReactiveRedisTemplate<Map<String, String>, V> template, final int l1Capacity, final Duration maximalL1Lifetime, final Duration staleWindow, final int refreshAheadHits, final Duration negativeLifetime, final ReactiveStringRedisTemplate tombstones, final CacheInvalidationBus invalidationBus, final CacheLoadLock loadLock, final CacheGenerations generations, final MeterRegistry meterRegistry) {
+        this.region = region;
+        this.template = template;
+        this.l2 = template.opsForValue();
+        this.maximalL1Lifetime = maximalL1Lifetime;
+        this.staleWindow = staleWindow;
+        this.refreshAheadHits = refreshAheadHits;
+        this.negativeLifetime = negativeLifetime;
+        this.tombstones = tombstones;
+        this.invalidationBus = invalidationBus;
+        this.loadLock = loadLock;
+        this.generations = generations;
+        this.meterRegistry = meterRegistry;
+        this.executedLoads = loadCounter(meterRegistry, region, "executed");
+        this.coalescedLoads = loadCounter(meterRegistry, region, "coalesced");
+        this.awaitedLoads = loadCounter(meterRegistry, region, "awaited");
+        this.staleReads = Counter.builder("mmms.cache.stale.reads")
+                .description("The amount of reads that were served a stale value.")
+                .tag("region", region)
+                .register(meterRegistry);
+        this.refreshes = Counter.builder("mmms.cache.refreshes")
+                .description("The amount of background refreshes of stale or hot values.")
+                .tag("region", region)
+                .register(meterRegistry);
+        this.tombstoneHits = Counter.builder("mmms.cache.tombstone.hits")
+                .description("The amount of lookups that were answered by a tombstone of a missing value.")
+                .tag("region", region)
+                .register(meterRegistry);
+        this.tombstoneWrites = Counter.builder("mmms.cache.tombstone.writes")
+                .description("The amount of tombstones stored for missing values.")
+                .tag("region", region)
+                .register(meterRegistry);
+        this.getErrors = errorCounter(meterRegistry, region, "get");
+        this.setErrors = errorCounter(meterRegistry, region, "set");
+        this.deleteErrors = errorCounter(meterRegistry, region, "delete");
+        this.loadErrors = errorCounter(meterRegistry, region, "load");
+        this.l1 = Caffeine.newBuilder()
+                .maximumSize(l1Capacity)
+                .recordStats()
+                .expireAfter(new Expiry<String, Entry<V>>() {
+                    @Override
+                    public long expireAfterCreate(final String key, final Entry<V> value, final long currentTime) {
+                        return value.lifetimeNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(final String key, final Entry<V> value, final long currentTime, final long currentDuration) {
+                        return value.lifetimeNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(final String key, final Entry<V> value, final long currentTime, final long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.l1, region, "tier", "l1");
+    }
+
+    @Override
+    public Mono<V> get(final Map<String, String> key) {
+        return get(key, null);
+    }
+
+    @Override
+    public Mono<V> get(final Map<String, String> key, final Mono<V> refresher) {
+        final OperationMeters meters = metersFor(key);
+        return generations.stamp(key).flatMap(stampedKey -> {
+            final String id = identify(stampedKey);
+            final Entry<V> entry = l1.getIfPresent(id);
+            if (entry != null)
+                return serve(stampedKey, id, entry, entry.hits.incrementAndGet(), refresher, meters, meters.l1Hits);
+
+            final long invalidationsAtRead = invalidationsOf(id);
+            return readL2(stampedKey)
+                    .switchIfEmpty(Mono.fromRunnable(meters.misses::increment))
+                    .doOnNext(read -> {
+                        if (invalidationsOf(id) == invalidationsAtRead)
+                            l1.put(id, read);
+                    })
+                    .flatMap(read -> serve(stampedKey, id, read, 0, refresher, meters, meters.l2Hits));
+        }).doOnError(e -> getErrors.increment());
+    }
+
+    /**
+     * Looks the keys up in the L1 first, and reads all keys missing from it, together with their tombstones, from redis
+     * with a single MGET. Keys with a tombstone are known to have no value and are not loaded.
+     * <p>
+     * The values of the remaining keys are loaded at once, and stored together with tombstones for the keys without a value
+     * in a single script call, after which the other nodes are told to drop their L1 copies with a single message.
+     * <p>
+     * A MGET does not carry the remaining lifetime of the values, so when the cache has a stale window values read from
+     * redis may be up to that window past their lifetime, and they are not put in the L1.
+     */
+    @Override
+    public Mono<List<Optional<V>>> getAll(final List<Map<String, String>> keys, final Function<List<Integer>, Mono<List<Optional<V>>>> loader, final Duration timeout) {
+        if (keys.isEmpty())
+            return Mono.just(Collections.emptyList());
+
+        return Flux.fromIterable(keys)
+                .concatMap(generations::stamp)
+                .collectList()
+                .flatMap(stampedKeys -> {
+                    final List<Optional<V>> values = new ArrayList<>(Collections.nCopies(stampedKeys.size(), Optional.empty()));
+                    final List<Integer> l1Misses = new ArrayList<>();
+                    for (int i = 0; i < stampedKeys.size(); i++) {
+                        final OperationMeters meters = metersFor(stampedKeys.get(i));
+                        final Entry<V> entry = l1.getIfPresent(identify(stampedKeys.get(i)));
+                        if (entry == null) {
+                            l1Misses.add(i);
+                        } else if (entry.isTombstone()) {
+                            tombstoneHits.increment();
+                            meters.tombstoneHits.increment();
+                        } else if (entry.staleAfterNanos == NEVER_STALE || entry.staleAfterNanos - System.nanoTime() > 0) {
+                            entry.hits.incrementAndGet();
+                            meters.l1Hits.increment();
+                            values.set(i, Optional.of(entry.value));
+                        } else {
+                            meters.misses.increment();
+                            l1Misses.add(i);
+                        }
+                    }
+
+                    if (l1Misses.isEmpty())
+                        return Mono.just(values);
+
+                    final long[] invalidationsAtRead = invalidationsOf(l1Misses.stream().map(index -> identify(stampedKeys.get(index))).collect(Collectors.toList()));
+                    return readAllL2(l1Misses.stream().map(stampedKeys::get).collect(Collectors.toList()))
+                            .flatMap(read -> {
+                                final List<Integer> misses = new ArrayList<>();
+                                for (int i = 0; i < l1Misses.size(); i++) {
+                                    final int index = l1Misses.get(i);
+                                    final Map<String, String> key = stampedKeys.get(index);
+                                    final String id = identify(key);
+                                    final OperationMeters meters = metersFor(key);
+                                    final Entry<V> entry = read.get(i);
+                                    if (entry == null) {
+                                        meters.misses.increment();
+                                        misses.add(index);
+                                    } else if (entry.isTombstone()) {
+                                        tombstoneHits.increment();
+                                        meters.tombstoneHits.increment();
+                                        if (invalidationsOf(id) == invalidationsAtRead[i])
+                                            l1.put(id, entry);
+                                    } else {
+                                        meters.l2Hits.increment();
+                                        values.set(index, Optional.of(entry.value));
+                                        if (staleWindow.isZero() && invalidationsOf(id) == invalidationsAtRead[i])
+                                            l1.put(id, entry);
+                                    }
+                                }
+
+                                if (misses.isEmpty())
+                                    return Mono.just(values);
+
+                                return loadAll(stampedKeys, misses, loader, timeout)
+                                        .map(loaded -> {
+                                            for (int i = 0; i < misses.size(); i++) {
+                                                values.set(misses.get(i), loaded.get(i));
+                                            }
+                                            return values;
+                                        });
+                            });
+                })
+                .doOnError(e -> getErrors.increment());
+    }
+
+    @Override
+    public Mono<Boolean> set(final Map<String, String> key, final V value, final Duration timeout) {
+        return generations.stamp(key).flatMap(stampedKey -> {
+            final String id = identify(stampedKey);
+            final Duration lifetime = timeout.plus(staleWindow);
+            return l2.set(stampedKey, value, lifetime)
+                    .flatMap(stored -> deleteTombstone(stampedKey).thenReturn(stored))
+                    .doOnNext(stored -> {
+                        invalidateLocal(id);
+                        if (stored)
+                            l1.put(id, new Entry<>(value, shortest(lifetime, maximalL1Lifetime), staleWindow.isZero() ? NEVER_STALE : System.nanoTime() + timeout.toNanos()));
+                    })
+                    .flatMap(stored -> invalidationBus.publish(region, id).thenReturn(stored));
+        }).doOnError(e -> setErrors.increment());
+    }
+
+    @Override
+    public Mono<Boolean> delete(final Map<String, String> key) {
+        return generations.stamp(key).flatMap(stampedKey -> {
+            final String id = identify(stampedKey);
+            return l2.delete(stampedKey)
+                    .flatMap(deleted -> deleteTombstone(stampedKey).thenReturn(deleted))
+                    .doOnNext(deleted -> invalidateLocal(id))
+                    .flatMap(deleted -> invalidationBus.publish(region, id).thenReturn(deleted));
+        }).doOnError(e -> deleteErrors.increment());
+    }
+
+    @Override
+    public Mono<V> load(final Map<String, String> key, final Mono<V> loader) {
+        final OperationMeters meters = metersFor(key);
+        return generations.stamp(key).flatMap(stampedKey -> {
+            final String id = identify(stampedKey);
+            final Entry<V> entry = l1.getIfPresent(id);
+            if (entry != null && entry.isTombstone()) //Already counted as a tombstone hit by the lookup that preceded this load.
+                return Mono.<V>empty();
+
+            final AtomicBoolean created = new AtomicBoolean();
+            final Mono<V> inFlight = inFlightLoads.computeIfAbsent(id, k -> {
+                created.set(true);
+                return loadOnce(stampedKey, id, loader, meters)
+                        .doFinally(signal -> inFlightLoads.remove(id))
+                        .cache();
+            });
+
+            if (created.get())
+                executedLoads.increment();
+            else
+                coalescedLoads.increment();
+
+            return inFlight;
+        }).doOnError(e -> loadErrors.increment());
+    }
+
+    /**
+     * Removes all entries of this region, from redis and from the L1 of all nodes.
+     * <p>
+     * The keys are found by scanning redis, so this is meant for administrative use only.
+     *
+     * @return A {@link Mono} with the amount of keys removed from redis.
+     */
+    public Mono<Long> flush() {
+        return tombstones.scan(ScanOptions.scanOptions().match(CacheKeys.toRedisKeyPrefix(region) + "*").count(FLUSH_BATCH_SIZE).build())
+                .buffer(FLUSH_BATCH_SIZE)
+                .concatMap(keys -> tombstones.delete(keys.toArray(new String[0])))
+                .reduce(0L, Long::sum)
+                .doOnNext(deleted -> invalidateLocal(CacheInvalidationBus.ALL))
+                .flatMap(deleted -> invalidationBus.publish(region, CacheInvalidationBus.ALL).thenReturn(deleted))
+                .doOnNext(deleted -> logger.info("Flushed: {} keys from cache region: {}", deleted, region));
+    }
+
+    /**
+     * Creates a snapshot of the statistics of this cache on this node.
+     *
+     * @return The statistics.
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(
+                region,
+                l1.estimatedSize(),
+                l1.stats().evictionCount(),
+                (long) executedLoads.count(),
+                (long) coalescedLoads.count(),
+                (long) awaitedLoads.count(),
+                (long) staleReads.count(),
+                (long) refreshes.count(),
+                (long) tombstoneWrites.count(),
+                (long) (getErrors.count() + setErrors.count() + deleteErrors.count() + loadErrors.count()),
+                operations.entrySet().stream()
+                        .sorted(Map.Entry.comparingByKey())
+                        .map(operation -> operation.getValue().toStatistics(operation.getKey()))
+                        .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Reads an entry from redis, which is either a value or a tombstone.
+     */
+    private Mono<Entry<V>> readL2(final Map<String, String> key) {
+        if (negativeLifetime.isZero())
+            return readValue(key);
+
+        return Mono.zip(readValue(key).map(Optional::of).defaultIfEmpty(Optional.empty()), tombstones.hasKey(tombstoneKey(key)))
+                .flatMap(valueAndTombstone -> valueAndTombstone.getT1()
+                        .map(Mono::just)
+                        .orElseGet(() -> valueAndTombstone.getT2() ? Mono.just(Entry.tombstone(shortest(negativeLifetime, maximalL1Lifetime))) : Mono.empty()));
+    }
+
+    /**
+     * Reads a value from redis. When the cache has a stale window, the remaining lifetime of the value is read
+     * alongside it, in the same round trip, to determine when the value goes stale.
+     */
+    private Mono<Entry<V>> readValue(final Map<String, String> key) {
+        if (staleWindow.isZero())
+            return l2.get(key).map(value -> new Entry<>(value, maximalL1Lifetime, NEVER_STALE));
+
+        return Mono.zip(l2.get(key), template.getExpire(key))
+                .map(valueAndLifetime -> {
+                    final Duration remainingLifetime = valueAndLifetime.getT2();
+                    if (remainingLifetime.isZero() || remainingLifetime.isNegative()) //Entries without an expiry never go stale.
+                        return new Entry<>(valueAndLifetime.getT1(), maximalL1Lifetime, NEVER_STALE);
+
+                    return new Entry<>(valueAndLifetime.getT1(), shortest(remainingLifetime, maximalL1Lifetime), System.nanoTime() + remainingLifetime.minus(staleWindow).toNanos());
+                });
+    }
+
+    /**
+     * Reads the entries of the given keys from redis with a single MGET, which also reads their tombstones.
+     *
+     * @return A {@link Mono} with a list of the same size and order as the keys, which holds null for every key that has neither.
+     */
+    private Mono<List<Entry<V>>> readAllL2(final List<Map<String, String>> keys) {
+        final boolean readTombstones = !negativeLifetime.isZero();
+        final List<ByteBuffer> redisKeys = new ArrayList<>(readTombstones ? keys.size() * 2 : keys.size());
+        keys.forEach(key -> redisKeys.add(template.getSerializationContext().getKeySerializationPair().write(key)));
+        if (readTombstones)
+            keys.forEach(key -> redisKeys.add(ByteBuffer.wrap(tombstoneKey(key).getBytes(StandardCharsets.UTF_8))));
+
+        return template.execute(connection -> connection.stringCommands().mGet(redisKeys))
+                .next()
+                .map(read -> {
+                    final List<Entry<V>> entries = new ArrayList<>(keys.size());
+                    for (int i = 0; i < keys.size(); i++) {
+                        final ByteBuffer value = read.get(i);
+                        if (value != null && value.hasRemaining())
+                            entries.add(new Entry<>(template.getSerializationContext().getValueSerializationPair().read(value), maximalL1Lifetime, NEVER_STALE));
+                        else if (readTombstones && read.get(keys.size() + i) != null && read.get(keys.size() + i).hasRemaining())
+                            entries.add(Entry.tombstone(shortest(negativeLifetime, maximalL1Lifetime)));
+                        else
+                            entries.add(null);
+                    }
+                    return entries;
+                });
+    }
+
+    /**
+     * Loads the values of the keys at the given positions, and stores them, and tombstones for the keys without a value,
+     * with a single script call. The other nodes are told to drop their L1 copies of the keys with a single message.
+     */
+    private Mono<List<Optional<V>>> loadAll(final List<Map<String, String>> keys, final List<Integer> misses, final Function<List<Integer>, Mono<List<Optional<V>>>> loader, final Duration timeout) {
+        return Mono.defer(() -> {
+            final List<String> ids = misses.stream().map(index -> identify(keys.get(index))).collect(Collectors.toList());
+            final long[] invalidationsAtLoad = invalidationsOf(ids);
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            return loader.apply(misses)
+                    .doFinally(signal -> sample.stop(metersFor(keys.get(misses.get(0))).loads))
+                    .flatMap(loaded -> {
+                        final Duration lifetime = timeout.plus(staleWindow);
+                        final List<Map<String, String>> storedKeys = new ArrayList<>(misses.size());
+                        final List<ByteBuffer> arguments = new ArrayList<>(misses.size() + 3);
+                        arguments.add(toArgument(Long.toString(lifetime.toMillis())));
+                        arguments.add(toArgument(Long.toString(negativeLifetime.toMillis())));
+                        arguments.add(toArgument(region));
+                        for (int i = 0; i < misses.size(); i++) {
+                            final Optional<V> value = loaded.get(i);
+                            if (value.isEmpty() && negativeLifetime.isZero())
+                                continue;
+
+                            storedKeys.add(keys.get(misses.get(i)));
+                            arguments.add(value.map(template.getSerializationContext().getValueSerializationPair()::write).orElseGet(() -> toArgument("")));
+                        }
+
+                        if (storedKeys.isEmpty())
+                            return Mono.just(loaded);
+
+                        return template.execute(SET_ALL_SCRIPT, storedKeys, arguments, (RedisElementWriter<ByteBuffer>) argument -> argument, SET_ALL_RESULT_READER)
+                                .then(Mono.fromRunnable(() -> {
+                                    executedLoads.increment();
+                                    //Checked for all keys first, the invalidations below may share a stripe with a later key.
+                                    final long[] invalidationsAfterLoad = invalidationsOf(ids);
+                                    for (int i = 0; i < misses.size(); i++) {
+                                        final String id = ids.get(i);
+                                        final Optional<V> value = loaded.get(i);
+                                        invalidateLocal(id);
+                                        if (value.isPresent()) {
+                                            l1.put(id, new Entry<>(value.get(), shortest(lifetime, maximalL1Lifetime), staleWindow.isZero() ? NEVER_STALE : System.nanoTime() + timeout.toNanos()));
+                                        } else if (!negativeLifetime.isZero()) {
+                                            tombstoneWrites.increment();
+                                            if (invalidationsAfterLoad[i] == invalidationsAtLoad[i])
+                                                l1.put(id, Entry.tombstone(shortest(negativeLifetime, maximalL1Lifetime)));
+                                        }
+                                    }
+                                }))
+                                .then(invalidationBus.publish(region, storedKeys.stream().map(TwoTierCache::identify).collect(Collectors.toList())))
+                                .doOnError(e -> setErrors.increment())
+                                .thenReturn(loaded);
+                    });
+        });
+    }
+
+    /**
+     * Serves a cached entry, and starts a background refresh when it is stale, or when it is hot and about to go stale.
+     * Stale entries are only served when a refresher is available, otherwise they are treated as missing.
+     */
+    private Mono<V> serve(final Map<String, String> key, final String id, final Entry<V> entry, final int hits, final Mono<V> refresher, final OperationMeters meters, final Counter tierHits) {
+        if (entry.isTombstone()) {
+            tombstoneHits.increment();
+            meters.tombstoneHits.increment();
+            return Mono.empty();
+        }
+
+        if (entry.staleAfterNanos == NEVER_STALE) {
+            tierHits.increment();
+            return Mono.just(entry.value);
+        }
+
+        final long remainingFreshNanos = entry.staleAfterNanos - System.nanoTime();
+        if (remainingFreshNanos <= 0) {
+            if (refresher == null) {
+                meters.misses.increment();
+                return Mono.empty();
+            }
+
+            staleReads.increment();
+            refresh(key, id, refresher);
+        } else if (refresher != null && refreshAheadHits > 0 && hits >= refreshAheadHits && remainingFreshNanos < staleWindow.toNanos()) {
+            refresh(key, id, refresher);
+        }
+
+        tierHits.increment();
+        return Mono.just(entry.value);
+    }
+
+    /**
+     * Starts a background refresh of the given key, unless a load of the key is already in flight.
+     */
+    private void refresh(final Map<String, String> key, final String id, final Mono<V> refresher) {
+        if (inFlightLoads.containsKey(id))
+            return;
+
+        refreshes.increment();
+        load(key, refresher)
+                .subscribe(
+                        value -> logger.debug("Refreshed cache entry: {} in region: {}", id, region),
+                        e -> logger.warn(String.format("Failed to refresh cache entry: %s in region: %s", id, region), e)
+                );
+    }
+
+    /**
+     * Runs the loader, and stores a tombstone when it finds no value.
+     */
+    private Mono<V> loadOnce(final Map<String, String> key, final String id, final Mono<V> loader, final OperationMeters meters) {
+        return Mono.defer(() -> {
+            final long invalidationsAtLoad = invalidationsOf(id);
+            final Timer.Sample sample = Timer.start(meterRegistry);
+            return loadOnceWithLock(key, id, loader)
+                    .doFinally(signal -> sample.stop(meters.loads))
+                    .switchIfEmpty(writeTombstone(key, id, invalidationsAtLoad).then(Mono.empty()))
+                    .flatMap(Mono::justOrEmpty);
+        });
+    }
+
+    /**
+     * Runs the loader, unless another node holds the load lock of the key, in which case the value, or the tombstone,
+     * that node stores in redis is used. When the other node takes too long, the loader is run anyway.
+     *
+     * @return A {@link Mono} with the value, an empty optional when the other node stored a tombstone, or nothing when the loader found no value.
+     */
+    private Mono<Optional<V>> loadOnceWithLock(final Map<String, String> key, final String id, final Mono<V> loader) {
+        if (!loadLock.isEnabled())
+            return loader.map(Optional::of);
+
+        return loadLock.tryAcquire(region, id)
+                .flatMap(acquired -> {
+                    if (acquired)
+                        return loader.map(Optional::of).doFinally(signal -> loadLock.release(region, id).subscribe());
+
+                    awaitedLoads.increment();
+                    final long maximalPolls = loadLock.getTimeout().toMillis() / Math.max(1, loadLock.getPollInterval().toMillis());
+                    return Mono.defer(() -> readL2(key))
+                            .repeatWhenEmpty((int) Math.min(Integer.MAX_VALUE, maximalPolls), polls -> polls.delayElements(loadLock.getPollInterval()))
+                            .onErrorResume(IllegalStateException.class, e -> Mono.empty())
+                            .map(entry -> Optional.ofNullable(entry.value)) //A tombstone: the other node found no value either.
+                            .switchIfEmpty(loader.map(Optional::of));
+                });
+    }
+
+    private Mono<Void> writeTombstone(final Map<String, String> key, final String id, final long invalidationsAtLoad) {
+        if (negativeLifetime.isZero())
+            return Mono.empty();
+
+        return tombstones.opsForValue().set(tombstoneKey(key), region, negativeLifetime)
+                .doOnNext(stored -> {
+                    tombstoneWrites.increment();
+                    if (stored && invalidationsOf(id) == invalidationsAtLoad)
+                        l1.put(id, Entry.tombstone(shortest(negativeLifetime, maximalL1Lifetime)));
+                })
+                .then();
+    }
+
+    private Mono<Void> deleteTombstone(final Map<String, String> key) {
+        if (negativeLifetime.isZero())
+            return Mono.empty();
+
+        return tombstones.delete(tombstoneKey(key)).then();
+    }
+
+    private String tombstoneKey(final Map<String, String> key) {
+        return CacheKeys.toRedisKey(region, key) + ":absent";
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    /**
+     * Removes the given key from the L1 of this node only.
+     *
+     * @param id The identifier of the key, as published on the invalidation bus, or {@link CacheInvalidationBus#ALL} for all keys.
+     */
+    void invalidateLocal(final String id) {
+        if (CacheInvalidationBus.ALL.equals(id)) {
+            regionInvalidations.incrementAndGet();
+            l1.invalidateAll();
+        } else {
+            invalidations.incrementAndGet(stripeOf(id));
+            l1.invalidate(id);
+        }
+    }
+
+    /**
+     * Sums the local invalidations which affected the given key. Both counters only grow, so the sum changes whenever either does.
+     */
+    private long invalidationsOf(final String id) {
+        return regionInvalidations.get() + invalidations.get(stripeOf(id));
+    }
+
+    private long[] invalidationsOf(final List<String> ids) {
+        final long[] result = new long[ids.size()];
+        for (int i = 0; i < ids.size(); i++) {
+            result[i] = invalidationsOf(ids.get(i));
+        }
+        return result;
+    }
+
+    private static int stripeOf(final String id) {
+        return id.hashCode() & (INVALIDATION_STRIPES - 1);
+    }
+
+    private OperationMeters metersFor(final Map<String, String> key) {
+        final String operation = key.get(OPERATION_KEY);
+        return operations.computeIfAbsent(operation == null ? UNNAMED_OPERATION : operation, name -> new OperationMeters(meterRegistry, region, name));
+    }
+
+    /**
+     * Encodes a plain string argument of a script, which is passed next to values that are already serialized.
+     */
+    private static ByteBuffer toArgument(final String argument) {
+        return ByteBuffer.wrap(argument.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a short and stable identifier for the given key, which is independent of the iteration order of the key map.
+     */
+    private static String identify(final Map<String, String> key) {
+        return CacheKeys.hash(key);
+    }
+
+    private static Duration shortest(final Duration left, final Duration right) {
+        return left.compareTo(right) < 0 ? left : right;
+    }
+
+    private static Counter loadCounter(final MeterRegistry meterRegistry, final String region, final String outcome) {
+        return Counter.builder("mmms.cache.loads")
+                .description("The amount of loads of missing cache entries, by outcome.")
+                .tag("region", region)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static Counter errorCounter(final MeterRegistry meterRegistry, final String region, final String phase) {
+        return Counter.builder("mmms.cache.errors")
+                .description("The amount of cache accesses that failed, by phase.")
+                .tag("region", region)
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    /**
+     * The meters of the lookups and loads of a single operation.
+     */
+    private static final class OperationMeters {
+        private final Counter l1Hits;
+        private final Counter l2Hits;
+        private final Counter tombstoneHits;
+        private final Counter misses;
+        private final Timer loads;
+
+        private OperationMeters(final MeterRegistry meterRegistry, final String region, final String operation) {
+            this.l1Hits = lookupCounter(meterRegistry, region, operation, "hit", "l1");
+            this.l2Hits = lookupCounter(meterRegistry, region, operation, "hit", "l2");
+            this.tombstoneHits = lookupCounter(meterRegistry, region, operation, "absent", "any");
+            this.misses = lookupCounter(meterRegistry, region, operation, "miss", "none");
+            this.loads = Timer.builder("mmms.cache.load.latency")
+                    .description("The time it took to load missing cache entries.")
+                    .tag("region", region)
+                    .tag("operation", operation)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+
+        private CacheStatistics.Operation toStatistics(final String operation) {
+            return new CacheStatistics.Operation(
+                    operation,
+                    (long) l1Hits.count(),
+                    (long) l2Hits.count(),
+                    (long) tombstoneHits.count(),
+                    (long) misses.count(),
+                    loads.count(),
+                    loads.mean(TimeUnit.MILLISECONDS),
+                    loads.max(TimeUnit.MILLISECONDS)
+            );
+        }
+
+        private static Counter lookupCounter(final MeterRegistry meterRegistry, final String region, final String operation, final String result, final String tier) {
+            return Counter.builder("mmms.cache.lookups")
+                    .description("The amount of cache lookups, by result and by the tier that answered them.")
+                    .tag("region", region)
+                    .tag("operation", operation)
+                    .tag("result", result)
+                    .tag("tier", tier)
+                    .register(meterRegistry);
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long lifetimeNanos;
+        private final long staleAfterNanos;
+        private final AtomicInteger hits = new AtomicInteger();
+
+        private Entry(final V value, final Duration lifetime, final long staleAfterNanos) {
+            this.value = value;
+            this.lifetimeNanos = lifetime.toNanos();
+            this.staleAfterNanos = staleAfterNanos;
+        }
+
+        private static <V> Entry<V> tombstone(final Duration lifetime) {
+            return new Entry<>(null, lifetime, NEVER_STALE);
+        }
+
+        private boolean isTombstone() {
+            return value == null;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.modmappings.mmms.api.util.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Creates the {@link TwoTierCache}s for the different cache regions, and registers them with the {@link CacheInvalidationBus}.
+ */
+@Component
+public class TwoTierCacheFactory {
+
+    @Value("${caching.l1.lifetime:60}")
+    private int L1_LIFETIME;
+
+    @Value("${caching.negative.lifetime:30}")
+    private int NEGATIVE_LIFETIME;
+
+    private final CacheInvalidationBus invalidationBus;
+    private final CacheLoadLock loadLock;
+    private final CacheGenerations generations;
+    private final MeterRegistry meterRegistry;
+    private final ReactiveStringRedisTemplate tombstones;
+
+    public TwoTierCacheFactory(final CacheInvalidationBus invalidationBus, final CacheLoadLock loadLock, final CacheGenerations generations, final MeterRegistry meterRegistry, final ReactiveRedisConnectionFactory connectionFactory) {
+        this.invalidationBus = invalidationBus;
+        this.loadLock = loadLock;
+        this.generations = generations;
+        this.meterRegistry = meterRegistry;
+        this.tombstones = new ReactiveStringRedisTemplate(connectionFactory);
+    }
+
+    /**
+     * Creates a new two tier cache, whose values never go stale.
+     *
+     * @param region     The name of the cache region, unique over all caches.
+     * @param l2         The redis template which forms the second tier.
+     * @param l1Capacity The maximal amount of entries kept on heap.
+     * @param <V>        The type of the cached values.
+     * @return The cache.
+     */
+    public <V> ReactiveCache<V> create(final String region, final ReactiveRedisTemplate<Map<String, String>, V> l2, final int l1Capacity) {
+        return create(region, l2, l1Capacity, 0, 0);
+    }
+
+    /**
+     * Creates a new two tier cache.
+     *
+     * @param region           The name of the cache region, unique over all caches.
+     * @param l2               The redis template which forms the second tier.
+     * @param l1Capacity       The maximal amount of entries kept on heap.
+     * @param staleWindow      The amount of seconds a value is still served after its lifetime ended, while it is refreshed. 0 to disable.
+     * @param refreshAheadHits The amount of reads after which a value is refreshed ahead of going stale. 0 to disable.
+     * @param <V>              The type of the cached values.
+     * @return The cache.
+     */
+    public <V> ReactiveCache<V> create(final String region, final ReactiveRedisTemplate<Map<String, String>, V> l2, final int l1Capacity, final int staleWindow, final int refreshAheadHits) {
+        final TwoTierCache<V> cache = new TwoTierCache<>(region, l2, l1Capacity, Duration.ofSeconds(L1_LIFETIME), Duration.ofSeconds(staleWindow), refreshAheadHits, Duration.ofSeconds(NEGATIVE_LIFETIME), tombstones, invalidationBus, loadLock, generations, meterRegistry);
+        invalidationBus.register(cache);
+        return cache;
+    }
+}
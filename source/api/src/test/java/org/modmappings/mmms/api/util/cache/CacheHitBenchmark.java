@@ -0,0 +1,211 @@
+package org.modmappings.mmms.api.util.cache;
+
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.modmappings.mmms.api.model.mapping.mappable.DetailedMappingDTO;
+import org.modmappings.mmms.api.services.utils.exceptions.EntryNotFoundException;
+import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrategy;
+import org.modmappings.mmms.er2dbc.data.statements.mapper.ExtendedStatementMapper;
+import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.modmappings.mmms.er2dbc.relational.postgres.sql.PostgresMatchFormatter;
+import org.modmappings.mmms.repository.model.core.MappingTypeDMO;
+import org.modmappings.mmms.repository.model.mapping.mappable.MappableDMO;
+import org.modmappings.mmms.repository.model.mapping.mappable.VersionedMappableDMO;
+import org.modmappings.mmms.repository.model.mapping.mappings.DetailedMappingDMO;
+import org.modmappings.mmms.repository.model.mapping.mappings.MappingDMO;
+import org.modmappings.mmms.repository.repositories.mapping.mappings.detailed.DetailedMappingRepositoryImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.core.PreparedOperation;
+import org.springframework.data.r2dbc.dialect.PostgresDialect;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.on;
+import static org.modmappings.mmms.er2dbc.data.statements.expression.Expressions.reference;
+import static org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec.join;
+
+/**
+ * Compares the cache hit path of a cached lookup, as the services write it, before and after the database fallback was deferred.
+ * <p>
+ * Before, the select spec, its prepared operation and the not found error were built while the lookup was assembled,
+ * so every cache hit paid for a query it never ran. Now the fallback is passed as a supplier, and is only built on a miss.
+ * The lookup is the detailed mapping by id, on the real {@link DetailedMappingRepositoryImpl} with a connection factory
+ * which is never connected to. The cache always hits, so only the cost of the caller is measured.
+ * <p>
+ * Run with: {@code java -cp <test runtime classpath> org.modmappings.mmms.api.util.cache.CacheHitBenchmark}.
+ * The gc profiler reports the allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheHitBenchmark {
+
+    private DetailedMappingRepositoryImpl repository;
+    private ReactiveCache<DetailedMappingDTO> cache;
+    private Function<DetailedMappingDMO, DetailedMappingDTO> converter;
+
+    private UUID id;
+    private Map<String, String> key;
+
+    @Setup
+    public void setUp() {
+        final ExtendedDataAccessStrategy accessStrategy = new ExtendedDataAccessStrategy(PostgresDialect.INSTANCE, new PostgresMatchFormatter());
+        //The application registers all entities on startup, the joined tables are resolved through them.
+        Stream.of(MappingDMO.class, VersionedMappableDMO.class, MappableDMO.class, MappingTypeDMO.class)
+                .forEach(accessStrategy.getConverter().getMappingContext()::getRequiredPersistentEntity);
+        final DatabaseClient databaseClient = DatabaseClient.builder()
+                .connectionFactory(new UnusedConnectionFactory())
+                .dataAccessStrategy(accessStrategy)
+                .build();
+        repository = new DetailedMappingRepositoryImpl(databaseClient, accessStrategy);
+
+        final DetailedMappingDTO detailedMapping = new DetailedMappingDTO();
+        cache = new HitCache<>(detailedMapping);
+        converter = dmo -> detailedMapping;
+
+        id = UUID.randomUUID();
+        key = new HashMap<>();
+        key.put("ops", "getById");
+        key.put("id", id.toString());
+        key.put("externallyVisibleOnly", "true");
+    }
+
+    /**
+     * The lookup as it was assembled before the fallback was deferred.
+     */
+    @Benchmark
+    public DetailedMappingDTO eagerQuery() {
+        return cache.get(key)
+                .switchIfEmpty(cache.load(key, assembleFindById(id)
+                        .map(converter)
+                        .zipWhen(dto -> cache.set(key, dto, Duration.ofSeconds(60)), (dto, a) -> dto))
+                        .switchIfEmpty(Mono.error(new EntryNotFoundException(id, "Mapping"))))
+                .block();
+    }
+
+    /**
+     * The lookup as it is assembled now, like {@code DetailedMappingService#getBy}.
+     */
+    @Benchmark
+    public DetailedMappingDTO deferredQuery() {
+        return cache.get(key)
+                .switchIfEmpty(cache.load(key, () -> repository.findById(id, true)
+                        .map(converter)
+                        .zipWhen(dto -> cache.set(key, dto, Duration.ofSeconds(60)), (dto, a) -> dto))
+                        .switchIfEmpty(Mono.defer(() -> Mono.error(new EntryNotFoundException(id, "Mapping")))))
+                .block();
+    }
+
+    /**
+     * Builds the query while it is assembled, like {@link DetailedMappingRepositoryImpl#findById(UUID, boolean)} did before it was deferred.
+     */
+    private Mono<DetailedMappingDMO> assembleFindById(final UUID id) {
+        final ExtendedStatementMapper mapper = repository.getAccessStrategy().getStatementMapper().forType(DetailedMappingDMO.class);
+        final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin("mapping")
+                .select(repository.createSelectStatementsForCompoundEntity(DetailedMappingDMO.class))
+                .join(() -> join("versioned_mappable", "versioned_mappable")
+                        .on(() -> on(reference("versioned_mappable_id")).is(reference("versioned_mappable", "id"))))
+                .join(() -> join("mappable", "mappable")
+                        .on(() -> on(reference("versioned_mappable", "mappable_id")).is(reference("mappable", "id"))))
+                .join(() -> join("mapping_type", "mt")
+                        .on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
+                .where(() -> repository.nonNullAndEqualsCheckForWhere(
+                        repository.nonNullAndEqualsCheckForWhere(null, id, "mapping", "id"),
+                        true,
+                        "mt",
+                        "visible"
+                ));
+
+        final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+        return repository.monitor(operation, repository.getDatabaseClient().execute(operation)
+                .as(DetailedMappingDMO.class)
+                .fetch()
+                .one());
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheHitBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+    /**
+     * A cache which holds a single value, which it returns for every key.
+     */
+    private static class HitCache<V> implements ReactiveCache<V> {
+
+        private final Mono<V> value;
+
+        private HitCache(final V value) {
+            this.value = Mono.just(value);
+        }
+
+        @Override
+        public Mono<V> get(final Map<String, String> key) {
+            return value;
+        }
+
+        @Override
+        public Mono<V> get(final Map<String, String> key, final Mono<V> refresher) {
+            return value;
+        }
+
+        @Override
+        public Mono<Boolean> set(final Map<String, String> key, final V value, final Duration timeout) {
+            return Mono.just(true);
+        }
+
+        @Override
+        public Mono<Boolean> delete(final Map<String, String> key) {
+            return Mono.just(true);
+        }
+
+        @Override
+        public Mono<V> load(final Map<String, String> key, final Mono<V> loader) {
+            return loader;
+        }
+    }
+
+    /**
+     * A connection factory for a repository which only assembles queries, and never runs them.
+     */
+    private static class UnusedConnectionFactory implements ConnectionFactory {
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.error(new IllegalStateException("The benchmark does not connect to a database"));
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return () -> "unused";
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.modmappings.mmms.api.util.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
+import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cache value format, Smile which is deflated above the compression threshold, against the plain JSON
+ * which the caches stored before, for pages of mappings of different sizes.
+ * <p>
+ * Run with: {@code java -cp <test runtime classpath> org.modmappings.mmms.api.util.cache.CacheValueSerializerBenchmark}.
+ * The bytes per entry of both formats are printed once per page size, the gc profiler reports the allocations per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    @Param({"1", "25", "250"})
+    private int pageSize;
+
+    private Jackson2JsonRedisSerializer<Page<MappingDTO>> json;
+    private CacheValueSerializer<Page<MappingDTO>> smile;
+
+    private Page<MappingDTO> page;
+    private byte[] jsonBytes;
+    private byte[] smileBytes;
+
+    @Setup
+    public void setUp() {
+        final JavaType type = TypeFactory.defaultInstance().constructParametricType(CachedPageImpl.class, MappingDTO.class);
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        json = new Jackson2JsonRedisSerializer<>(type);
+        smile = new CacheValueSerializer<>(new ObjectMapper(new SmileFactory()), type, 4096, DistributionSummary.builder("plain").register(meterRegistry), DistributionSummary.builder("deflated").register(meterRegistry));
+
+        page = CacheValueSerializerTest.page(pageSize);
+        jsonBytes = json.serialize(page);
+        smileBytes = smile.serialize(page);
+        System.out.printf("%nPage of %d mappings: json %d bytes, smile %d bytes (%s)%n", pageSize, jsonBytes.length, smileBytes.length, smileBytes[0] == 0 ? "plain" : "deflated");
+    }
+
+    @Benchmark
+    public byte[] serializeJson() {
+        return json.serialize(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSmile() {
+        return smile.serialize(page);
+    }
+
+    @Benchmark
+    public Page<MappingDTO> deserializeJson() {
+        return json.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public Page<MappingDTO> deserializeSmile() {
+        return smile.deserialize(smileBytes);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheValueSerializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,124 @@
+package org.modmappings.mmms.api.util.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.modmappings.mmms.api.model.mapping.mappable.MappableTypeDTO;
+import org.modmappings.mmms.api.model.mapping.mappings.DistributionDTO;
+import org.modmappings.mmms.api.model.mapping.mappings.MappingDTO;
+import org.modmappings.mmms.api.util.CachedPageImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CacheValueSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 4096;
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DistributionSummary plainSizes = DistributionSummary.builder("plain").register(meterRegistry);
+    private final DistributionSummary deflatedSizes = DistributionSummary.builder("deflated").register(meterRegistry);
+
+    private final JavaType pageType = TypeFactory.defaultInstance().constructParametricType(CachedPageImpl.class, MappingDTO.class);
+    private final CacheValueSerializer<Page<MappingDTO>> serializer = new CacheValueSerializer<>(new ObjectMapper(new SmileFactory()), pageType, COMPRESSION_THRESHOLD, plainSizes, deflatedSizes);
+
+    @Test
+    void smallValuesAreStoredAsPlainSmile() {
+        final Page<MappingDTO> page = page(1);
+
+        final byte[] bytes = serializer.serialize(page);
+
+        assertEquals(0, bytes[0]);
+        assertArrayEquals(SMILE_HEADER, new byte[]{bytes[1], bytes[2], bytes[3]});
+        assertTrue(bytes.length - 1 < COMPRESSION_THRESHOLD);
+        assertEquals(1, plainSizes.count());
+        assertEquals(0, deflatedSizes.count());
+        assertPageEquals(page, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void valuesAtTheThresholdAreDeflated() {
+        final Page<MappingDTO> page = page(250);
+        final int smileSize = new CacheValueSerializer<Page<MappingDTO>>(new ObjectMapper(new SmileFactory()), pageType, Integer.MAX_VALUE, plainSizes, deflatedSizes).serialize(page).length - 1;
+
+        final byte[] bytes = serializer.serialize(page);
+
+        assertTrue(smileSize >= COMPRESSION_THRESHOLD);
+        assertEquals(1, bytes[0]);
+        assertTrue(bytes.length < smileSize);
+        assertEquals(1, deflatedSizes.count());
+        assertEquals(bytes.length, deflatedSizes.totalAmount());
+        assertPageEquals(page, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void missingValuesAreEmpty() {
+        assertEquals(0, serializer.serialize(null).length);
+        assertNull(serializer.deserialize(null));
+        assertNull(serializer.deserialize(new byte[0]));
+    }
+
+    @Test
+    void unknownFormatsAreRejected() {
+        final byte[] bytes = serializer.serialize(page(1));
+        bytes[0] = 2;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+
+    private static void assertPageEquals(final Page<MappingDTO> expected, final Page<MappingDTO> actual) {
+        assertEquals(expected.getTotalElements(), actual.getTotalElements());
+        assertEquals(expected.getNumber(), actual.getNumber());
+        assertEquals(expected.getSize(), actual.getSize());
+        assertEquals(expected.getNumberOfElements(), actual.getNumberOfElements());
+        for (int i = 0; i < expected.getNumberOfElements(); i++) {
+            final MappingDTO left = expected.getContent().get(i);
+            final MappingDTO right = actual.getContent().get(i);
+            assertEquals(left.getId(), right.getId());
+            assertEquals(left.getCreatedOn(), right.getCreatedOn());
+            assertEquals(left.getInput(), right.getInput());
+            assertEquals(left.getOutput(), right.getOutput());
+            assertEquals(left.getDocumentation(), right.getDocumentation());
+            assertEquals(left.getDistribution(), right.getDistribution());
+            assertEquals(left.getMappableType(), right.getMappableType());
+        }
+    }
+
+    static Page<MappingDTO> page(final int size) {
+        final List<MappingDTO> content = IntStream.range(0, size)
+                .mapToObj(i -> new MappingDTO(
+                        UUID.randomUUID(),
+                        UUID.randomUUID(),
+                        new Timestamp(1_580_000_000_000L + i),
+                        UUID.randomUUID(),
+                        UUID.randomUUID(),
+                        "func_" + (70_000 + i) + "_a",
+                        "getBlockState" + i,
+                        i % 2 == 0 ? null : "Returns the block state at the given position.",
+                        DistributionDTO.BOTH,
+                        "net/minecraft/world",
+                        "net/minecraft",
+                        UUID.randomUUID(),
+                        MappableTypeDTO.METHOD,
+                        UUID.randomUUID()))
+                .collect(Collectors.toList());
+        return new CachedPageImpl<>(content, PageRequest.of(0, Math.max(1, size)), 10_000L);
+    }
+}
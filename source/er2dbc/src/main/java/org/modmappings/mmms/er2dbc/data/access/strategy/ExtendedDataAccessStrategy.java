@@ -1,6 +1,9 @@
 package org.modmappings.mmms.er2dbc.data.access.strategy;
 
+import org.modmappings.mmms.er2dbc.data.bulk.BulkInserter;
+import org.modmappings.mmms.er2dbc.data.diagnostics.QueryDiagnostics;
 import org.modmappings.mmms.er2dbc.data.query.mapper.ExtendedMapper;
+import org.modmappings.mmms.er2dbc.data.statements.mapper.CompiledSelectCache;
 import org.modmappings.mmms.er2dbc.data.statements.mapper.ExtendedStatementMapper;
 import org.modmappings.mmms.er2dbc.relational.core.sql.IMatchFormatter;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
@@ -16,6 +19,8 @@ import java.util.Collections;
 public class ExtendedDataAccessStrategy extends DefaultReactiveDataAccessStrategy {
     private final ExtendedStatementMapper statementMapper;
     private final IMatchFormatter matchFormatter;
+    private final int bulkInsertBatchSize;
+    private final QueryDiagnostics queryDiagnostics;
 
     /**
      * Creates a new {@link DefaultReactiveDataAccessStrategy} given {@link R2dbcDialect} and optional
@@ -62,19 +67,78 @@ public class ExtendedDataAccessStrategy extends DefaultReactiveDataAccessStrateg
      * @param expander       must not be {@literal null}.
      * @param matchFormatter
      */
-    @SuppressWarnings("unchecked")
     public ExtendedDataAccessStrategy(final R2dbcDialect dialect, final R2dbcConverter converter,
                                       final NamedParameterExpander expander, final IMatchFormatter matchFormatter) {
+        this(dialect, converter, expander, matchFormatter, new CompiledSelectCache(CompiledSelectCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    /**
+     * Creates a new {@link DefaultReactiveDataAccessStrategy} given {@link R2dbcDialect} and {@link R2dbcConverter}.
+     *
+     * @param dialect             the {@link R2dbcDialect} to use.
+     * @param converter           must not be {@literal null}.
+     * @param expander            must not be {@literal null}.
+     * @param matchFormatter      the formatter used to render match conditions.
+     * @param compiledSelectCache the cache in which the compiled select statements are kept.
+     */
+    public ExtendedDataAccessStrategy(final R2dbcDialect dialect, final R2dbcConverter converter,
+                                      final NamedParameterExpander expander, final IMatchFormatter matchFormatter,
+                                      final CompiledSelectCache compiledSelectCache) {
+        this(dialect, converter, expander, matchFormatter, compiledSelectCache, BulkInserter.DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new {@link DefaultReactiveDataAccessStrategy} given {@link R2dbcDialect} and {@link R2dbcConverter}.
+     *
+     * @param dialect             the {@link R2dbcDialect} to use.
+     * @param converter           must not be {@literal null}.
+     * @param expander            must not be {@literal null}.
+     * @param matchFormatter      the formatter used to render match conditions.
+     * @param compiledSelectCache the cache in which the compiled select statements are kept.
+     * @param bulkInsertBatchSize the maximal amount of rows a {@link BulkInserter} writes with a single statement.
+     */
+    public ExtendedDataAccessStrategy(final R2dbcDialect dialect, final R2dbcConverter converter,
+                                      final NamedParameterExpander expander, final IMatchFormatter matchFormatter,
+                                      final CompiledSelectCache compiledSelectCache, final int bulkInsertBatchSize) {
+        this(dialect, converter, expander, matchFormatter, compiledSelectCache, bulkInsertBatchSize, new QueryDiagnostics());
+    }
+
+    /**
+     * Creates a new {@link DefaultReactiveDataAccessStrategy} given {@link R2dbcDialect} and {@link R2dbcConverter}.
+     *
+     * @param dialect             the {@link R2dbcDialect} to use.
+     * @param converter           must not be {@literal null}.
+     * @param expander            must not be {@literal null}.
+     * @param matchFormatter      the formatter used to render match conditions.
+     * @param compiledSelectCache the cache in which the compiled select statements are kept.
+     * @param bulkInsertBatchSize the maximal amount of rows a {@link BulkInserter} writes with a single statement.
+     * @param queryDiagnostics    the diagnostics which time the executed queries.
+     */
+    @SuppressWarnings("unchecked")
+    public ExtendedDataAccessStrategy(final R2dbcDialect dialect, final R2dbcConverter converter,
+                                      final NamedParameterExpander expander, final IMatchFormatter matchFormatter,
+                                      final CompiledSelectCache compiledSelectCache, final int bulkInsertBatchSize,
+                                      final QueryDiagnostics queryDiagnostics) {
         super(dialect, converter, expander);
         this.matchFormatter = matchFormatter;
+        this.bulkInsertBatchSize = bulkInsertBatchSize;
+        this.queryDiagnostics = queryDiagnostics;
 
         final RenderContextFactory factory = new RenderContextFactory(dialect);
         this.statementMapper = new ExtendedStatementMapper(dialect, factory.createRenderContext(), new ExtendedMapper(converter, this.matchFormatter),
-                this.getMappingContext());
+                this.getMappingContext(), compiledSelectCache);
     }
 
     @Override
     public ExtendedStatementMapper getStatementMapper() {
         return statementMapper;
     }
+
+    public int getBulkInsertBatchSize() {
+        return bulkInsertBatchSize;
+    }
+
+    public QueryDiagnostics getQueryDiagnostics() {
+        return queryDiagnostics;
+    }
 }
@@ -0,0 +1,77 @@
+package org.modmappings.mmms.er2dbc.data.bulk;
+
+import java.time.Duration;
+
+/**
+ * The outcome of a bulk insert, used to report the throughput of the insert.
+ */
+public class BulkInsertResult {
+
+    private final String table;
+    private final long rowCount;
+    private final long statementCount;
+    private final Duration duration;
+
+    public BulkInsertResult(final String table, final long rowCount, final long statementCount, final Duration duration) {
+        this.table = table;
+        this.rowCount = rowCount;
+        this.statementCount = statementCount;
+        this.duration = duration;
+    }
+
+    public static BulkInsertResult empty(final String table) {
+        return new BulkInsertResult(table, 0, 0, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new result which also accounts for a single additional statement.
+     *
+     * @param insertedRows The amount of rows inserted by the statement.
+     * @return The new result.
+     */
+    public BulkInsertResult withStatement(final long insertedRows) {
+        return new BulkInsertResult(table, rowCount + insertedRows, statementCount + 1, duration);
+    }
+
+    public BulkInsertResult withDuration(final Duration duration) {
+        return new BulkInsertResult(table, rowCount, statementCount, duration);
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public long getStatementCount() {
+        return statementCount;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return The amount of rows inserted per second, or zero if no time has elapsed.
+     */
+    public double getRowsPerSecond() {
+        final long nanos = duration.toNanos();
+        if (nanos <= 0)
+            return 0;
+
+        return rowCount / (nanos / 1_000_000_000d);
+    }
+
+    @Override
+    public String toString() {
+        return "BulkInsertResult{" +
+                "table='" + table + "'," +
+                "rowCount=" + rowCount + "," +
+                "statementCount=" + statementCount + "," +
+                "duration=" + duration + "," +
+                "rowsPerSecond=" + String.format("%.1f", getRowsPerSecond()) +
+                '}';
+    }
+}
@@ -0,0 +1,109 @@
+package org.modmappings.mmms.er2dbc.data.bulk;
+
+import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrategy;
+import org.modmappings.mmms.er2dbc.data.statements.insert.BulkInsertSpec;
+import org.reactivestreams.Publisher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.data.r2dbc.core.PreparedOperation;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.SettableValue;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Inserts a stream of entities using multi row insert statements.
+ * <p>
+ * The entities are mapped to rows exactly like a single save would map them, and are then grouped into batches.
+ * Each batch is written with a single INSERT ... VALUES statement. Batches are written one after another, so
+ * only a single batch is held in memory at any given time and the source is only requested as fast as the database
+ * accepts the rows.
+ * <p>
+ * The amount of rows per statement is limited so that the bind parameters of a single statement never exceed
+ * the limit of the wire protocol.
+ */
+public class BulkInserter {
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    /**
+     * The maximal amount of bind parameters that postgres accepts for a single statement.
+     */
+    static final int MAX_BIND_PARAMETERS = Short.MAX_VALUE;
+
+    private final Logger logger = LoggerFactory.getLogger(BulkInserter.class);
+    private final DatabaseClient databaseClient;
+    private final ExtendedDataAccessStrategy accessStrategy;
+    private final int batchSize;
+
+    public BulkInserter(final DatabaseClient databaseClient, final ExtendedDataAccessStrategy accessStrategy) {
+        this(databaseClient, accessStrategy, accessStrategy.getBulkInsertBatchSize());
+    }
+
+    public BulkInserter(final DatabaseClient databaseClient, final ExtendedDataAccessStrategy accessStrategy, final int batchSize) {
+        Assert.isTrue(batchSize > 0, "BatchSize must be positive!");
+
+        this.databaseClient = databaseClient;
+        this.accessStrategy = accessStrategy;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Inserts all given entities into the table of the entity type.
+     *
+     * @param entityType The type of the entities.
+     * @param entities   The entities to insert.
+     * @param <T>        The type of the entities.
+     * @return A mono with the result of the insert, once all entities are inserted.
+     */
+    public <T> Mono<BulkInsertResult> insert(final Class<T> entityType, final Publisher<? extends T> entities) {
+        Assert.notNull(entityType, "EntityType must not be null!");
+        Assert.notNull(entities, "Entities must not be null!");
+
+        final String table = this.accessStrategy.getTableName(entityType);
+        final List<String> columns = this.accessStrategy.getAllColumns(entityType);
+        final int rowsPerStatement = Math.max(1, Math.min(this.batchSize, MAX_BIND_PARAMETERS / Math.max(1, columns.size())));
+
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+
+            return Flux.from(entities)
+                    .map(this.accessStrategy::getOutboundRow)
+                    .buffer(rowsPerStatement)
+                    .concatMap(rows -> this.insertBatch(table, columns, rows))
+                    .reduce(BulkInsertResult.empty(table), BulkInsertResult::withStatement)
+                    .map(result -> result.withDuration(Duration.ofNanos(System.nanoTime() - start)))
+                    .doFirst(() -> logger.debug("Starting bulk insert into: {}, with at most {} rows per statement.", table, rowsPerStatement))
+                    .doOnNext(result -> logger.info("Bulk inserted {} rows into: {}, using {} statements in {} ms ({} rows/s).",
+                            result.getRowCount(), table, result.getStatementCount(), result.getDuration().toMillis(), String.format("%.1f", result.getRowsPerSecond())));
+        });
+    }
+
+    private Mono<Integer> insertBatch(final String table, final List<String> columns, final List<OutboundRow> rows) {
+        //Columns without a value in any row are left out entirely, so their database default is used.
+        final List<String> insertedColumns = columns.stream()
+                .filter(column -> rows.stream().anyMatch(row -> hasValue(row.get(column))))
+                .collect(Collectors.toList());
+
+        if (insertedColumns.isEmpty())
+            return Mono.error(new IllegalStateException("INSERT contains no values"));
+
+        final PreparedOperation<BulkInsertSpec> operation = this.accessStrategy.getStatementMapper()
+                .getMappedObject(BulkInsertSpec.create(table, insertedColumns, rows));
+
+        return this.databaseClient.execute(operation)
+                .fetch()
+                .rowsUpdated()
+                .doFirst(() -> logger.debug("Executing bulk insert of {} rows into: {}", rows.size(), table));
+    }
+
+    private static boolean hasValue(final SettableValue value) {
+        return value != null && value.hasValue();
+    }
+}
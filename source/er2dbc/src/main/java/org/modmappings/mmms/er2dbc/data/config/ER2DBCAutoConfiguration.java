@@ -2,17 +2,24 @@ package org.modmappings.mmms.er2dbc.data.config;
 
 import io.r2dbc.spi.ConnectionFactory;
 import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrategy;
+import org.modmappings.mmms.er2dbc.data.bulk.BulkInserter;
+import org.modmappings.mmms.er2dbc.data.diagnostics.QueryDiagnostics;
+import org.modmappings.mmms.er2dbc.data.statements.mapper.CompiledSelectCache;
 import org.modmappings.mmms.er2dbc.relational.core.sql.IMatchFormatter;
 import org.modmappings.mmms.er2dbc.relational.postgres.sql.PostgresMatchFormatter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.r2dbc.convert.MappingR2dbcConverter;
 import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.core.NamedParameterExpander;
 import org.springframework.data.r2dbc.dialect.DialectResolver;
 import org.springframework.data.relational.core.mapping.RelationalMappingContext;
 
+import java.time.Duration;
+
 @Configuration(proxyBeanMethods = false)
 public class ER2DBCAutoConfiguration {
 
@@ -26,9 +33,21 @@ public class ER2DBCAutoConfiguration {
     @Primary
     public ExtendedDataAccessStrategy extendedDataAccessStrategy(final RelationalMappingContext mappingContext,
                                                                  final R2dbcCustomConversions r2dbcCustomConversions,
-                                                                 final IMatchFormatter matchFormatter) {
+                                                                 final IMatchFormatter matchFormatter,
+                                                                 @Value("${er2dbc.compiled-select-cache.maximum-size:" + CompiledSelectCache.DEFAULT_MAXIMUM_SIZE + "}") final int compiledSelectCacheSize,
+                                                                 @Value("${er2dbc.bulk-insert.batch-size:" + BulkInserter.DEFAULT_BATCH_SIZE + "}") final int bulkInsertBatchSize,
+                                                                 final QueryDiagnostics queryDiagnostics) {
         final MappingR2dbcConverter converter = new MappingR2dbcConverter(mappingContext, r2dbcCustomConversions);
-        return new ExtendedDataAccessStrategy(DialectResolver.getDialect(this.connectionFactory), converter, matchFormatter);
+        return new ExtendedDataAccessStrategy(DialectResolver.getDialect(this.connectionFactory), converter, new NamedParameterExpander(), matchFormatter, new CompiledSelectCache(compiledSelectCacheSize), bulkInsertBatchSize, queryDiagnostics);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public QueryDiagnostics queryDiagnostics(@Value("${er2dbc.diagnostics.slow-query-threshold-ms:" + QueryDiagnostics.DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS + "}") final long slowQueryThresholdMillis,
+                                             @Value("${er2dbc.diagnostics.explain-interval-ms:" + QueryDiagnostics.DEFAULT_EXPLAIN_INTERVAL_MILLIS + "}") final long explainIntervalMillis,
+                                             @Value("${er2dbc.diagnostics.slow-query-buffer-size:" + QueryDiagnostics.DEFAULT_SLOW_QUERY_BUFFER_SIZE + "}") final int slowQueryBufferSize,
+                                             @Value("${er2dbc.diagnostics.maximum-shapes:" + QueryDiagnostics.DEFAULT_MAXIMUM_SHAPES + "}") final int maximumShapes) {
+        return new QueryDiagnostics(Duration.ofMillis(slowQueryThresholdMillis), Duration.ofMillis(explainIntervalMillis), slowQueryBufferSize, maximumShapes);
     }
 
     @Bean
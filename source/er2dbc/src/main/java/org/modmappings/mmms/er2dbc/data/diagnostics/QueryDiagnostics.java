@@ -0,0 +1,235 @@
+package org.modmappings.mmms.er2dbc.data.diagnostics;
+
+import org.modmappings.mmms.er2dbc.data.statements.mapper.ExtendedStatementMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.r2dbc.core.PreparedOperation;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Times the execution of queries and captures the plan of slow queries.
+ * <p>
+ * Every monitored query is recorded in the latency histogram of its shape. When a query takes longer than the slow query threshold,
+ * it is rerun with EXPLAIN (ANALYZE, BUFFERS) and the same bindings in the background. The resulting plan is kept in a bounded buffer,
+ * which drops the oldest plan when it is full. Each shape is explained at most once per explain interval, so a regressing shape does not
+ * double the load on the database.
+ * <p>
+ * A query is timed until it completes, cancelled executions are not recorded, since their duration depends on the subscriber.
+ * Streamed queries are only timed until their first row, and are never explained: the remainder of their duration is set by how fast
+ * the subscriber consumes the rows, and explaining them would rerun a full scan.
+ */
+public class QueryDiagnostics {
+
+    public static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 500;
+    public static final long DEFAULT_EXPLAIN_INTERVAL_MILLIS = 60_000;
+    public static final int DEFAULT_SLOW_QUERY_BUFFER_SIZE = 50;
+    public static final int DEFAULT_MAXIMUM_SHAPES = 256;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(QueryDiagnostics.class);
+
+    private final long slowQueryThresholdNanos;
+    private final long explainIntervalMillis;
+    private final int slowQueryBufferSize;
+    private final int maximumShapes;
+
+    private final Map<String, QueryStatistics> statistics;
+    private final Deque<SlowQuery> slowQueries = new ArrayDeque<>();
+
+    public QueryDiagnostics() {
+        this(Duration.ofMillis(DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS), Duration.ofMillis(DEFAULT_EXPLAIN_INTERVAL_MILLIS), DEFAULT_SLOW_QUERY_BUFFER_SIZE, DEFAULT_MAXIMUM_SHAPES);
+    }
+
+    /**
+     * Creates new query diagnostics.
+     *
+     * @param slowQueryThreshold  The duration after which a query is considered slow. Zero or less disables the capturing of slow queries.
+     * @param explainInterval     The minimal duration between two explains of the same shape.
+     * @param slowQueryBufferSize The amount of slow queries that are kept. Zero or less disables the capturing of slow queries.
+     * @param maximumShapes       The amount of shapes for which a histogram is kept. Zero or less disables the diagnostics.
+     */
+    public QueryDiagnostics(final Duration slowQueryThreshold, final Duration explainInterval, final int slowQueryBufferSize, final int maximumShapes) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+        this.explainIntervalMillis = explainInterval.toMillis();
+        this.slowQueryBufferSize = slowQueryBufferSize;
+        this.maximumShapes = maximumShapes;
+        this.statistics = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, QueryStatistics> eldest) {
+                return size() > QueryDiagnostics.this.maximumShapes;
+            }
+        };
+    }
+
+    /**
+     * Monitors the execution of the given operation.
+     *
+     * @param operation The operation that is executed.
+     * @param execution The execution of the operation.
+     * @param explainer Supplies the lines of the EXPLAIN (ANALYZE, BUFFERS) output of the operation, only invoked when the operation was slow.
+     * @param <T>       The type of the result.
+     * @return The monitored execution.
+     */
+    public <T> Flux<T> monitor(final PreparedOperation<?> operation, final Flux<T> execution, final Supplier<Flux<String>> explainer) {
+        if (!isEnabled())
+            return execution;
+
+        return Flux.defer(() -> {
+            final long start = System.nanoTime();
+            return execution.doOnEach(signal -> {
+                if (signal.isOnComplete() || signal.isOnError())
+                    this.record(operation, System.nanoTime() - start, explainer);
+            });
+        });
+    }
+
+    /**
+     * Monitors the execution of the given streamed operation.
+     * Only the time until the first row, or until the completion of an empty result, is recorded. The operation is never explained.
+     *
+     * @param operation The operation that is executed.
+     * @param execution The execution of the operation.
+     * @param <T>       The type of the result.
+     * @return The monitored execution.
+     */
+    public <T> Flux<T> monitorStream(final PreparedOperation<?> operation, final Flux<T> execution) {
+        if (!isEnabled())
+            return execution;
+
+        return Flux.defer(() -> {
+            final long start = System.nanoTime();
+            final AtomicBoolean recorded = new AtomicBoolean();
+            return execution.doOnEach(signal -> {
+                if ((signal.isOnNext() || signal.isOnComplete() || signal.isOnError()) && recorded.compareAndSet(false, true))
+                    this.record(operation, System.nanoTime() - start, null);
+            });
+        });
+    }
+
+    /**
+     * Monitors the execution of the given operation.
+     *
+     * @param operation The operation that is executed.
+     * @param execution The execution of the operation.
+     * @param explainer Supplies the lines of the EXPLAIN (ANALYZE, BUFFERS) output of the operation, only invoked when the operation was slow.
+     * @param <T>       The type of the result.
+     * @return The monitored execution.
+     */
+    public <T> Mono<T> monitor(final PreparedOperation<?> operation, final Mono<T> execution, final Supplier<Flux<String>> explainer) {
+        if (!isEnabled())
+            return execution;
+
+        return Mono.defer(() -> {
+            final long start = System.nanoTime();
+            return execution.doOnEach(signal -> {
+                if (signal.isOnComplete() || signal.isOnError())
+                    this.record(operation, System.nanoTime() - start, explainer);
+            });
+        });
+    }
+
+    private void record(final PreparedOperation<?> operation, final long nanos, @Nullable final Supplier<Flux<String>> explainer) {
+        final String sql = operation.toQuery();
+        final QueryStatistics queryStatistics;
+        synchronized (statistics) {
+            queryStatistics = statistics.computeIfAbsent(sql, QueryStatistics::new);
+        }
+        queryStatistics.record(nanos);
+
+        if (explainer == null || !isCapturingSlowQueries() || nanos < slowQueryThresholdNanos)
+            return;
+
+        if (!queryStatistics.tryClaimExplain(System.currentTimeMillis(), explainIntervalMillis))
+            return;
+
+        final Instant executedAt = Instant.now().minusNanos(nanos);
+        final List<String> bindings = getBindings(operation);
+        LOGGER.warn("Slow query took {} ms, explaining: {}", nanos / 1_000_000, sql);
+
+        explainer.get()
+                .collect(Collectors.joining("\n"))
+                .subscribe(
+                        plan -> this.add(new SlowQuery(sql, bindings, Duration.ofNanos(nanos), executedAt, plan)),
+                        throwable -> LOGGER.warn("Failed to explain slow query: " + sql, throwable)
+                );
+    }
+
+    private void add(final SlowQuery slowQuery) {
+        synchronized (slowQueries) {
+            while (slowQueries.size() >= slowQueryBufferSize) {
+                slowQueries.removeLast();
+            }
+
+            slowQueries.addFirst(slowQuery);
+        }
+    }
+
+    /**
+     * @return The captured slow queries, newest first.
+     */
+    public List<SlowQuery> getSlowQueries() {
+        synchronized (slowQueries) {
+            return new ArrayList<>(slowQueries);
+        }
+    }
+
+    /**
+     * @return The latency histograms of the known shapes, slowest in total first.
+     */
+    public List<QueryStatistics> getStatistics() {
+        final List<QueryStatistics> result;
+        synchronized (statistics) {
+            result = new ArrayList<>(statistics.values());
+        }
+
+        result.sort(Comparator.comparingDouble(QueryStatistics::getTotalMillis).reversed());
+        return result;
+    }
+
+    /**
+     * Removes all captured slow queries and histograms.
+     */
+    public void clear() {
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+        synchronized (statistics) {
+            statistics.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return maximumShapes > 0;
+    }
+
+    public boolean isCapturingSlowQueries() {
+        return slowQueryThresholdNanos > 0 && slowQueryBufferSize > 0;
+    }
+
+    public Duration getSlowQueryThreshold() {
+        return Duration.ofNanos(slowQueryThresholdNanos);
+    }
+
+    private static List<String> getBindings(final PreparedOperation<?> operation) {
+        if (operation instanceof ExtendedStatementMapper.CountingExtendedPreparedOperation)
+            return getBindings(((ExtendedStatementMapper.CountingExtendedPreparedOperation<?>) operation).getInner());
+
+        if (operation instanceof ExtendedStatementMapper.ExplainingExtendedPreparedOperation)
+            return getBindings(((ExtendedStatementMapper.ExplainingExtendedPreparedOperation<?>) operation).getInner());
+
+        if (!(operation instanceof ExtendedStatementMapper.ExtendedPreparedOperation))
+            return Collections.emptyList();
+
+        return ((ExtendedStatementMapper.ExtendedPreparedOperation<?>) operation).getBindings().stream()
+                .map(binding -> binding.getBindMarker().getPlaceholder() + ":" + (binding.hasValue() ? binding.getValue() : "NULL"))
+                .collect(Collectors.toList());
+    }
+}
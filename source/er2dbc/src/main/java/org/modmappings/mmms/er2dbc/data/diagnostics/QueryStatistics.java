@@ -0,0 +1,106 @@
+package org.modmappings.mmms.er2dbc.data.diagnostics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latency histogram of a single query shape.
+ * <p>
+ * Since the sql of a select spec only depends on its shape, the rendered sql is used to identify the shape.
+ */
+public class QueryStatistics {
+
+    /**
+     * The upper bounds, in milliseconds, of the buckets of the histogram. The last bucket has no upper bound.
+     */
+    public static final long[] BUCKET_BOUNDS_MILLIS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final String sql;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLIS.length + 1];
+    private final AtomicLong lastExplainedAt = new AtomicLong(Long.MIN_VALUE);
+
+    public QueryStatistics(final String sql) {
+        this.sql = sql;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(final long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulateAndGet(nanos, Math::max);
+
+        final long millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+        int bucket = 0;
+        while (bucket < BUCKET_BOUNDS_MILLIS.length && millis > BUCKET_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        buckets[bucket].increment();
+    }
+
+    /**
+     * Claims the right to explain this shape, if it was not explained within the given interval.
+     *
+     * @param now            The current time in milliseconds.
+     * @param intervalMillis The minimal amount of milliseconds between two explains of this shape.
+     * @return True when the caller should explain the shape.
+     */
+    boolean tryClaimExplain(final long now, final long intervalMillis) {
+        final long last = lastExplainedAt.get();
+        if (last != Long.MIN_VALUE && now - last < intervalMillis)
+            return false;
+
+        return lastExplainedAt.compareAndSet(last, now);
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1_000_000d;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000d;
+    }
+
+    public double getMeanMillis() {
+        final long count = getCount();
+        return count == 0 ? 0 : getTotalMillis() / count;
+    }
+
+    /**
+     * @return The amount of executions per bucket, the bounds of the buckets are given by {@link #BUCKET_BOUNDS_MILLIS}.
+     */
+    public List<Long> getBuckets() {
+        final List<Long> counts = new ArrayList<>(buckets.length);
+        for (final LongAdder bucket : buckets) {
+            counts.add(bucket.sum());
+        }
+
+        return Collections.unmodifiableList(counts);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStatistics{" +
+                "sql='" + sql + "'," +
+                "count=" + getCount() + "," +
+                "meanMillis=" + getMeanMillis() + "," +
+                "maxMillis=" + getMaxMillis() +
+                '}';
+    }
+}
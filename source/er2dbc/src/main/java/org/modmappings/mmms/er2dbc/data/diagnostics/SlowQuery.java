@@ -0,0 +1,61 @@
+package org.modmappings.mmms.er2dbc.data.diagnostics;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A single query which took longer than the slow query threshold, together with the plan postgres used to execute it.
+ */
+public class SlowQuery {
+
+    private final String sql;
+    private final List<String> bindings;
+    private final Duration duration;
+    private final Instant executedAt;
+    private final String plan;
+
+    public SlowQuery(final String sql, final List<String> bindings, final Duration duration, final Instant executedAt, final String plan) {
+        this.sql = sql;
+        this.bindings = bindings;
+        this.duration = duration;
+        this.executedAt = executedAt;
+        this.plan = plan;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return The bound values, in the form placeholder:value.
+     */
+    public List<String> getBindings() {
+        return bindings;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Instant getExecutedAt() {
+        return executedAt;
+    }
+
+    /**
+     * @return The output of EXPLAIN (ANALYZE, BUFFERS) for the query, rerun with the same bindings.
+     */
+    public String getPlan() {
+        return plan;
+    }
+
+    @Override
+    public String toString() {
+        return "SlowQuery{" +
+                "sql='" + sql + "'," +
+                "bindings=" + bindings + "," +
+                "duration=" + duration + "," +
+                "executedAt=" + executedAt +
+                '}';
+    }
+}
@@ -5,9 +5,12 @@ import org.modmappings.mmms.er2dbc.data.statements.expression.*;
 import org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec;
 import org.modmappings.mmms.er2dbc.data.statements.mapper.ExtendedStatementMapper;
 import org.modmappings.mmms.er2dbc.data.statements.mapper.bound.BoundExpression;
+import org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec;
 import org.modmappings.mmms.er2dbc.relational.core.sql.DistinctExpression;
 import org.modmappings.mmms.er2dbc.relational.core.sql.IMatchFormatter;
 import org.modmappings.mmms.er2dbc.relational.core.sql.Match;
+import org.modmappings.mmms.er2dbc.relational.core.sql.OrderBy;
+import org.modmappings.mmms.er2dbc.relational.core.sql.Seek;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.dialect.BindMarker;
@@ -97,6 +100,46 @@ public class ExtendedMapper extends UpdateMapper {
         return new BoundCondition(bindings, mapped);
     }
 
+    /**
+     * Map the sort key values of a keyset (seek) page to a {@link Seek} condition and consider value/{@code NULL} {@link Bindings}.
+     *
+     * @param markers  bind markers object, must not be {@literal null}.
+     * @param orders   the orders that make up the key of the page, must not be {@literal null}.
+     * @param values   the values of the orders for the last row of the previous page, must not be {@literal null}.
+     * @param table    must not be {@literal null}.
+     * @param aliasing The table aliases known at this point of the statement.
+     * @return the mapped {@link BoundCondition}.
+     */
+    public BoundCondition getMappedObject(final BindMarkers markers,
+                                          final List<SortSpec.Order> orders,
+                                          final List<Object> values,
+                                          final Table table,
+                                          final Map<String, String> aliasing) {
+        Assert.notNull(markers, "BindMarkers must not be null!");
+        Assert.notEmpty(orders, "Can not seek on a select without sort orders!");
+        Assert.isTrue(orders.size() == values.size(), String.format("Expected %d values to seek after but got %d!", orders.size(), values.size()));
+
+        final MutableBindings bindings = new MutableBindings(markers);
+        final List<Expression> columns = new ArrayList<>(orders.size());
+        final List<Expression> seekValues = new ArrayList<>(orders.size());
+        final List<OrderBy.Direction> directions = new ArrayList<>(orders.size());
+
+        for (final SortSpec.Order order : orders) {
+            final Expression column = convertNoneCollectiveExpression(order.getExpression(), null, table, bindings, aliasing);
+            if (column == null)
+                throw new IllegalArgumentException("Can not seek on a collective sort order.");
+
+            columns.add(column);
+            directions.add(OrderBy.Direction.fromSpec(order.getDirection()));
+        }
+
+        for (int i = 0; i < orders.size(); i++) {
+            seekValues.add(bindValue(new ValueExpression(values.get(i)), orders.get(i).getExpression(), bindings, aliasing));
+        }
+
+        return new BoundCondition(bindings, Seek.create(columns, seekValues, directions));
+    }
+
     /**
      * Remaps a ER2DBC DSL join type to a R2DBC DSL join type
      *
@@ -244,27 +287,7 @@ public class ExtendedMapper extends UpdateMapper {
         }
 
         if (expression.isValue()) {
-
-            final ValueExpression valueExpression = (ValueExpression) expression;
-            TypeInformation<?> actualType = ClassTypeInformation.OBJECT;
-            Class<?> typeHint = actualType.getType();
-            Object mappedValue = convertValue(valueExpression.getValue(), actualType);
-
-            if (otherExpression != null && otherExpression.isReference()) {
-                final ReferenceExpression referenceExpression = (ReferenceExpression) otherExpression;
-
-                final Field propertyField = createPropertyField(referenceExpression.getTableName(), referenceExpression.getColumnName(), this.mappingContext, aliasing);
-                actualType = propertyField.getTypeHint().getRequiredActualType();
-
-                if (valueExpression.getValue() instanceof SettableValue) {
-                    final SettableValue settableValue = (SettableValue) valueExpression.getValue();
-                    mappedValue = convertValue(settableValue.getValue(), propertyField.getTypeHint());
-                    typeHint = getTypeHint(mappedValue, actualType.getType(), settableValue);
-                }
-            }
-
-            final BindMarker bindMarker = bindings.nextMarker(valueExpression.getName());
-            return bind(mappedValue, typeHint, bindings, bindMarker);
+            return bindValue((ValueExpression) expression, otherExpression, bindings, aliasing);
         }
 
         if (expression.isFunction()) {
@@ -283,6 +306,154 @@ public class ExtendedMapper extends UpdateMapper {
         return null;
     }
 
+    private Expression bindValue(final ValueExpression valueExpression,
+                                 @Nullable final org.modmappings.mmms.er2dbc.data.statements.expression.Expression otherExpression,
+                                 final MutableBindings bindings,
+                                 final Map<String, String> aliasing) {
+        TypeInformation<?> actualType = ClassTypeInformation.OBJECT;
+        Class<?> typeHint = actualType.getType();
+        Object mappedValue = convertValue(valueExpression.getValue(), actualType);
+
+        if (otherExpression != null && otherExpression.isReference()) {
+            final ReferenceExpression referenceExpression = (ReferenceExpression) otherExpression;
+
+            final Field propertyField = createPropertyField(referenceExpression.getTableName(), referenceExpression.getColumnName(), this.mappingContext, aliasing);
+            actualType = propertyField.getTypeHint().getRequiredActualType();
+
+            if (valueExpression.getValue() instanceof SettableValue) {
+                final SettableValue settableValue = (SettableValue) valueExpression.getValue();
+                mappedValue = convertValue(settableValue.getValue(), propertyField.getTypeHint());
+                typeHint = getTypeHint(mappedValue, actualType.getType(), settableValue);
+            }
+        }
+
+        final BindMarker bindMarker = bindings.nextMarker(valueExpression.getName());
+        return bind(mappedValue, typeHint, bindings, bindMarker);
+    }
+
+    /**
+     * Binds the values of a {@link ColumnBasedCriteria} chain without building the {@link Condition} for it.
+     * <p>
+     * The chain is walked in the same order as {@link #getMappedObject(BindMarkers, ColumnBasedCriteria, Table, RelationalPersistentEntity, Map)}
+     * does, so the created bind markers line up with those of an already rendered statement of the same shape.
+     *
+     * @param criteria The criteria chain to bind the values of.
+     * @param bindings The bindings to bind the values into.
+     * @param aliasing The table aliases known at this point of the statement.
+     */
+    public void bindValues(final ColumnBasedCriteria criteria,
+                           final MutableBindings bindings,
+                           final Map<String, String> aliasing) {
+        Assert.notNull(criteria, "Criteria must not be null!");
+
+        final Deque<ColumnBasedCriteria> chain = new ArrayDeque<>();
+        ColumnBasedCriteria current = criteria;
+        chain.push(current);
+        while (current.hasPrevious()) {
+            current = current.getPrevious();
+            chain.push(current);
+        }
+
+        for (final ColumnBasedCriteria link : chain) {
+            bindNoneCollectiveValues(link.getLeftExpression(), link.getRightExpression(), bindings, aliasing);
+
+            if (link.getComparator() == ColumnBasedCriteria.Comparator.IS_NULL || link.getComparator() == ColumnBasedCriteria.Comparator.IS_NOT_NULL)
+                continue;
+
+            if (link.getComparator() == ColumnBasedCriteria.Comparator.NOT_IN || link.getComparator() == ColumnBasedCriteria.Comparator.IN) {
+                if (link.getRightExpression().isCollection()) {
+                    for (final org.modmappings.mmms.er2dbc.data.statements.expression.Expression element : ((CollectionExpression) link.getRightExpression()).getExpressions()) {
+                        bindNoneCollectiveValues(element, link.getLeftExpression(), bindings, aliasing);
+                    }
+                }
+
+                continue;
+            }
+
+            bindNoneCollectiveValues(link.getRightExpression(), link.getLeftExpression(), bindings, aliasing);
+        }
+    }
+
+    /**
+     * Binds the values of an expression without mapping the expression itself.
+     * <p>
+     * Mirrors {@link #getMappedObject(org.modmappings.mmms.er2dbc.data.statements.expression.Expression, Table, MutableBindings, Map)}.
+     *
+     * @param expression The expression to bind the values of.
+     * @param bindings   The bindings to bind the values into.
+     * @param aliasing   The table aliases known at this point of the statement.
+     */
+    public void bindValues(final org.modmappings.mmms.er2dbc.data.statements.expression.Expression expression,
+                           final MutableBindings bindings,
+                           final Map<String, String> aliasing) {
+        if (expression.isValue()) {
+            bindValue((ValueExpression) expression, null, bindings, aliasing);
+            return;
+        }
+
+        if (expression.isAliased()) {
+            bindValues(((org.modmappings.mmms.er2dbc.data.statements.expression.AliasedExpression) expression).getOther(), bindings, aliasing);
+            return;
+        }
+
+        if (expression.isDistinctOn()) {
+            for (final org.modmappings.mmms.er2dbc.data.statements.expression.Expression source : ((DistinctOnExpression) expression).getSource()) {
+                bindValues(source, bindings, aliasing);
+            }
+            return;
+        }
+
+        if (expression.isDistinct()) {
+            bindValues(((org.modmappings.mmms.er2dbc.data.statements.expression.DistinctExpression) expression).getSource(), bindings, aliasing);
+            return;
+        }
+
+        if (expression.isFunction()) {
+            for (final org.modmappings.mmms.er2dbc.data.statements.expression.Expression arg : ((FunctionExpression) expression).getArgs()) {
+                bindValues(arg, bindings, aliasing);
+            }
+        }
+    }
+
+    /**
+     * Binds the sort key values of a keyset (seek) page without building the {@link Seek} condition for it.
+     * <p>
+     * Mirrors {@link #getMappedObject(BindMarkers, List, List, Table, Map)}.
+     *
+     * @param orders   The orders that make up the key of the page.
+     * @param values   The values of the orders for the last row of the previous page.
+     * @param bindings The bindings to bind the values into.
+     * @param aliasing The table aliases known at this point of the statement.
+     */
+    public void bindValues(final List<SortSpec.Order> orders,
+                           final List<Object> values,
+                           final MutableBindings bindings,
+                           final Map<String, String> aliasing) {
+        for (final SortSpec.Order order : orders) {
+            bindNoneCollectiveValues(order.getExpression(), null, bindings, aliasing);
+        }
+
+        for (int i = 0; i < orders.size(); i++) {
+            bindValue(new ValueExpression(values.get(i)), orders.get(i).getExpression(), bindings, aliasing);
+        }
+    }
+
+    private void bindNoneCollectiveValues(final org.modmappings.mmms.er2dbc.data.statements.expression.Expression expression,
+                                          final org.modmappings.mmms.er2dbc.data.statements.expression.Expression otherExpression,
+                                          final MutableBindings bindings,
+                                          final Map<String, String> aliasing) {
+        if (expression.isValue()) {
+            bindValue((ValueExpression) expression, otherExpression, bindings, aliasing);
+            return;
+        }
+
+        if (expression.isFunction()) {
+            for (final org.modmappings.mmms.er2dbc.data.statements.expression.Expression arg : ((FunctionExpression) expression).getArgs()) {
+                bindValues(arg, bindings, aliasing);
+            }
+        }
+    }
+
     private Collection<Expression> convertCollectiveExpression(final org.modmappings.mmms.er2dbc.data.statements.expression.Expression expression, final org.modmappings.mmms.er2dbc.data.statements.expression.Expression otherExpression, final Table defaultTable, final MutableBindings bindings,
                                                                final Map<String, String> aliasing) {
         if (expression.isCollection()) {
@@ -0,0 +1,52 @@
+package org.modmappings.mmms.er2dbc.data.statements.criteria.match;
+
+/**
+ * The result of planning a regex match.
+ * <p>
+ * Describes with which comparator the match is rendered, and the value that needs to be bound for it.
+ */
+public class MatchPlan {
+
+    private final Kind kind;
+    private final String value;
+
+    public MatchPlan(final Kind kind, final String value) {
+        this.kind = kind;
+        this.value = value;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return The value to bind. Depending on the kind this is the literal to compare against, the like pattern, or the original regex.
+     */
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return "MatchPlan{" +
+                "kind=" + kind + "," +
+                "value='" + value + "'" +
+                '}';
+    }
+
+    public enum Kind {
+        /**
+         * The regex only matches a single literal, it is rendered as an equality check.
+         */
+        EQUALS,
+        /**
+         * The regex matches a literal at the start, end or anywhere in the value, it is rendered as a like.
+         * Likes with a prefix can use a text_pattern_ops index, all others can use a trigram index.
+         */
+        LIKE,
+        /**
+         * The regex can not be simplified, it is rendered as a regex match, which can use a trigram index.
+         */
+        REGEX
+    }
+}
@@ -0,0 +1,109 @@
+package org.modmappings.mmms.er2dbc.data.statements.criteria.match;
+
+/**
+ * Classifies regex patterns, so that they can be rendered with the cheapest comparator that matches the same values.
+ * <p>
+ * Postgres can not use a regular index for a regex match. Patterns which only consist of a literal, optionally anchored
+ * to the start and or end of the value, are turned into an equality check or a like, which can be served by the
+ * text_pattern_ops and trigram indices on the searched columns. All other patterns stay a regex match.
+ */
+public final class MatchPlanner {
+
+    private static final String META_CHARACTERS = ".[](){}*+?|^$\\";
+
+    private MatchPlanner() {
+        throw new IllegalStateException("Can not instantiate an instance of: MatchPlanner. This is a utility class");
+    }
+
+    /**
+     * Plans the match of the given regex pattern.
+     *
+     * @param pattern The regex pattern to match.
+     * @return The plan for the match.
+     */
+    public static MatchPlan plan(final String pattern) {
+        int start = 0;
+        int end = pattern.length();
+
+        final boolean anchoredAtStart = pattern.startsWith("^");
+        if (anchoredAtStart) {
+            start++;
+        }
+
+        boolean anchoredAtEnd = false;
+        if (end > start && pattern.charAt(end - 1) == '$' && !isEscaped(pattern, end - 1)) {
+            anchoredAtEnd = true;
+            end--;
+        }
+
+        boolean openEnded = false;
+        if (end - start >= 2 && pattern.startsWith(".*", end - 2) && !isEscaped(pattern, end - 2)) {
+            openEnded = true;
+            end -= 2;
+        }
+
+        final String literal = readLiteral(pattern, start, end);
+        if (literal == null) {
+            return new MatchPlan(MatchPlan.Kind.REGEX, pattern);
+        }
+
+        final boolean matchesToEnd = anchoredAtEnd && !openEnded;
+        if (anchoredAtStart && matchesToEnd) {
+            return new MatchPlan(MatchPlan.Kind.EQUALS, literal);
+        }
+
+        return new MatchPlan(MatchPlan.Kind.LIKE, (anchoredAtStart ? "" : "%") + escapeLike(literal) + (matchesToEnd ? "" : "%"));
+    }
+
+    /**
+     * Reads the literal between the given indices, resolving escaped characters.
+     *
+     * @return The literal, or null if the range contains regex syntax.
+     */
+    private static String readLiteral(final String pattern, final int start, final int end) {
+        final StringBuilder literal = new StringBuilder(end - start);
+        for (int i = start; i < end; i++) {
+            final char c = pattern.charAt(i);
+            if (c == '\\') {
+                // Escaped letters and digits are character classes or back references, not literals.
+                if (i + 1 >= end || Character.isLetterOrDigit(pattern.charAt(i + 1))) {
+                    return null;
+                }
+
+                literal.append(pattern.charAt(++i));
+                continue;
+            }
+
+            if (META_CHARACTERS.indexOf(c) >= 0) {
+                return null;
+            }
+
+            literal.append(c);
+        }
+
+        return literal.toString();
+    }
+
+    private static boolean isEscaped(final String pattern, final int index) {
+        int backslashes = 0;
+        for (int i = index - 1; i >= 0 && pattern.charAt(i) == '\\'; i--) {
+            backslashes++;
+        }
+
+        return backslashes % 2 == 1;
+    }
+
+    private static String escapeLike(final String literal) {
+        final StringBuilder escaped = new StringBuilder(literal.length());
+        for (int i = 0; i < literal.length(); i++) {
+            final char c = literal.charAt(i);
+            if (c == '%' || c == '_' || c == '\\') {
+                escaped.append('\\');
+            }
+
+            escaped.append(c);
+        }
+
+        return escaped.toString();
+    }
+}
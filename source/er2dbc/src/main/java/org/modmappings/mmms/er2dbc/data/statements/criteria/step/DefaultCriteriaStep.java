@@ -1,8 +1,11 @@
 package org.modmappings.mmms.er2dbc.data.statements.criteria.step;
 
 import org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria;
+import org.modmappings.mmms.er2dbc.data.statements.criteria.match.MatchPlan;
+import org.modmappings.mmms.er2dbc.data.statements.criteria.match.MatchPlanner;
 import org.modmappings.mmms.er2dbc.data.statements.expression.CollectionExpression;
 import org.modmappings.mmms.er2dbc.data.statements.expression.Expression;
+import org.modmappings.mmms.er2dbc.data.statements.expression.ValueExpression;
 import org.springframework.util.Assert;
 
 import java.util.Collection;
@@ -165,11 +168,29 @@ public class DefaultCriteriaStep implements CriteriaStep {
         return createCriteria(ColumnBasedCriteria.Comparator.LIKE, right);
     }
 
+    /**
+     * Creates a {@link ColumnBasedCriteria} which matches the left side against the regex on the right side.
+     * <p>
+     * If the regex is a bound string it is planned by the {@link MatchPlanner}, which turns regexes that only match a literal into
+     * an equality check or a like, so that they can be served by an index.
+     */
     @Override
     public ColumnBasedCriteria matches(final Expression right) {
 
         Assert.notNull(right, "right must not be null!");
 
+        if (right.isValue() && ((ValueExpression) right).getValue() instanceof String) {
+            final ValueExpression valueExpression = (ValueExpression) right;
+            final MatchPlan plan = MatchPlanner.plan((String) valueExpression.getValue());
+
+            switch (plan.getKind()) {
+                case EQUALS:
+                    return createCriteria(ColumnBasedCriteria.Comparator.EQ, new ValueExpression(plan.getValue(), valueExpression.getName()));
+                case LIKE:
+                    return createCriteria(ColumnBasedCriteria.Comparator.LIKE, new ValueExpression(plan.getValue(), valueExpression.getName()));
+            }
+        }
+
         return createCriteria(ColumnBasedCriteria.Comparator.MATCH, right);
     }
 
@@ -64,6 +64,20 @@ public final class Expressions {
         return new FunctionExpression(name, args);
     }
 
+    /**
+     * Creates an {@code ANY(...)} expression over a single array parameter.
+     * <p>
+     * Unlike {@link #parameter(Collection)}, which binds every value separately, the array is bound as a single value.
+     * This keeps the statement the same regardless of the amount of values.
+     *
+     * @param name   The name of the parameter.
+     * @param values The values to bind as an array.
+     * @return The expression.
+     */
+    public static Expression any(final String name, final Object[] values) {
+        return invoke("ANY", new ValueExpression(values, name));
+    }
+
     public static Expression NULL() {
         return Expression.NULL;
     }
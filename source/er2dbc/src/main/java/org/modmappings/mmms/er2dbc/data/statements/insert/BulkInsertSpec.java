@@ -0,0 +1,56 @@
+package org.modmappings.mmms.er2dbc.data.statements.insert;
+
+import org.springframework.data.r2dbc.mapping.SettableValue;
+import org.springframework.util.Assert;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes a single insert statement which inserts multiple rows into a table at once.
+ * <p>
+ * Each row maps the column names to their values. Columns which are missing from a row, or which have no value,
+ * are inserted with their default value. This matches the single row insert, which leaves those columns out.
+ */
+public class BulkInsertSpec {
+
+    private final String table;
+    private final List<String> columns;
+    private final List<? extends Map<String, SettableValue>> rows;
+
+    public BulkInsertSpec(final String table, final List<String> columns, final List<? extends Map<String, SettableValue>> rows) {
+        this.table = table;
+        this.columns = columns;
+        this.rows = rows;
+    }
+
+    public static BulkInsertSpec create(final String table, final List<String> columns, final List<? extends Map<String, SettableValue>> rows) {
+        Assert.hasText(table, "Table must not be empty!");
+        Assert.notEmpty(columns, "Columns must not be empty!");
+        Assert.notEmpty(rows, "Rows must not be empty!");
+
+        return new BulkInsertSpec(table, Collections.unmodifiableList(columns), Collections.unmodifiableList(rows));
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    public List<? extends Map<String, SettableValue>> getRows() {
+        return rows;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkInsertSpec{" +
+                "table='" + table + "'," +
+                "columns=" + columns + "," +
+                "rows=" + rows.size() +
+                '}';
+    }
+}
@@ -0,0 +1,154 @@
+package org.modmappings.mmms.er2dbc.data.statements.mapper;
+
+import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.springframework.data.relational.core.sql.Select;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded, least recently used, cache of compiled select statements.
+ * <p>
+ * Entries are keyed by the shape of a {@link SelectSpecWithJoin}, so specs that only differ in their bound values
+ * share a single entry. A hit lets the {@link ExtendedStatementMapper} skip building and rendering the statement.
+ * Only the bindings need to be recreated for each call.
+ * <p>
+ * A maximum size of zero or less disables the cache.
+ */
+public class CompiledSelectCache {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+
+    private final int maximumSize;
+    private final Map<String, CompiledSelect> compiledSelects;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public CompiledSelectCache(final int maximumSize) {
+        this.maximumSize = maximumSize;
+        this.compiledSelects = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, CompiledSelect> eldest) {
+                if (size() <= CompiledSelectCache.this.maximumSize)
+                    return false;
+
+                evictions.increment();
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Looks up the compiled select for the given shape.
+     *
+     * @param shape The shape of the select spec.
+     * @return The compiled select, or null when the shape has not been compiled yet or has been evicted.
+     */
+    @Nullable
+    public CompiledSelect get(final String shape) {
+        if (!isEnabled()) {
+            misses.increment();
+            return null;
+        }
+
+        final CompiledSelect compiledSelect;
+        synchronized (compiledSelects) {
+            compiledSelect = compiledSelects.get(shape);
+        }
+
+        if (compiledSelect == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return compiledSelect;
+    }
+
+    /**
+     * Stores the compiled select for the given shape, evicting the least recently used entry if the cache is full.
+     *
+     * @param shape          The shape of the select spec.
+     * @param compiledSelect The compiled select.
+     */
+    public void put(final String shape, final CompiledSelect compiledSelect) {
+        if (!isEnabled())
+            return;
+
+        synchronized (compiledSelects) {
+            compiledSelects.put(shape, compiledSelect);
+        }
+    }
+
+    /**
+     * Removes all compiled selects from the cache. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (compiledSelects) {
+            compiledSelects.clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public int getSize() {
+        synchronized (compiledSelects) {
+            return compiledSelects.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledSelectCache{" +
+                "size=" + getSize() + "," +
+                "maximumSize=" + maximumSize + "," +
+                "hits=" + getHits() + "," +
+                "misses=" + getMisses() + "," +
+                "evictions=" + getEvictions() +
+                '}';
+    }
+
+    /**
+     * A select statement together with its rendered sql.
+     */
+    public static class CompiledSelect {
+
+        private final Select select;
+        private final String sql;
+
+        public CompiledSelect(final Select select, final String sql) {
+            this.select = select;
+            this.sql = sql;
+        }
+
+        public Select getSelect() {
+            return select;
+        }
+
+        public String getSql() {
+            return sql;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.modmappings.mmms.er2dbc.data.statements.mapper;
 
 import org.modmappings.mmms.er2dbc.data.query.mapper.ExtendedMapper;
 import org.modmappings.mmms.er2dbc.data.statements.builder.ExtendedSelectBuilder;
+import org.modmappings.mmms.er2dbc.data.statements.insert.BulkInsertSpec;
 import org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec;
 import org.modmappings.mmms.er2dbc.data.statements.mapper.bound.BoundExpression;
 import org.modmappings.mmms.er2dbc.data.statements.mapper.bound.BoundSortSpec;
@@ -16,6 +17,8 @@ import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.r2dbc.core.PreparedOperation;
 import org.springframework.data.r2dbc.core.StatementMapper;
 import org.springframework.data.r2dbc.dialect.*;
+import org.springframework.data.r2dbc.dialect.BindMarker;
+import org.springframework.data.r2dbc.mapping.SettableValue;
 import org.springframework.data.r2dbc.query.BoundAssignments;
 import org.springframework.data.r2dbc.query.BoundCondition;
 import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
@@ -39,12 +42,18 @@ public class ExtendedStatementMapper implements StatementMapper {
     private final RenderContext renderContext;
     private final ExtendedMapper extendedMapper;
     private final MappingContext<RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext;
+    private final CompiledSelectCache compiledSelectCache;
 
     public ExtendedStatementMapper(final R2dbcDialect dialect, final RenderContext renderContext, final ExtendedMapper extendedMapper, final MappingContext<RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext) {
+        this(dialect, renderContext, extendedMapper, mappingContext, new CompiledSelectCache(CompiledSelectCache.DEFAULT_MAXIMUM_SIZE));
+    }
+
+    public ExtendedStatementMapper(final R2dbcDialect dialect, final RenderContext renderContext, final ExtendedMapper extendedMapper, final MappingContext<RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext, final CompiledSelectCache compiledSelectCache) {
         this.dialect = dialect;
         this.renderContext = renderContext;
         this.extendedMapper = extendedMapper;
         this.mappingContext = mappingContext;
+        this.compiledSelectCache = compiledSelectCache;
 
         this.extendedMapper.setStatementMapper(this);
     }
@@ -59,6 +68,7 @@ public class ExtendedStatementMapper implements StatementMapper {
                 renderContext,
                 extendedMapper,
                 mappingContext,
+                compiledSelectCache,
                 (RelationalPersistentEntity<T>) this.mappingContext.getRequiredPersistentEntity(type));
     }
 
@@ -111,8 +121,26 @@ public class ExtendedStatementMapper implements StatementMapper {
         return getMappedObject(selectSpecWithJoin, null);
     }
 
+    /**
+     * Maps the given spec to a prepared select operation.
+     * <p>
+     * Specs are looked up in the {@link CompiledSelectCache} by their shape first. If the shape was already compiled,
+     * the cached statement and sql are reused and only the bindings are created from the values in the spec.
+     */
     private PreparedOperation<Select> getMappedObject(final SelectSpecWithJoin selectSpecWithJoin,
                                                       @Nullable final RelationalPersistentEntity<?> entity) {
+        final String shape = SelectSpecShape.of(selectSpecWithJoin);
+        final CompiledSelectCache.CompiledSelect compiledSelect = this.compiledSelectCache.get(shape);
+        if (compiledSelect != null) {
+            return new ExtendedStatementMapper.ExtendedPreparedOperation<>(compiledSelect.getSelect(), this.renderContext, this.bindValues(selectSpecWithJoin), compiledSelect.getSql());
+        }
+
+        return this.compile(shape, selectSpecWithJoin, entity);
+    }
+
+    private PreparedOperation<Select> compile(final String shape,
+                                              final SelectSpecWithJoin selectSpecWithJoin,
+                                              @Nullable final RelationalPersistentEntity<?> entity) {
 
         final Map<String, String> aliasing = new HashMap<>();
 
@@ -149,13 +177,26 @@ public class ExtendedStatementMapper implements StatementMapper {
             }
         }
 
+        Condition where = null;
         if (selectSpecWithJoin.getCriteria() != null) {
 
             final BoundCondition mappedObject = this.extendedMapper.getMappedObject(bindMarkers, selectSpecWithJoin.getCriteria(), table,
                     entity, aliasing);
 
             bindings = bindings.and(mappedObject.getBindings());
-            selectBuilder.where(mappedObject.getCondition());
+            where = mappedObject.getCondition();
+        }
+
+        if (selectSpecWithJoin.isSeeking()) {
+
+            final BoundCondition mappedSeek = this.extendedMapper.getMappedObject(bindMarkers, selectSpecWithJoin.getSeekOrders(), selectSpecWithJoin.getSeekAfter(), table, aliasing);
+
+            bindings = bindings.and(mappedSeek.getBindings());
+            where = where == null ? mappedSeek.getCondition() : where.and(mappedSeek.getCondition());
+        }
+
+        if (where != null) {
+            selectBuilder.where(where);
         }
 
         if (!selectSpecWithJoin.getSort().isUnsorted()) {
@@ -165,15 +206,88 @@ public class ExtendedStatementMapper implements StatementMapper {
             bindings = bindings.and(boundSortSpec.getBindings());
         }
 
+        final Select select = selectBuilder.build();
+        String sql = new SqlWithJoinSpecificSqlRenderer(this.renderContext).render(select);
+
         if (selectSpecWithJoin.getPage().isPaged()) {
+            final MutableBindings pageBindings = new MutableBindings(bindMarkers);
+            sql = sql + this.bindPage(selectSpecWithJoin.getPage(), pageBindings);
+            bindings = bindings.and(pageBindings);
+        }
 
-            final Pageable page = selectSpecWithJoin.getPage();
+        this.compiledSelectCache.put(shape, new CompiledSelectCache.CompiledSelect(select, sql));
 
-            selectBuilder.limitOffset(page.getPageSize(), page.getOffset());
+        return new ExtendedStatementMapper.ExtendedPreparedOperation<>(select, this.renderContext, bindings, sql);
+    }
+
+    /**
+     * Creates the bindings for the values in the given spec, without building or rendering the statement.
+     * <p>
+     * The spec is walked in the same order as {@link #compile(String, SelectSpecWithJoin, RelationalPersistentEntity)} walks it,
+     * so the bind markers match those in the compiled sql of the same shape.
+     */
+    private Bindings bindValues(final SelectSpecWithJoin selectSpecWithJoin) {
+        final Map<String, String> aliasing = new HashMap<>();
+        final MutableBindings bindings = new MutableBindings(new NamedIndexEquivalentBindMarkers(this.dialect.getBindMarkersFactory().create()));
+
+        for (final org.modmappings.mmms.er2dbc.data.statements.expression.Expression e : selectSpecWithJoin.getProjectedFields()) {
+            this.extendedMapper.bindValues(e, bindings, aliasing);
         }
 
-        final Select select = selectBuilder.build();
-        return new ExtendedStatementMapper.ExtendedPreparedOperation<>(select, this.renderContext, bindings);
+        if (selectSpecWithJoin.getJoinSpecs() != null) {
+            for (final JoinSpec joinSpec : selectSpecWithJoin.getJoinSpecs()) {
+                if (joinSpec.isAliased()) {
+                    aliasing.put(joinSpec.getTableAlias(), joinSpec.getTableName());
+                }
+
+                if (joinSpec.getOn() != null) {
+                    this.extendedMapper.bindValues(joinSpec.getOn(), bindings, aliasing);
+                }
+            }
+        }
+
+        if (selectSpecWithJoin.getCriteria() != null) {
+            this.extendedMapper.bindValues(selectSpecWithJoin.getCriteria(), bindings, aliasing);
+        }
+
+        if (selectSpecWithJoin.isSeeking()) {
+            this.extendedMapper.bindValues(selectSpecWithJoin.getSeekOrders(), selectSpecWithJoin.getSeekAfter(), bindings, aliasing);
+        }
+
+        for (final SortSpec.Order order : selectSpecWithJoin.getSort().getComponents()) {
+            this.extendedMapper.bindValues(order.getExpression(), bindings, aliasing);
+        }
+
+        if (selectSpecWithJoin.getPage().isPaged()) {
+            this.bindPage(selectSpecWithJoin.getPage(), bindings);
+        }
+
+        return bindings;
+    }
+
+    /**
+     * Binds the limit and offset of the given page and renders the matching clause.
+     * <p>
+     * The limit and offset are bound instead of rendered as literals. This keeps the sql of all pages of the same shape identical,
+     * so the server side prepared statement that the driver keeps per connection is reused when paging through results,
+     * instead of a new statement being parsed and planned for every page.
+     *
+     * @param page     The page to bind.
+     * @param bindings The bindings to add the limit and offset to.
+     * @return The rendered limit and offset clause, including a leading space.
+     */
+    private String bindPage(final Pageable page, final MutableBindings bindings) {
+        final BindMarker limitMarker = bindings.nextMarker();
+        bindings.bind(limitMarker, (long) page.getPageSize());
+
+        final BindMarker offsetMarker = bindings.nextMarker();
+        bindings.bind(offsetMarker, page.getOffset());
+
+        return " LIMIT " + limitMarker.getPlaceholder() + " OFFSET " + offsetMarker.getPlaceholder();
+    }
+
+    public CompiledSelectCache getCompiledSelectCache() {
+        return compiledSelectCache;
     }
 
     /**
@@ -256,6 +370,56 @@ public class ExtendedStatementMapper implements StatementMapper {
         return new ExtendedStatementMapper.ExtendedPreparedOperation<>(withBuild.build(), this.renderContext, bindings);
     }
 
+    /**
+     * Maps a multi row insert.
+     * <p>
+     * The insert builder of spring data relational only supports a single row of values, so the statement is rendered
+     * directly. Values which are absent are rendered as DEFAULT, all others are bound.
+     *
+     * @param bulkInsertSpec The spec describing the rows to insert.
+     * @return The prepared insert operation.
+     */
+    public PreparedOperation<BulkInsertSpec> getMappedObject(final BulkInsertSpec bulkInsertSpec) {
+        Assert.notNull(bulkInsertSpec, "BulkInsertSpec must not be null!");
+
+        final MutableBindings bindings = new MutableBindings(this.dialect.getBindMarkersFactory().create());
+        final StringBuilder sql = new StringBuilder("INSERT INTO ")
+                .append(bulkInsertSpec.getTable())
+                .append(" (")
+                .append(String.join(", ", bulkInsertSpec.getColumns()))
+                .append(") VALUES ");
+
+        boolean firstRow = true;
+        for (final Map<String, SettableValue> row : bulkInsertSpec.getRows()) {
+            if (!firstRow) {
+                sql.append(", ");
+            }
+            firstRow = false;
+
+            sql.append("(");
+            boolean firstColumn = true;
+            for (final String column : bulkInsertSpec.getColumns()) {
+                if (!firstColumn) {
+                    sql.append(", ");
+                }
+                firstColumn = false;
+
+                final SettableValue value = row.get(column);
+                if (value == null || !value.hasValue()) {
+                    sql.append("DEFAULT");
+                    continue;
+                }
+
+                final BindMarker bindMarker = bindings.nextMarker(column);
+                bindings.bind(bindMarker, value.getValue());
+                sql.append(bindMarker.getPlaceholder());
+            }
+            sql.append(")");
+        }
+
+        return new ExtendedStatementMapper.ExtendedPreparedOperation<>(bulkInsertSpec, this.renderContext, bindings, sql.toString());
+    }
+
     /*
      * (non-Javadoc)
      * @see org.springframework.data.r2dbc.function.StatementMapper#getMappedObject(org.springframework.data.r2dbc.function.StatementMapper.UpdateSpec)
@@ -346,6 +510,21 @@ public class ExtendedStatementMapper implements StatementMapper {
         return new CountingExtendedPreparedOperation<>(preparedOperation);
     }
 
+    public <T> PreparedOperation<T> explain(final PreparedOperation<T> preparedOperation) {
+        return new ExplainingExtendedPreparedOperation<>(preparedOperation);
+    }
+
+    /**
+     * Wraps the given operation so that it is executed with EXPLAIN (ANALYZE, BUFFERS).
+     * Note that postgres actually executes the wrapped operation to analyze it.
+     *
+     * @param preparedOperation The operation to analyze.
+     * @return The analyzing operation, each row of its result is a single line of the plan.
+     */
+    public <T> PreparedOperation<T> explainAnalyze(final PreparedOperation<T> preparedOperation) {
+        return new ExplainingExtendedPreparedOperation<>(preparedOperation, "EXPLAIN (ANALYZE, BUFFERS) ");
+    }
+
     /**
      * Extended implementation of {@link PreparedOperation}.
      *
@@ -356,11 +535,18 @@ public class ExtendedStatementMapper implements StatementMapper {
         private final T source;
         private final RenderContext renderContext;
         private final Bindings bindings;
+        @Nullable
+        private final String query;
 
         public ExtendedPreparedOperation(final T source, final RenderContext renderContext, final Bindings bindings) {
+            this(source, renderContext, bindings, null);
+        }
+
+        public ExtendedPreparedOperation(final T source, final RenderContext renderContext, final Bindings bindings, @Nullable final String query) {
             this.source = source;
             this.renderContext = renderContext;
             this.bindings = bindings;
+            this.query = query;
         }
 
         /*
@@ -379,6 +565,10 @@ public class ExtendedStatementMapper implements StatementMapper {
         @Override
         public String toQuery() {
 
+            if (this.query != null) {
+                return this.query;
+            }
+
             final SqlRenderer sqlRenderer = SqlRenderer.create(this.renderContext);
 
             if (this.source instanceof Select) {
@@ -410,6 +600,10 @@ public class ExtendedStatementMapper implements StatementMapper {
             this.bindings.apply(to);
         }
 
+        public Bindings getBindings() {
+            return bindings;
+        }
+
         @Override
         public String toString() {
             return "ExtendedPreparedOperation{" +
@@ -444,6 +638,10 @@ public class ExtendedStatementMapper implements StatementMapper {
             return String.format("SELECT Count(*) from (%s) as c", innerQuery);
         }
 
+        public PreparedOperation<T> getInner() {
+            return inner;
+        }
+
         @Override
         public String toString() {
             return "CountingExtendedPreparedOperation{" +
@@ -453,12 +651,54 @@ public class ExtendedStatementMapper implements StatementMapper {
         }
     }
 
+    public class ExplainingExtendedPreparedOperation<T> implements PreparedOperation<T> {
+
+        private final PreparedOperation<T> inner;
+        private final String prefix;
+
+        public ExplainingExtendedPreparedOperation(final PreparedOperation<T> inner) {
+            this(inner, "EXPLAIN ");
+        }
+
+        public ExplainingExtendedPreparedOperation(final PreparedOperation<T> inner, final String prefix) {
+            this.inner = inner;
+            this.prefix = prefix;
+        }
+
+        @Override
+        public T getSource() {
+            return inner.getSource();
+        }
+
+        @Override
+        public void bindTo(final BindTarget target) {
+            inner.bindTo(target);
+        }
+
+        @Override
+        public String toQuery() {
+            return prefix + inner.toQuery();
+        }
+
+        public PreparedOperation<T> getInner() {
+            return inner;
+        }
+
+        @Override
+        public String toString() {
+            return "ExplainingExtendedPreparedOperation{" +
+                    "inner=" + inner + "," +
+                    "sql=" + toQuery() +
+                    '}';
+        }
+    }
+
     private class Typed<T> extends ExtendedStatementMapper implements TypedStatementMapper<T> {
 
         final RelationalPersistentEntity<T> entity;
 
-        public Typed(final R2dbcDialect dialect, final RenderContext renderContext, final ExtendedMapper extendedMapper, final MappingContext<RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext, final RelationalPersistentEntity<T> entity) {
-            super(dialect, renderContext, extendedMapper, mappingContext);
+        public Typed(final R2dbcDialect dialect, final RenderContext renderContext, final ExtendedMapper extendedMapper, final MappingContext<RelationalPersistentEntity<?>, ? extends RelationalPersistentProperty> mappingContext, final CompiledSelectCache compiledSelectCache, final RelationalPersistentEntity<T> entity) {
+            super(dialect, renderContext, extendedMapper, mappingContext, compiledSelectCache);
             this.entity = entity;
         }
 
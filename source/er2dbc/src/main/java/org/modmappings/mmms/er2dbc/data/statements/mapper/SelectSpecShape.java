@@ -0,0 +1,157 @@
+package org.modmappings.mmms.er2dbc.data.statements.mapper;
+
+import org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria;
+import org.modmappings.mmms.er2dbc.data.statements.expression.*;
+import org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec;
+import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+
+/**
+ * Computes the structural shape of a {@link SelectSpecWithJoin}.
+ * <p>
+ * The shape covers everything that ends up in the rendered sql: the table, the projections, the joins, the criteria tree,
+ * the keyset (seek) condition, the sort and whether the spec is paged. Bound values are abstracted to their name, since only the name influences the
+ * bind marker that is used for them. The limit and offset of a page are bound as well, so they are not part of the shape.
+ * Two specs with the same shape render to the same sql and only differ in their bindings.
+ */
+final class SelectSpecShape {
+
+    private SelectSpecShape() {
+        throw new IllegalStateException("Can not instantiate an instance of: SelectSpecShape. This is a utility class");
+    }
+
+    static String of(final SelectSpecWithJoin selectSpecWithJoin) {
+        final StringBuilder builder = new StringBuilder(256);
+
+        builder.append(selectSpecWithJoin.isDistinct() ? "SELECT DISTINCT " : "SELECT ");
+        appendAll(builder, selectSpecWithJoin.getProjectedFields());
+
+        builder.append(" FROM ").append(selectSpecWithJoin.getTable());
+
+        if (selectSpecWithJoin.getJoinSpecs() != null) {
+            for (final JoinSpec joinSpec : selectSpecWithJoin.getJoinSpecs()) {
+                builder.append(' ').append(joinSpec.getType().name())
+                        .append(' ').append(joinSpec.getTableName())
+                        .append(" AS ").append(joinSpec.isAliased() ? joinSpec.getTableAlias() : "")
+                        .append(" ON ");
+                append(builder, joinSpec.getOn());
+            }
+        }
+
+        builder.append(" WHERE ");
+        append(builder, selectSpecWithJoin.getCriteria());
+
+        if (selectSpecWithJoin.isSeeking()) {
+            builder.append(" SEEK ").append(selectSpecWithJoin.getSeekOrders().size());
+        }
+
+        builder.append(" ORDER BY ");
+        for (final SortSpec.Order order : selectSpecWithJoin.getSort().getComponents()) {
+            append(builder, order.getExpression());
+            builder.append(' ').append(order.getDirection().name()).append(',');
+        }
+
+        final Pageable page = selectSpecWithJoin.getPage();
+        if (page.isPaged()) {
+            builder.append(" PAGED");
+        }
+
+        return builder.toString();
+    }
+
+    private static void append(final StringBuilder builder, final ColumnBasedCriteria criteria) {
+        if (criteria == null) {
+            builder.append('-');
+            return;
+        }
+
+        final Deque<ColumnBasedCriteria> chain = new ArrayDeque<>();
+        ColumnBasedCriteria current = criteria;
+        chain.push(current);
+        while (current.hasPrevious()) {
+            current = current.getPrevious();
+            chain.push(current);
+        }
+
+        for (final ColumnBasedCriteria link : chain) {
+            builder.append(link.getCombinator().name()).append('(');
+            append(builder, link.getLeftExpression());
+            builder.append(' ').append(link.getComparator().name()).append(' ');
+            if (link.getRightExpression() != null) {
+                append(builder, link.getRightExpression());
+            }
+            builder.append(')');
+        }
+    }
+
+    private static void appendAll(final StringBuilder builder, final Collection<Expression> expressions) {
+        builder.append('[');
+        for (final Expression expression : expressions) {
+            append(builder, expression);
+            builder.append(',');
+        }
+        builder.append(']');
+    }
+
+    private static void append(final StringBuilder builder, final Expression expression) {
+        if (expression.isNull()) {
+            builder.append("NULL");
+            return;
+        }
+
+        if (expression.isValue()) {
+            builder.append("?").append(((ValueExpression) expression).getName());
+            return;
+        }
+
+        if (expression.isReference()) {
+            final ReferenceExpression referenceExpression = (ReferenceExpression) expression;
+            builder.append(referenceExpression.getTableName()).append('.').append(referenceExpression.getColumnName());
+            return;
+        }
+
+        if (expression.isNative()) {
+            builder.append('{').append(((NativeExpression) expression).getSqlExpression()).append('}');
+            return;
+        }
+
+        if (expression.isAliased()) {
+            final AliasedExpression aliasedExpression = (AliasedExpression) expression;
+            append(builder, aliasedExpression.getOther());
+            builder.append(" AS ").append(aliasedExpression.getAlias());
+            return;
+        }
+
+        if (expression.isDistinctOn()) {
+            builder.append("DISTINCT ON");
+            appendAll(builder, ((DistinctOnExpression) expression).getSource());
+            return;
+        }
+
+        if (expression.isDistinct()) {
+            builder.append("DISTINCT(");
+            append(builder, ((DistinctExpression) expression).getSource());
+            builder.append(')');
+            return;
+        }
+
+        if (expression.isFunction()) {
+            final FunctionExpression functionExpression = (FunctionExpression) expression;
+            builder.append(functionExpression.getFunctionName());
+            appendAll(builder, functionExpression.getArgs());
+            return;
+        }
+
+        if (expression.isCollection()) {
+            appendAll(builder, ((CollectionExpression) expression).getExpressions());
+            return;
+        }
+
+        builder.append(expression.getClass().getName()).append('@').append(System.identityHashCode(expression));
+    }
+}
@@ -1,6 +1,7 @@
 package org.modmappings.mmms.er2dbc.data.statements.mapper.renderer;
 
 import org.modmappings.mmms.er2dbc.relational.core.sql.Match;
+import org.modmappings.mmms.er2dbc.relational.core.sql.Seek;
 import org.springframework.data.relational.core.sql.*;
 import org.springframework.data.relational.core.sql.render.RenderContext;
 import org.springframework.lang.Nullable;
@@ -53,6 +54,10 @@ public class ConditionVisitor extends TypedSubtreeVisitor<Condition> implements
             return new MatchVisitor((Match) segment, context, builder::append);
         }
 
+        if (segment instanceof Seek) {
+            return new SeekVisitor((Seek) segment, context, builder::append);
+        }
+
         if (segment instanceof In) {
             return new InVisitor(context, builder::append);
         }
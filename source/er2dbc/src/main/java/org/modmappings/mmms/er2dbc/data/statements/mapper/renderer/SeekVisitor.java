@@ -0,0 +1,71 @@
+package org.modmappings.mmms.er2dbc.data.statements.mapper.renderer;
+
+import org.modmappings.mmms.er2dbc.relational.core.sql.Seek;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.data.relational.core.sql.Visitable;
+import org.springframework.data.relational.core.sql.render.RenderContext;
+import org.springframework.lang.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SeekVisitor extends FilteredSubtreeVisitor {
+
+    private final Seek condition;
+    private final RenderContext context;
+    private final RenderTarget target;
+    private final List<CharSequence> parts = new ArrayList<>();
+    private @Nullable
+    PartRenderer current;
+
+    SeekVisitor(final Seek condition, final RenderContext context, final RenderTarget target) {
+        super(it -> it == condition);
+        this.condition = condition;
+        this.context = context;
+        this.target = target;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see FilteredSubtreeVisitor#enterNested(org.springframework.data.relational.core.sql.Visitable)
+     */
+    @Override
+    Delegation enterNested(final Visitable segment) {
+
+        if (segment instanceof Expression) {
+            final ExpressionVisitor visitor = new ExpressionVisitor(context);
+            current = visitor;
+            return Delegation.delegateTo(visitor);
+        }
+
+        throw new IllegalStateException("Cannot provide visitor for " + segment);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see FilteredSubtreeVisitor#leaveNested(org.springframework.data.relational.core.sql.Visitable)
+     */
+    @Override
+    Delegation leaveNested(final Visitable segment) {
+
+        if (current != null) {
+            parts.add(current.getRenderedPart().toString());
+            current = null;
+        }
+
+        return super.leaveNested(segment);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see FilteredSubtreeVisitor#leaveMatched(org.springframework.data.relational.core.sql.Visitable)
+     */
+    @Override
+    Delegation leaveMatched(final Visitable segment) {
+
+        final int columnCount = condition.getColumns().size();
+        target.onRendered(condition.render(parts.subList(0, columnCount), parts.subList(columnCount, parts.size())));
+
+        return super.leaveMatched(segment);
+    }
+}
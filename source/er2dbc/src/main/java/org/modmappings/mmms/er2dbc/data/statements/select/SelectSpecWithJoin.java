@@ -26,8 +26,14 @@ public class SelectSpecWithJoin {
     private final ColumnBasedCriteria criteria;
     private final SortSpec sort;
     private final Pageable page;
+    @Nullable
+    private final List<Object> seekAfter;
 
     public SelectSpecWithJoin(final boolean distinct, final String table, final Collection<JoinSpec> joinSpecs, final DistinctOnExpression distinctOnExpression, final List<Expression> projectedFields, @Nullable final ColumnBasedCriteria criteria, final SortSpec sort, final Pageable page) {
+        this(distinct, table, joinSpecs, distinctOnExpression, projectedFields, criteria, sort, page, null);
+    }
+
+    public SelectSpecWithJoin(final boolean distinct, final String table, final Collection<JoinSpec> joinSpecs, final DistinctOnExpression distinctOnExpression, final List<Expression> projectedFields, @Nullable final ColumnBasedCriteria criteria, final SortSpec sort, final Pageable page, @Nullable final List<Object> seekAfter) {
         this.distinct = distinct;
         this.table = table;
         this.joinSpecs = joinSpecs;
@@ -36,6 +42,7 @@ public class SelectSpecWithJoin {
         this.criteria = criteria;
         this.sort = sort;
         this.page = page;
+        this.seekAfter = seekAfter;
     }
 
     public static SelectSpecWithJoin create(final String table) {
@@ -75,7 +82,7 @@ public class SelectSpecWithJoin {
             fields.addAll(this.distinctOnExpression.getSource());
         fields.addAll(projectedFields.stream().map(Expressions::reference).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, new DistinctOnExpression(fields), fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, new DistinctOnExpression(fields), fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -94,7 +101,7 @@ public class SelectSpecWithJoin {
             fields.addAll(this.distinctOnExpression.getSource());
         fields.addAll(projectedFields);
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, new DistinctOnExpression(fields), fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, new DistinctOnExpression(fields), fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -124,7 +131,7 @@ public class SelectSpecWithJoin {
         final List<Expression> fields = new ArrayList<>(this.projectedFields);
         fields.addAll(projectedFields.stream().map(Expressions::reference).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -141,7 +148,7 @@ public class SelectSpecWithJoin {
         final List<Expression> fields = new ArrayList<>(this.projectedFields);
         fields.addAll(projectedFields);
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -171,7 +178,7 @@ public class SelectSpecWithJoin {
         final List<Expression> fields = new ArrayList<>(this.projectedFields);
         fields.addAll(projectedFields.stream().map(Expressions::reference).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -188,7 +195,7 @@ public class SelectSpecWithJoin {
         final List<Expression> fields = new ArrayList<>(this.projectedFields);
         fields.addAll(projectedFields);
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
 
@@ -218,7 +225,7 @@ public class SelectSpecWithJoin {
 
         final List<Expression> fields = projectedFields.stream().map(Expressions::reference).collect(Collectors.toList());
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -234,7 +241,7 @@ public class SelectSpecWithJoin {
 
         final List<Expression> fields = new ArrayList<>(expressions);
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, fields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -244,7 +251,7 @@ public class SelectSpecWithJoin {
      * @return the {@link SelectSpecWithJoin}.
      */
     public SelectSpecWithJoin withCriteria(final ColumnBasedCriteria criteria) {
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, criteria, this.sort, this.page, this.seekAfter);
     }
 
     public SelectSpecWithJoin where(final Supplier<ColumnBasedCriteria> criteriaSupplier) {
@@ -263,21 +270,21 @@ public class SelectSpecWithJoin {
         final Collection<JoinSpec> joinSpecs = new ArrayList<>(this.joinSpecs);
         joinSpecs.add(join);
 
-        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     public SelectSpecWithJoin withJoin(final JoinSpec... joins) {
         final Collection<JoinSpec> joinSpecs = new ArrayList<>(this.joinSpecs);
-        joinSpecs.addAll(Arrays.stream(joins).filter(s -> !(s instanceof JoinSpec.NoopJoinSpec)).collect(Collectors.toSet()));
+        joinSpecs.addAll(Arrays.stream(joins).filter(s -> !(s instanceof JoinSpec.NoopJoinSpec)).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     public SelectSpecWithJoin withJoin(final Collection<JoinSpec> joins) {
         final Collection<JoinSpec> joinSpecs = new ArrayList<>(this.joinSpecs);
-        joinSpecs.addAll(joins.stream().filter(s -> !(s instanceof JoinSpec.NoopJoinSpec)).collect(Collectors.toSet()));
+        joinSpecs.addAll(joins.stream().filter(s -> !(s instanceof JoinSpec.NoopJoinSpec)).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     public SelectSpecWithJoin join(final Supplier<JoinSpec> join) {
@@ -288,14 +295,14 @@ public class SelectSpecWithJoin {
         final Collection<JoinSpec> joinSpecs = new ArrayList<>(this.joinSpecs);
         joinSpecs.addAll(Arrays.stream(joins).map(Supplier::get).filter(s -> !(s instanceof JoinSpec.NoopJoinSpec)).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     public SelectSpecWithJoin join(final Collection<Supplier<JoinSpec>> joins) {
         final Collection<JoinSpec> joinSpecs = new ArrayList<>(this.joinSpecs);
         joinSpecs.addAll(joins.stream().map(Supplier::get).filter(s -> !(s instanceof JoinSpec.NoopJoinSpec)).collect(Collectors.toList()));
 
-        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     public SelectSpecWithJoin distinct() {
@@ -307,7 +314,7 @@ public class SelectSpecWithJoin {
     }
 
     public SelectSpecWithJoin withDistinct(final boolean distinct) {
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
 
@@ -320,10 +327,10 @@ public class SelectSpecWithJoin {
     public SelectSpecWithJoin withSort(final SortSpec sort) {
 
         if (!sort.isUnsorted()) {
-            return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, sort, this.page);
+            return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, sort, this.page, this.seekAfter);
         }
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, this.seekAfter);
     }
 
     /**
@@ -340,10 +347,40 @@ public class SelectSpecWithJoin {
             final SortSpec sortSpec = SortSpec.sort(sort);
 
             return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, !this.sort.isUnsorted() || sort.isUnsorted() ? this.sort : sortSpec,
-                    page);
+                    page, this.seekAfter);
         }
 
-        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, page);
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, page, this.seekAfter);
+    }
+
+    /**
+     * Switches the select to keyset (seek) pagination and create a new {@link SelectSpecWithJoin}.
+     * <p>
+     * Only rows that sort after the given sort key values are selected. The values need to be in the order of
+     * {@link #getSeekOrders()}. Combine this with a page of offset zero, the offset is no longer needed to skip
+     * the rows of previous pages.
+     * <p>
+     * The sort needs to be total (for example by including the id as last sort key), otherwise rows that share
+     * the same sort key values as the last row of the previous page are skipped.
+     *
+     * @param sortValues The values of the seek orders of the last row of the previous page.
+     * @return the {@link SelectSpecWithJoin}.
+     */
+    public SelectSpecWithJoin withSeekAfter(final List<?> sortValues) {
+        Assert.notNull(sortValues, "Sort values must not be null!");
+
+        return new SelectSpecWithJoin(distinct, this.table, this.joinSpecs, distinctOnExpression, this.projectedFields, this.criteria, this.sort, this.page, new ArrayList<>(sortValues));
+    }
+
+    /**
+     * Switches the select to keyset (seek) pagination and create a new {@link SelectSpecWithJoin}.
+     *
+     * @param sortValues The values of the seek orders of the last row of the previous page.
+     * @return the {@link SelectSpecWithJoin}.
+     * @see #withSeekAfter(List)
+     */
+    public SelectSpecWithJoin withSeekAfter(final Object... sortValues) {
+        return withSeekAfter(Arrays.asList(sortValues));
     }
 
     public SelectSpecWithJoin clearSortAndPage() {
@@ -384,4 +421,30 @@ public class SelectSpecWithJoin {
     public Pageable getPage() {
         return this.page;
     }
+
+    public boolean isSeeking() {
+        return this.seekAfter != null;
+    }
+
+    @Nullable
+    public List<Object> getSeekAfter() {
+        return this.seekAfter;
+    }
+
+    /**
+     * The sort orders that make up the key of a keyset (seek) page.
+     * <p>
+     * For a distinct on select this is limited to the leading orders which are covered by the distinct on expressions.
+     * Rows are only unique on those, and seeking on the later orders would, before the distinct on is applied,
+     * let through older rows for the last seen distinct key.
+     *
+     * @return The seek orders.
+     */
+    public List<SortSpec.Order> getSeekOrders() {
+        final List<SortSpec.Order> components = this.sort.getComponents();
+        if (this.distinctOnExpression == null)
+            return components;
+
+        return components.subList(0, Math.min(components.size(), this.distinctOnExpression.getSource().size()));
+    }
 }
@@ -0,0 +1,112 @@
+package org.modmappings.mmms.er2dbc.relational.core.sql;
+
+import org.springframework.data.relational.core.sql.Condition;
+import org.springframework.data.relational.core.sql.Expression;
+import org.springframework.util.Assert;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Keyset (seek) condition which only lets rows through that sort after a given set of sort key values.
+ * <p>
+ * When all sort keys share the same direction the condition is rendered as a row value comparison:
+ * {@code (a, b) > ($1, $2)}. Mixed directions can not be expressed as a row value comparison, in that case
+ * the expanded form {@code (a > $1 OR (a = $1 AND b < $2))} is rendered.
+ */
+public class Seek extends AbstractSegment implements Condition {
+
+    private final List<Expression> columns;
+    private final List<Expression> values;
+    private final List<OrderBy.Direction> directions;
+
+    private Seek(final List<Expression> columns, final List<Expression> values, final List<OrderBy.Direction> directions) {
+        super(concat(columns, values));
+
+        this.columns = Collections.unmodifiableList(columns);
+        this.values = Collections.unmodifiableList(values);
+        this.directions = Collections.unmodifiableList(directions);
+    }
+
+    /**
+     * Creates a new {@link Seek} {@link Condition}.
+     *
+     * @param columns    The sort key expressions.
+     * @param values     The values of the sort keys of the last row that was seen, in the same order as the columns.
+     * @param directions The sort direction of each sort key, in the same order as the columns.
+     * @return The seek condition.
+     */
+    public static Seek create(final List<Expression> columns, final List<Expression> values, final List<OrderBy.Direction> directions) {
+        Assert.notEmpty(columns, "Columns must not be empty!");
+        Assert.isTrue(columns.size() == values.size(), "Each column needs exactly one value to seek after!");
+        Assert.isTrue(columns.size() == directions.size(), "Each column needs exactly one direction!");
+
+        return new Seek(new ArrayList<>(columns), new ArrayList<>(values), new ArrayList<>(directions));
+    }
+
+    private static Expression[] concat(final List<Expression> columns, final List<Expression> values) {
+        final List<Expression> children = new ArrayList<>(columns);
+        children.addAll(values);
+        return children.toArray(Expression[]::new);
+    }
+
+    public List<Expression> getColumns() {
+        return columns;
+    }
+
+    public List<Expression> getValues() {
+        return values;
+    }
+
+    public List<OrderBy.Direction> getDirections() {
+        return directions;
+    }
+
+    public boolean isUniformlyDirected() {
+        return directions.stream().distinct().count() == 1;
+    }
+
+    /**
+     * Renders the condition from already rendered columns and values.
+     *
+     * @param renderedColumns The rendered columns, in order.
+     * @param renderedValues  The rendered values, in order.
+     * @return The rendered condition.
+     */
+    public String render(final List<? extends CharSequence> renderedColumns, final List<? extends CharSequence> renderedValues) {
+        if (isUniformlyDirected()) {
+            final String comparator = comparatorFor(directions.get(0));
+            if (renderedColumns.size() == 1)
+                return String.format("%s %s %s", renderedColumns.get(0), comparator, renderedValues.get(0));
+
+            return String.format("(%s) %s (%s)", String.join(", ", renderedColumns), comparator, String.join(", ", renderedValues));
+        }
+
+        final List<String> alternatives = new ArrayList<>();
+        for (int i = 0; i < renderedColumns.size(); i++) {
+            final StringBuilder alternative = new StringBuilder();
+            for (int j = 0; j < i; j++) {
+                alternative.append(renderedColumns.get(j)).append(" = ").append(renderedValues.get(j)).append(" AND ");
+            }
+            alternative.append(renderedColumns.get(i)).append(' ').append(comparatorFor(directions.get(i))).append(' ').append(renderedValues.get(i));
+
+            alternatives.add(i == 0 ? alternative.toString() : "(" + alternative + ")");
+        }
+
+        return "(" + String.join(" OR ", alternatives) + ")";
+    }
+
+    private static String comparatorFor(final OrderBy.Direction direction) {
+        return direction == OrderBy.Direction.ASC ? ">" : "<";
+    }
+
+    @Override
+    public String toString() {
+        return render(
+                columns.stream().map(Object::toString).collect(Collectors.toList()),
+                values.stream().map(Object::toString).collect(Collectors.toList())
+        );
+    }
+}
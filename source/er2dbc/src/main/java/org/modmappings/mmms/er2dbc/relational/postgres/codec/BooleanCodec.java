@@ -0,0 +1,62 @@
+package org.modmappings.mmms.er2dbc.relational.postgres.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.client.Parameter;
+import io.r2dbc.postgresql.message.Format;
+import io.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.r2dbc.postgresql.util.Assert;
+import org.springframework.lang.Nullable;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.BOOL;
+
+/**
+ * Encodes and decodes {@link Boolean} values using the binary format of postgres.
+ * <p>
+ * The binary format is a single byte, which is either 1 or 0.
+ * Text formatted values are left to the codecs of the driver.
+ */
+public class BooleanCodec extends AbstractCodec<Boolean> {
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    BooleanCodec(final ByteBufAllocator byteBufAllocator) {
+        super(Boolean.class);
+        this.byteBufAllocator = Assert.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+    }
+
+    @Override
+    public Parameter encodeNull() {
+        return createNull(BOOL, FORMAT_BINARY);
+    }
+
+    @Override
+    protected boolean doCanDecode(final PostgresqlObjectId type, final Format format) {
+        Assert.requireNonNull(format, "format must not be null");
+        Assert.requireNonNull(type, "type must not be null");
+
+        return BOOL == type && FORMAT_BINARY == format;
+    }
+
+    @Override
+    protected Boolean doDecode(final ByteBuf buffer, final PostgresqlObjectId dataType, @Nullable final Format format, @Nullable final Class<? extends Boolean> type) {
+        Assert.requireNonNull(buffer, "byteBuf must not be null");
+
+        return buffer.readByte() != 0;
+    }
+
+    @Override
+    protected Parameter doEncode(final Boolean value) {
+        Assert.requireNonNull(value, "value must not be null");
+
+        return create(BOOL, FORMAT_BINARY, () -> this.byteBufAllocator.buffer(1).writeByte(value ? 1 : 0));
+    }
+
+    @Override
+    protected boolean isTypeAssignable(final Class<?> type) {
+        Assert.requireNonNull(type, "type must not be null");
+
+        return type == boolean.class || super.isTypeAssignable(type);
+    }
+}
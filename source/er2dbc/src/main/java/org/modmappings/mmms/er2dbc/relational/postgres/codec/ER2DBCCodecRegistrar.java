@@ -16,6 +16,10 @@ public class ER2DBCCodecRegistrar implements CodecRegistrar {
     @Override
     public Publisher<Void> register(final PostgresqlConnection postgresqlConnection, final ByteBufAllocator byteBufAllocator, final CodecRegistry codecRegistry) {
         codecRegistry.addFirst(new EnumCodec(byteBufAllocator));
+        codecRegistry.addFirst(new UuidCodec(byteBufAllocator));
+        codecRegistry.addFirst(new UuidArrayCodec(byteBufAllocator));
+        codecRegistry.addFirst(new TimestampCodec(byteBufAllocator));
+        codecRegistry.addFirst(new BooleanCodec(byteBufAllocator));
         return Mono.empty();
     }
 }
@@ -8,13 +8,23 @@ import io.r2dbc.postgresql.message.Format;
 import io.r2dbc.postgresql.type.PostgresqlObjectId;
 import io.r2dbc.postgresql.util.Assert;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_TEXT;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+
 public class EnumCodec implements Codec<Enum> {
 
     private final StringCodec delegate;
+    private final ByteBufAllocator byteBufAllocator;
+    private final Map<Class<?>, EnumByteTable> byteTables = new ConcurrentHashMap<>();
 
     public EnumCodec(ByteBufAllocator byteBufAllocator) {
         Assert.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
         this.delegate = new StringCodec(byteBufAllocator);
+        this.byteBufAllocator = byteBufAllocator;
     }
 
     @Override
@@ -43,13 +53,15 @@ public class EnumCodec implements Codec<Enum> {
         if (buffer == null) {
             return null;
         }
-        return Enum.valueOf(type, this.delegate.doDecode(buffer, PostgresqlObjectId.valueOf(dataType), format, String.class).trim());
+        return getByteTable(type).decode(buffer);
     }
 
     @Override
     public Parameter encode(Object value) {
         Assert.requireNonNull(value, "value must not be null");
-        return this.delegate.encode(((Enum) value).name());
+        final Enum<?> enumValue = (Enum<?>) value;
+        final byte[] name = getByteTable(enumValue.getDeclaringClass()).getName(enumValue);
+        return AbstractCodec.create(VARCHAR, FORMAT_TEXT, () -> this.byteBufAllocator.buffer(name.length).writeBytes(name));
     }
 
     @Override
@@ -61,4 +73,79 @@ public class EnumCodec implements Codec<Enum> {
     public Class<?> type() {
         return Enum.class;
     }
+
+    private EnumByteTable getByteTable(final Class<?> type) {
+        return this.byteTables.computeIfAbsent(type, EnumByteTable::new);
+    }
+
+    /**
+     * Holds the encoded names of the constants of a single enum type.
+     * Allows for the decoding of a constant directly from the buffer, without creating an intermediate string.
+     */
+    private static final class EnumByteTable {
+
+        private final Class<?> type;
+        private final Enum<?>[] constants;
+        private final byte[][] names;
+
+        private EnumByteTable(final Class<?> type) {
+            this.type = type;
+            this.constants = (Enum<?>[]) type.getEnumConstants();
+            this.names = new byte[this.constants.length][];
+            for (int i = 0; i < this.constants.length; i++) {
+                this.names[i] = this.constants[i].name().getBytes(StandardCharsets.UTF_8);
+            }
+        }
+
+        private byte[] getName(final Enum<?> constant) {
+            return this.names[constant.ordinal()];
+        }
+
+        /**
+         * Decodes the constant which is stored in the readable bytes of the buffer.
+         * Leading and trailing whitespace is ignored, since char columns are padded with spaces.
+         *
+         * @param buffer The buffer to decode.
+         * @return The constant stored in the buffer.
+         * @throws IllegalArgumentException When the buffer does not contain the name of a constant of the enum type.
+         */
+        private Enum<?> decode(final ByteBuf buffer) {
+            int start = buffer.readerIndex();
+            int end = buffer.writerIndex();
+            while (start < end && isWhitespace(buffer.getByte(start))) {
+                start++;
+            }
+            while (end > start && isWhitespace(buffer.getByte(end - 1))) {
+                end--;
+            }
+
+            final int length = end - start;
+            for (int i = 0; i < this.names.length; i++) {
+                if (matches(buffer, start, length, this.names[i])) {
+                    buffer.skipBytes(buffer.readableBytes());
+                    return this.constants[i];
+                }
+            }
+
+            throw new IllegalArgumentException("No enum constant " + this.type.getCanonicalName() + "." + buffer.toString(start, length, StandardCharsets.UTF_8));
+        }
+
+        private static boolean matches(final ByteBuf buffer, final int start, final int length, final byte[] name) {
+            if (name.length != length) {
+                return false;
+            }
+
+            for (int i = 0; i < length; i++) {
+                if (buffer.getByte(start + i) != name[i]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private static boolean isWhitespace(final byte value) {
+            return value >= 0 && value <= ' ';
+        }
+    }
 }
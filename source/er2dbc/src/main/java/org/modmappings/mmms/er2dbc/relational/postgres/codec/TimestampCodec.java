@@ -0,0 +1,72 @@
+package org.modmappings.mmms.er2dbc.relational.postgres.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.client.Parameter;
+import io.r2dbc.postgresql.message.Format;
+import io.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.r2dbc.postgresql.util.Assert;
+import org.springframework.lang.Nullable;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMPTZ;
+
+/**
+ * Encodes and decodes {@link Timestamp} values using the binary format of postgres.
+ * <p>
+ * The binary format is the amount of microseconds since 2000-01-01 00:00:00, which avoids the parsing of the text form.
+ * Columns of type timestamp hold the local date time of the system, columns of type timestamptz hold a point in UTC.
+ * Text formatted values are left to the codecs of the driver.
+ */
+public class TimestampCodec extends AbstractCodec<Timestamp> {
+
+    private static final LocalDateTime POSTGRES_EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+    private static final Instant POSTGRES_EPOCH_INSTANT = POSTGRES_EPOCH.toInstant(ZoneOffset.UTC);
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    TimestampCodec(final ByteBufAllocator byteBufAllocator) {
+        super(Timestamp.class);
+        this.byteBufAllocator = Assert.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+    }
+
+    @Override
+    public Parameter encodeNull() {
+        return createNull(TIMESTAMP, FORMAT_BINARY);
+    }
+
+    @Override
+    protected boolean doCanDecode(final PostgresqlObjectId type, final Format format) {
+        Assert.requireNonNull(format, "format must not be null");
+        Assert.requireNonNull(type, "type must not be null");
+
+        return (TIMESTAMP == type || TIMESTAMPTZ == type) && FORMAT_BINARY == format;
+    }
+
+    @Override
+    protected Timestamp doDecode(final ByteBuf buffer, final PostgresqlObjectId dataType, @Nullable final Format format, @Nullable final Class<? extends Timestamp> type) {
+        Assert.requireNonNull(buffer, "byteBuf must not be null");
+
+        final long microseconds = buffer.readLong();
+        if (dataType == TIMESTAMPTZ) {
+            return Timestamp.from(POSTGRES_EPOCH_INSTANT.plus(microseconds, ChronoUnit.MICROS));
+        }
+
+        return Timestamp.valueOf(POSTGRES_EPOCH.plus(microseconds, ChronoUnit.MICROS));
+    }
+
+    @Override
+    protected Parameter doEncode(final Timestamp value) {
+        Assert.requireNonNull(value, "value must not be null");
+
+        final long microseconds = ChronoUnit.MICROS.between(POSTGRES_EPOCH, value.toLocalDateTime());
+        return create(TIMESTAMP, FORMAT_BINARY, () -> this.byteBufAllocator.buffer(Long.BYTES).writeLong(microseconds));
+    }
+}
@@ -0,0 +1,119 @@
+package org.modmappings.mmms.er2dbc.relational.postgres.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.client.Parameter;
+import io.r2dbc.postgresql.message.Format;
+import io.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.r2dbc.postgresql.util.Assert;
+import org.springframework.lang.Nullable;
+
+import java.util.UUID;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+
+/**
+ * Encodes and decodes one dimensional {@link UUID} arrays using the binary format of postgres.
+ * <p>
+ * This allows a set of ids to be bound as a single parameter, for example in {@code id = ANY($1)},
+ * so that the statement is the same regardless of the amount of ids that are looked up.
+ * <p>
+ * The binary format is a header of the dimension count, a null flag and the element type,
+ * followed by the size and lower bound of the dimension, and then each element prefixed by its length.
+ */
+public class UuidArrayCodec extends AbstractCodec<UUID[]> {
+
+    private static final int UUID_LENGTH = 16;
+    private static final int HEADER_LENGTH = 20;
+    private static final int EMPTY_HEADER_LENGTH = 12;
+    private static final int NULL_ELEMENT_LENGTH = -1;
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    UuidArrayCodec(final ByteBufAllocator byteBufAllocator) {
+        super(UUID[].class);
+        this.byteBufAllocator = Assert.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+    }
+
+    @Override
+    public Parameter encodeNull() {
+        return createNull(PostgresqlObjectId.UUID_ARRAY, FORMAT_BINARY);
+    }
+
+    @Override
+    protected boolean doCanDecode(final PostgresqlObjectId type, final Format format) {
+        Assert.requireNonNull(format, "format must not be null");
+        Assert.requireNonNull(type, "type must not be null");
+
+        return PostgresqlObjectId.UUID_ARRAY == type && FORMAT_BINARY == format;
+    }
+
+    @Override
+    protected UUID[] doDecode(final ByteBuf buffer, final PostgresqlObjectId dataType, @Nullable final Format format, @Nullable final Class<? extends UUID[]> type) {
+        Assert.requireNonNull(buffer, "byteBuf must not be null");
+
+        final int dimensions = buffer.readInt();
+        buffer.skipBytes(8); //Null flag and element type.
+
+        if (dimensions == 0)
+            return new UUID[0];
+
+        if (dimensions != 1)
+            throw new IllegalArgumentException(String.format("Can not decode a uuid array with: %d dimensions. Only one dimensional arrays are supported.", dimensions));
+
+        final int size = buffer.readInt();
+        buffer.skipBytes(4); //Lower bound.
+
+        final UUID[] values = new UUID[size];
+        for (int i = 0; i < size; i++) {
+            final int length = buffer.readInt();
+            if (length == NULL_ELEMENT_LENGTH)
+                continue;
+
+            values[i] = new UUID(buffer.readLong(), buffer.readLong());
+        }
+
+        return values;
+    }
+
+    @Override
+    protected Parameter doEncode(final UUID[] value) {
+        Assert.requireNonNull(value, "value must not be null");
+
+        return create(PostgresqlObjectId.UUID_ARRAY, FORMAT_BINARY, () -> {
+            if (value.length == 0) {
+                return this.byteBufAllocator.buffer(EMPTY_HEADER_LENGTH)
+                        .writeInt(0)
+                        .writeInt(0)
+                        .writeInt(PostgresqlObjectId.UUID.getObjectId());
+            }
+
+            boolean hasNull = false;
+            int length = HEADER_LENGTH;
+            for (final UUID uuid : value) {
+                hasNull |= uuid == null;
+                length += 4 + (uuid == null ? 0 : UUID_LENGTH);
+            }
+
+            final ByteBuf buffer = this.byteBufAllocator.buffer(length)
+                    .writeInt(1)
+                    .writeInt(hasNull ? 1 : 0)
+                    .writeInt(PostgresqlObjectId.UUID.getObjectId())
+                    .writeInt(value.length)
+                    .writeInt(1);
+
+            for (final UUID uuid : value) {
+                if (uuid == null) {
+                    buffer.writeInt(NULL_ELEMENT_LENGTH);
+                    continue;
+                }
+
+                buffer.writeInt(UUID_LENGTH)
+                        .writeLong(uuid.getMostSignificantBits())
+                        .writeLong(uuid.getLeastSignificantBits());
+            }
+
+            return buffer;
+        });
+    }
+}
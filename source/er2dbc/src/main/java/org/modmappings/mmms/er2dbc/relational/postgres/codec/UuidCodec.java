@@ -0,0 +1,60 @@
+package org.modmappings.mmms.er2dbc.relational.postgres.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.r2dbc.postgresql.client.Parameter;
+import io.r2dbc.postgresql.message.Format;
+import io.r2dbc.postgresql.type.PostgresqlObjectId;
+import io.r2dbc.postgresql.util.Assert;
+import org.springframework.lang.Nullable;
+
+import java.util.UUID;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+
+/**
+ * Encodes and decodes {@link UUID} values using the binary format of postgres.
+ * <p>
+ * The binary format is the raw 16 bytes of the uuid, which avoids the parsing of the 36 character text form.
+ * Text formatted values are left to the codecs of the driver.
+ */
+public class UuidCodec extends AbstractCodec<UUID> {
+
+    private static final int UUID_LENGTH = 16;
+
+    private final ByteBufAllocator byteBufAllocator;
+
+    UuidCodec(final ByteBufAllocator byteBufAllocator) {
+        super(UUID.class);
+        this.byteBufAllocator = Assert.requireNonNull(byteBufAllocator, "byteBufAllocator must not be null");
+    }
+
+    @Override
+    public Parameter encodeNull() {
+        return createNull(PostgresqlObjectId.UUID, FORMAT_BINARY);
+    }
+
+    @Override
+    protected boolean doCanDecode(final PostgresqlObjectId type, final Format format) {
+        Assert.requireNonNull(format, "format must not be null");
+        Assert.requireNonNull(type, "type must not be null");
+
+        return PostgresqlObjectId.UUID == type && FORMAT_BINARY == format;
+    }
+
+    @Override
+    protected UUID doDecode(final ByteBuf buffer, final PostgresqlObjectId dataType, @Nullable final Format format, @Nullable final Class<? extends UUID> type) {
+        Assert.requireNonNull(buffer, "byteBuf must not be null");
+
+        return new UUID(buffer.readLong(), buffer.readLong());
+    }
+
+    @Override
+    protected Parameter doEncode(final UUID value) {
+        Assert.requireNonNull(value, "value must not be null");
+
+        return create(PostgresqlObjectId.UUID, FORMAT_BINARY, () -> this.byteBufAllocator.buffer(UUID_LENGTH)
+                .writeLong(value.getMostSignificantBits())
+                .writeLong(value.getLeastSignificantBits()));
+    }
+}
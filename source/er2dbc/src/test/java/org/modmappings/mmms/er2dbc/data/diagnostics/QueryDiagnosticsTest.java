@@ -0,0 +1,91 @@
+package org.modmappings.mmms.er2dbc.data.diagnostics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.r2dbc.core.PreparedOperation;
+import org.springframework.data.r2dbc.dialect.BindTarget;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryDiagnosticsTest {
+
+    private static final PreparedOperation<String> OPERATION = new PreparedOperation<>() {
+        @Override
+        public String getSource() {
+            return toQuery();
+        }
+
+        @Override
+        public void bindTo(final BindTarget target) {
+        }
+
+        @Override
+        public String toQuery() {
+            return "SELECT * FROM mapping";
+        }
+    };
+
+    //Every query is slow, so each recorded query is explained.
+    private final QueryDiagnostics diagnostics = new QueryDiagnostics(Duration.ofNanos(1), Duration.ZERO, 10, 10);
+    private final AtomicInteger explains = new AtomicInteger();
+    private final Supplier<Flux<String>> explainer = () -> {
+        explains.incrementAndGet();
+        return Flux.just("Seq Scan on mapping");
+    };
+
+    @Test
+    void completedQueriesAreRecordedAndExplained() {
+        StepVerifier.create(diagnostics.monitor(OPERATION, Flux.just(1, 2, 3), explainer))
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, getCount());
+        assertEquals(1, explains.get());
+        assertEquals(1, diagnostics.getSlowQueries().size());
+    }
+
+    @Test
+    void cancelledQueriesAreNotRecorded() {
+        StepVerifier.create(diagnostics.monitor(OPERATION, Flux.just(1, 2, 3), explainer).take(1))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        assertTrue(diagnostics.getStatistics().isEmpty());
+        assertEquals(0, explains.get());
+    }
+
+    @Test
+    void streamedQueriesAreTimedUntilTheFirstRowAndNeverExplained() {
+        final Flux<Long> slowConsumer = diagnostics.monitorStream(OPERATION, Flux.just(1L, 2L, 3L))
+                .concatMap(value -> Flux.just(value).delayElements(Duration.ofMillis(100), Schedulers.single()));
+
+        StepVerifier.create(slowConsumer)
+                .expectNextCount(3)
+                .verifyComplete();
+
+        assertEquals(1, getCount());
+        assertTrue(diagnostics.getStatistics().get(0).getMaxMillis() < 100);
+        assertEquals(0, explains.get());
+        assertTrue(diagnostics.getSlowQueries().isEmpty());
+    }
+
+    @Test
+    void emptyStreamedQueriesAreRecordedOnCompletion() {
+        StepVerifier.create(diagnostics.monitorStream(OPERATION, Flux.empty()))
+                .verifyComplete();
+
+        assertEquals(1, getCount());
+        assertEquals(0, explains.get());
+    }
+
+    private long getCount() {
+        return diagnostics.getStatistics().stream().mapToLong(QueryStatistics::getCount).sum();
+    }
+}
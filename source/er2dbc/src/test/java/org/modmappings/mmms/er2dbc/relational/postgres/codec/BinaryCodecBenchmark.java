@@ -0,0 +1,141 @@
+package org.modmappings.mmms.er2dbc.relational.postgres.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.codec.DefaultCodecs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+import static io.r2dbc.postgresql.message.Format.FORMAT_TEXT;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.BOOL;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+
+/**
+ * Compares the decoding of a single column value in the binary format, with the codecs of er2dbc, against the decoding
+ * of the same value in the text format, with the codecs of the driver, as it happens without the force binary option.
+ * <p>
+ * Run with: {@code java -cp <test runtime classpath> org.modmappings.mmms.er2dbc.relational.postgres.codec.BinaryCodecBenchmark}.
+ * The gc profiler reports the allocations per decoded value, next to the time per decoded value.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    private static final int UUID_TYPE = io.r2dbc.postgresql.type.PostgresqlObjectId.UUID.getObjectId();
+
+    private DefaultCodecs driverCodecs;
+    private UuidCodec uuidCodec;
+    private TimestampCodec timestampCodec;
+    private BooleanCodec booleanCodec;
+    private EnumCodec enumCodec;
+
+    private ByteBuf uuidBinary;
+    private ByteBuf uuidText;
+    private ByteBuf timestampBinary;
+    private ByteBuf timestampText;
+    private ByteBuf booleanBinary;
+    private ByteBuf booleanText;
+    private ByteBuf enumText;
+
+    @Setup
+    public void setUp() {
+        final ByteBufAllocator allocator = ByteBufAllocator.DEFAULT;
+        driverCodecs = new DefaultCodecs(allocator);
+        uuidCodec = new UuidCodec(allocator);
+        timestampCodec = new TimestampCodec(allocator);
+        booleanCodec = new BooleanCodec(allocator);
+        enumCodec = new EnumCodec(allocator);
+
+        final UUID uuid = UUID.randomUUID();
+        uuidBinary = Unpooled.buffer(16).writeLong(uuid.getMostSignificantBits()).writeLong(uuid.getLeastSignificantBits());
+        uuidText = text(uuid.toString());
+        timestampBinary = Unpooled.buffer(Long.BYTES).writeLong(TimeUnit.DAYS.toMicros(7338) + 14_706_789_012L);
+        timestampText = text("2020-02-03 04:05:06.789012");
+        booleanBinary = Unpooled.buffer(1).writeByte(1);
+        booleanText = text("t");
+        enumText = text(TimeUnit.MILLISECONDS.name());
+    }
+
+    @Benchmark
+    public UUID uuidBinary() {
+        return uuidCodec.decode(rewind(uuidBinary), UUID_TYPE, FORMAT_BINARY, UUID.class);
+    }
+
+    @Benchmark
+    public UUID uuidText() {
+        return driverCodecs.decode(rewind(uuidText), UUID_TYPE, FORMAT_TEXT, UUID.class);
+    }
+
+    @Benchmark
+    public Timestamp timestampBinary() {
+        return timestampCodec.decode(rewind(timestampBinary), TIMESTAMP.getObjectId(), FORMAT_BINARY, Timestamp.class);
+    }
+
+    @Benchmark
+    public Timestamp timestampText() {
+        //Without a codec for Timestamp the driver decodes a LocalDateTime, which spring data then converts.
+        final LocalDateTime value = driverCodecs.decode(rewind(timestampText), TIMESTAMP.getObjectId(), FORMAT_TEXT, LocalDateTime.class);
+        return Timestamp.valueOf(value);
+    }
+
+    @Benchmark
+    public Boolean booleanBinary() {
+        return booleanCodec.decode(rewind(booleanBinary), BOOL.getObjectId(), FORMAT_BINARY, Boolean.class);
+    }
+
+    @Benchmark
+    public Boolean booleanText() {
+        return driverCodecs.decode(rewind(booleanText), BOOL.getObjectId(), FORMAT_TEXT, Boolean.class);
+    }
+
+    @Benchmark
+    public Enum<?> enumByteTable() {
+        return enumCodec.decode(rewind(enumText), VARCHAR.getObjectId(), FORMAT_TEXT, TimeUnit.class);
+    }
+
+    @Benchmark
+    public Enum<?> enumValueOf() {
+        final String name = driverCodecs.decode(rewind(enumText), VARCHAR.getObjectId(), FORMAT_TEXT, String.class);
+        return TimeUnit.valueOf(name.trim());
+    }
+
+    private static ByteBuf rewind(final ByteBuf buffer) {
+        return buffer.readerIndex(0);
+    }
+
+    private static ByteBuf text(final String value) {
+        return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    }
+
+    public static void main(final String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BinaryCodecBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
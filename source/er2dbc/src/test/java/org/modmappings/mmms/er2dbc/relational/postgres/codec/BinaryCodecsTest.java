@@ -0,0 +1,112 @@
+package org.modmappings.mmms.er2dbc.relational.postgres.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.client.Parameter;
+import io.r2dbc.postgresql.codec.DefaultCodecs;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static io.r2dbc.postgresql.message.Format.FORMAT_BINARY;
+import static io.r2dbc.postgresql.message.Format.FORMAT_TEXT;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.BOOL;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.TIMESTAMP;
+import static io.r2dbc.postgresql.type.PostgresqlObjectId.VARCHAR;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the binary codecs decode what they encode, and that they agree with the text codecs of the driver.
+ */
+class BinaryCodecsTest {
+
+    private static final ByteBufAllocator ALLOCATOR = ByteBufAllocator.DEFAULT;
+
+    private final DefaultCodecs driverCodecs = new DefaultCodecs(ALLOCATOR);
+
+    @Test
+    void uuidRoundTrips() {
+        final UuidCodec codec = new UuidCodec(ALLOCATOR);
+        final UUID value = UUID.fromString("9b4a9c76-3588-48b5-bedf-b0df90b00381");
+
+        final ByteBuf encoded = encoded(codec.encode(value));
+        assertEquals(16, encoded.readableBytes());
+        assertEquals(value, codec.decode(encoded, io.r2dbc.postgresql.type.PostgresqlObjectId.UUID.getObjectId(), FORMAT_BINARY, UUID.class));
+    }
+
+    @Test
+    void timestampRoundTrips() {
+        final TimestampCodec codec = new TimestampCodec(ALLOCATOR);
+        final Timestamp value = Timestamp.valueOf(LocalDateTime.of(2020, 2, 3, 4, 5, 6, 789_012_000));
+
+        final ByteBuf encoded = encoded(codec.encode(value));
+        assertEquals(Long.BYTES, encoded.readableBytes());
+        assertEquals(value, codec.decode(encoded, TIMESTAMP.getObjectId(), FORMAT_BINARY, Timestamp.class));
+    }
+
+    @Test
+    void timestampMatchesTheTextFormatOfTheDriver() {
+        final TimestampCodec codec = new TimestampCodec(ALLOCATOR);
+        final LocalDateTime text = driverCodecs.decode(text("2020-02-03 04:05:06.789012"), TIMESTAMP.getObjectId(), FORMAT_TEXT, LocalDateTime.class);
+
+        //7338 days and 14706789012 microseconds after 2000-01-01 00:00:00.
+        final ByteBuf binary = Unpooled.buffer(Long.BYTES).writeLong(TimeUnit.DAYS.toMicros(7338) + 14_706_789_012L);
+        assertEquals(Timestamp.valueOf(text), codec.decode(binary, TIMESTAMP.getObjectId(), FORMAT_BINARY, Timestamp.class));
+    }
+
+    @Test
+    void timestampLeavesTheTextFormatToTheDriver() {
+        final TimestampCodec codec = new TimestampCodec(ALLOCATOR);
+
+        assertTrue(codec.canDecode(TIMESTAMP.getObjectId(), FORMAT_BINARY, Timestamp.class));
+        assertFalse(codec.canDecode(TIMESTAMP.getObjectId(), FORMAT_TEXT, Timestamp.class));
+    }
+
+    @Test
+    void booleanRoundTrips() {
+        final BooleanCodec codec = new BooleanCodec(ALLOCATOR);
+
+        assertTrue(codec.decode(encoded(codec.encode(true)), BOOL.getObjectId(), FORMAT_BINARY, Boolean.class));
+        assertFalse(codec.decode(encoded(codec.encode(false)), BOOL.getObjectId(), FORMAT_BINARY, Boolean.class));
+    }
+
+    @Test
+    void enumDecodesPaddedNamesInEitherFormat() {
+        final EnumCodec codec = new EnumCodec(ALLOCATOR);
+
+        assertSame(Direction.NORTH, codec.decode(text("NORTH  "), VARCHAR.getObjectId(), FORMAT_TEXT, Direction.class));
+        assertSame(Direction.SOUTH, codec.decode(text("SOUTH"), VARCHAR.getObjectId(), FORMAT_BINARY, Direction.class));
+    }
+
+    @Test
+    void enumEncodesItsName() {
+        final EnumCodec codec = new EnumCodec(ALLOCATOR);
+
+        assertEquals("SOUTH", encoded(codec.encode(Direction.SOUTH)).toString(StandardCharsets.UTF_8));
+    }
+
+    private static ByteBuf text(final String value) {
+        return Unpooled.copiedBuffer(value, StandardCharsets.UTF_8);
+    }
+
+    private static ByteBuf encoded(final Parameter parameter) {
+        final Publisher<? extends ByteBuf> value = ReflectionTestUtils.invokeMethod(parameter, "getValue");
+        return Mono.from(value).block();
+    }
+
+    private enum Direction {
+        NORTH,
+        SOUTH
+    }
+}
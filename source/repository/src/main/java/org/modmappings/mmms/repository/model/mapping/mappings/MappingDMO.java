@@ -4,6 +4,7 @@ import org.modmappings.mmms.repository.model.mapping.mappable.MappableTypeDMO;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.PersistenceConstructor;
 import org.springframework.data.relational.core.mapping.Table;
+import org.springframework.lang.Nullable;
 
 import java.sql.Timestamp;
 import java.time.Instant;
@@ -23,9 +24,12 @@ public class MappingDMO {
     private UUID mappingTypeId;
     private String input;
     private String output;
+    @Nullable
     private String documentation;
     private DistributionDMO distribution;
+    @Nullable
     private String packagePath;
+    @Nullable
     private String packageParentPath;
     private UUID gameVersionId;
     private MappableTypeDMO mappableType;
@@ -1,11 +1,17 @@
 package org.modmappings.mmms.repository.repositories;
 
 import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrategy;
+import org.modmappings.mmms.er2dbc.data.bulk.BulkInsertResult;
+import org.modmappings.mmms.er2dbc.data.bulk.BulkInserter;
 import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.modmappings.mmms.repository.repositories.paging.CountStrategy;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
@@ -14,9 +20,14 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentEnti
 import org.springframework.data.relational.repository.query.RelationalEntityInformation;
 import org.springframework.data.relational.repository.support.MappingRelationalEntityInformation;
 import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import java.util.function.UnaryOperator;
 import java.util.logging.LogManager;
@@ -38,6 +49,7 @@ public abstract class AbstractModMappingRepository<T> extends SimpleR2dbcReposit
     private final DatabaseClient databaseClient;
     private final R2dbcConverter converter;
     private final ExtendedDataAccessStrategy accessStrategy;
+    private final BulkInserter bulkInserter;
 
     public AbstractModMappingRepository(final DatabaseClient databaseClient, final ExtendedDataAccessStrategy accessStrategy, final Class<T> entityClass) {
         super(new MappingRelationalEntityInformation<>((RelationalPersistentEntity<T>) accessStrategy.getConverter().getMappingContext().getRequiredPersistentEntity(entityClass)), databaseClient, accessStrategy.getConverter(), accessStrategy);
@@ -45,6 +57,7 @@ public abstract class AbstractModMappingRepository<T> extends SimpleR2dbcReposit
         this.databaseClient = databaseClient;
         this.converter = accessStrategy.getConverter();
         this.accessStrategy = accessStrategy;
+        this.bulkInserter = new BulkInserter(databaseClient, accessStrategy);
     }
 
     @Override
@@ -94,6 +107,43 @@ public abstract class AbstractModMappingRepository<T> extends SimpleR2dbcReposit
         );
     }
 
+    @Override
+    public Mono<BulkInsertResult> insertAll(final Publisher<T> entities) {
+        return this.bulkInserter.insert(
+                getEntityType(),
+                entities
+        );
+    }
+
+    /**
+     * Gets all entries with the given ids.
+     * Unlike the default implementation, the ids are bound as a single array, so the statement is the same for any amount of ids.
+     *
+     * @param ids The ids to look up.
+     * @return The entries with the given ids, in no particular order.
+     */
+    @Override
+    public Flux<T> findAllById(final Iterable<UUID> ids) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        final List<UUID> idList = new ArrayList<>();
+        ids.forEach(idList::add);
+
+        return this.createStarAnyOfRequest(
+                getIdColumnName(),
+                idList
+        );
+    }
+
+    public Flux<T> createStarAnyOfRequest(final String parameterName, final Collection<UUID> values) {
+        return this.createStarAnyOfRequest(
+                parameterName,
+                values,
+                getTableName(),
+                getEntityType()
+        );
+    }
+
     public Flux<T> createFindStarRequest(final SelectSpecWithJoin selectSpec, final Pageable pageable) {
         return this.createFindStarRequest(
                 selectSpec,
@@ -128,6 +178,36 @@ public abstract class AbstractModMappingRepository<T> extends SimpleR2dbcReposit
         );
     }
 
+    public Mono<SeekPage<T>> createSeekStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final Pageable pageable, @Nullable final String continuationToken) {
+        return this.createSeekStarRequest(
+                selectSpecBuilder,
+                getTableName(),
+                getEntityType(),
+                pageable,
+                continuationToken
+        );
+    }
+
+    public Flux<T> createStreamingStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final Sort sort, final int fetchSize) {
+        return this.createStreamingStarRequest(
+                selectSpecBuilder,
+                getTableName(),
+                getEntityType(),
+                sort,
+                fetchSize
+        );
+    }
+
+    public Mono<Page<T>> createPagedStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final Pageable pageable, final CountStrategy countStrategy) {
+        return this.createPagedStarRequest(
+                selectSpecBuilder,
+                getTableName(),
+                getEntityType(),
+                pageable,
+                countStrategy
+        );
+    }
+
     public Mono<Page<T>> createPagedStarSingleWhereRequest(final String parameterName, final Object value, final Pageable pageable) {
         return this.createPagedStarSingleWhereRequest(
                 parameterName,
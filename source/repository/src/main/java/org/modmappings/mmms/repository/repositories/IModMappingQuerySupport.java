@@ -4,13 +4,22 @@ import org.modmappings.mmms.er2dbc.data.access.strategy.ExtendedDataAccessStrate
 import org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria;
 import org.modmappings.mmms.er2dbc.data.statements.expression.Expression;
 import org.modmappings.mmms.er2dbc.data.statements.expression.Expressions;
+import org.modmappings.mmms.er2dbc.data.statements.expression.ReferenceExpression;
 import org.modmappings.mmms.er2dbc.data.statements.mapper.ExtendedStatementMapper;
 import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec;
+import org.modmappings.mmms.repository.repositories.paging.CountStrategies;
+import org.modmappings.mmms.repository.repositories.paging.CountStrategy;
+import org.modmappings.mmms.repository.repositories.paging.InvalidSeekSortException;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
+import org.modmappings.mmms.repository.repositories.paging.SeekToken;
 import org.slf4j.Logger;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.r2dbc.core.PreparedOperation;
@@ -19,13 +28,16 @@ import org.springframework.data.relational.core.mapping.RelationalPersistentProp
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.util.function.Tuple2;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
 import java.util.logging.LogManager;
@@ -69,55 +81,67 @@ public interface IModMappingQuerySupport {
         Assert.notNull(selectSpec, "SelectSpec must not be null");
         Assert.notNull(pageable, "Pageable most not be null!");
 
-        final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
+        return Flux.defer(() -> {
+            final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
 
-        final SelectSpecWithJoin selectSpecWithProj = selectSpec
-                .withProjectionFromColumnName(columns);
+            final SelectSpecWithJoin selectSpecWithProj = selectSpec
+                    .withProjectionFromColumnName(columns);
 
-        return createFindRequest(selectSpecWithProj, resultType, pageable);
+            return createFindRequest(selectSpecWithProj, resultType, pageable);
+        });
     }
 
     default <R> Flux<R> createFindRequest(final SelectSpecWithJoin selectSpec, final Class<R> resultType, final Pageable pageable) {
         Assert.notNull(selectSpec, "SelectSpec must not be null");
         Assert.notNull(pageable, "Pageable most not be null!");
 
-        final SelectSpecWithJoin selectSpecWithPagination = selectSpec
-                .withPage(pageable);
+        return createFindRequest(selectSpec, resultType, pageable, false);
+    }
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        final PreparedOperation<?> operation = mapper.getMappedObject(selectSpecWithPagination);
+    private <R> Flux<R> createFindRequest(final SelectSpecWithJoin selectSpec, final Class<R> resultType, final Pageable pageable, final boolean streamed) {
+        return Flux.defer(() -> {
+            final SelectSpecWithJoin selectSpecWithPagination = selectSpec
+                    .withPage(pageable);
+
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            final PreparedOperation<?> operation = mapper.getMappedObject(selectSpecWithPagination);
+
+            final Flux<R> execution = this.getDatabaseClient().execute(operation) //
+                    .as(resultType) //
+                    .fetch()
+                    .all();
 
-        return this.getDatabaseClient().execute(operation) //
-                .as(resultType) //
-                .fetch()
-                .all()
-                .doFirst(() -> getLogger().debug("Executing find operation: " + operation.toString()));
+            return (streamed ? monitorStream(operation, execution) : monitor(operation, execution))
+                    .doFirst(() -> getLogger().debug("Executing find operation: " + operation.toString()));
+        });
     }
 
     default Mono<Long> createStarCountRequest(final SelectSpecWithJoin selectSpec, final String tableName, final Class<?> resultType) {
         Assert.notNull(selectSpec, "SelectSpec must not be null");
         Assert.notNull(selectSpec, "SelectSpec must not be null");
 
-        final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
+        return Mono.defer(() -> {
+            final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
 
-        final SelectSpecWithJoin selectSpecWithProj = selectSpec.clearSortAndPage()
-                .withProjectionFromColumnName(columns);
+            final SelectSpecWithJoin selectSpecWithProj = selectSpec.clearSortAndPage()
+                    .withProjectionFromColumnName(columns);
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
 
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        final PreparedOperation<?> operation = mapper.count(mapper.getMappedObject(selectSpecWithProj));
-
-        return this.getDatabaseClient().execute(operation) //
-                .map((r, md) -> r.get(0, Long.class)) //
-                .first()//
-                .doFirst(() -> getLogger().debug("Executing count operation: " + operation.toString()))
-                .defaultIfEmpty(0L);
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            final PreparedOperation<?> operation = mapper.count(mapper.getMappedObject(selectSpecWithProj));
+
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .map((r, md) -> r.get(0, Long.class)) //
+                    .first())//
+                    .doFirst(() -> getLogger().debug("Executing count operation: " + operation.toString()))
+                    .defaultIfEmpty(0L);
+        });
     }
 
 
@@ -125,143 +149,429 @@ public interface IModMappingQuerySupport {
         Assert.notNull(selectSpec, "SelectSpec must not be null");
         Assert.notNull(selectSpec, "SelectSpec must not be null");
 
-        final SelectSpecWithJoin selectSpecWithProj =
-                selectSpec.clearSortAndPage();
+        return Mono.defer(() -> {
+            final SelectSpecWithJoin selectSpecWithProj =
+                    selectSpec.clearSortAndPage();
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
 
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        final PreparedOperation<?> operation = mapper.count(mapper.getMappedObject(selectSpecWithProj));
-
-        return this.getDatabaseClient().execute(operation) //
-                .map((r, md) -> r.get(0, Long.class)) //
-                .first()//
-                .doFirst(() -> getLogger().debug("Executing count operation: " + operation.toString()))
-                .defaultIfEmpty(0L);
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            final PreparedOperation<?> operation = mapper.count(mapper.getMappedObject(selectSpecWithProj));
+
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .map((r, md) -> r.get(0, Long.class)) //
+                    .first())//
+                    .doFirst(() -> getLogger().debug("Executing count operation: " + operation.toString()))
+                    .defaultIfEmpty(0L);
+        });
     }
 
     default <R> Mono<Page<R>> createPagedRequest(final SelectSpecWithJoin selectSpecWithJoin, final String tableName, final Class<R> resultType, final Pageable pageable) {
-        return Mono.zip(
-                createFindRequest(selectSpecWithJoin, resultType, pageable)
-                        .collectList()
-                        .doOnNext(data -> getLogger().debug("Completed data retrieval with count: " + data.size())),
-                createCountRequest(selectSpecWithJoin, tableName, resultType)
-                        .doOnNext(count -> getLogger().debug("Completed count request with count: " + count))
-        ).map(data -> new PageImpl<>(data.getT1(), pageable, data.getT2()));
+        return createPagedRequest(selectSpecWithJoin, tableName, resultType, pageable, CountStrategies.EXACT);
+    }
+
+    /**
+     * Creates a paged request whose total amount of elements is determined by the given count strategy.
+     *
+     * @param selectSpecWithJoin The select spec to execute.
+     * @param tableName          The name of the table that is queried.
+     * @param resultType         The type of the result.
+     * @param pageable           The paging and sorting information.
+     * @param countStrategy      The strategy which determines the total amount of elements.
+     * @param <R>                The type of the result.
+     * @return The requested page.
+     */
+    default <R> Mono<Page<R>> createPagedRequest(final SelectSpecWithJoin selectSpecWithJoin, final String tableName, final Class<R> resultType, final Pageable pageable, final CountStrategy countStrategy) {
+        return createPagedRequestWithCountType(selectSpecWithJoin, tableName, resultType, resultType, pageable, countStrategy);
     }
 
     default <R> Mono<Page<R>> createPagedRequestWithCountType(final SelectSpecWithJoin selectSpecWithJoin, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
-        return Mono.zip(
-                createFindRequest(selectSpecWithJoin, resultType, pageable)
-                        .collectList()
-                        .doOnNext(data -> getLogger().debug("Completed data retrieval with count: " + data.size())),
-                createCountRequest(selectSpecWithJoin, tableName, countType)
-                        .doOnNext(count -> getLogger().debug("Completed count request with count: " + count))
-        ).map(data -> new PageImpl<>(data.getT1(), pageable, data.getT2()));
+        return createPagedRequestWithCountType(selectSpecWithJoin, tableName, resultType, countType, pageable, CountStrategies.EXACT);
+    }
+
+    default <R> Mono<Page<R>> createPagedRequestWithCountType(final SelectSpecWithJoin selectSpecWithJoin, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable, final CountStrategy countStrategy) {
+        Assert.notNull(countStrategy, "CountStrategy must not be null!");
+
+        //The strategies map the select spec when they are called, defer that until the page is actually requested.
+        return Mono.defer(() -> countStrategy.createPagedRequest(this, selectSpecWithJoin, tableName, resultType, countType, pageable));
     }
 
     default <R> Mono<Page<R>> createPagedRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<R> resultType, final Pageable pageable) {
         Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
         Assert.notNull(pageable, "Pageable most not be null!");
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
 
-        selectSpec = selectSpecBuilder.apply(selectSpec);
+            selectSpec = selectSpecBuilder.apply(selectSpec);
 
-        return createPagedRequest(selectSpec, tableName, resultType, pageable);
+            return createPagedRequest(selectSpec, tableName, resultType, pageable);
+        });
     }
 
     default <R> Mono<Page<R>> createDistinctPagedRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<R> resultType, final Pageable pageable) {
         Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
         Assert.notNull(pageable, "Pageable most not be null!");
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        SelectSpecWithJoin selectSpec = mapper.createSelectWithJoinDistinct(tableName);
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoinDistinct(tableName);
 
-        selectSpec = selectSpecBuilder.apply(selectSpec);
+            selectSpec = selectSpecBuilder.apply(selectSpec);
 
-        return createPagedRequest(selectSpec, tableName, resultType, pageable);
+            return createPagedRequest(selectSpec, tableName, resultType, pageable);
+        });
     }
 
     default <R> Mono<Page<R>> createPagedRequestWithCountType(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
         Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
         Assert.notNull(pageable, "Pageable most not be null!");
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
 
-        selectSpec = selectSpecBuilder.apply(selectSpec);
+            selectSpec = selectSpecBuilder.apply(selectSpec);
 
-        return createPagedRequestWithCountType(selectSpec, tableName, resultType, countType, pageable);
+            return createPagedRequestWithCountType(selectSpec, tableName, resultType, countType, pageable);
+        });
     }
 
     default <R> Mono<Page<R>> createDistinctPagedRequestWithCountType(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
         Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
         Assert.notNull(pageable, "Pageable most not be null!");
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        SelectSpecWithJoin selectSpec = mapper.createSelectWithJoinDistinct(tableName);
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoinDistinct(tableName);
 
-        selectSpec = selectSpecBuilder.apply(selectSpec);
+            selectSpec = selectSpecBuilder.apply(selectSpec);
 
-        return createPagedRequestWithCountType(selectSpec, tableName, resultType, countType, pageable);
+            return createPagedRequestWithCountType(selectSpec, tableName, resultType, countType, pageable);
+        });
     }
 
     default <T> Mono<Page<T>> createPagedStarRequest(final SelectSpecWithJoin selectSpecWithJoin, final String tableName, final Class<T> resultType, final Pageable pageable) {
-        return Mono.zip(
-                createFindStarRequest(selectSpecWithJoin, resultType, pageable)
-                        .collectList()
-                        .doOnNext(data -> getLogger().debug("Completed data retrieval with count: " + data.size())),
-                createStarCountRequest(selectSpecWithJoin, tableName, resultType)
-                    .doOnNext(count -> getLogger().debug("Completed count request with count: " + count))
-        ).map(data -> new PageImpl<>(data.getT1(), pageable, data.getT2()));
+        return createPagedStarRequest(selectSpecWithJoin, tableName, resultType, pageable, CountStrategies.EXACT);
+    }
+
+    default <T> Mono<Page<T>> createPagedStarRequest(final SelectSpecWithJoin selectSpecWithJoin, final String tableName, final Class<T> resultType, final Pageable pageable, final CountStrategy countStrategy) {
+        Assert.notNull(selectSpecWithJoin, "SelectSpec must not be null");
+
+        return Mono.defer(() -> {
+            final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
+
+            final SelectSpecWithJoin selectSpecWithProj = selectSpecWithJoin
+                    .withProjectionFromColumnName(columns);
+
+            return createPagedRequest(selectSpecWithProj, tableName, resultType, pageable, countStrategy);
+        });
     }
 
     default <T> Mono<Page<T>> createPagedStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<T> resultType, final Pageable pageable) {
+        return createPagedStarRequest(selectSpecBuilder, tableName, resultType, pageable, CountStrategies.EXACT);
+    }
+
+    default <T> Mono<Page<T>> createPagedStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<T> resultType, final Pageable pageable, final CountStrategy countStrategy) {
         Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
         Assert.notNull(pageable, "Pageable most not be null!");
 
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
-        }
-        SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
-
-        selectSpec = selectSpecBuilder.apply(selectSpec);
+            selectSpec = selectSpecBuilder.apply(selectSpec);
 
-        return createPagedStarRequest(selectSpec, tableName, resultType, pageable);
+            return createPagedStarRequest(selectSpec, tableName, resultType, pageable, countStrategy);
+        });
     }
 
     default <T> Mono<Page<T>> createDistinctPagedStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<T> resultType, final Pageable pageable) {
         Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
         Assert.notNull(pageable, "Pageable most not be null!");
 
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoinDistinct(tableName);
+
+            selectSpec = selectSpecBuilder.apply(selectSpec);
+
+            return createPagedStarRequest(selectSpec, tableName, resultType, pageable);
+        });
+    }
+
+    /**
+     * Creates a keyset (seek) paginated request.
+     * <p>
+     * Instead of skipping the rows of the previous pages via an offset, the rows are selected which sort after the last row
+     * of the previous page, as identified by the continuation token. To make the sort total the id column is added as last
+     * sort key, if it is not already part of the sort.
+     * <p>
+     * The page number of the pageable is ignored, only its size and sort are used.
+     *
+     * @param selectSpec        The select spec to execute.
+     * @param resultType        The type of the result, this needs to be a persistent entity.
+     * @param pageable          The size and sorting information.
+     * @param continuationToken The continuation token of the previous page, or null to retrieve the first page.
+     * @param <R>               The type of the result.
+     * @return The requested page, with the continuation token for the next page if there is one.
+     * Errors with an {@link org.modmappings.mmms.repository.repositories.paging.InvalidSeekTokenException} when the continuation token is malformed, or was created for a different sort.
+     * Errors with an {@link org.modmappings.mmms.repository.repositories.paging.InvalidSeekSortException} when the sort contains a key which is not a non null column of the result type.
+     */
+    default <R> Mono<SeekPage<R>> createSeekRequest(final SelectSpecWithJoin selectSpec, final Class<R> resultType, final Pageable pageable, @Nullable final String continuationToken) {
+        Assert.notNull(selectSpec, "SelectSpec must not be null");
+        Assert.notNull(pageable, "Pageable most not be null!");
+        Assert.isTrue(pageable.isPaged(), "Pageable must be paged for a seek request!");
+
+        return Mono.defer(() -> {
+            final SortSpec sort = selectSpec.getSort().isUnsorted() ? SortSpec.sort(pageable.getSort()) : selectSpec.getSort();
+            SelectSpecWithJoin seekSelectSpec = selectSpec.withSort(createTotalSort(sort, resultType));
+            final List<SortSpec.Order> seekOrders = seekSelectSpec.getSeekOrders();
+            //Validated up front, also for the first page, since a null sort key of the last row could not be seeked past.
+            final List<Class<?>> seekTypes = getSeekTypes(resultType, seekOrders);
+            if (continuationToken != null) {
+                //The token comes from the client, its values are checked against the seek orders before they are bound.
+                seekSelectSpec = seekSelectSpec.withSeekAfter(SeekToken.decode(continuationToken, seekTypes));
+            }
+
+            final int size = pageable.getPageSize();
+
+            //Retrieve one more row then requested, it indicates if there is a next page.
+            return createFindRequest(seekSelectSpec, resultType, PageRequest.of(0, size + 1))
+                    .collectList()
+                    .map(data -> {
+                        if (data.size() <= size)
+                            return new SeekPage<>(data, size, null);
+
+                        final List<R> content = data.subList(0, size);
+                        return new SeekPage<>(content, size, SeekToken.encode(getSeekValues(content.get(size - 1), seekOrders)));
+                    })
+                    .doOnNext(page -> getLogger().debug("Completed seek data retrieval with count: " + page.getNumberOfElements()));
+        });
+    }
+
+    default <T> Mono<SeekPage<T>> createSeekStarRequest(final SelectSpecWithJoin selectSpec, final Class<T> resultType, final Pageable pageable, @Nullable final String continuationToken) {
+        Assert.notNull(selectSpec, "SelectSpec must not be null");
+
+        return Mono.defer(() -> {
+            final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
+
+            final SelectSpecWithJoin selectSpecWithProj = selectSpec
+                    .withProjectionFromColumnName(columns);
+
+            return createSeekRequest(selectSpecWithProj, resultType, pageable, continuationToken);
+        });
+    }
+
+    default <T> Mono<SeekPage<T>> createSeekStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<T> resultType, final Pageable pageable, @Nullable final String continuationToken) {
+        Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
+        Assert.notNull(pageable, "Pageable most not be null!");
+
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
+
+            selectSpec = selectSpecBuilder.apply(selectSpec);
 
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
-            mapper = mapper.forType(resultType);
+            return createSeekStarRequest(selectSpec, resultType, pageable, continuationToken);
+        });
+    }
+
+    /**
+     * Creates a streaming request.
+     * <p>
+     * The select spec is executed as a single unpaged query, the rows are emitted as they are decoded from the wire.
+     * No count query is executed and the result is never materialized in memory.
+     * Only the time until the first row is recorded in the query diagnostics, and the query is never explained when it is slow.
+     * At most fetch size rows are requested from the database driver at a time, further rows are only requested once the
+     * subscriber has consumed them, so a slow subscriber throttles the reading from the connection.
+     *
+     * @param selectSpec The select spec to execute.
+     * @param resultType The type of the result.
+     * @param sort       The sorting information, ignored if the select spec is already sorted.
+     * @param fetchSize  The maximal amount of rows requested from the driver at a time.
+     * @param <R>        The type of the result.
+     * @return The stream of results.
+     */
+    default <R> Flux<R> createStreamingRequest(final SelectSpecWithJoin selectSpec, final Class<R> resultType, final Sort sort, final int fetchSize) {
+        Assert.notNull(selectSpec, "SelectSpec must not be null");
+        Assert.notNull(sort, "Sort must not be null!");
+        Assert.isTrue(fetchSize > 0, "FetchSize must be positive!");
+
+        return Flux.defer(() -> {
+            final SelectSpecWithJoin sortedSelectSpec = selectSpec.getSort().isUnsorted() ? selectSpec.withSort(SortSpec.sort(sort)) : selectSpec;
+
+            return createFindRequest(sortedSelectSpec, resultType, Pageable.unpaged(), true)
+                    .limitRate(fetchSize);
+        });
+    }
+
+    default <R> Flux<R> createStreamingRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<R> resultType, final Sort sort, final int fetchSize) {
+        Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
+
+        return Flux.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
+
+            selectSpec = selectSpecBuilder.apply(selectSpec);
+
+            return createStreamingRequest(selectSpec, resultType, sort, fetchSize);
+        });
+    }
+
+    default <T> Flux<T> createStreamingStarRequest(final SelectSpecWithJoin selectSpec, final Class<T> resultType, final Sort sort, final int fetchSize) {
+        Assert.notNull(selectSpec, "SelectSpec must not be null");
+
+        return Flux.defer(() -> {
+            final List<String> columns = this.getAccessStrategy().getAllColumns(resultType);
+
+            final SelectSpecWithJoin selectSpecWithProj = selectSpec
+                    .withProjectionFromColumnName(columns);
+
+            return createStreamingRequest(selectSpecWithProj, resultType, sort, fetchSize);
+        });
+    }
+
+    default <T> Flux<T> createStreamingStarRequest(final UnaryOperator<SelectSpecWithJoin> selectSpecBuilder, final String tableName, final Class<T> resultType, final Sort sort, final int fetchSize) {
+        Assert.notNull(selectSpecBuilder, "SelectSpecBuilder must not be null!");
+
+        return Flux.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName);
+
+            selectSpec = selectSpecBuilder.apply(selectSpec);
+
+            return createStreamingStarRequest(selectSpec, resultType, sort, fetchSize);
+        });
+    }
+
+    private SortSpec createTotalSort(final SortSpec sort, final Class<?> resultType) {
+        final String idColumnName = getIdColumnName(resultType);
+        final boolean sortsOnId = sort.getComponents().stream()
+                .map(SortSpec.Order::getExpression)
+                .filter(Expression::isReference)
+                .map(ReferenceExpression.class::cast)
+                .anyMatch(reference -> StringUtils.isEmpty(reference.getTableName()) && reference.getColumnName().equals(idColumnName));
+
+        if (sortsOnId)
+            return sort;
+
+        return sort.and(SortSpec.Order.asc(reference(idColumnName)));
+    }
+
+    private List<Object> getSeekValues(final Object row, final List<SortSpec.Order> seekOrders) {
+        final RelationalPersistentEntity<?> entity = getConverter().getMappingContext().getRequiredPersistentEntity(row.getClass());
+        final PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(row);
+
+        final List<Object> values = new ArrayList<>(seekOrders.size());
+        for (final SortSpec.Order order : seekOrders) {
+            values.add(accessor.getProperty(getSeekProperty(entity, order)));
         }
-        SelectSpecWithJoin selectSpec = mapper.createSelectWithJoinDistinct(tableName);
 
-        selectSpec = selectSpecBuilder.apply(selectSpec);
+        return values;
+    }
+
+    private List<Class<?>> getSeekTypes(final Class<?> resultType, final List<SortSpec.Order> seekOrders) {
+        final RelationalPersistentEntity<?> entity = getConverter().getMappingContext().getRequiredPersistentEntity(resultType);
 
-        return createPagedStarRequest(selectSpec, tableName, resultType, pageable);
+        final List<Class<?>> types = new ArrayList<>(seekOrders.size());
+        for (final SortSpec.Order order : seekOrders) {
+            types.add(getSeekProperty(entity, order).getType());
+        }
+
+        return types;
+    }
+
+    private RelationalPersistentProperty getSeekProperty(final RelationalPersistentEntity<?> entity, final SortSpec.Order order) {
+        if (!order.getExpression().isReference())
+            throw new InvalidSeekSortException("Can not seek on a sort which is not a column reference.");
+
+        final String columnName = ((ReferenceExpression) order.getExpression()).getColumnName();
+        final RelationalPersistentProperty property = StreamSupport.stream(entity.spliterator(), false)
+                .filter(persistentProperty -> persistentProperty.getColumnName().equals(columnName) || persistentProperty.getName().equals(columnName))
+                .findFirst()
+                .orElseThrow(() -> new InvalidSeekSortException(String.format("Can not seek on column: %s. It is not part of: %s", columnName, entity.getType().getSimpleName())));
+
+        //Nulls sort last, and a row comparison never matches them, so a page ending on a null key could never be continued.
+        if (!property.isIdProperty() && property.isAnnotationPresent(Nullable.class))
+            throw new InvalidSeekSortException(String.format("Can not seek on column: %s. It may contain null values.", columnName));
+
+        return property;
+    }
+
+    /**
+     * Monitors the execution of the given operation with the query diagnostics of the access strategy.
+     * Slow executions are explained, with the same bindings, in the background.
+     *
+     * @param operation The operation that is executed.
+     * @param execution The execution of the operation.
+     * @param <T>       The type of the result.
+     * @return The monitored execution.
+     */
+    default <T> Flux<T> monitor(final PreparedOperation<?> operation, final Flux<T> execution) {
+        return getAccessStrategy().getQueryDiagnostics().monitor(operation, execution, () -> explainAnalyze(operation));
+    }
+
+    /**
+     * Monitors the execution of the given operation with the query diagnostics of the access strategy.
+     * Slow executions are explained, with the same bindings, in the background.
+     *
+     * @param operation The operation that is executed.
+     * @param execution The execution of the operation.
+     * @param <T>       The type of the result.
+     * @return The monitored execution.
+     */
+    default <T> Mono<T> monitor(final PreparedOperation<?> operation, final Mono<T> execution) {
+        return getAccessStrategy().getQueryDiagnostics().monitor(operation, execution, () -> explainAnalyze(operation));
+    }
+
+    /**
+     * Monitors the execution of the given streamed operation with the query diagnostics of the access strategy.
+     * Only the time until the first row is recorded, since the subscriber sets the pace of the rest of the stream. Streamed executions are never explained.
+     *
+     * @param operation The operation that is executed.
+     * @param execution The execution of the operation.
+     * @param <T>       The type of the result.
+     * @return The monitored execution.
+     */
+    default <T> Flux<T> monitorStream(final PreparedOperation<?> operation, final Flux<T> execution) {
+        return getAccessStrategy().getQueryDiagnostics().monitorStream(operation, execution);
+    }
+
+    private Flux<String> explainAnalyze(final PreparedOperation<?> operation) {
+        return getDatabaseClient().execute(getAccessStrategy().getStatementMapper().explainAnalyze(operation))
+                .map((row, metadata) -> row.get(0, String.class))
+                .all();
     }
 
     default <T> Mono<Page<T>> createPagedStarSingleWhereRequest(final String parameterName, final Object value, final String tableName, final Class<T> resultType, final Pageable pageable) {
@@ -276,6 +586,37 @@ public interface IModMappingQuerySupport {
                 pageable);
     }
 
+    /**
+     * Finds all rows of which the given column is equal to any of the given values, in a single query.
+     * <p>
+     * The values are bound as a single array parameter, so lookups for a different amount of values share the same statement.
+     *
+     * @param parameterName The name of the column to check.
+     * @param values        The values to look up.
+     * @param tableName     The name of the table to look the rows up in.
+     * @param resultType    The type of the result.
+     * @param <T>           The type of the result.
+     * @return The rows which match any of the values, in no particular order.
+     */
+    default <T> Flux<T> createStarAnyOfRequest(final String parameterName, final Collection<UUID> values, final String tableName, final Class<T> resultType) {
+        Assert.notNull(parameterName, "ParameterName must not be null!");
+        Assert.notNull(values, "Values must not be null");
+
+        return Flux.defer(() -> {
+            if (values.isEmpty())
+                return Flux.empty();
+
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+                mapper = mapper.forType(resultType);
+            }
+            final SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(tableName)
+                    .withCriteria(where(Expressions.reference(parameterName)).is(any(parameterName, values.stream().distinct().toArray(UUID[]::new))));
+
+            return createFindStarRequest(selectSpec, resultType, Pageable.unpaged());
+        });
+    }
+
     default ColumnBasedCriteria nonNullAndMatchesCheckForWhere(@Nullable final ColumnBasedCriteria criteria, @Nullable final Object parameter, @NonNull final String tableName, @NonNull final String columnName) {
         if (parameter != null) {
             if (criteria == null) {
@@ -1,5 +1,7 @@
 package org.modmappings.mmms.repository.repositories;
 
+import org.modmappings.mmms.er2dbc.data.bulk.BulkInsertResult;
+import org.reactivestreams.Publisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
@@ -27,4 +29,16 @@ public interface ModMappingRepository<T> extends ReactiveCrudRepository<T, UUID>
     Mono<Page<T>> findAll(
             Pageable pageable
     );
+
+    /**
+     * Inserts all given entities using multi row insert statements.
+     * Unlike {@link #saveAll(Publisher)} this does not issue a statement per entity, and does not return the saved entities.
+     * Entities passed to this method are always inserted, they are never updated.
+     *
+     * @param entities The entities to insert.
+     * @return The result of the insert, including the amount of inserted rows.
+     */
+    Mono<BulkInsertResult> insertAll(
+            Publisher<T> entities
+    );
 }
@@ -36,39 +36,40 @@ class MappingTypeRepositoryImpl extends AbstractModMappingRepository<MappingType
     ) {
         Assert.notNull(id, "Id must not be null!");
 
-        final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
-        final String idColumnName = getIdColumnName();
+        return Mono.defer(() -> {
+            final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
+            final String idColumnName = getIdColumnName();
 
-        final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
-        final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
-                .withProjectionFromColumnName(columns)
-                .where(() -> {
-                    ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
-                            null,
-                            id,
-                            "",
-                            idColumnName
-                    );
-
-                    if (externallyVisibleOnly) {
-                        criteria = nonNullAndEqualsCheckForWhere(
-                                criteria,
-                                true,
+            final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
+            final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
+                    .withProjectionFromColumnName(columns)
+                    .where(() -> {
+                        ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
+                                null,
+                                id,
                                 "",
-                                "visible"
+                                idColumnName
                         );
-                    }
 
-                    return criteria;
-                });
+                        if (externallyVisibleOnly) {
+                            criteria = nonNullAndEqualsCheckForWhere(
+                                    criteria,
+                                    true,
+                                    "",
+                                    "visible"
+                            );
+                        }
 
+                        return criteria;
+                    });
 
-        final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+            final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
 
-        return this.getDatabaseClient().execute(operation) //
-                .as(this.getEntity().getJavaType()) //
-                .fetch() //
-                .one();
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(this.getEntity().getJavaType()) //
+                    .fetch() //
+                    .one());
+        });
     }
 
 
@@ -41,41 +41,42 @@ class ReleaseRepositoryImpl extends AbstractModMappingRepository<ReleaseDMO> imp
     ) {
         Assert.notNull(id, "Id must not be null!");
 
-        final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
-        final String idColumnName = getIdColumnName();
+        return Mono.defer(() -> {
+            final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
+            final String idColumnName = getIdColumnName();
 
-        final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
-        final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
-                .withProjectionFromColumnName(columns)
-                .join(() -> join("mapping_type", "mt")
-                        .on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
-                .where(() -> {
-                    ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
-                            null,
-                            id,
-                            "",
-                            idColumnName
-                    );
-
-                    if (externallyVisibleOnly) {
-                        criteria = nonNullAndEqualsCheckForWhere(
-                                criteria,
-                                true,
-                                "mt",
-                                "visible"
+            final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
+            final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
+                    .withProjectionFromColumnName(columns)
+                    .join(() -> join("mapping_type", "mt")
+                            .on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
+                    .where(() -> {
+                        ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
+                                null,
+                                id,
+                                "",
+                                idColumnName
                         );
-                    }
 
-                    return criteria;
-                });
+                        if (externallyVisibleOnly) {
+                            criteria = nonNullAndEqualsCheckForWhere(
+                                    criteria,
+                                    true,
+                                    "mt",
+                                    "visible"
+                            );
+                        }
 
+                        return criteria;
+                    });
 
-        final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+            final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
 
-        return this.getDatabaseClient().execute(operation) //
-                .as(this.getEntity().getJavaType()) //
-                .fetch() //
-                .one();
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(this.getEntity().getJavaType()) //
+                    .fetch() //
+                    .one());
+        });
     }
 
     /**
@@ -3,8 +3,10 @@ package org.modmappings.mmms.repository.repositories.mapping.mappables.inheritan
 import org.modmappings.mmms.repository.model.mapping.mappable.InheritanceDataDMO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -38,4 +40,26 @@ public interface InheritanceDataRepositoryCustom {
             UUID subTypeVersionedMappableId,
             Pageable pageable
     );
+
+    /**
+     * Finds all the inheritance data in which any of the given versioned mappable classes is
+     * the super type role, in a single query.
+     *
+     * @param superTypeVersionedMappableIds The ids of the versioned mappable classes for which the inheritance data in super type role will be looked up.
+     * @return All inheritance data which indicates that one of the given mappables in a game version is a super type.
+     */
+    Flux<InheritanceDataDMO> findAllForSuperTypes(
+            Collection<UUID> superTypeVersionedMappableIds
+    );
+
+    /**
+     * Finds all the inheritance data in which any of the given versioned mappable classes is
+     * the sub type role, in a single query.
+     *
+     * @param subTypeVersionedMappableIds The ids of the versioned mappable classes for which the inheritance data in sub type role will be looked up.
+     * @return All inheritance data which indicates that one of the given mappables in a game version is a sub type.
+     */
+    Flux<InheritanceDataDMO> findAllForSubTypes(
+            Collection<UUID> subTypeVersionedMappableIds
+    );
 }
@@ -8,9 +8,11 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Priority;
+import java.util.Collection;
 import java.util.UUID;
 
 import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.where;
@@ -62,4 +64,32 @@ class InheritanceDataRepositoryImpl extends AbstractModMappingRepository<Inherit
                 pageable
         );
     }
+
+    /**
+     * Finds all the inheritance data in which any of the given versioned mappable classes is
+     * the super type role, in a single query.
+     *
+     * @param superTypeVersionedMappableIds The ids of the versioned mappable classes for which the inheritance data in super type role will be looked up.
+     * @return All inheritance data which indicates that one of the given mappables in a game version is a super type.
+     */
+    @Override
+    public Flux<InheritanceDataDMO> findAllForSuperTypes(
+            final Collection<UUID> superTypeVersionedMappableIds
+    ) {
+        return createStarAnyOfRequest("super_type_versioned_mappable_id", superTypeVersionedMappableIds);
+    }
+
+    /**
+     * Finds all the inheritance data in which any of the given versioned mappable classes is
+     * the sub type role, in a single query.
+     *
+     * @param subTypeVersionedMappableIds The ids of the versioned mappable classes for which the inheritance data in sub type role will be looked up.
+     * @return All inheritance data which indicates that one of the given mappables in a game version is a sub type.
+     */
+    @Override
+    public Flux<InheritanceDataDMO> findAllForSubTypes(
+            final Collection<UUID> subTypeVersionedMappableIds
+    ) {
+        return createStarAnyOfRequest("sub_type_versioned_mappable_id", subTypeVersionedMappableIds);
+    }
 }
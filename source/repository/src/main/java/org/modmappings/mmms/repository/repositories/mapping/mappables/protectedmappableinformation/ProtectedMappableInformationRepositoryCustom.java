@@ -3,8 +3,10 @@ package org.modmappings.mmms.repository.repositories.mapping.mappables.protected
 import org.modmappings.mmms.repository.model.mapping.mappable.ProtectedMappableInformationDMO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -26,6 +28,17 @@ public interface ProtectedMappableInformationRepositoryCustom {
             Pageable pageable
     );
 
+    /**
+     * Finds all the protected versioned mappable information which indicate that any of the given versioned mappables is locked
+     * for mapping types, in a single query.
+     *
+     * @param versionedMappableIds The ids of the versioned mappables for which protected mappable information is being looked up.
+     * @return Protected mappable information that indicates that one of the versioned mappables is locked for a given mapping type.
+     */
+    Flux<ProtectedMappableInformationDMO> findAllByVersionedMappables(
+            Collection<UUID> versionedMappableIds
+    );
+
     /**
      * Finds all the protected versioned mappable information which indicate that a given mapping type is locked
      * for versioned mappables.
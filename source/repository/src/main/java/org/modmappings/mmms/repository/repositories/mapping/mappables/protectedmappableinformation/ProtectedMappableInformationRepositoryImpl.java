@@ -7,9 +7,11 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Priority;
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -39,6 +41,20 @@ class ProtectedMappableInformationRepositoryImpl extends AbstractModMappingRepos
         return createPagedStarSingleWhereRequest("versioned_mappable_id", versionedMappableId, pageable);
     }
 
+    /**
+     * Finds all the protected versioned mappable information which indicate that any of the given versioned mappables is locked
+     * for mapping types, in a single query.
+     *
+     * @param versionedMappableIds The ids of the versioned mappables for which protected mappable information is being looked up.
+     * @return Protected mappable information that indicates that one of the versioned mappables is locked for a given mapping type.
+     */
+    @Override
+    public Flux<ProtectedMappableInformationDMO> findAllByVersionedMappables(
+            final Collection<UUID> versionedMappableIds
+    ) {
+        return createStarAnyOfRequest("versioned_mappable_id", versionedMappableIds);
+    }
+
     /**
      * Finds all the protected versioned mappable information which indicate that a given mapping type is locked
      * for versioned mappables.
@@ -4,6 +4,8 @@ import org.modmappings.mmms.repository.model.mapping.mappable.MappableTypeDMO;
 import org.modmappings.mmms.repository.model.mapping.mappable.VersionedMappableDMO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.UUID;
@@ -133,4 +135,40 @@ public interface VersionedMappableRepositoryCustom {
             final boolean externallyVisibleOnly,
             final Pageable pageable
     );
+
+    /**
+     * Streams all versioned mappables who match the given search criteria.
+     * Behaves identical to {@link #findAllFor(UUID, MappableTypeDMO, UUID, UUID, UUID, UUID, String, String, UUID, UUID, boolean, Pageable)},
+     * but returns every matching versioned mappable as a single stream, instead of a single materialized page.
+     *
+     * @param gameVersionId         The id of the game version. Null to ignore.
+     * @param mappableTypeDMO       The type of the mappable to look up. Null to ignore.
+     * @param classId               The id of the class to find versioned mappables in. Null to ignore.
+     * @param methodId              The id of the method to find versioned mappables in. Null to ignore.
+     * @param mappingId             The id of the mapping to find the versioned mappables for. Null to ignore.
+     * @param mappingTypeId         The id of the mapping type to find the versioned mappables for. Null to ignore.
+     * @param mappingInputRegex     A regex that is mapped against the input of the mapping. Null to ignore
+     * @param mappingOutputRegex    A regex that is mapped against the output of the mapping. Null to ignore
+     * @param superTypeTargetId     The id of the class to find the super types for. Null to ignore.
+     * @param subTypeTargetId       The id of the class to find the sub types for. Null to ignore.
+     * @param externallyVisibleOnly Indicate if externally visible classes only
+     * @param sort                  The sorting information.
+     * @param fetchSize             The maximal amount of versioned mappables requested from the database at a time.
+     * @return The stream of the requested versioned mappables.
+     */
+    Flux<VersionedMappableDMO> streamAllFor(
+            final UUID gameVersionId,
+            final MappableTypeDMO mappableTypeDMO,
+            final UUID classId,
+            final UUID methodId,
+            final UUID mappingId,
+            final UUID mappingTypeId,
+            final String mappingInputRegex,
+            final String mappingOutputRegex,
+            final UUID superTypeTargetId,
+            final UUID subTypeTargetId,
+            final boolean externallyVisibleOnly,
+            final Sort sort,
+            final int fetchSize
+    );
 }
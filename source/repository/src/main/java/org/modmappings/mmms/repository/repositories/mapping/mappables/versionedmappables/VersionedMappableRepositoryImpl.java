@@ -12,13 +12,16 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.r2dbc.core.PreparedOperation;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Priority;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.on;
 import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.where;
@@ -98,26 +101,28 @@ public class VersionedMappableRepositoryImpl extends AbstractModMappingRepositor
     public Mono<VersionedMappableDMO> findAllForMapping(
             final UUID mappingId
     ) {
-        final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
-        final SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(this.getEntity().getTableName());
-        final List<String> columns = this.getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
-
-        selectSpec
-                .distinct()
-                .withProjectionFromColumnName(columns)
-                .withJoin(
-                        join("mapping", "m")
-                                .withOn(on(Expressions.reference("id")).is(Expressions.reference("m", "versioned_mappable_id")))
-                )
-                .withCriteria(where(Expressions.reference("m", "id")).is(Expressions.parameter(mappingId)))
-                .withPage(PageRequest.of(0, 1));
+        return Mono.defer(() -> {
+            final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
+            final SelectSpecWithJoin selectSpec = mapper.createSelectWithJoin(this.getEntity().getTableName());
+            final List<String> columns = this.getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
+
+            selectSpec
+                    .distinct()
+                    .withProjectionFromColumnName(columns)
+                    .withJoin(
+                            join("mapping", "m")
+                                    .withOn(on(Expressions.reference("id")).is(Expressions.reference("m", "versioned_mappable_id")))
+                    )
+                    .withCriteria(where(Expressions.reference("m", "id")).is(Expressions.parameter(mappingId)))
+                    .withPage(PageRequest.of(0, 1));
 
-        final PreparedOperation<?> operation = mapper.getMappedObject(selectSpec);
+            final PreparedOperation<?> operation = mapper.getMappedObject(selectSpec);
 
-        return this.getDatabaseClient().execute(operation) //
-                .as(this.getEntity().getJavaType()) //
-                .fetch()
-                .first();
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(this.getEntity().getJavaType()) //
+                    .fetch()
+                    .first());
+        });
     }
 
     /**
@@ -199,44 +204,107 @@ public class VersionedMappableRepositoryImpl extends AbstractModMappingRepositor
             final Pageable pageable
     ) {
         return createPagedStarRequest(
-                selectSpecWithJoin -> selectSpecWithJoin
-                        .join(() -> join("mappable", "mp").on(
-                                () -> on(Expressions.reference("mappable_id")).is(Expressions.reference("mp", "id"))
-                                )
+                createFindAllForBuilder(
+                        gameVersionId,
+                        mappableTypeDMO,
+                        classId,
+                        methodId,
+                        mappingId,
+                        mappingTypeId,
+                        mappingInputRegex,
+                        mappingOutputRegex,
+                        superTypeTargetId,
+                        subTypeTargetId,
+                        externallyVisibleOnly
+                ),
+                pageable
+        );
+    }
+
+    @Override
+    public Flux<VersionedMappableDMO> streamAllFor(
+            final UUID gameVersionId,
+            final MappableTypeDMO mappableTypeDMO,
+            final UUID classId,
+            final UUID methodId,
+            final UUID mappingId,
+            final UUID mappingTypeId,
+            final String mappingInputRegex,
+            final String mappingOutputRegex,
+            final UUID superTypeTargetId,
+            final UUID subTypeTargetId,
+            final boolean externallyVisibleOnly,
+            final Sort sort,
+            final int fetchSize
+    ) {
+        return createStreamingStarRequest(
+                createFindAllForBuilder(
+                        gameVersionId,
+                        mappableTypeDMO,
+                        classId,
+                        methodId,
+                        mappingId,
+                        mappingTypeId,
+                        mappingInputRegex,
+                        mappingOutputRegex,
+                        superTypeTargetId,
+                        subTypeTargetId,
+                        externallyVisibleOnly
+                ),
+                sort,
+                fetchSize
+        );
+    }
+
+    private UnaryOperator<SelectSpecWithJoin> createFindAllForBuilder(
+            final UUID gameVersionId,
+            final MappableTypeDMO mappableTypeDMO,
+            final UUID classId,
+            final UUID methodId,
+            final UUID mappingId,
+            final UUID mappingTypeId,
+            final String mappingInputRegex,
+            final String mappingOutputRegex,
+            final UUID superTypeTargetId,
+            final UUID subTypeTargetId,
+            final boolean externallyVisibleOnly
+    ) {
+        return selectSpecWithJoin -> selectSpecWithJoin
+                .join(() -> join("mappable", "mp").on(
+                        () -> on(Expressions.reference("mappable_id")).is(Expressions.reference("mp", "id"))
                         )
-                        .join(() -> leftOuterJoin("mapping", "m").on(
-                                () -> on(Expressions.reference("id")).is(Expressions.reference("m", "versioned_mappable_id"))
-                                )
+                )
+                .join(() -> leftOuterJoin("mapping", "m").on(
+                        () -> on(Expressions.reference("id")).is(Expressions.reference("m", "versioned_mappable_id"))
                         )
-                        .join(() -> leftOuterJoin("mapping_type", "mt").on(
-                                () -> on(Expressions.reference("m", "mapping_type_id")).is(Expressions.reference("mt", "id"))
-                        ))
-                        .join(() -> leftOuterJoin("inheritance_data", "super_mid").on(
-                                () -> on(Expressions.reference("id")).is(Expressions.reference("super_mid", "super_type_versioned_mappable_id"))
-                                )
+                )
+                .join(() -> leftOuterJoin("mapping_type", "mt").on(
+                        () -> on(Expressions.reference("m", "mapping_type_id")).is(Expressions.reference("mt", "id"))
+                ))
+                .join(() -> leftOuterJoin("inheritance_data", "super_mid").on(
+                        () -> on(Expressions.reference("id")).is(Expressions.reference("super_mid", "super_type_versioned_mappable_id"))
                         )
-                        .join(() -> leftOuterJoin("inheritance_data", "sub_mid").on(
-                                () -> on(Expressions.reference("id")).is(Expressions.reference("sub_mid", "sub_type_versioned_mappable_id"))
-                                )
+                )
+                .join(() -> leftOuterJoin("inheritance_data", "sub_mid").on(
+                        () -> on(Expressions.reference("id")).is(Expressions.reference("sub_mid", "sub_type_versioned_mappable_id"))
                         )
-                        .where(() -> {
-                            ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(null, gameVersionId, "", "game_version_id");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappableTypeDMO, "mp", "type");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, classId, "", "parent_class_id");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, methodId, "", "parent_method_id");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappingId, "m", "id");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, superTypeTargetId, "super_mid", "sub_type_versioned_mappable_id");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, subTypeTargetId, "sub_mid", "super_type_versioned_mappable_id");
-                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "m", "mapping_type_id");
-                            criteria = nonNullAndMatchesCheckForWhere(criteria, mappingInputRegex, "m", "input");
-                            criteria = nonNullAndMatchesCheckForWhere(criteria, mappingOutputRegex, "m", "output");
-                            if (externallyVisibleOnly) {
-                                criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
-                            }
-
-                            return criteria;
-                        }),
-                pageable
-        );
+                )
+                .where(() -> {
+                    ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(null, gameVersionId, "", "game_version_id");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, mappableTypeDMO, "mp", "type");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, classId, "", "parent_class_id");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, methodId, "", "parent_method_id");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, mappingId, "m", "id");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, superTypeTargetId, "super_mid", "sub_type_versioned_mappable_id");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, subTypeTargetId, "sub_mid", "super_type_versioned_mappable_id");
+                    criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "m", "mapping_type_id");
+                    criteria = nonNullAndMatchesCheckForWhere(criteria, mappingInputRegex, "m", "input");
+                    criteria = nonNullAndMatchesCheckForWhere(criteria, mappingOutputRegex, "m", "output");
+                    if (externallyVisibleOnly) {
+                        criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
+                    }
+
+                    return criteria;
+                });
     }
 }
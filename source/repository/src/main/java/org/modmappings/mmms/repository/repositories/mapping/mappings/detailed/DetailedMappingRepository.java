@@ -5,9 +5,12 @@ import org.modmappings.mmms.repository.model.mapping.mappings.DetailedMappingDMO
 import org.modmappings.mmms.repository.repositories.mapping.mappings.mapping.MappingRepositoryCustom;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -57,6 +60,59 @@ public interface DetailedMappingRepository extends org.springframework.data.repo
             final Pageable pageable
     );
 
+    /**
+     * Streams all mappings, and their metadata, which match the given filters.
+     * Behaves identical to {@link #findAllBy(Boolean, UUID, UUID, MappableTypeDMO, String, String, UUID, UUID, UUID, UUID, UUID, boolean, Pageable)},
+     * but returns every matching mapping as a single stream, instead of a single materialized page.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param userId                The id of the user who created the mapping.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param sort                  The sorting information.
+     * @param fetchSize             The maximal amount of mappings requested from the database at a time.
+     * @return The stream of mappings, and their metadata.
+     */
+    Flux<DetailedMappingDMO> streamAllBy(
+            final Boolean latestOnly,
+            final UUID versionedMappableId,
+            final UUID releaseId,
+            final MappableTypeDMO mappableType,
+            final String inputRegex,
+            final String outputRegex,
+            final UUID mappingTypeId,
+            final UUID gameVersionId,
+            final UUID userId,
+            final UUID parentClassId,
+            final UUID parentMethodId,
+            final boolean externallyVisibleOnly,
+            final Sort sort,
+            final int fetchSize
+    );
+
+    /**
+     * Streams all externally visible mappings of the given types, and their metadata, which are part of the given release.
+     * The mappings are ordered by the class they reside in, so that all mappings of a single class are emitted after each other.
+     *
+     * @param releaseId     The id of the release.
+     * @param mappableTypes The types of the mappables to stream the mappings for.
+     * @param fetchSize     The maximal amount of mappings requested from the database at a time.
+     * @return The stream of mappings, and their metadata, grouped by the class they reside in.
+     */
+    Flux<DetailedMappingDMO> streamAllInReleaseBy(
+            final UUID releaseId,
+            final Collection<MappableTypeDMO> mappableTypes,
+            final int fetchSize
+    );
+
     /**
      * Finds a detailed mapping with the given id, respecting the fact that only mappings for externally visible mapping types should be considered.
      *
@@ -14,20 +14,25 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.convert.R2dbcConverter;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.r2dbc.core.PreparedOperation;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Priority;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
 
 import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.on;
-import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.where;
 import static org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec.join;
-import static org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec.leftOuterJoin;
+import static org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec.optionalJoin;
+import static org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec.Order.asc;
 import static org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec.sort;
 
 @Primary
@@ -82,6 +87,76 @@ public class DetailedMappingRepositoryImpl implements DetailedMappingRepository,
             final Pageable pageable
     ) {
         return createPagedRequestWithCountType(
+                createFindAllByBuilder(
+                        latestOnly,
+                        versionedMappableId,
+                        releaseId,
+                        mappableType,
+                        inputRegex,
+                        outputRegex,
+                        mappingTypeId,
+                        gameVersionId,
+                        userId,
+                        parentClassId,
+                        parentMethodId,
+                        externallyVisibleOnly
+                ),
+                "mapping",
+                DetailedMappingDMO.class,
+                MappingDMO.class,
+                pageable
+        );
+    }
+
+    @Override
+    public Flux<DetailedMappingDMO> streamAllBy(
+            final Boolean latestOnly,
+            final UUID versionedMappableId,
+            final UUID releaseId,
+            final MappableTypeDMO mappableType,
+            final String inputRegex,
+            final String outputRegex,
+            final UUID mappingTypeId,
+            final UUID gameVersionId,
+            final UUID userId,
+            final UUID parentClassId,
+            final UUID parentMethodId,
+            final boolean externallyVisibleOnly,
+            final Sort sort,
+            final int fetchSize
+    ) {
+        return createStreamingRequest(
+                createFindAllByBuilder(
+                        latestOnly,
+                        versionedMappableId,
+                        releaseId,
+                        mappableType,
+                        inputRegex,
+                        outputRegex,
+                        mappingTypeId,
+                        gameVersionId,
+                        userId,
+                        parentClassId,
+                        parentMethodId,
+                        externallyVisibleOnly
+                ),
+                "mapping",
+                DetailedMappingDMO.class,
+                sort,
+                fetchSize
+        );
+    }
+
+    @Override
+    public Flux<DetailedMappingDMO> streamAllInReleaseBy(
+            final UUID releaseId,
+            final Collection<MappableTypeDMO> mappableTypes,
+            final int fetchSize
+    ) {
+        Assert.notNull(releaseId, "ReleaseId must not be null!");
+        Assert.notEmpty(mappableTypes, "MappableTypes must not be empty!");
+
+        return createStreamingRequest(
                 selectSpecWithJoin -> selectSpecWithJoin
                         .select(createSelectStatementsForCompoundEntity(DetailedMappingDMO.class))
                         .join(() -> join("release_component", "rc")
@@ -92,82 +167,114 @@ public class DetailedMappingRepositoryImpl implements DetailedMappingRepository,
                                 .on(() -> on(Expressions.reference("versioned_mappable", "mappable_id")).is(Expressions.reference("mappable", "id"))))
                         .join(() -> join("mapping_type", "mt")
                                 .on(() -> on(Expressions.reference("mapping_type_id")).is(Expressions.reference("mt", "id"))))
-                        .join(() -> leftOuterJoin("mapping", "m2")
-                                .on(() -> on(Expressions.reference("versioned_mappable_id")).is(Expressions.reference("m2", "versioned_mappable_id"))
-                                        .and(Expressions.reference("mapping_type_id")).is(Expressions.reference("m2", "mapping_type_id"))
-                                        .and(Expressions.reference("created_on")).lessThan(Expressions.reference("m2", "created_on")))
-                        )
-                        .where(
-                                () -> {
-                                    ColumnBasedCriteria criteria = latestOnly ? where(Expressions.reference("m2", "id")).isNull() : null;
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, versionedMappableId, "", "versioned_mappable_id");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, releaseId, "rc", "release_id");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, mappableType, "mappable", "type");
-                                    criteria = nonNullAndMatchesCheckForWhere(criteria, inputRegex, "", "input");
-                                    criteria = nonNullAndMatchesCheckForWhere(criteria, outputRegex, "", "output");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "", "mapping_type_id");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, gameVersionId, "versioned_mappable", "game_version_id");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, parentClassId, "versioned_mappable", "parent_class_id");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, parentMethodId, "versioned_mappable", "parent_method_id");
-                                    criteria = nonNullAndEqualsCheckForWhere(criteria, userId, "", "created_by");
-
-                                    if (externallyVisibleOnly) {
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
-                                    }
-
-                                    return criteria;
-                                }
-                        )
-                ,
+                        .where(() -> {
+                            final ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(null, releaseId, "rc", "release_id");
+                            return nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible")
+                                    .and(Expressions.reference("mappable", "type")).in(mappableTypes.stream()
+                                            .map(Expressions::parameter)
+                                            .collect(Collectors.toList()));
+                        })
+                        .withSort(sort(asc(Expressions.reference("versioned_mappable", "parent_class_id")))
+                                .and(asc(Expressions.reference("input")))
+                                .and(asc(Expressions.reference("id")))),
                 "mapping",
                 DetailedMappingDMO.class,
-                MappingDMO.class,
-                pageable
+                Sort.unsorted(),
+                fetchSize
         );
     }
 
-    @Override
-    public Mono<DetailedMappingDMO> findById(final UUID id, final boolean externallyVisibleOnly) {
-        Assert.notNull(id, "Id must not be null!");
-
-        ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
-        if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(DetailedMappingDMO.class)) {
-            mapper = mapper.forType(DetailedMappingDMO.class);
-        }
-        final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin("mapping")
+    private UnaryOperator<SelectSpecWithJoin> createFindAllByBuilder(
+            final Boolean latestOnly,
+            final UUID versionedMappableId,
+            final UUID releaseId,
+            final MappableTypeDMO mappableType,
+            final String inputRegex,
+            final String outputRegex,
+            final UUID mappingTypeId,
+            final UUID gameVersionId,
+            final UUID userId,
+            final UUID parentClassId,
+            final UUID parentMethodId,
+            final boolean externallyVisibleOnly
+    ) {
+        return selectSpecWithJoin -> selectSpecWithJoin
                 .select(createSelectStatementsForCompoundEntity(DetailedMappingDMO.class))
+                .join(() -> join("release_component", "rc")
+                        .on(() -> on(Expressions.reference("id")).is(Expressions.reference("rc", "mapping_id"))))
                 .join(() -> join("versioned_mappable", "versioned_mappable")
                         .on(() -> on(Expressions.reference("versioned_mappable_id")).is(Expressions.reference("versioned_mappable", "id"))))
                 .join(() -> join("mappable", "mappable")
                         .on(() -> on(Expressions.reference("versioned_mappable", "mappable_id")).is(Expressions.reference("mappable", "id"))))
                 .join(() -> join("mapping_type", "mt")
                         .on(() -> on(Expressions.reference("mapping_type_id")).is(Expressions.reference("mt", "id"))))
-                .where(() -> {
-                    ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
-                            null,
-                            id,
-                            "mapping",
-                            "id"
-                    );
-
-                    if (externallyVisibleOnly) {
-                        criteria = nonNullAndEqualsCheckForWhere(
-                                criteria,
-                                true,
-                                "mt",
-                                "visible"
+                .join(() -> optionalJoin(latestOnly, "latest_mapping", "lm")
+                        .on(() -> on(Expressions.reference("id")).is(Expressions.reference("lm", "mapping_id"))))
+                .where(
+                        () -> {
+                            ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(null, versionedMappableId, "", "versioned_mappable_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, releaseId, "rc", "release_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappableType, "mappable", "type");
+                            criteria = nonNullAndMatchesCheckForWhere(criteria, inputRegex, "", "input");
+                            criteria = nonNullAndMatchesCheckForWhere(criteria, outputRegex, "", "output");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "", "mapping_type_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, gameVersionId, "versioned_mappable", "game_version_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, parentClassId, "versioned_mappable", "parent_class_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, parentMethodId, "versioned_mappable", "parent_method_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, userId, "", "created_by");
+
+                            if (externallyVisibleOnly) {
+                                criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
+                            }
+
+                            return criteria;
+                        }
+                );
+    }
+
+    @Override
+    public Mono<DetailedMappingDMO> findById(final UUID id, final boolean externallyVisibleOnly) {
+        Assert.notNull(id, "Id must not be null!");
+
+        return Mono.defer(() -> {
+            ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper();
+            if (getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(DetailedMappingDMO.class)) {
+                mapper = mapper.forType(DetailedMappingDMO.class);
+            }
+            final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin("mapping")
+                    .select(createSelectStatementsForCompoundEntity(DetailedMappingDMO.class))
+                    .join(() -> join("versioned_mappable", "versioned_mappable")
+                            .on(() -> on(Expressions.reference("versioned_mappable_id")).is(Expressions.reference("versioned_mappable", "id"))))
+                    .join(() -> join("mappable", "mappable")
+                            .on(() -> on(Expressions.reference("versioned_mappable", "mappable_id")).is(Expressions.reference("mappable", "id"))))
+                    .join(() -> join("mapping_type", "mt")
+                            .on(() -> on(Expressions.reference("mapping_type_id")).is(Expressions.reference("mt", "id"))))
+                    .where(() -> {
+                        ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
+                                null,
+                                id,
+                                "mapping",
+                                "id"
                         );
-                    }
 
-                    return criteria;
-                });
+                        if (externallyVisibleOnly) {
+                            criteria = nonNullAndEqualsCheckForWhere(
+                                    criteria,
+                                    true,
+                                    "mt",
+                                    "visible"
+                            );
+                        }
 
+                        return criteria;
+                    });
 
-        final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+            final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
 
-        return this.getDatabaseClient().execute(operation) //
-                .as(DetailedMappingDMO.class) //
-                .fetch() //
-                .one();
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(DetailedMappingDMO.class) //
+                    .fetch() //
+                    .one());
+        });
     }
 }
@@ -2,10 +2,15 @@ package org.modmappings.mmms.repository.repositories.mapping.mappings.mapping;
 
 import org.modmappings.mmms.repository.model.mapping.mappable.MappableTypeDMO;
 import org.modmappings.mmms.repository.model.mapping.mappings.MappingDMO;
+import org.modmappings.mmms.repository.repositories.paging.CountStrategy;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
 import java.util.UUID;
 
 /**
@@ -53,6 +58,117 @@ public interface MappingRepositoryCustom {
                                               final String parentClassPackagePath, final boolean externallyVisibleOnly,
                                               final Pageable pageable);
 
+    /**
+     * Finds all mappings which match the given filters.
+     * Behaves identical to {@link #findAllOrLatestFor(Boolean, UUID, UUID, MappableTypeDMO, String, String, UUID, UUID, UUID, UUID, UUID, String, boolean, Pageable)},
+     * but determines the total amount of mappings with the given count strategy.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param userId                The id of the user who created the mapping.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param parentClassPackagePath The package of the class of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param pageable              The paging and sorting information.
+     * @param countStrategy         The strategy which determines the total amount of mappings.
+     * @return All latest mappings who' matches the given regexes and are part of the mapping type and game version if those are specified.
+     */
+    Mono<Page<MappingDMO>> findAllOrLatestFor(final Boolean latestOnly,
+                                              final UUID versionedMappableId,
+                                              final UUID releaseId,
+                                              final MappableTypeDMO mappableType,
+                                              final String inputRegex,
+                                              final String outputRegex,
+                                              final UUID mappingTypeId,
+                                              final UUID gameVersionId,
+                                              final UUID userId,
+                                              final UUID parentClassId,
+                                              final UUID parentMethodId,
+                                              final String parentClassPackagePath, final boolean externallyVisibleOnly,
+                                              final Pageable pageable,
+                                              final CountStrategy countStrategy);
+
+    /**
+     * Finds all mappings which match the given filters, using keyset (seek) pagination.
+     * Behaves identical to {@link #findAllOrLatestFor(Boolean, UUID, UUID, MappableTypeDMO, String, String, UUID, UUID, UUID, UUID, UUID, String, boolean, Pageable)},
+     * but does not count the total amount of mappings and does not need to skip the mappings of the previous pages.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param userId                The id of the user who created the mapping.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param parentClassPackagePath The package of the class of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param pageable              The size and sorting information.
+     * @param continuationToken     The continuation token of the previous page, or null for the first page.
+     * @return The page of mappings, with the continuation token for the next page.
+     */
+    Mono<SeekPage<MappingDMO>> findAllOrLatestFor(final Boolean latestOnly,
+                                                  final UUID versionedMappableId,
+                                                  final UUID releaseId,
+                                                  final MappableTypeDMO mappableType,
+                                                  final String inputRegex,
+                                                  final String outputRegex,
+                                                  final UUID mappingTypeId,
+                                                  final UUID gameVersionId,
+                                                  final UUID userId,
+                                                  final UUID parentClassId,
+                                                  final UUID parentMethodId,
+                                                  final String parentClassPackagePath, final boolean externallyVisibleOnly,
+                                                  final Pageable pageable,
+                                                  final String continuationToken);
+
+    /**
+     * Streams all mappings which match the given filters.
+     * Behaves identical to {@link #findAllOrLatestFor(Boolean, UUID, UUID, MappableTypeDMO, String, String, UUID, UUID, UUID, UUID, UUID, String, boolean, Pageable)},
+     * but returns every matching mapping as a single stream, instead of a single materialized page.
+     *
+     * @param latestOnly            Indicator if only the latest mappings or all mappings should be returned.
+     * @param versionedMappableId   The id of the versioned mappable to filter on.
+     * @param releaseId             The id of the release to filter on.
+     * @param mappableType          The type of the mappable to filter the mappings on.
+     * @param inputRegex            The regex against which the input of the mappings is matched to be included in the result.
+     * @param outputRegex           The regex against which the output of the mappings is matched to be included in the result.
+     * @param mappingTypeId         The id of the mapping type that a mapping needs to be for. Use an empty optional for any mapping type.
+     * @param gameVersionId         The id of the game version that the mapping needs to be for. Use an empty optional for any game version.
+     * @param userId                The id of the user who created the mapping.
+     * @param parentClassId         The id of the class of which the targeted mappings versioned mappable resides in.
+     * @param parentMethodId        The id of the method of which the targeted mappings versioned mappable resides in.
+     * @param parentClassPackagePath The package of the class of which the targeted mappings versioned mappable resides in.
+     * @param externallyVisibleOnly Indicates if only mappings for externally visible mapping types should be included.
+     * @param sort                  The sorting information.
+     * @param fetchSize             The maximal amount of mappings requested from the database at a time.
+     * @return The stream of mappings.
+     */
+    Flux<MappingDMO> streamAllOrLatestFor(final Boolean latestOnly,
+                                          final UUID versionedMappableId,
+                                          final UUID releaseId,
+                                          final MappableTypeDMO mappableType,
+                                          final String inputRegex,
+                                          final String outputRegex,
+                                          final UUID mappingTypeId,
+                                          final UUID gameVersionId,
+                                          final UUID userId,
+                                          final UUID parentClassId,
+                                          final UUID parentMethodId,
+                                          final String parentClassPackagePath, final boolean externallyVisibleOnly,
+                                          final Sort sort,
+                                          final int fetchSize);
+
     /**
      * Finds a mapping with the given id, respecting the fact that only mappings for externally visible mapping types should be considered.
      *
@@ -61,4 +177,25 @@ public interface MappingRepositoryCustom {
      * @return The mapping in a mono.
      */
     Mono<MappingDMO> findById(UUID id, boolean externallyVisibleOnly);
+
+    /**
+     * Finds all mappings with the given ids in a single query, respecting the fact that only mappings for externally visible mapping types should be considered.
+     *
+     * @param ids                   The ids of the mappings.
+     * @param externallyVisibleOnly Indicator if only externally visible mappings should be considered.
+     * @return The mappings which where found, in no particular order.
+     */
+    Flux<MappingDMO> findAllById(Collection<UUID> ids, boolean externallyVisibleOnly);
+
+    /**
+     * Finds the latest mappings of the given mapping type and game version, of which the input is any of the given inputs, in a single query.
+     * Multiple mappings can be returned for a single input, since for example fields in different classes can share the same input.
+     *
+     * @param mappingTypeId         The id of the mapping type that the mappings need to be for.
+     * @param gameVersionId         The id of the game version that the mappings need to be for.
+     * @param inputs                The inputs to look up.
+     * @param externallyVisibleOnly Indicator if only externally visible mappings should be considered.
+     * @return The mappings which where found, in no particular order.
+     */
+    Flux<MappingDMO> findAllLatestByInput(UUID mappingTypeId, UUID gameVersionId, Collection<String> inputs, boolean externallyVisibleOnly);
 }
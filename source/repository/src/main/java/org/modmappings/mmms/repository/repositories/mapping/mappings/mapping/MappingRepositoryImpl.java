@@ -7,24 +7,31 @@ import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
 import org.modmappings.mmms.repository.model.mapping.mappable.MappableTypeDMO;
 import org.modmappings.mmms.repository.model.mapping.mappings.MappingDMO;
 import org.modmappings.mmms.repository.repositories.AbstractModMappingRepository;
+import org.modmappings.mmms.repository.repositories.paging.CountStrategies;
+import org.modmappings.mmms.repository.repositories.paging.CountStrategy;
+import org.modmappings.mmms.repository.repositories.paging.SeekPage;
 import org.springframework.context.annotation.Primary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.r2dbc.core.PreparedOperation;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.annotation.Priority;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.UnaryOperator;
 
 import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.on;
+import static org.modmappings.mmms.er2dbc.data.statements.criteria.ColumnBasedCriteria.where;
+import static org.modmappings.mmms.er2dbc.data.statements.expression.Expressions.any;
 import static org.modmappings.mmms.er2dbc.data.statements.expression.Expressions.reference;
 import static org.modmappings.mmms.er2dbc.data.statements.join.JoinSpec.*;
-import static org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec.Order.asc;
-import static org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec.Order.desc;
-import static org.modmappings.mmms.er2dbc.data.statements.sort.SortSpec.sort;
 
 /**
  * Represents a repository which can provide and store {@link MappingDMO} objects.
@@ -52,92 +59,304 @@ class MappingRepositoryImpl extends AbstractModMappingRepository<MappingDMO> imp
                                                      final String parentClassPackagePath,
                                                      final boolean externallyVisibleOnly,
                                                      final Pageable pageable) {
+        return findAllOrLatestFor(
+                latestOnly,
+                versionedMappableId,
+                releaseId,
+                mappableType,
+                inputRegex,
+                outputRegex,
+                mappingTypeId,
+                gameVersionId,
+                userId,
+                parentClassId,
+                parentMethodId,
+                parentClassPackagePath,
+                externallyVisibleOnly,
+                pageable,
+                CountStrategies.EXACT
+        );
+    }
+
+    @Override
+    public Mono<Page<MappingDMO>> findAllOrLatestFor(final Boolean latestOnly,
+                                                     final UUID versionedMappableId,
+                                                     final UUID releaseId,
+                                                     final MappableTypeDMO mappableType,
+                                                     final String inputRegex,
+                                                     final String outputRegex,
+                                                     final UUID mappingTypeId,
+                                                     final UUID gameVersionId,
+                                                     final UUID userId,
+                                                     final UUID parentClassId,
+                                                     final UUID parentMethodId,
+                                                     final String parentClassPackagePath,
+                                                     final boolean externallyVisibleOnly,
+                                                     final Pageable pageable,
+                                                     final CountStrategy countStrategy) {
         return createPagedStarRequest(
-                selectSpecWithJoin -> {
-                    if (latestOnly) {
-                        selectSpecWithJoin = selectSpecWithJoin.withDistinctOn(reference("output"));
-                    }
-
-                    selectSpecWithJoin = selectSpecWithJoin
-                            .join(() -> optionalJoin(parentClassId != null || parentMethodId != null, "versioned_mappable", "vm")
-                                    .on(() -> on(reference("versioned_mappable_id")).is(reference("vm", "id")))
-                            )
-                            .join(() -> nonNullLeftOuterJoin(releaseId, "release_component", "rc")
-                                    .on(() -> on(reference("id")).is(reference("rc", "mapping_id"))))
-                            .join(() -> join("mapping_type", "mt")
-                                    .on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
-                            .where(
-                                    () -> {
-                                        ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(null, versionedMappableId, "", "versioned_mappable_id");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, releaseId, "rc", "release_id");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, mappableType, "", "mappable_type");
-                                        criteria = nonNullAndMatchesCheckForWhere(criteria, inputRegex, "", "input");
-                                        criteria = nonNullAndMatchesCheckForWhere(criteria, outputRegex, "", "output");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "", "mapping_type_id");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, gameVersionId, "", "game_version_id");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, parentClassId, "vm", "parent_class_id");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, parentMethodId, "vm", "parent_method_id");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, userId, "", "created_by");
-                                        criteria = nonNullAndEqualsCheckForWhere(criteria, parentClassPackagePath, "", "package_path");
-
-                                        if (externallyVisibleOnly) {
-                                            criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
-                                        }
-
-                                        return criteria;
-                                    }
-                            );
+                createFindAllOrLatestForBuilder(
+                        latestOnly,
+                        versionedMappableId,
+                        releaseId,
+                        mappableType,
+                        inputRegex,
+                        outputRegex,
+                        mappingTypeId,
+                        gameVersionId,
+                        userId,
+                        parentClassId,
+                        parentMethodId,
+                        parentClassPackagePath,
+                        externallyVisibleOnly
+                ),
+                pageable,
+                countStrategy
+        );
+    }
 
-                    if (latestOnly)
-                    {
-                        selectSpecWithJoin = selectSpecWithJoin.withSort(sort(asc(reference("output"))).and(desc(reference("created_on"))));
-                    }
+    @Override
+    public Mono<SeekPage<MappingDMO>> findAllOrLatestFor(final Boolean latestOnly,
+                                                         final UUID versionedMappableId,
+                                                         final UUID releaseId,
+                                                         final MappableTypeDMO mappableType,
+                                                         final String inputRegex,
+                                                         final String outputRegex,
+                                                         final UUID mappingTypeId,
+                                                         final UUID gameVersionId,
+                                                         final UUID userId,
+                                                         final UUID parentClassId,
+                                                         final UUID parentMethodId,
+                                                         final String parentClassPackagePath,
+                                                         final boolean externallyVisibleOnly,
+                                                         final Pageable pageable,
+                                                         @Nullable final String continuationToken) {
+        return createSeekStarRequest(
+                createFindAllOrLatestForBuilder(
+                        latestOnly,
+                        versionedMappableId,
+                        releaseId,
+                        mappableType,
+                        inputRegex,
+                        outputRegex,
+                        mappingTypeId,
+                        gameVersionId,
+                        userId,
+                        parentClassId,
+                        parentMethodId,
+                        parentClassPackagePath,
+                        externallyVisibleOnly
+                ),
+                pageable,
+                continuationToken
+        );
+    }
 
-                    return selectSpecWithJoin;
-                }
-                ,
-                pageable
+    @Override
+    public Flux<MappingDMO> streamAllOrLatestFor(final Boolean latestOnly,
+                                                 final UUID versionedMappableId,
+                                                 final UUID releaseId,
+                                                 final MappableTypeDMO mappableType,
+                                                 final String inputRegex,
+                                                 final String outputRegex,
+                                                 final UUID mappingTypeId,
+                                                 final UUID gameVersionId,
+                                                 final UUID userId,
+                                                 final UUID parentClassId,
+                                                 final UUID parentMethodId,
+                                                 final String parentClassPackagePath,
+                                                 final boolean externallyVisibleOnly,
+                                                 final Sort sort,
+                                                 final int fetchSize) {
+        return createStreamingStarRequest(
+                createFindAllOrLatestForBuilder(
+                        latestOnly,
+                        versionedMappableId,
+                        releaseId,
+                        mappableType,
+                        inputRegex,
+                        outputRegex,
+                        mappingTypeId,
+                        gameVersionId,
+                        userId,
+                        parentClassId,
+                        parentMethodId,
+                        parentClassPackagePath,
+                        externallyVisibleOnly
+                ),
+                sort,
+                fetchSize
         );
     }
 
+    private UnaryOperator<SelectSpecWithJoin> createFindAllOrLatestForBuilder(final Boolean latestOnly,
+                                                                              final UUID versionedMappableId,
+                                                                              final UUID releaseId,
+                                                                              final MappableTypeDMO mappableType,
+                                                                              final String inputRegex,
+                                                                              final String outputRegex,
+                                                                              final UUID mappingTypeId,
+                                                                              final UUID gameVersionId,
+                                                                              final UUID userId,
+                                                                              final UUID parentClassId,
+                                                                              final UUID parentMethodId,
+                                                                              final String parentClassPackagePath,
+                                                                              final boolean externallyVisibleOnly) {
+        //A release already pins a single mapping per versioned mappable and mapping type, which is the latest one within that release.
+        //The globally latest mapping might have been created after the release was cut, so it is only joined for unreleased lookups.
+        return selectSpecWithJoin -> selectSpecWithJoin
+                .join(() -> optionalJoin(latestOnly && releaseId == null, "latest_mapping", "lm")
+                        .on(() -> on(reference("id")).is(reference("lm", "mapping_id"))))
+                .join(() -> optionalJoin(parentClassId != null || parentMethodId != null, "versioned_mappable", "vm")
+                        .on(() -> on(reference("versioned_mappable_id")).is(reference("vm", "id")))
+                )
+                .join(() -> nonNullLeftOuterJoin(releaseId, "release_component", "rc")
+                        .on(() -> on(reference("id")).is(reference("rc", "mapping_id"))))
+                .join(() -> join("mapping_type", "mt")
+                        .on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
+                .where(
+                        () -> {
+                            ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(null, versionedMappableId, "", "versioned_mappable_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, releaseId, "rc", "release_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappableType, "", "mappable_type");
+                            criteria = nonNullAndMatchesCheckForWhere(criteria, inputRegex, "", "input");
+                            criteria = nonNullAndMatchesCheckForWhere(criteria, outputRegex, "", "output");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "", "mapping_type_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, gameVersionId, "", "game_version_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, parentClassId, "vm", "parent_class_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, parentMethodId, "vm", "parent_method_id");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, userId, "", "created_by");
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, parentClassPackagePath, "", "package_path");
+
+                            if (externallyVisibleOnly) {
+                                criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
+                            }
+
+                            return criteria;
+                        }
+                );
+    }
+
     @Override
     public Mono<MappingDMO> findById(final UUID id,
                                      final boolean externallyVisibleOnly) {
         Assert.notNull(id, "Id must not be null!");
 
-        final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
-        final String idColumnName = getIdColumnName();
-
-        final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
-        final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
-                .withProjectionFromColumnName(columns)
-                .join(() -> join("mapping_type", "mt").on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
-                .where(() -> {
-                    ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
-                            null,
-                            id,
-                            "",
-                            idColumnName
-                    );
-
-                    if (externallyVisibleOnly) {
-                        criteria = nonNullAndEqualsCheckForWhere(
-                                criteria,
-                                true,
-                                "mt",
-                                "visible"
+        return Mono.defer(() -> {
+            final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
+            final String idColumnName = getIdColumnName();
+
+            final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
+            final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
+                    .withProjectionFromColumnName(columns)
+                    .join(() -> join("mapping_type", "mt").on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
+                    .where(() -> {
+                        ColumnBasedCriteria criteria = nonNullAndEqualsCheckForWhere(
+                                null,
+                                id,
+                                "",
+                                idColumnName
                         );
-                    }
 
-                    return criteria;
-                });
+                        if (externallyVisibleOnly) {
+                            criteria = nonNullAndEqualsCheckForWhere(
+                                    criteria,
+                                    true,
+                                    "mt",
+                                    "visible"
+                            );
+                        }
+
+                        return criteria;
+                    });
+
+            final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(this.getEntity().getJavaType()) //
+                    .fetch() //
+                    .one());
+        });
+    }
+
+    @Override
+    public Flux<MappingDMO> findAllById(final Collection<UUID> ids,
+                                        final boolean externallyVisibleOnly) {
+        Assert.notNull(ids, "Ids must not be null!");
+
+        return Flux.defer(() -> {
+            if (ids.isEmpty())
+                return Flux.empty();
+
+            final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
+            final String idColumnName = getIdColumnName();
+
+            final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
+            final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
+                    .withProjectionFromColumnName(columns)
+                    .join(() -> join("mapping_type", "mt").on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
+                    .where(() -> {
+                        ColumnBasedCriteria criteria = where(reference(idColumnName)).is(any(idColumnName, ids.stream().distinct().toArray(UUID[]::new)));
+
+                        if (externallyVisibleOnly) {
+                            criteria = nonNullAndEqualsCheckForWhere(
+                                    criteria,
+                                    true,
+                                    "mt",
+                                    "visible"
+                            );
+                        }
+
+                        return criteria;
+                    });
+
+            final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(this.getEntity().getJavaType()) //
+                    .fetch() //
+                    .all());
+        });
+    }
+
+    @Override
+    public Flux<MappingDMO> findAllLatestByInput(final UUID mappingTypeId,
+                                                 final UUID gameVersionId,
+                                                 final Collection<String> inputs,
+                                                 final boolean externallyVisibleOnly) {
+        Assert.notNull(mappingTypeId, "MappingTypeId must not be null!");
+        Assert.notNull(gameVersionId, "GameVersionId must not be null!");
+        Assert.notNull(inputs, "Inputs must not be null!");
+
+        return Flux.defer(() -> {
+            if (inputs.isEmpty())
+                return Flux.empty();
+
+            final List<String> columns = getAccessStrategy().getAllColumns(this.getEntity().getJavaType());
+
+            final ExtendedStatementMapper mapper = getAccessStrategy().getStatementMapper().forType(this.getEntity().getJavaType());
+            final SelectSpecWithJoin specWithJoin = mapper.createSelectWithJoin(this.getEntity().getTableName())
+                    .withProjectionFromColumnName(columns)
+                    .join(() -> join("latest_mapping", "lm").on(() -> on(reference("id")).is(reference("lm", "mapping_id"))))
+                    .join(() -> join("mapping_type", "mt").on(() -> on(reference("mapping_type_id")).is(reference("mt", "id"))))
+                    .where(() -> {
+                        ColumnBasedCriteria criteria = where(reference("input")).is(any("input", inputs.stream().distinct().toArray(String[]::new)));
+                        criteria = nonNullAndEqualsCheckForWhere(criteria, mappingTypeId, "", "mapping_type_id");
+                        criteria = nonNullAndEqualsCheckForWhere(criteria, gameVersionId, "", "game_version_id");
+
+                        if (externallyVisibleOnly) {
+                            criteria = nonNullAndEqualsCheckForWhere(criteria, true, "mt", "visible");
+                        }
 
+                        return criteria;
+                    });
 
-        final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
+            final PreparedOperation<?> operation = mapper.getMappedObject(specWithJoin);
 
-        return this.getDatabaseClient().execute(operation) //
-                .as(this.getEntity().getJavaType()) //
-                .fetch() //
-                .one();
+            return monitor(operation, this.getDatabaseClient().execute(operation) //
+                    .as(this.getEntity().getJavaType()) //
+                    .fetch() //
+                    .all());
+        });
     }
 }
@@ -0,0 +1,50 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+/**
+ * The built in count strategies a caller can pick from for a paged request.
+ */
+public enum CountMode {
+    /**
+     * Counts the total amount of elements with a separate count query, which callers can serve from their own cache via {@link #getStrategy(TotalCountCache)}.
+     */
+    EXACT(CountStrategies.EXACT),
+    /**
+     * Carries the total amount of elements as a window function column in the data query.
+     */
+    WINDOW(CountStrategies.WINDOW),
+    /**
+     * Uses the query planners estimate for the total amount of elements.
+     */
+    ESTIMATE(CountStrategies.ESTIMATE),
+    /**
+     * The same as {@link #EXACT}, which serves repeated counts of a filter from the count cache of the caller.
+     *
+     * @deprecated Kept so existing callers keep working, use {@link #EXACT}.
+     */
+    @Deprecated
+    CACHED(CountStrategies.EXACT),
+    /**
+     * Does not count the total amount of elements, only determines if there is a next page.
+     */
+    NONE(CountStrategies.NONE);
+
+    private final CountStrategy strategy;
+
+    CountMode(final CountStrategy strategy) {
+        this.strategy = strategy;
+    }
+
+    public CountStrategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Gets the strategy of this mode, which counts exactly through the given cache when this mode counts exactly.
+     *
+     * @param totalCounts The cache which serves, or runs and stores, the exact count of the request.
+     * @return The strategy.
+     */
+    public CountStrategy getStrategy(final TotalCountCache totalCounts) {
+        return strategy == CountStrategies.EXACT ? CountStrategies.exact(totalCounts) : strategy;
+    }
+}
@@ -0,0 +1,219 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+import io.r2dbc.spi.Row;
+import io.r2dbc.spi.RowMetadata;
+import org.modmappings.mmms.er2dbc.data.statements.mapper.ExtendedStatementMapper;
+import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.modmappings.mmms.repository.repositories.IModMappingQuerySupport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.r2dbc.core.PreparedOperation;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.modmappings.mmms.er2dbc.data.statements.expression.Expressions.aliased;
+import static org.modmappings.mmms.er2dbc.data.statements.expression.Expressions.just;
+
+/**
+ * The default implementations of the {@link CountStrategy}.
+ */
+public final class CountStrategies {
+
+    /**
+     * Runs the data query and a separate {@code SELECT Count(*) from (...)} query in parallel.
+     */
+    public static final CountStrategy EXACT = new ExactCountStrategy(count -> count);
+
+    /**
+     * Adds a {@code count(*) over()} column to the data query, so no separate count query is needed.
+     * Falls back to {@link #EXACT} for distinct selects, where the window would count the rows before the distinct is applied.
+     */
+    public static final CountStrategy WINDOW = new WindowCountStrategy();
+
+    /**
+     * Uses the row estimate of the query planner, or the statistics of the table for unfiltered selects.
+     */
+    public static final CountStrategy ESTIMATE = new EstimateCountStrategy();
+
+    /**
+     * Does not count at all. Retrieves one row more then requested to determine if there is a next page.
+     */
+    public static final CountStrategy NONE = new NoCountStrategy();
+
+    private static final String WINDOW_COUNT_COLUMN = "mmms_window_count";
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+
+    private CountStrategies() {
+        throw new IllegalStateException("Can not instantiate an instance of: CountStrategies. This is a utility class");
+    }
+
+    /**
+     * Creates a variant of {@link #EXACT} which gets its count through the given cache.
+     *
+     * @param totalCounts The cache which serves, or runs and stores, the count of the request.
+     * @return The strategy.
+     */
+    public static CountStrategy exact(final TotalCountCache totalCounts) {
+        return new ExactCountStrategy(totalCounts);
+    }
+
+    private static ExtendedStatementMapper getStatementMapper(final IModMappingQuerySupport querySupport, final Class<?> resultType) {
+        ExtendedStatementMapper mapper = querySupport.getAccessStrategy().getStatementMapper();
+        if (querySupport.getAccessStrategy().getConverter().getMappingContext().hasPersistentEntityFor(resultType)) {
+            mapper = mapper.forType(resultType);
+        }
+
+        return mapper;
+    }
+
+    /**
+     * Retrieves the page with one additional row, and creates a page from it whose total is only exact if there is no next page.
+     * If there is a next page the total is the given estimate, but at least one more then the rows up to and including the page.
+     */
+    private static <R> Mono<Page<R>> createLookAheadPagedRequest(final IModMappingQuerySupport querySupport,
+                                                                 final SelectSpecWithJoin selectSpec,
+                                                                 final Class<R> resultType,
+                                                                 final Pageable pageable,
+                                                                 final Mono<Long> estimate) {
+        //Without paging all rows are retrieved, so the amount of rows is the exact total.
+        if (pageable.isUnpaged())
+            return querySupport.createFindRequest(selectSpec, resultType, pageable)
+                    .collectList()
+                    .map(data -> new CountedPage<>(data, pageable, data.size(), true));
+
+        return querySupport.createFindRequest(selectSpec, resultType, new LookAheadPageRequest(pageable))
+                .collectList()
+                .doOnNext(data -> querySupport.getLogger().debug("Completed look ahead data retrieval with count: " + data.size()))
+                .flatMap(data -> {
+                    if (data.size() <= pageable.getPageSize() && (!data.isEmpty() || pageable.getOffset() == 0))
+                        return Mono.just(new CountedPage<>(data, pageable, pageable.getOffset() + data.size(), true));
+
+                    final List<R> content = data.size() > pageable.getPageSize() ? data.subList(0, pageable.getPageSize()) : data;
+                    final long lowerBound = content.isEmpty() ? pageable.getOffset() : pageable.getOffset() + pageable.getPageSize() + 1;
+                    return estimate
+                            .defaultIfEmpty(0L)
+                            .map(estimatedTotal -> new CountedPage<>(content, pageable, Math.max(estimatedTotal, lowerBound), false));
+                });
+    }
+
+    /**
+     * A page request which retrieves one additional row, without changing the offset.
+     */
+    private static class LookAheadPageRequest extends PageRequest {
+
+        private static final long serialVersionUID = 8253108402157930513L;
+
+        private LookAheadPageRequest(final Pageable pageable) {
+            super(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
+        }
+
+        @Override
+        public int getPageSize() {
+            return super.getPageSize() + 1;
+        }
+    }
+
+    private static class WindowCountStrategy implements CountStrategy {
+
+        @Override
+        public <R> Mono<Page<R>> createPagedRequest(final IModMappingQuerySupport querySupport, final SelectSpecWithJoin selectSpec, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
+            if (selectSpec.isDistinct() || selectSpec.getProjectedFields().isEmpty() || selectSpec.getProjectedFields().stream().anyMatch(expression -> expression.isDistinct() || expression.isDistinctOn()))
+                return EXACT.createPagedRequest(querySupport, selectSpec, tableName, resultType, countType, pageable);
+
+            final SelectSpecWithJoin selectSpecWithWindow = selectSpec
+                    .withProjection(aliased(just("count(*) over()"), WINDOW_COUNT_COLUMN))
+                    .withPage(pageable);
+
+            final PreparedOperation<?> operation = getStatementMapper(querySupport, resultType).getMappedObject(selectSpecWithWindow);
+            final BiFunction<Row, RowMetadata, R> rowMapper = querySupport.getAccessStrategy().getRowMapper(resultType);
+
+            return querySupport.monitor(operation, querySupport.getDatabaseClient().execute(operation)
+                    .map((row, metadata) -> Tuples.of(rowMapper.apply(row, metadata), row.get(WINDOW_COUNT_COLUMN, Long.class)))
+                    .all())
+                    .collectList()
+                    .doFirst(() -> querySupport.getLogger().debug("Executing windowed find operation: " + operation.toString()))
+                    .flatMap(data -> {
+                        //A page past the end has no rows to carry the window count.
+                        if (data.isEmpty() && pageable.isPaged() && pageable.getOffset() > 0)
+                            return EXACT.createPagedRequest(querySupport, selectSpec, tableName, resultType, countType, pageable);
+
+                        final long total = data.isEmpty() ? 0 : data.get(0).getT2();
+                        final List<R> content = data.stream().map(Tuple2::getT1).collect(Collectors.toList());
+                        return Mono.just(new CountedPage<>(content, pageable, total, true));
+                    });
+        }
+    }
+
+    private static class EstimateCountStrategy implements CountStrategy {
+
+        @Override
+        public <R> Mono<Page<R>> createPagedRequest(final IModMappingQuerySupport querySupport, final SelectSpecWithJoin selectSpec, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
+            return createLookAheadPagedRequest(querySupport, selectSpec, resultType, pageable, Mono.defer(() -> estimate(querySupport, selectSpec, tableName, countType)));
+        }
+
+        private Mono<Long> estimate(final IModMappingQuerySupport querySupport, final SelectSpecWithJoin selectSpec, final String tableName, final Class<?> countType) {
+            if (selectSpec.getCriteria() == null && !selectSpec.isDistinct()) {
+                return querySupport.getDatabaseClient().execute("SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass($1)")
+                        .bind(0, tableName)
+                        .map((row, metadata) -> row.get(0, Long.class))
+                        .first()
+                        .map(estimate -> Math.max(estimate, 0L))
+                        .doOnNext(estimate -> querySupport.getLogger().debug("Completed table statistics estimate with count: " + estimate));
+            }
+
+            final ExtendedStatementMapper mapper = getStatementMapper(querySupport, countType);
+            final PreparedOperation<?> operation = mapper.explain(mapper.getMappedObject(selectSpec.clearSortAndPage()));
+
+            //The first line of the plan describes the top most node, its row estimate is the estimate for the whole query.
+            return querySupport.getDatabaseClient().execute(operation)
+                    .map((row, metadata) -> row.get(0, String.class))
+                    .first()
+                    .doFirst(() -> querySupport.getLogger().debug("Executing explain operation: " + operation.toString()))
+                    .flatMap(plan -> {
+                        final Matcher matcher = PLAN_ROWS_PATTERN.matcher(plan);
+                        return matcher.find() ? Mono.just(Long.parseLong(matcher.group(1))) : Mono.<Long>empty();
+                    })
+                    .doOnNext(estimate -> querySupport.getLogger().debug("Completed planner estimate with count: " + estimate));
+        }
+    }
+
+    private static class NoCountStrategy implements CountStrategy {
+
+        @Override
+        public <R> Mono<Page<R>> createPagedRequest(final IModMappingQuerySupport querySupport, final SelectSpecWithJoin selectSpec, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
+            return createLookAheadPagedRequest(querySupport, selectSpec, resultType, pageable, Mono.empty());
+        }
+    }
+
+    /**
+     * Runs the count query through a {@link TotalCountCache}, so the caller decides when the count is served from a cache.
+     * The cache is responsible for keeping its counts correct, so the count is always reported as exact.
+     */
+    private static class ExactCountStrategy implements CountStrategy {
+
+        private final TotalCountCache totalCounts;
+
+        private ExactCountStrategy(final TotalCountCache totalCounts) {
+            this.totalCounts = totalCounts;
+        }
+
+        @Override
+        public <R> Mono<Page<R>> createPagedRequest(final IModMappingQuerySupport querySupport, final SelectSpecWithJoin selectSpec, final String tableName, final Class<R> resultType, final Class<?> countType, final Pageable pageable) {
+            return Mono.zip(
+                    querySupport.createFindRequest(selectSpec, resultType, pageable)
+                            .collectList()
+                            .doOnNext(data -> querySupport.getLogger().debug("Completed data retrieval with count: " + data.size())),
+                    totalCounts.get(Mono.defer(() -> querySupport.createCountRequest(selectSpec, tableName, countType)))
+                            .doOnNext(count -> querySupport.getLogger().debug("Completed count request with count: " + count))
+            ).map(data -> new CountedPage<>(data.getT1(), pageable, data.getT2(), true));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+import org.modmappings.mmms.er2dbc.data.statements.select.SelectSpecWithJoin;
+import org.modmappings.mmms.repository.repositories.IModMappingQuerySupport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Mono;
+
+/**
+ * Determines how the total amount of elements of a paged request is calculated.
+ * <p>
+ * The default implementations are available in {@link CountStrategies}, and can be selected by callers
+ * via a {@link CountMode}.
+ */
+public interface CountStrategy {
+
+    /**
+     * Retrieves the requested page of the select spec, and determines its total amount of elements.
+     *
+     * @param querySupport The query support which executes the requests.
+     * @param selectSpec   The select spec to retrieve the page from. Its projection needs to be complete.
+     * @param tableName    The name of the table that is queried.
+     * @param resultType   The type of the entries in the page.
+     * @param countType    The type which is used to map the count request.
+     * @param pageable     The paging and sorting information.
+     * @param <R>          The type of the entries in the page.
+     * @return The requested page.
+     */
+    <R> Mono<Page<R>> createPagedRequest(final IModMappingQuerySupport querySupport,
+                                         final SelectSpecWithJoin selectSpec,
+                                         final String tableName,
+                                         final Class<R> resultType,
+                                         final Class<?> countType,
+                                         final Pageable pageable);
+}
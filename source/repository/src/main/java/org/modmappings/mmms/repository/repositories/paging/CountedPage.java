@@ -0,0 +1,48 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * A {@link Page} which knows if its total amount of elements is exact, or only an estimate.
+ * <p>
+ * Depending on the {@link CountStrategy} used to create the page, the total can be a planner estimate,
+ * a previously cached count or a lower bound that only indicates if there is a next page.
+ *
+ * @param <T> The type of the entries in the page.
+ */
+public class CountedPage<T> extends PageImpl<T> {
+
+    private static final long serialVersionUID = -2815318410546283921L;
+
+    private final boolean totalExact;
+
+    public CountedPage(final List<T> content, final Pageable pageable, final long total, final boolean totalExact) {
+        super(content, pageable, total);
+        this.totalExact = totalExact;
+    }
+
+    /**
+     * @return True when the total amount of elements has been counted, false when it is an estimate.
+     */
+    public boolean isTotalExact() {
+        return totalExact;
+    }
+
+    /**
+     * Checks if the total of the given page is exact.
+     * Pages which are not created by a {@link CountStrategy} are always counted exactly.
+     *
+     * @param page The page to check.
+     * @return True when the total amount of elements of the page is exact.
+     */
+    public static boolean isTotalExact(final Page<?> page) {
+        if (page instanceof CountedPage)
+            return ((CountedPage<?>) page).isTotalExact();
+
+        return true;
+    }
+}
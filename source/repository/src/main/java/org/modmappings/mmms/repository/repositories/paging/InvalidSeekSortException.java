@@ -0,0 +1,12 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+/**
+ * Indicates that a keyset (seek) paginated request is sorted on a key which can not be seeked past.
+ * Only sorts on non null columns of the result type are supported, since a row comparison never matches a null value.
+ */
+public class InvalidSeekSortException extends InvalidSeekTokenException {
+
+    public InvalidSeekSortException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,16 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+/**
+ * Indicates that a continuation token, as supplied by a client, can not be used to continue a keyset (seek) paginated request.
+ * Either because it is malformed, or because it was created for a different sort.
+ */
+public class InvalidSeekTokenException extends RuntimeException {
+
+    public InvalidSeekTokenException(final String message) {
+        super(message);
+    }
+
+    public InvalidSeekTokenException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
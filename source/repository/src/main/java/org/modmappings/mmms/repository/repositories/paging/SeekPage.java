@@ -0,0 +1,83 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+import org.springframework.lang.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * A single page of a keyset (seek) paginated request.
+ * <p>
+ * Unlike a {@link org.springframework.data.domain.Page} this does not know its position or the total amount of entries.
+ * Instead it carries an opaque continuation token, which can be passed back to retrieve the next page.
+ *
+ * @param <T> The type of the entries in the page.
+ */
+public class SeekPage<T> {
+
+    private final List<T> content;
+    private final int size;
+    @Nullable
+    private final String continuationToken;
+
+    public SeekPage(final List<T> content, final int size, @Nullable final String continuationToken) {
+        this.content = Collections.unmodifiableList(content);
+        this.size = size;
+        this.continuationToken = continuationToken;
+    }
+
+    /**
+     * @return The entries in this page.
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * @return The requested page size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return The amount of entries in this page.
+     */
+    public int getNumberOfElements() {
+        return content.size();
+    }
+
+    /**
+     * @return The token that gives access to the next page, or null if this is the last page.
+     */
+    @Nullable
+    public String getContinuationToken() {
+        return continuationToken;
+    }
+
+    public boolean isLast() {
+        return continuationToken == null;
+    }
+
+    /**
+     * Converts the entries of this page, keeping the continuation token.
+     *
+     * @param converter The converter to apply to each entry.
+     * @param <U>       The type of the converted entries.
+     * @return The converted page.
+     */
+    public <U> SeekPage<U> map(final Function<? super T, ? extends U> converter) {
+        return new SeekPage<>(content.stream().map(converter).collect(Collectors.toList()), size, continuationToken);
+    }
+
+    @Override
+    public String toString() {
+        return "SeekPage{" +
+                "numberOfElements=" + getNumberOfElements() + "," +
+                "size=" + size + "," +
+                "last=" + isLast() +
+                '}';
+    }
+}
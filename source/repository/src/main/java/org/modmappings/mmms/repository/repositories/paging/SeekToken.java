@@ -0,0 +1,165 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Encodes the sort key values of the last row of a keyset (seek) page into an opaque, url safe, continuation token
+ * and back.
+ * <p>
+ * Supported value types are strings, uuids, timestamps, integers, longs, booleans and enums. Each value is prefixed
+ * with a type tag, and is only restored when that tag matches the type of the seek column it is decoded for.
+ * Enums are stored by the name of their constant only, which is resolved against the enum type of the seek column.
+ * <p>
+ * Null values can not be seeked past, a row comparison against null never matches. Seek requests therefore only
+ * accept sorts on non null columns, so the last row of a page never has a null sort key.
+ */
+public final class SeekToken {
+
+    private static final String SEPARATOR = ".";
+
+    private SeekToken() {
+        throw new IllegalStateException("Can not instantiate an instance of: SeekToken. This is a utility class");
+    }
+
+    /**
+     * Creates a continuation token from the given sort key values.
+     *
+     * @param values The sort key values.
+     * @return The token.
+     * @throws IllegalArgumentException when a value is null, or of a type which is not supported.
+     */
+    public static String encode(final List<?> values) {
+        final List<String> encodedValues = new ArrayList<>(values.size());
+        for (final Object value : values) {
+            encodedValues.add(encodeValue(value));
+        }
+
+        return toBase64(String.join(SEPARATOR, encodedValues));
+    }
+
+    /**
+     * Restores the sort key values from a continuation token, validating them against the types of the seek columns.
+     *
+     * @param token The token, as supplied by the client.
+     * @param types The types of the seek columns, in order.
+     * @return The sort key values.
+     * @throws InvalidSeekTokenException when the token is malformed, or does not match the given types.
+     */
+    public static List<Object> decode(final String token, final List<Class<?>> types) {
+        if (StringUtils.isEmpty(token))
+            throw new InvalidSeekTokenException("The continuation token is empty.");
+
+        final List<String> encodedValues;
+        try {
+            encodedValues = Arrays.asList(fromBase64(token).split("\\.", -1));
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidSeekTokenException("The continuation token is not valid base64.", e);
+        }
+
+        if (encodedValues.size() != types.size())
+            throw new InvalidSeekTokenException(String.format("The continuation token contains: %d values, but the sort has: %d keys.", encodedValues.size(), types.size()));
+
+        final List<Object> values = new ArrayList<>(encodedValues.size());
+        for (int i = 0; i < encodedValues.size(); i++) {
+            values.add(decodeValue(encodedValues.get(i), ClassUtils.resolvePrimitiveIfNecessary(types.get(i))));
+        }
+
+        return values;
+    }
+
+    private static String encodeValue(final Object value) {
+        if (value == null)
+            throw new IllegalArgumentException("Can not create a continuation token for a null sort key.");
+
+        if (value instanceof String)
+            return "s" + toBase64((String) value);
+
+        if (value instanceof UUID)
+            return "u" + value;
+
+        if (value instanceof Timestamp)
+            return "t" + ((Timestamp) value).getTime() + "_" + ((Timestamp) value).getNanos();
+
+        if (value instanceof Integer)
+            return "i" + value;
+
+        if (value instanceof Long)
+            return "l" + value;
+
+        if (value instanceof Boolean)
+            return "b" + value;
+
+        if (value instanceof Enum)
+            return "e" + toBase64(((Enum<?>) value).name());
+
+        throw new IllegalArgumentException("Can not create a continuation token for a sort key of type: " + value.getClass().getName());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object decodeValue(final String encodedValue, final Class<?> type) {
+        if (encodedValue.isEmpty())
+            throw new InvalidSeekTokenException("The continuation token contains an empty value.");
+
+        final String payload = encodedValue.substring(1);
+        final Object value;
+        try {
+            switch (encodedValue.charAt(0)) {
+                case 'n':
+                    throw new InvalidSeekTokenException("The continuation token contains a null sort key, which can not be seeked past.");
+                case 's':
+                    value = fromBase64(payload);
+                    break;
+                case 'u':
+                    value = UUID.fromString(payload);
+                    break;
+                case 't':
+                    final String[] parts = payload.split("_");
+                    final Timestamp timestamp = new Timestamp(Long.parseLong(parts[0]));
+                    timestamp.setNanos(Integer.parseInt(parts[1]));
+                    value = timestamp;
+                    break;
+                case 'i':
+                    value = Integer.parseInt(payload);
+                    break;
+                case 'l':
+                    value = Long.parseLong(payload);
+                    break;
+                case 'b':
+                    value = Boolean.parseBoolean(payload);
+                    break;
+                case 'e':
+                    if (!type.isEnum())
+                        throw new InvalidSeekTokenException("The continuation token contains an enum for a sort key of type: " + type.getSimpleName());
+
+                    value = Enum.valueOf((Class<? extends Enum>) type, fromBase64(payload));
+                    break;
+                default:
+                    throw new InvalidSeekTokenException("The continuation token contains an unknown value type: " + encodedValue.charAt(0));
+            }
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidSeekTokenException("The continuation token is malformed.", e);
+        }
+
+        if (!type.isInstance(value))
+            throw new InvalidSeekTokenException(String.format("The continuation token contains a: %s for a sort key of type: %s", value.getClass().getSimpleName(), type.getSimpleName()));
+
+        return value;
+    }
+
+    private static String toBase64(final String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String fromBase64(final String value) {
+        return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,22 @@
+package org.modmappings.mmms.repository.repositories.paging;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches the total counts of paged requests, see {@link CountStrategies#exact(TotalCountCache)}.
+ * <p>
+ * The repositories do not know which filter a count belongs to, nor which instance wrote to the counted tables.
+ * The caller which creates the strategy is therefore responsible for keying the count by the filter of the request,
+ * all pages and sorts of a filter share the same count, and for invalidating it when the counted tables are written to.
+ */
+@FunctionalInterface
+public interface TotalCountCache {
+
+    /**
+     * Gets the cached count, or runs the given count query and caches its result.
+     *
+     * @param count The {@link Mono} which runs the count query. Nothing is queried until it is subscribed to.
+     * @return A {@link Mono} with the total count.
+     */
+    Mono<Long> get(Mono<Long> count);
+}
@@ -0,0 +1,19 @@
+create extension if not exists "pg_trgm";
+
+create index "IX_mapping_input_pattern"
+    on "mapping" ("input" text_pattern_ops);
+
+create index "IX_mapping_output_pattern"
+    on "mapping" ("output" text_pattern_ops);
+
+create index "IX_mapping_input_trgm"
+    on "mapping" using gin ("input" gin_trgm_ops);
+
+create index "IX_mapping_output_trgm"
+    on "mapping" using gin ("output" gin_trgm_ops);
+
+create index "IX_packages_path_pattern"
+    on "packages" ("path" text_pattern_ops);
+
+create index "IX_packages_path_trgm"
+    on "packages" using gin ("path" gin_trgm_ops);
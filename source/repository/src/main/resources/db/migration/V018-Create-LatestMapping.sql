@@ -0,0 +1,81 @@
+create table "latest_mapping"
+(
+    "versioned_mappable_id" uuid not null,
+    "mapping_type_id" uuid not null,
+    "mapping_id" uuid not null
+        constraint "FK_latest_mapping_mapping_mappingId"
+            references "mapping"
+                on delete cascade,
+    "created_on" timestamp not null,
+
+    constraint "PK_latest_mapping" primary key (versioned_mappable_id, mapping_type_id)
+);
+
+create unique index "IX_latest_mapping_mappingId"
+    on "latest_mapping" ("mapping_id");
+
+create index "IX_mapping_versionedMappableId_mappingTypeId_createdOn"
+    on "mapping" ("versioned_mappable_id", "mapping_type_id", "created_on" desc, "id" desc);
+
+create or replace function refresh_latest_mapping(target_versioned_mappable_id uuid, target_mapping_type_id uuid) returns void as $$
+begin
+    delete from latest_mapping lm
+        where lm.versioned_mappable_id = target_versioned_mappable_id
+          and lm.mapping_type_id = target_mapping_type_id;
+
+    insert into latest_mapping (versioned_mappable_id, mapping_type_id, mapping_id, created_on)
+        select m.versioned_mappable_id, m.mapping_type_id, m.id, m.created_on
+        from mapping m
+        where m.versioned_mappable_id = target_versioned_mappable_id
+          and m.mapping_type_id = target_mapping_type_id
+        order by m.created_on desc, m.id desc
+        limit 1;
+end
+$$ language plpgsql;
+
+create or replace function on_mapping_inserted() returns trigger as $$
+begin
+    insert into latest_mapping (versioned_mappable_id, mapping_type_id, mapping_id, created_on)
+        values (new.versioned_mappable_id, new.mapping_type_id, new.id, new.created_on)
+    on conflict (versioned_mappable_id, mapping_type_id) do update
+        set mapping_id = excluded.mapping_id,
+            created_on = excluded.created_on
+        where (latest_mapping.created_on, latest_mapping.mapping_id) < (excluded.created_on, excluded.mapping_id);
+    return null;
+end
+$$ language plpgsql;
+
+create or replace function on_mapping_updated() returns trigger as $$
+begin
+    perform refresh_latest_mapping(old.versioned_mappable_id, old.mapping_type_id);
+    if (old.versioned_mappable_id, old.mapping_type_id) is distinct from (new.versioned_mappable_id, new.mapping_type_id) then
+        perform refresh_latest_mapping(new.versioned_mappable_id, new.mapping_type_id);
+    end if;
+    return null;
+end
+$$ language plpgsql;
+
+create or replace function on_mapping_deleted() returns trigger as $$
+begin
+    perform refresh_latest_mapping(old.versioned_mappable_id, old.mapping_type_id);
+    return null;
+end
+$$ language plpgsql;
+
+create trigger "TR_mapping_latest_mapping_insert"
+    after insert on "mapping"
+    for each row execute procedure on_mapping_inserted();
+
+create trigger "TR_mapping_latest_mapping_update"
+    after update of "versioned_mappable_id", "mapping_type_id", "created_on" on "mapping"
+    for each row execute procedure on_mapping_updated();
+
+create trigger "TR_mapping_latest_mapping_delete"
+    after delete on "mapping"
+    for each row execute procedure on_mapping_deleted();
+
+insert into latest_mapping (versioned_mappable_id, mapping_type_id, mapping_id, created_on)
+    select distinct on (m.versioned_mappable_id, m.mapping_type_id)
+        m.versioned_mappable_id, m.mapping_type_id, m.id, m.created_on
+    from mapping m
+    order by m.versioned_mappable_id, m.mapping_type_id, m.created_on desc, m.id desc;
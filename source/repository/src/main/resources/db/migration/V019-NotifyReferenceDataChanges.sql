@@ -0,0 +1,14 @@
+create or replace function notify_reference_data_changed() returns trigger as $$
+begin
+    perform pg_notify('reference_data_changed', TG_TABLE_NAME);
+    return null;
+end
+$$ language plpgsql;
+
+create trigger "TR_mapping_type_reference_data_changed"
+    after insert or update or delete or truncate on "mapping_type"
+    for each statement execute procedure notify_reference_data_changed();
+
+create trigger "TR_game_version_reference_data_changed"
+    after insert or update or delete or truncate on "game_version"
+    for each statement execute procedure notify_reference_data_changed();